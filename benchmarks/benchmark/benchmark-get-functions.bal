@@ -1,6 +1,7 @@
 import benchmarksprintf;
 import benchmarktypes;
 import benchmarkio;
+import benchmarkscheduler;
 import ballerina/io;
 
 map<function()> functions;
@@ -17,6 +18,11 @@ function addFunctions() {
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addSchedulerFunctions();
+    addTableFunctions();
+    addErrorFunctions();
+    addDecimalFunctions();
+    addRecordFunctions();
 }
 
 function addJSONFunctions() {
@@ -140,3 +146,37 @@ function addStringFunctions() {
     functions["benchmarkStringSplit"] = benchmarktypes:benchmarkStringSplit;
     functions["benchmarkStringUnescape"] = benchmarktypes:benchmarkStringUnescape;
 }
+
+function addSchedulerFunctions() {
+    functions["benchmarkBlockingExternCall"] = benchmarkscheduler:benchmarkBlockingExternCall;
+    functions["benchmarkBlockingExternCallInWorkers"] = benchmarkscheduler:benchmarkBlockingExternCallInWorkers;
+    functions["benchmarkShortLivedStrands"] = benchmarkscheduler:benchmarkShortLivedStrands;
+    functions["benchmarkShortLivedLocalStrands"] = benchmarkscheduler:benchmarkShortLivedLocalStrands;
+    functions["benchmarkWorkerChannelThroughput"] = benchmarkscheduler:benchmarkWorkerChannelThroughput;
+}
+
+function addTableFunctions() {
+    functions["benchmarkTablePutWithRecordKey"] = benchmarktypes:benchmarkTablePutWithRecordKey;
+    functions["benchmarkTableGetWithRecordKey"] = benchmarktypes:benchmarkTableGetWithRecordKey;
+    functions["benchmarkTablePutWithTupleKey"] = benchmarktypes:benchmarkTablePutWithTupleKey;
+    functions["benchmarkTableGetWithTupleKey"] = benchmarktypes:benchmarkTableGetWithTupleKey;
+}
+
+function addErrorFunctions() {
+    functions["benchmarkErrorReturningFunction"] = benchmarktypes:benchmarkErrorReturningFunction;
+    functions["benchmarkErrorReturningDeepCallStack"] = benchmarktypes:benchmarkErrorReturningDeepCallStack;
+}
+
+function addDecimalFunctions() {
+    functions["benchmarkDecimalAdditionLoop"] = benchmarktypes:benchmarkDecimalAdditionLoop;
+    functions["benchmarkDecimalSubtractionLoop"] = benchmarktypes:benchmarkDecimalSubtractionLoop;
+    functions["benchmarkDecimalMultiplicationLoop"] = benchmarktypes:benchmarkDecimalMultiplicationLoop;
+    functions["benchmarkDecimalDivisionLoop"] = benchmarktypes:benchmarkDecimalDivisionLoop;
+    functions["benchmarkDecimalInexactDivisionLoop"] = benchmarktypes:benchmarkDecimalInexactDivisionLoop;
+}
+
+function addRecordFunctions() {
+    functions["benchmarkClosedRecordFieldAccessLoop"] = benchmarktypes:benchmarkClosedRecordFieldAccessLoop;
+    functions["benchmarkClosedRecordMemberAccessLoop"] = benchmarktypes:benchmarkClosedRecordMemberAccessLoop;
+    functions["benchmarkRecordFieldAccessOfSubtypeLoop"] = benchmarktypes:benchmarkRecordFieldAccessOfSubtypeLoop;
+}
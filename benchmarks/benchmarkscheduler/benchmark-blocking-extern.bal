@@ -0,0 +1,38 @@
+import ballerina/jballerina.java;
+
+const int BLOCKING_CALL_LATENCY_MILLIS = 20;
+const int CONCURRENT_STRANDS = 64;
+
+// Run with BALLERINA_SCHEDULER_MODE unset and with BALLERINA_SCHEDULER_MODE=virtual-thread to compare how the
+// scheduler copes with strands that block inside Java interop calls.
+public function benchmarkBlockingExternCall() {
+    future<error?>[] futures = [];
+    foreach int i in 0 ..< CONCURRENT_STRANDS {
+        futures.push(start blockingCall(BLOCKING_CALL_LATENCY_MILLIS));
+    }
+    foreach future<error?> f in futures {
+        error? result = wait f;
+    }
+}
+
+public function benchmarkBlockingExternCallInWorkers() {
+    worker w1 returns error? {
+        return blockingCall(BLOCKING_CALL_LATENCY_MILLIS);
+    }
+    worker w2 returns error? {
+        return blockingCall(BLOCKING_CALL_LATENCY_MILLIS);
+    }
+    worker w3 returns error? {
+        return blockingCall(BLOCKING_CALL_LATENCY_MILLIS);
+    }
+    worker w4 returns error? {
+        return blockingCall(BLOCKING_CALL_LATENCY_MILLIS);
+    }
+    record {error? w1; error? w2; error? w3; error? w4;} results = wait {w1, w2, w3, w4};
+}
+
+function blockingCall(int millis) returns error? = @java:Method {
+    'class: "java.lang.Thread",
+    name: "sleep",
+    paramTypes: ["long"]
+} external;
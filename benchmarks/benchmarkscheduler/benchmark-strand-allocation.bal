@@ -0,0 +1,28 @@
+const int SHORT_LIVED_STRANDS = 1000;
+
+// Spawns strands that complete without yielding. The executor records GC logs for each function, which shows the
+// allocation cost of creating a strand through the scheduler.
+public function benchmarkShortLivedStrands() {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< SHORT_LIVED_STRANDS {
+        future<int> f = @strand {thread: "any"} start increment(i);
+        futures.push(f);
+    }
+    foreach future<int> f in futures {
+        int result = wait f;
+    }
+}
+
+public function benchmarkShortLivedLocalStrands() {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< SHORT_LIVED_STRANDS {
+        futures.push(start increment(i));
+    }
+    foreach future<int> f in futures {
+        int result = wait f;
+    }
+}
+
+function increment(int value) returns int {
+    return value + 1;
+}
@@ -0,0 +1,39 @@
+const int CHANNEL_EXCHANGES = 1000;
+
+// Measures the throughput of worker channels with one producer and one consumer. Run it once with the default
+// unbounded channels and once with BALLERINA_WORKER_CHANNEL_CAPACITY set to a small value, to see the cost of blocking
+// the producer when the consumer falls behind.
+public function benchmarkWorkerChannelThroughput() {
+    int total = 0;
+    foreach int i in 0 ..< CHANNEL_EXCHANGES {
+        total += exchangeMessages(i);
+    }
+}
+
+// Worker sends have to be top level statements, hence each call exchanges a fixed number of messages.
+function exchangeMessages(int seed) returns int {
+    worker producer {
+        seed -> consumer;
+        seed + 1 -> consumer;
+        seed + 2 -> consumer;
+        seed + 3 -> consumer;
+        seed + 4 -> consumer;
+        seed + 5 -> consumer;
+        seed + 6 -> consumer;
+        seed + 7 -> consumer;
+    }
+
+    worker consumer returns int {
+        int v1 = <- producer;
+        int v2 = <- producer;
+        int v3 = <- producer;
+        int v4 = <- producer;
+        int v5 = <- producer;
+        int v6 = <- producer;
+        int v7 = <- producer;
+        int v8 = <- producer;
+        return v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8;
+    }
+
+    return wait consumer;
+}
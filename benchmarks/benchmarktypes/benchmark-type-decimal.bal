@@ -0,0 +1,46 @@
+const int DECIMAL_ITERATIONS = 1000;
+
+// Sums up prices with a small scale, like the line items of an invoice.
+public function benchmarkDecimalAdditionLoop() {
+    decimal total = 0;
+    decimal price = 19.99;
+    foreach int i in 0 ..< DECIMAL_ITERATIONS {
+        total = total + price;
+    }
+}
+
+public function benchmarkDecimalSubtractionLoop() {
+    decimal balance = 100000.00;
+    decimal amount = 12.75;
+    foreach int i in 0 ..< DECIMAL_ITERATIONS {
+        balance = balance - amount;
+    }
+}
+
+public function benchmarkDecimalMultiplicationLoop() {
+    decimal total = 0;
+    decimal unitPrice = 2.49;
+    foreach int i in 0 ..< DECIMAL_ITERATIONS {
+        decimal quantity = <decimal>i;
+        total = total + unitPrice * quantity;
+    }
+}
+
+public function benchmarkDecimalDivisionLoop() {
+    decimal total = 0;
+    decimal amount = 1000.00;
+    decimal divisor = 4;
+    foreach int i in 1 ... DECIMAL_ITERATIONS {
+        total = total + amount / divisor;
+    }
+}
+
+// Divides by 3, which has no exact quotient and always needs the full decimal precision.
+public function benchmarkDecimalInexactDivisionLoop() {
+    decimal total = 0;
+    decimal amount = 1000.00;
+    decimal divisor = 3;
+    foreach int i in 1 ... DECIMAL_ITERATIONS {
+        total = total + amount / divisor;
+    }
+}
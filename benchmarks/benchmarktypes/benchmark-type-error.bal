@@ -0,0 +1,34 @@
+const int ERROR_CALLS = 100;
+
+// Each call creates an error which is returned through a few `check` expressions, like a failed validation.
+public function benchmarkErrorReturningFunction() {
+    foreach int i in 0 ..< ERROR_CALLS {
+        int|error result = parseAndValidate(i);
+    }
+}
+
+// Creates errors from a deeper call stack, which makes capturing the full stack trace more expensive.
+public function benchmarkErrorReturningDeepCallStack() {
+    foreach int i in 0 ..< ERROR_CALLS {
+        int|error result = callDeep(i, 20);
+    }
+}
+
+function parseAndValidate(int value) returns int|error {
+    int validated = check validate(value);
+    return validated;
+}
+
+function validate(int value) returns int|error {
+    if value >= 0 {
+        return error("value should be negative", value = value);
+    }
+    return value;
+}
+
+function callDeep(int value, int depth) returns int|error {
+    if (depth == 0) {
+        return check parseAndValidate(value);
+    }
+    return check callDeep(value, depth - 1);
+}
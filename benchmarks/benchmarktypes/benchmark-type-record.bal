@@ -0,0 +1,50 @@
+const int RECORD_ITERATIONS = 1000;
+
+type LineItem record {|
+    int quantity;
+    float unitPrice;
+    boolean taxable;
+    string sku;
+|};
+
+type PricedItem record {
+    int quantity;
+    float unitPrice;
+};
+
+type DiscountedItem record {|
+    int quantity;
+    float unitPrice;
+    float discount;
+|};
+
+// Reads the fields of a closed record, which are read from the fields of the record value class.
+public function benchmarkClosedRecordFieldAccessLoop() {
+    LineItem item = {quantity: 3, unitPrice: 19.99, taxable: true, sku: "A-100"};
+    float total = 0;
+    foreach int i in 0 ..< RECORD_ITERATIONS {
+        if item.taxable {
+            total = total + <float>item.quantity * item.unitPrice;
+        }
+    }
+}
+
+// Reads the same fields with a key which is not a constant, hence through the map lookup of the record value.
+public function benchmarkClosedRecordMemberAccessLoop() {
+    LineItem item = {quantity: 3, unitPrice: 19.99, taxable: true, sku: "A-100"};
+    string quantityKey = "quantity";
+    string unitPriceKey = "unitPrice";
+    float total = 0;
+    foreach int i in 0 ..< RECORD_ITERATIONS {
+        total = total + <float><int>item[quantityKey] * <float>item[unitPriceKey];
+    }
+}
+
+// Reads the fields of a value of another record type, which falls back to the map lookup of the record value.
+public function benchmarkRecordFieldAccessOfSubtypeLoop() {
+    PricedItem item = <DiscountedItem>{quantity: 3, unitPrice: 19.99, discount: 0.1};
+    float total = 0;
+    foreach int i in 0 ..< RECORD_ITERATIONS {
+        total = total + <float>item.quantity * item.unitPrice;
+    }
+}
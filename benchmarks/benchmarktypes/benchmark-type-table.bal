@@ -0,0 +1,55 @@
+const int TABLE_ROWS = 100;
+
+type Point record {|
+    int x;
+    int y;
+|};
+
+type Location record {
+    readonly Point point;
+    string name;
+};
+
+type Account record {
+    readonly int branch;
+    readonly string number;
+    decimal balance;
+};
+
+table<Location> key(point) locationTable = table [];
+table<Account> key(branch, number) accountTable = table [];
+
+function init() {
+    foreach int i in 0 ..< TABLE_ROWS {
+        locationTable.put({point: {x: i, y: i * 2}, name: "location"});
+        accountTable.put({branch: i, number: "ACC-" + i.toString(), balance: 100});
+    }
+}
+
+// The key of each row is a record value, hashing it walks the fields of the record.
+public function benchmarkTablePutWithRecordKey() {
+    table<Location> key(point) locations = table [];
+    foreach int i in 0 ..< TABLE_ROWS {
+        locations.put({point: {x: i, y: i * 2}, name: "location"});
+    }
+}
+
+public function benchmarkTableGetWithRecordKey() {
+    foreach int i in 0 ..< TABLE_ROWS {
+        Location? location = locationTable[{x: i, y: i * 2}];
+    }
+}
+
+// The key of each row is a tuple of the key field values.
+public function benchmarkTablePutWithTupleKey() {
+    table<Account> key(branch, number) accounts = table [];
+    foreach int i in 0 ..< TABLE_ROWS {
+        accounts.put({branch: i, number: "ACC-" + i.toString(), balance: 100});
+    }
+}
+
+public function benchmarkTableGetWithTupleKey() {
+    foreach int i in 0 ..< TABLE_ROWS {
+        Account? account = accountTable[i, "ACC-" + i.toString()];
+    }
+}
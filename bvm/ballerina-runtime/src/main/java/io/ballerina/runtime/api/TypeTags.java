@@ -118,4 +118,34 @@ public class TypeTags {
         }
         return false;
     }
+
+    /**
+     * Checks whether the tag belongs to a type which has neither members nor type parameters, such as `int`,
+     * `string:Char` or `()`. Type tests against such types only depend on the type tags.
+     *
+     * @param tag type tag to check
+     * @return true if the tag belongs to such a type
+     */
+    public static boolean isSimpleBasicTypeTag(int tag) {
+
+        switch (tag) {
+            case INT_TAG:
+            case BYTE_TAG:
+            case FLOAT_TAG:
+            case DECIMAL_TAG:
+            case STRING_TAG:
+            case BOOLEAN_TAG:
+            case NULL_TAG:
+            case HANDLE_TAG:
+            case SIGNED32_INT_TAG:
+            case SIGNED16_INT_TAG:
+            case SIGNED8_INT_TAG:
+            case UNSIGNED32_INT_TAG:
+            case UNSIGNED16_INT_TAG:
+            case UNSIGNED8_INT_TAG:
+            case CHAR_STRING_TAG:
+                return true;
+        }
+        return false;
+    }
 }
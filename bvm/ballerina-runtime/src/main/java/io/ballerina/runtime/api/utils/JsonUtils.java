@@ -67,6 +67,30 @@ public class JsonUtils {
         return JsonParser.parse(in, charsetName);
     }
 
+    /**
+     * Parses the contents in the given {@link InputStream} straight into a value of the given type, without building
+     * an intermediate json value.
+     *
+     * @param in          input stream which contains the JSON content
+     * @param charsetName the character set name of the input stream
+     * @param targetType  the type of the value to be created, must be a type accepted by {@link #isBindable(Type)}
+     * @return value of the given type
+     * @throws BError for any parsing error, or if the content cannot be converted to the given type
+     */
+    public static Object parse(InputStream in, String charsetName, Type targetType) throws BError {
+        return JsonParser.parse(in, charsetName, targetType);
+    }
+
+    /**
+     * Checks whether JSON content can be parsed straight into a value of the given type.
+     *
+     * @param targetType the type to check
+     * @return true if {@link #parse(InputStream, String, Type)} supports the type
+     */
+    public static boolean isBindable(Type targetType) {
+        return JsonParser.isBindable(targetType);
+    }
+
     /**
      * Parses the contents in the given string and returns a json.
      *
@@ -40,6 +40,7 @@ import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.MapValueImpl;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import io.ballerina.runtime.internal.values.RefValue;
+import io.ballerina.runtime.internal.values.Utf8StringValue;
 
 import java.io.BufferedInputStream;
 import java.io.ByteArrayOutputStream;
@@ -48,6 +49,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -138,6 +140,47 @@ public class StringUtils {
         return new NonBmpStringValue(s, highSurrogatesArr);
     }
 
+    /**
+     * Creates a string from UTF-8 encoded bytes. The bytes are kept and only decoded when the characters of the
+     * string are needed, hence the array must not be modified afterwards. Malformed input is replaced with the
+     * unicode replacement character, the same way as decoding the bytes into a {@link String}.
+     *
+     * @param bytes UTF-8 encoded bytes
+     * @return the string
+     */
+    public static BString fromUtf8Bytes(byte[] bytes) {
+        BString str = Utf8StringValue.fromBytes(bytes);
+        if (str == null) {
+            return fromString(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return str;
+    }
+
+    /**
+     * Encodes a string into UTF-8 bytes. Strings created from UTF-8 bytes return a copy of those bytes without
+     * decoding and encoding them again.
+     *
+     * @param str string to encode
+     * @return UTF-8 encoded bytes
+     */
+    public static byte[] toUtf8Bytes(BString str) {
+        if (str instanceof Utf8StringValue) {
+            return ((Utf8StringValue) str).getUtf8Bytes();
+        }
+        return str.getValue().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks whether the given string keeps its UTF-8 bytes, i.e. whether it was created from UTF-8 bytes. Such a
+     * string is encoded by {@link #toUtf8Bytes(BString)} without going through a charset encoder.
+     *
+     * @param str string to check
+     * @return true if the string keeps its UTF-8 bytes
+     */
+    public static boolean hasUtf8Bytes(BString str) {
+        return str instanceof Utf8StringValue;
+    }
+
     public static BArray fromStringArray(String[] s) {
         BString[] bStringArray = new BString[s.length];
         for (int i = 0; i < s.length; i++) {
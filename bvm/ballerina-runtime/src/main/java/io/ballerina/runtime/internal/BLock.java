@@ -20,52 +20,90 @@ package io.ballerina.runtime.internal;
 import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
 
-import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * The owning strand is set with a compare-and-set, so an uncontended lock does not take any monitor. A strand that
+ * cannot get the lock is queued and yields with {@link State#BLOCK_AND_YIELD}, so it does not hold a scheduler thread.
+ * Unlocking wakes up the first queued strand, which retries when it is resumed.
  *
  * @since 1.0.0
  */
 public class BLock {
 
-    private ArrayDeque<Strand> current;
+    private final AtomicReference<Strand> owner = new AtomicReference<>();
 
-    private ArrayDeque<Strand> waitingForLock;
+    /**
+     * Number of times the owner has entered the lock. Only accessed by the owning strand.
+     */
+    private int holdCount;
 
-    public BLock() {
-        this.current = new ArrayDeque<>();
-        this.waitingForLock = new ArrayDeque<>();
-    }
+    private final Queue<Strand> waitingForLock = new ConcurrentLinkedQueue<>();
 
-    public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
-            this.current.offerLast(strand);
+    public boolean lock(Strand strand) {
+        Strand current = this.owner.get();
+        if (current == strand) {
+            this.holdCount++;
+            return true;
+        }
+        if (current == null && this.owner.compareAndSet(null, strand)) {
+            this.holdCount = 1;
             return true;
         }
 
-        this.waitingForLock.offerLast(strand);
-
-        // Strand state change
+        // Strand state change, this needs to happen before the strand is visible to unlock().
+        strand.setBlockedOn(this);
         strand.setState(State.BLOCK_AND_YIELD);
         strand.blockedOnExtern = false;
+        this.waitingForLock.offer(strand);
+
+        // The owner may have released the lock before this strand was queued, without anyone to wake up.
+        while (this.owner.get() == null) {
+            if (!this.waitingForLock.remove(strand)) {
+                // an unlock() has already taken this strand from the queue and will unblock it
+                return false;
+            }
+            if (this.owner.compareAndSet(null, strand)) {
+                this.holdCount = 1;
+                strand.setBlockedOn(null);
+                strand.setState(State.RUNNABLE);
+                return true;
+            }
+            this.waitingForLock.offer(strand);
+        }
         return false;
     }
 
-    public synchronized void unlock() {
-        //current cannot be empty as unlock cannot be called without lock being called first.
-        this.current.removeLast();
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
+    public void unlock() {
+        //owner cannot be null as unlock cannot be called without lock being called first.
+        if (--this.holdCount > 0) {
+            return;
+        }
+        this.owner.set(null);
+        Strand strand = this.waitingForLock.poll();
+        if (strand != null) {
             strand.scheduler.unblockStrand(strand);
         }
     }
 
+    /**
+     * Returns the strand that currently holds the lock.
+     *
+     * @return owner of the lock or null if the lock is free
+     */
+    public Strand getOwner() {
+        return this.owner.get();
+    }
+
     public boolean isLockFree() {
-        return this.current.isEmpty();
+        return this.owner.get() == null;
     }
 
     public boolean lockedBySameContext(Strand ctx) {
-        return this.current.getLast() == ctx;
+        return this.owner.get() == ctx;
     }
 }
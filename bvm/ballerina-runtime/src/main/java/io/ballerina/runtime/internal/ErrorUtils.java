@@ -80,11 +80,25 @@ public class ErrorUtils {
 
     public static Object handleResourceError(Object returnValue) {
         if (returnValue instanceof BError) {
-            throw (BError) returnValue;
+            throw fillInPanicStackTrace((BError) returnValue);
         }
         return returnValue;
     }
 
+    /**
+     * Completes the stack trace of an error which is about to be panicked, while the callers of the function which
+     * created it are still on the stack.
+     *
+     * @param error error to be panicked
+     * @return the same error
+     */
+    public static BError fillInPanicStackTrace(BError error) {
+        if (error instanceof ErrorValue) {
+            ((ErrorValue) error).fillInCallerStackTrace();
+        }
+        return error;
+    }
+
     public static ErrorValue trapError(Throwable throwable) {
         // Used to trap and create error value for non error value exceptions. At the moment, we can trap
         // stack overflow exceptions in addition to error value.
@@ -20,6 +20,14 @@ package io.ballerina.runtime.internal;
 import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
@@ -41,6 +49,10 @@ import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 
 /**
  * This class represents a JSON parser.
@@ -138,6 +150,149 @@ public class JsonParser {
         }
     }
 
+    /**
+     * Parses the contents in the given {@link InputStream} straight into a value of the given type, without building
+     * an intermediate json value. Use {@link #isBindable(Type)} to check whether the type is supported.
+     *
+     * @param in          input stream which contains the JSON content
+     * @param charsetName the character set name of the input stream
+     * @param targetType  the type of the value to be created
+     * @return value of the given type
+     * @throws BError for any parsing error, or if the content cannot be converted to the given type
+     */
+    public static Object parse(InputStream in, String charsetName, Type targetType) throws BError {
+        try {
+            return parse(new InputStreamReader(new BufferedInputStream(in), charsetName), targetType);
+        } catch (IOException e) {
+            throw ErrorCreator
+                    .createError(StringUtils.fromString(("Error in parsing JSON data: " + e.getMessage())));
+        }
+    }
+
+    /**
+     * Parses the contents in the given {@link Reader} straight into a value of the given type. Numeric values are
+     * converted the same way as {@code value:cloneWithType}, and the error of a value which cannot be converted
+     * points to the offending field, e.g. {@code $.items[2].price}.
+     *
+     * @param reader     reader which contains the JSON content
+     * @param targetType the type of the value to be created, must be a type accepted by {@link #isBindable(Type)}
+     * @return value of the given type
+     * @throws BError for any parsing error, or if the content cannot be converted to the given type
+     */
+    public static Object parse(Reader reader, Type targetType) throws BError {
+        StateMachine sm = tlStateMachine.get();
+        sm.targetType = targetType;
+        try {
+            return sm.execute(reader);
+        } finally {
+            sm.reset();
+        }
+    }
+
+    /**
+     * Checks whether JSON content can be parsed straight into a value of the given type. These are records, maps and
+     * open arrays of simple basic types, json and anydata, and unions of them which have at most one mapping and one
+     * list member.
+     *
+     * @param targetType the type to check
+     * @return true if {@link #parse(Reader, Type)} supports the type
+     */
+    public static boolean isBindable(Type targetType) {
+        return isBindable(targetType, new HashSet<>());
+    }
+
+    private static boolean isBindable(Type type, Set<Type> visitedTypes) {
+        switch (type.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.NULL_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.ANYDATA_TAG:
+                return true;
+            case TypeTags.ARRAY_TAG:
+                ArrayType arrayType = (ArrayType) type;
+                return arrayType.getState() == ArrayType.ArrayState.OPEN &&
+                        isBindable(arrayType.getElementType(), visitedTypes);
+            case TypeTags.MAP_TAG:
+                return isBindable(((MapType) type).getConstrainedType(), visitedTypes);
+            case TypeTags.RECORD_TYPE_TAG:
+                if (!visitedTypes.add(type)) {
+                    return true;
+                }
+                RecordType recordType = (RecordType) type;
+                if (!recordType.isSealed() && !isBindable(recordType.getRestFieldType(), visitedTypes)) {
+                    return false;
+                }
+                for (Field field : recordType.getFields().values()) {
+                    if (!isBindable(field.getFieldType(), visitedTypes)) {
+                        return false;
+                    }
+                }
+                return true;
+            case TypeTags.UNION_TAG:
+                int mappingTypes = 0;
+                int listTypes = 0;
+                for (Type memberType : ((UnionType) type).getMemberTypes()) {
+                    if (!isBindable(memberType, visitedTypes)) {
+                        return false;
+                    }
+                    if (getMappingType(memberType) != null) {
+                        mappingTypes++;
+                    }
+                    if (getListType(memberType) != null) {
+                        listTypes++;
+                    }
+                }
+                return mappingTypes <= 1 && listTypes <= 1;
+            default:
+                return false;
+        }
+    }
+
+    private static Type getMappingType(Type type) {
+        switch (type.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.MAP_TAG:
+                return type;
+            case TypeTags.JSON_TAG:
+            case TypeTags.ANYDATA_TAG:
+                return PredefinedTypes.TYPE_JSON;
+            case TypeTags.UNION_TAG:
+                for (Type memberType : ((UnionType) type).getMemberTypes()) {
+                    Type mappingType = getMappingType(memberType);
+                    if (mappingType != null) {
+                        return mappingType;
+                    }
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private static Type getListType(Type type) {
+        switch (type.getTag()) {
+            case TypeTags.ARRAY_TAG:
+                return type;
+            case TypeTags.JSON_TAG:
+            case TypeTags.ANYDATA_TAG:
+                return PredefinedTypes.TYPE_JSON;
+            case TypeTags.UNION_TAG:
+                for (Type memberType : ((UnionType) type).getMemberTypes()) {
+                    Type listType = getListType(memberType);
+                    if (listType != null) {
+                        return listType;
+                    }
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
     /**
      * Represents a JSON parser related exception.
      */
@@ -207,6 +362,11 @@ public class JsonParser {
         private Deque<Object> nodesStack;
         private Deque<String> fieldNames;
 
+        // the type to bind the document to, null when a plain json value is parsed
+        private Type targetType;
+        private Type currentNodeType;
+        private Deque<Type> nodeTypesStack;
+
         private StringBuilder hexBuilder = new StringBuilder(4);
         private char[] charBuff = new char[1024];
         private int charBuffIndex;
@@ -228,6 +388,9 @@ public class JsonParser {
             this.mode = JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING;
             this.nodesStack = new ArrayDeque<>();
             this.fieldNames = new ArrayDeque<>();
+            this.targetType = null;
+            this.currentNodeType = null;
+            this.nodeTypesStack = new ArrayDeque<>();
         }
 
         private static boolean isWhitespace(char ch) {
@@ -288,13 +451,21 @@ public class JsonParser {
             this.charBuff = newBuff;
         }
 
-        private State finalizeObject() {
+        private State finalizeObject() throws JsonParserException {
+            if (this.targetType != null) {
+                if (this.currentNodeType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+                    checkRequiredFields();
+                }
+                if (!this.nodesStack.isEmpty()) {
+                    this.currentNodeType = this.nodeTypesStack.pop();
+                }
+            }
             if (this.nodesStack.isEmpty()) {
                 return DOC_END_STATE;
             }
 
             Object parentNode = this.nodesStack.pop();
-            if (TypeChecker.getType(parentNode).getTag() == TypeTags.MAP_TAG) {
+            if (parentNode instanceof MapValueImpl) {
                 ((MapValueImpl<BString, Object>) parentNode).put(StringUtils.fromString(fieldNames.pop()),
                                                                  currentJsonNode);
                 currentJsonNode = parentNode;
@@ -305,7 +476,10 @@ public class JsonParser {
             return ARRAY_ELEMENT_END_STATE;
         }
 
-        private State initNewObject() {
+        private State initNewObject() throws JsonParserException {
+            if (this.targetType != null) {
+                return initNewBoundObject();
+            }
             if (currentJsonNode != null) {
                 this.nodesStack.push(currentJsonNode);
             }
@@ -313,7 +487,10 @@ public class JsonParser {
             return FIRST_FIELD_READY_STATE;
         }
 
-        private State initNewArray() {
+        private State initNewArray() throws JsonParserException {
+            if (this.targetType != null) {
+                return initNewBoundArray();
+            }
             if (currentJsonNode != null) {
                 this.nodesStack.push(currentJsonNode);
             }
@@ -321,6 +498,149 @@ public class JsonParser {
             return FIRST_ARRAY_ELEMENT_READY_STATE;
         }
 
+        private State initNewBoundObject() throws JsonParserException {
+            Type expectedType = expectedType();
+            Type mappingType = getMappingType(expectedType);
+            if (mappingType == null) {
+                throw incompatibleValue("an object", expectedType, currentPath(true));
+            }
+            Object newNode;
+            switch (mappingType.getTag()) {
+                case TypeTags.RECORD_TYPE_TAG:
+                    newNode = ValueCreator.createRecordValue(mappingType.getPackage(), mappingType.getName());
+                    break;
+                case TypeTags.MAP_TAG:
+                    newNode = ValueCreator.createMapValue(mappingType);
+                    break;
+                default:
+                    newNode = new MapValueImpl<>(new BMapType(PredefinedTypes.TYPE_JSON));
+                    break;
+            }
+            pushNode(newNode, mappingType);
+            return FIRST_FIELD_READY_STATE;
+        }
+
+        private State initNewBoundArray() throws JsonParserException {
+            Type expectedType = expectedType();
+            Type listType = getListType(expectedType);
+            if (listType == null) {
+                throw incompatibleValue("an array", expectedType, currentPath(true));
+            }
+            Object newNode;
+            if (listType.getTag() == TypeTags.ARRAY_TAG) {
+                newNode = ValueCreator.createArrayValue((ArrayType) listType);
+            } else {
+                newNode = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_JSON));
+            }
+            pushNode(newNode, listType);
+            return FIRST_ARRAY_ELEMENT_READY_STATE;
+        }
+
+        private void pushNode(Object newNode, Type newNodeType) {
+            if (this.currentJsonNode != null) {
+                this.nodesStack.push(this.currentJsonNode);
+                this.nodeTypesStack.push(this.currentNodeType);
+            }
+            this.currentJsonNode = newNode;
+            this.currentNodeType = newNodeType;
+        }
+
+        /**
+         * Returns the type expected for the value which is about to be added to the current node, or the target type
+         * when the value is the document itself.
+         */
+        private Type expectedType() {
+            if (this.currentJsonNode == null) {
+                return this.targetType;
+            }
+            switch (this.currentNodeType.getTag()) {
+                case TypeTags.RECORD_TYPE_TAG:
+                    RecordType recordType = (RecordType) this.currentNodeType;
+                    Field field = recordType.getFields().get(this.fieldNames.peek());
+                    return field != null ? field.getFieldType() : recordType.getRestFieldType();
+                case TypeTags.MAP_TAG:
+                    return ((MapType) this.currentNodeType).getConstrainedType();
+                case TypeTags.ARRAY_TAG:
+                    return ((ArrayType) this.currentNodeType).getElementType();
+                default:
+                    return PredefinedTypes.TYPE_JSON;
+            }
+        }
+
+        private void checkFieldAllowed(RecordType recordType) throws JsonParserException {
+            String fieldName = this.fieldNames.peek();
+            if (recordType.isSealed() && !recordType.getFields().containsKey(fieldName)) {
+                throw new JsonParserException("field '" + fieldName + "' cannot be added to the closed record '" +
+                                                      recordType + "' at '" + currentPath(true) + "'");
+            }
+        }
+
+        private Object bindSimpleValue(Object value) throws JsonParserException {
+            Type expectedType = expectedType();
+            int expectedTypeTag = expectedType.getTag();
+            if (expectedTypeTag == TypeTags.JSON_TAG || expectedTypeTag == TypeTags.ANYDATA_TAG ||
+                    TypeChecker.checkIsType(value, expectedType)) {
+                return value;
+            }
+            List<Type> convertibleTypes = TypeConverter.getConvertibleTypes(value, expectedType);
+            // same as value:cloneWithType, only the members of a mapping or a list may be ambiguous
+            if (convertibleTypes.isEmpty() || (this.currentJsonNode == null && convertibleTypes.size() > 1)) {
+                String valueString = value == null ? NULL : StringUtils.getJsonString(value);
+                throw incompatibleValue("'" + valueString + "'", expectedType, currentPath(true));
+            }
+            Type matchingType = convertibleTypes.get(0);
+            if (TypeChecker.checkIsType(value, matchingType)) {
+                return value;
+            }
+            return TypeConverter.convertValues(matchingType, value);
+        }
+
+        private void checkRequiredFields() throws JsonParserException {
+            RecordType recordType = (RecordType) this.currentNodeType;
+            MapValueImpl<BString, Object> record = (MapValueImpl<BString, Object>) this.currentJsonNode;
+            for (Field field : recordType.getFields().values()) {
+                if (SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.REQUIRED) &&
+                        !record.containsKey(StringUtils.fromString(field.getFieldName()))) {
+                    throw new JsonParserException("missing required field '" + field.getFieldName() + "' of '" +
+                                                          recordType + "' at '" + currentPath(false) + "'");
+                }
+            }
+        }
+
+        private static JsonParserException incompatibleValue(String value, Type expectedType, String path) {
+            return new JsonParserException("incompatible value " + value + " for type '" + expectedType + "' at '" +
+                                                   path + "'");
+        }
+
+        /**
+         * Builds the path of the value being parsed, e.g. {@code $.items[2].price}, from the nodes which are being
+         * populated.
+         *
+         * @param includeCurrentValue whether to include the field or the element of the current node which is about
+         *                            to be added
+         * @return the path of the value
+         */
+        private String currentPath(boolean includeCurrentValue) {
+            StringBuilder path = new StringBuilder("$");
+            Iterator<String> names = this.fieldNames.descendingIterator();
+            Iterator<Object> nodes = this.nodesStack.descendingIterator();
+            while (nodes.hasNext()) {
+                appendPathSegment(path, nodes.next(), names);
+            }
+            if (includeCurrentValue && this.currentJsonNode != null) {
+                appendPathSegment(path, this.currentJsonNode, names);
+            }
+            return path.toString();
+        }
+
+        private static void appendPathSegment(StringBuilder path, Object node, Iterator<String> names) {
+            if (node instanceof ArrayValue) {
+                path.append('[').append(((ArrayValue) node).size()).append(']');
+            } else if (names.hasNext()) {
+                path.append('.').append(names.next());
+            }
+        }
+
         /**
          * A specific state in the JSON parsing state machine.
          */
@@ -544,8 +864,11 @@ public class JsonParser {
             return result;
         }
 
-        private void processFieldName() {
+        private void processFieldName() throws JsonParserException {
             this.fieldNames.push(this.value());
+            if (this.targetType != null && this.currentNodeType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+                checkFieldAllowed((RecordType) this.currentNodeType);
+            }
         }
 
         /**
@@ -658,8 +981,7 @@ public class JsonParser {
                     ch = buff[i];
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
-                        ((MapValueImpl<BString, Object>) sm.currentJsonNode).put(
-                                StringUtils.fromString(sm.fieldNames.pop()), StringUtils.fromString(sm.value()));
+                        sm.setValueToJsonType(ValueType.FIELD, StringUtils.fromString(sm.value()));
                         state = FIELD_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_FIELD_ESC_CHAR_PROCESSING_STATE;
@@ -691,7 +1013,7 @@ public class JsonParser {
                     ch = buff[i];
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
-                        ((ArrayValue) sm.currentJsonNode).append(changeForBString(sm.value()));
+                        sm.setValueToJsonType(ValueType.ARRAY_ELEMENT, StringUtils.fromString(sm.value()));
                         state = ARRAY_ELEMENT_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_AE_ESC_CHAR_PROCESSING_STATE;
@@ -803,7 +1125,7 @@ public class JsonParser {
                     ch = buff[i];
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
-                        sm.currentJsonNode = changeForBString(sm.value());
+                        sm.setValueToJsonType(ValueType.VALUE, StringUtils.fromString(sm.value()));
                         state = DOC_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_VAL_ESC_CHAR_PROCESSING_STATE;
@@ -851,50 +1173,11 @@ public class JsonParser {
             } else {
                 char ch = str.charAt(0);
                 if (ch == 't' && TRUE.equals(str)) {
-                    switch (type) {
-                        case ARRAY_ELEMENT:
-                            ((ArrayValue) this.currentJsonNode).append(Boolean.TRUE);
-                            break;
-                        case FIELD:
-                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), Boolean.TRUE);
-                            break;
-                        case VALUE:
-                            currentJsonNode = Boolean.TRUE;
-                            break;
-                        default:
-                            break;
-                    }
+                    setValueToJsonType(type, Boolean.TRUE);
                 } else if (ch == 'f' && FALSE.equals(str)) {
-                    switch (type) {
-                        case ARRAY_ELEMENT:
-                            ((ArrayValue) this.currentJsonNode).append(Boolean.FALSE);
-                            break;
-                        case FIELD:
-                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), Boolean.FALSE);
-                            break;
-                        case VALUE:
-                            currentJsonNode = Boolean.FALSE;
-                            break;
-                        default:
-                            break;
-                    }
+                    setValueToJsonType(type, Boolean.FALSE);
                 } else if (ch == 'n' && NULL.equals(str)) {
-                    switch (type) {
-                        case ARRAY_ELEMENT:
-                            ((ArrayValue) this.currentJsonNode).append(null);
-                            break;
-                        case FIELD:
-                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), null);
-                            break;
-                        case VALUE:
-                            currentJsonNode = null;
-                            break;
-                        default:
-                            break;
-                    }
+                    setValueToJsonType(type, null);
                 } else {
                     try {
                         switch (mode) {
@@ -919,7 +1202,10 @@ public class JsonParser {
             }
         }
 
-        private void setValueToJsonType(ValueType type, Object value) {
+        private void setValueToJsonType(ValueType type, Object value) throws JsonParserException {
+            if (this.targetType != null) {
+                value = bindSimpleValue(value);
+            }
             switch (type) {
                 case ARRAY_ELEMENT:
                     ((ArrayValue) this.currentJsonNode).append(value);
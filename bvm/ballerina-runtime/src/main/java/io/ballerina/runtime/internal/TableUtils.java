@@ -23,14 +23,14 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 import io.ballerina.runtime.internal.util.exceptions.RuntimeErrors;
 import io.ballerina.runtime.internal.values.ArrayValue;
-import io.ballerina.runtime.internal.values.IteratorValue;
 import io.ballerina.runtime.internal.values.MapValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
 import io.ballerina.runtime.internal.values.RefValue;
 import io.ballerina.runtime.internal.values.TableValue;
 
+import java.util.Arrays;
 import java.util.Map;
 
-import static io.ballerina.runtime.internal.CycleUtils.Node;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.TABLE_KEY_CYCLIC_VALUE_REFERENCE_ERROR;
 
 /**
@@ -41,67 +41,178 @@ import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReason
 
 public class TableUtils {
 
+    private static final ThreadLocal<KeyHasher> KEY_HASHER = ThreadLocal.withInitial(KeyHasher::new);
+
     /**
      * Generates a hash value which is same for the same shape.
+     * <p>
+     * Simple values and the members of lists and mappings are hashed without allocating, cycles are detected using
+     * a per thread stack of the values being hashed. The table keeps the hash of each key next to the key, hence the
+     * hash of a stored key is not computed again.
      *
      * @param obj Ballerina value which the hash is generated from
-     * @param parent Node linking to the parent object of 'obj'
      * @return The hash value
      */
-    public static Long hash(Object obj, Node parent) {
-        long result = 0;
+    public static long hash(Object obj) {
+        if (!(obj instanceof RefValue)) {
+            return obj == null ? 0 : obj.hashCode();
+        }
 
-        if (obj == null) {
-            return 0L;
+        KeyHasher hasher = KEY_HASHER.get();
+        if (hasher.depth > 0) {
+            // a nested call from a hashCode implementation, use a separate stack
+            hasher = new KeyHasher();
+        }
+        try {
+            return hasher.hash(obj);
+        } finally {
+            hasher.reset();
         }
+    }
+
+    /**
+     * Handles table insertion/store functionality.
+     *
+     * @param tableValue Table value which the values are inserted to
+     * @param key        The key associated with the value
+     * @param value      The value being inserted
+     */
+    public static void handleTableStore(TableValue<Object, Object> tableValue, Object key, Object value) {
+        tableValue.put(key, value);
+    }
+
+    /**
+     * Computes the shape based hash of a value, keeping the lists and mappings being hashed on an identity stack to
+     * detect cycles.
+     */
+    private static class KeyHasher {
 
-        if (obj instanceof RefValue) {
+        private static final int INITIAL_DEPTH = 8;
 
-            Node node = new Node(obj, parent);
+        private Object[] stack = new Object[INITIAL_DEPTH];
+        private int depth;
 
-            if (node.hasCyclesSoFar()) {
-                throw ErrorCreator.createError(TABLE_KEY_CYCLIC_VALUE_REFERENCE_ERROR, BLangExceptionHelper
-                        .getErrorMessage(RuntimeErrors.CYCLIC_VALUE_REFERENCE, TypeChecker.getType(obj)));
+        long hash(Object obj) {
+            if (obj == null) {
+                return 0;
+            }
+            if (!(obj instanceof RefValue)) {
+                return obj.hashCode();
             }
 
             RefValue refValue = (RefValue) obj;
             Type refType = refValue.getType();
-            if (refType.getTag() == TypeTags.MAP_TAG || refType.getTag() == TypeTags.RECORD_TYPE_TAG) {
-                MapValue mapValue = (MapValue) refValue;
-                for (Object entry : mapValue.entrySet()) {
-                    result = 31 * result + hash(((Map.Entry) entry).getKey(), node) +
-                            (((Map.Entry) entry).getValue() == null ? 0 : hash(((Map.Entry) entry).getValue(),
-                                    node));
+            switch (refType.getTag()) {
+                case TypeTags.MAP_TAG:
+                case TypeTags.RECORD_TYPE_TAG:
+                case TypeTags.ARRAY_TAG:
+                case TypeTags.TUPLE_TAG:
+                    return hashStructure(refValue, refType.getTag());
+                case TypeTags.XML_TAG:
+                case TypeTags.XML_ELEMENT_TAG:
+                case TypeTags.XML_TEXT_TAG:
+                case TypeTags.XML_ATTRIBUTES_TAG:
+                case TypeTags.XML_COMMENT_TAG:
+                case TypeTags.XML_PI_TAG:
+                case TypeTags.XMLNS_TAG:
+                    return refValue.toString().hashCode();
+                default:
+                    return obj.hashCode();
+            }
+        }
+
+        private long hashStructure(RefValue value, int typeTag) {
+            push(value);
+            long result = typeTag == TypeTags.MAP_TAG || typeTag == TypeTags.RECORD_TYPE_TAG ?
+                    hashMap((MapValue<?, ?>) value) : hashList((ArrayValue) value);
+            pop();
+            return result;
+        }
+
+        /**
+         * Hashes the entries of a mapping. The hash does not depend on the order of the entries, since mappings of
+         * the same shape can have their fields in any order.
+         */
+        private long hashMap(MapValue<?, ?> mapValue) {
+            long result = 0;
+            if (mapValue.getClass() == MapValueImpl.class) {
+                MapValueImpl<?, ?> map = (MapValueImpl<?, ?>) mapValue;
+                for (int i = 0, count = map.positionCount(); i < count; i++) {
+                    if (!map.isRemovedAt(i)) {
+                        result += 31 * hash(map.keyAt(i)) + hash(map.valueAt(i));
+                    }
                 }
                 return result;
-            } else if (refType.getTag() == TypeTags.ARRAY_TAG || refType.getTag() == TypeTags.TUPLE_TAG) {
-                ArrayValue arrayValue = (ArrayValue) refValue;
-                IteratorValue arrayIterator = arrayValue.getIterator();
-                while (arrayIterator.hasNext()) {
-                    result = 31 * result + hash(arrayIterator.next(), node);
+            }
+
+            // records keep their fields outside the map storage
+            for (Map.Entry<?, ?> entry : mapValue.entrySet()) {
+                result += 31 * hash(entry.getKey()) + hash(entry.getValue());
+            }
+            return result;
+        }
+
+        private long hashList(ArrayValue arrayValue) {
+            long result = 0;
+            int size = arrayValue.size();
+            int elementTag = arrayValue.getType().getTag() == TypeTags.ARRAY_TAG ?
+                    arrayValue.getElementType().getTag() : TypeTags.TUPLE_TAG;
+            // members of primitive arrays are read unboxed, the hash matches that of the boxed member
+            switch (elementTag) {
+                case TypeTags.INT_TAG:
+                case TypeTags.SIGNED32_INT_TAG:
+                case TypeTags.SIGNED16_INT_TAG:
+                case TypeTags.SIGNED8_INT_TAG:
+                case TypeTags.UNSIGNED32_INT_TAG:
+                case TypeTags.UNSIGNED16_INT_TAG:
+                case TypeTags.UNSIGNED8_INT_TAG:
+                    for (int i = 0; i < size; i++) {
+                        result = 31 * result + Long.hashCode(arrayValue.getInt(i));
+                    }
+                    return result;
+                case TypeTags.BOOLEAN_TAG:
+                    for (int i = 0; i < size; i++) {
+                        result = 31 * result + Boolean.hashCode(arrayValue.getBoolean(i));
+                    }
+                    return result;
+                case TypeTags.BYTE_TAG:
+                    for (int i = 0; i < size; i++) {
+                        result = 31 * result + Byte.toUnsignedInt(arrayValue.getByte(i));
+                    }
+                    return result;
+                case TypeTags.FLOAT_TAG:
+                    for (int i = 0; i < size; i++) {
+                        result = 31 * result + Double.hashCode(arrayValue.getFloat(i));
+                    }
+                    return result;
+                default:
+                    for (int i = 0; i < size; i++) {
+                        result = 31 * result + hash(arrayValue.getRefValue(i));
+                    }
+                    return result;
+            }
+        }
+
+        private void push(RefValue value) {
+            for (int i = 0; i < depth; i++) {
+                if (stack[i] == value) {
+                    throw ErrorCreator.createError(TABLE_KEY_CYCLIC_VALUE_REFERENCE_ERROR, BLangExceptionHelper
+                            .getErrorMessage(RuntimeErrors.CYCLIC_VALUE_REFERENCE, TypeChecker.getType(value)));
                 }
-                return result;
-            } else if (refType.getTag() == TypeTags.XML_TAG || refType.getTag() == TypeTags.XML_ELEMENT_TAG ||
-                    refType.getTag() == TypeTags.XML_TEXT_TAG || refType.getTag() == TypeTags.XML_ATTRIBUTES_TAG ||
-                    refType.getTag() == TypeTags.XML_COMMENT_TAG || refType.getTag() == TypeTags.XML_PI_TAG ||
-                    refType.getTag() == TypeTags.XMLNS_TAG) {
-                return (long) refValue.toString().hashCode();
-            } else {
-                return (long) obj.hashCode();
             }
-        } else {
-            return (long) obj.hashCode();
+            if (depth == stack.length) {
+                stack = Arrays.copyOf(stack, depth << 1);
+            }
+            stack[depth++] = value;
         }
-    }
 
-    /**
-     * Handles table insertion/store functionality.
-     *
-     * @param tableValue Table value which the values are inserted to
-     * @param key        The key associated with the value
-     * @param value      The value being inserted
-     */
-    public static void handleTableStore(TableValue<Object, Object> tableValue, Object key, Object value) {
-        tableValue.put(key, value);
+        private void pop() {
+            stack[--depth] = null;
+        }
+
+        void reset() {
+            Arrays.fill(stack, 0, depth, null);
+            depth = 0;
+        }
     }
 }
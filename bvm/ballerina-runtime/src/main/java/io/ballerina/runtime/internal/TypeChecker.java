@@ -81,6 +81,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -122,6 +123,11 @@ import static io.ballerina.runtime.api.utils.TypeUtils.isValueType;
 @SuppressWarnings({"rawtypes"})
 public class TypeChecker {
 
+    // Type test results between types, which are immutable once they are initialized. The cache is cleared when it
+    // grows beyond the limit, so that types created on the fly do not accumulate in it.
+    private static final int TYPE_CHECK_CACHE_LIMIT = 1 << 14;
+    private static final Map<TypeCheckCacheKey, Boolean> TYPE_CHECK_CACHE = new ConcurrentHashMap<>();
+
     public static Object checkCast(Object sourceVal, Type targetType) {
 
         if (checkIsType(sourceVal, targetType)) {
@@ -602,7 +608,22 @@ public class TypeChecker {
      * @return flag indicating the the equivalence of the two types
      */
     public static boolean checkIsType(Type sourceType, Type targetType) {
-        return checkIsType(sourceType, targetType, (List<TypePair>) null);
+        if (sourceType == targetType || TypeTags.isSimpleBasicTypeTag(sourceType.getTag()) ||
+                TypeTags.isSimpleBasicTypeTag(targetType.getTag())) {
+            return checkIsType(sourceType, targetType, (List<TypePair>) null);
+        }
+
+        TypeCheckCacheKey key = new TypeCheckCacheKey(sourceType, targetType);
+        Boolean result = TYPE_CHECK_CACHE.get(key);
+        if (result == null) {
+            // Nested checks may come back here, so the result can't be computed within the map.
+            result = checkIsType(sourceType, targetType, (List<TypePair>) null);
+            if (TYPE_CHECK_CACHE.size() >= TYPE_CHECK_CACHE_LIMIT) {
+                TYPE_CHECK_CACHE.clear();
+            }
+            TYPE_CHECK_CACHE.put(key, result);
+        }
+        return result;
     }
 
     @Deprecated
@@ -647,6 +668,17 @@ public class TypeChecker {
             return checkIsType(sourceType, PredefinedTypes.ANY_AND_READONLY_OR_ERROR_TYPE, unresolvedTypes);
         }
 
+        if (targetTypeTag == TypeTags.UNION_TAG) {
+            long targetTagMask = ((BUnionType) targetType).getBasicTypeTagMask();
+            if (targetTagMask != 0) {
+                long sourceTagMask = sourceTypeTag == TypeTags.UNION_TAG ?
+                        ((BUnionType) sourceType).getBasicTypeTagMask() : getBasicTypeTagMask(sourceTypeTag);
+                if (sourceTagMask != 0) {
+                    return (sourceTagMask & ~getAcceptedBasicTypeTagMask(targetTagMask)) == 0;
+                }
+            }
+        }
+
         if (sourceTypeTag == TypeTags.UNION_TAG) {
             return isUnionTypeMatch((BUnionType) sourceType, targetType, unresolvedTypes);
         }
@@ -751,6 +783,21 @@ public class TypeChecker {
 
     // Private methods
 
+    private static long getBasicTypeTagMask(int typeTag) {
+        return TypeTags.isSimpleBasicTypeTag(typeTag) ? 1L << typeTag : 0;
+    }
+
+    /**
+     * Returns the bitset of the types accepted by a union of simple basic types, given the bitset of its members. A
+     * member only accepts types with the same tag, except for `int` which also accepts `byte`.
+     */
+    private static long getAcceptedBasicTypeTagMask(long memberTagMask) {
+        if ((memberTagMask & (1L << TypeTags.INT_TAG)) != 0) {
+            return memberTagMask | (1L << TypeTags.BYTE_TAG);
+        }
+        return memberTagMask;
+    }
+
     private static boolean checkTypeDescType(Type sourceType, BTypedescType targetType,
             List<TypePair> unresolvedTypes) {
         if (sourceType.getTag() != TypeTags.TYPEDESC_TAG) {
@@ -2800,6 +2847,37 @@ public class TypeChecker {
         }
     }
 
+    /**
+     * Key of the type check cache. Unlike {@link TypePair}, types are compared by identity, since distinct types may
+     * be equal by name.
+     *
+     * @since 2.0.0
+     */
+    private static class TypeCheckCacheKey {
+        private final Type sourceType;
+        private final Type targetType;
+
+        TypeCheckCacheKey(Type sourceType, Type targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof TypeCheckCacheKey)) {
+                return false;
+            }
+
+            TypeCheckCacheKey other = (TypeCheckCacheKey) obj;
+            return this.sourceType == other.sourceType && this.targetType == other.targetType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(sourceType) + System.identityHashCode(targetType);
+        }
+    }
+
     /**
      * Check the reference equality of handle values.
      *
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+/**
+ * Holds the {@link ItemGroup}s that are ready to be executed by the {@link Scheduler} worker threads.
+ *
+ * @since 2.0.0
+ */
+interface RunnableQueue {
+
+    /**
+     * Called once by each worker thread before it starts taking groups from the queue.
+     */
+    void registerWorker();
+
+    /**
+     * Makes the given group available to the worker threads.
+     *
+     * @param group group that is ready to run
+     */
+    void add(ItemGroup group);
+
+    /**
+     * Retrieves the next group to run, waiting until one becomes available.
+     *
+     * @return next runnable group
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ItemGroup take() throws InterruptedException;
+
+    /**
+     * Returns the number of groups waiting to be picked by a worker.
+     *
+     * @return number of queued groups
+     */
+    int size();
+
+    /**
+     * Returns the number of scheduler threads that should take groups from this queue.
+     *
+     * @param poolSize configured scheduler pool size
+     * @return number of worker threads
+     */
+    default int workerCount(int poolSize) {
+        return poolSize;
+    }
+}
@@ -31,15 +31,17 @@ import io.ballerina.runtime.internal.values.ChannelDetails;
 import io.ballerina.runtime.internal.values.FutureValue;
 
 import java.io.PrintStream;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -61,12 +63,22 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunnableQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
     private AtomicInteger totalStrands = new AtomicInteger();
 
+    /**
+     * Strands that are scheduled and not yet completed, used for the metrics and the strand dump. The strands and
+     * the queue times are only tracked once the metrics are enabled, to keep the scheduling path free of this work.
+     */
+    private final Set<Strand> liveStrands = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean metricsEnabled = false;
+
+    private final SchedulerMetrics metrics = new SchedulerMetrics(this);
+
     private static String poolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
     /**
@@ -77,6 +89,20 @@ public class Scheduler {
 
     private static int poolSize = Runtime.getRuntime().availableProcessors() * 2;
 
+    private static String schedulerModeConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
+
+    /**
+     * Scheduler mode which gives each worker thread its own run queue and lets idle workers steal from others.
+     * This can be enabled by setting the BALLERINA_SCHEDULER_MODE system variable to this value.
+     */
+    static final String WORK_STEALING_MODE = "work-stealing";
+
+    /**
+     * Scheduler mode which runs each runnable strand group on a JDK virtual thread, when the JVM supports them.
+     * This can be enabled by setting the BALLERINA_SCHEDULER_MODE system variable to this value.
+     */
+    static final String VIRTUAL_THREAD_MODE = "virtual-thread";
+
     private Semaphore mainBlockSem;
     private ListenerRegistry listenerRegistry;
 
@@ -92,15 +118,39 @@ public class Scheduler {
         }
         this.numThreads = poolSize;
         this.immortal = immortal;
+        this.runnableList = createRunnableQueue(numThreads);
         listenerRegistry = new ListenerRegistry();
     }
 
     public Scheduler(int numThreads, boolean immortal) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.runnableList = createRunnableQueue(numThreads);
         listenerRegistry = new ListenerRegistry();
     }
 
+    private RunnableQueue createRunnableQueue(int numThreads) {
+        if (schedulerModeConf == null || schedulerModeConf.isEmpty()) {
+            return new SharedRunnableQueue();
+        }
+        String mode = schedulerModeConf.trim();
+        if (WORK_STEALING_MODE.equalsIgnoreCase(mode)) {
+            return new WorkStealingRunnableQueue(numThreads);
+        }
+        if (VIRTUAL_THREAD_MODE.equalsIgnoreCase(mode)) {
+            if (VirtualThreadRunnableQueue.isSupported()) {
+                return new VirtualThreadRunnableQueue(this::runGroupSafely);
+            }
+            err.println("ballerina: virtual threads are not supported by the current JVM, ignoring system variable:" +
+                                RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR + "=" + schedulerModeConf);
+            return new SharedRunnableQueue();
+        }
+        // Log and continue with default
+        err.println("ballerina: unknown scheduler mode '" + schedulerModeConf + "' in system variable:" +
+                            RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR + ", using the default mode");
+        return new SharedRunnableQueue();
+    }
+
     public static Strand getStrand() {
         Strand strand = strandHolder.get().strand;
         if (strand == null) {
@@ -152,10 +202,13 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(fp.getFunction(), params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
+        if (metricsEnabled) {
+            liveStrands.add(future.strand);
+        }
         future.strand.strandGroup = parent.strandGroup;
         parent.strandGroup.add(item);
         if (parent.strandGroup.scheduled.compareAndSet(false, true)) {
-            runnableList.add(future.strand.strandGroup);
+            addToRunnableList(future.strand.strandGroup);
         }
         return future;
     }
@@ -215,10 +268,13 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(function, params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
+        if (metricsEnabled) {
+            liveStrands.add(future.strand);
+        }
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
-        runnableList.add(group);
+        addToRunnableList(group);
         return future;
     }
 
@@ -241,16 +297,20 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(consumer, params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
+        if (metricsEnabled) {
+            liveStrands.add(future.strand);
+        }
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
-        runnableList.add(group);
+        addToRunnableList(group);
         return future;
     }
 
     public void start() {
-        this.mainBlockSem = new Semaphore(-(numThreads - 1));
-        for (int i = 0; i < numThreads - 1; i++) {
+        int numWorkers = runnableList.workerCount(numThreads);
+        this.mainBlockSem = new Semaphore(-(numWorkers - 1));
+        for (int i = 0; i < numWorkers - 1; i++) {
             new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
         }
         this.runSafely();
@@ -272,12 +332,20 @@ public class Scheduler {
         }
     }
 
+    private void runGroupSafely(ItemGroup group) {
+        try {
+            runGroup(group);
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        }
+    }
+
     /**
      * Executes tasks that are submitted to the Scheduler.
      */
     private void run() {
+        runnableList.registerWorker();
         while (true) {
-            SchedulerItem item;
             ItemGroup group;
             try {
                 group = runnableList.take();
@@ -290,35 +358,52 @@ public class Scheduler {
                 break;
             }
 
-            while (!group.items.empty()) {
-                Object result = null;
-                Throwable panic = null;
+            runGroup(group);
+        }
+    }
 
-                item = group.get();
+    /**
+     * Executes the items of the given group on the current thread until it runs out of runnable items.
+     */
+    private void runGroup(ItemGroup group) {
+        if (metricsEnabled && group.enqueueTime != 0) {
+            metrics.recordQueueTime(System.nanoTime() - group.enqueueTime);
+            group.enqueueTime = 0;
+        }
+        while (true) {
+            SchedulerItem item = group.get();
+            if (item == null) {
+                group.scheduled.set(false);
+                // An item may have been added after the last get, while the group was still marked as scheduled. The
+                // thread that added it could not schedule the group, hence we need to take it back.
+                if (group.isEmpty() || !group.scheduled.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
 
-                try {
-                    strandHolder.get().strand = item.future.strand;
-                    result = item.execute();
-                } catch (Throwable e) {
-                    panic = createError(e);
-                    notifyChannels(item, panic);
+            Object result = null;
+            Throwable panic = null;
 
-                    if (!(panic instanceof BError)) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                    // Please refer #18763.
-                    // This logs cases where errors have occurred while strand is blocked.
-                    if (item.isYielded()) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                } finally {
-                    strandHolder.get().strand = null;
+            try {
+                strandHolder.get().strand = item.future.strand;
+                result = item.execute();
+            } catch (Throwable e) {
+                panic = createError(e);
+                notifyChannels(item, panic);
+
+                if (!(panic instanceof BError)) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                postProcess(item, result, panic);
-                if (group.items.empty()) {
-                    group.scheduled.set(false);
+                // Please refer #18763.
+                // This logs cases where errors have occurred while strand is blocked.
+                if (item.isYielded()) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
+            } finally {
+                strandHolder.get().strand = null;
             }
+            postProcess(item, result, panic);
         }
     }
 
@@ -373,20 +458,7 @@ public class Scheduler {
                 justCompleted.setState(State.DONE);
 
 
-                for (WaitContext ctx : justCompleted.waitingContexts) {
-                    ctx.lock();
-                    if (!ctx.completed) {
-                        if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
-                            if (ctx.intermediate) {
-                                ctx.runnable = true;
-                            } else {
-                                ctx.completed = true;
-                                reschedule(ctx.schedulerItem);
-                            }
-                        }
-                    }
-                    ctx.unLock();
-                }
+                notifyWaitingContexts(item, result);
 
                 cleanUp(justCompleted);
 
@@ -405,6 +477,29 @@ public class Scheduler {
         }
     }
 
+    private void notifyWaitingContexts(SchedulerItem item, Object result) {
+        // read after the state change, strands that start waiting later will see the completed future
+        List<WaitContext> waitingContexts = item.future.strand.waitingContexts;
+        if (waitingContexts == null) {
+            return;
+        }
+
+        for (WaitContext ctx : waitingContexts) {
+            ctx.lock();
+            if (!ctx.completed) {
+                if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
+                    if (ctx.intermediate) {
+                        ctx.runnable = true;
+                    } else {
+                        ctx.completed = true;
+                        reschedule(ctx.schedulerItem);
+                    }
+                }
+            }
+            ctx.unLock();
+        }
+    }
+
     public void setImmortal(boolean immortal) {
         this.immortal = immortal;
     }
@@ -432,6 +527,9 @@ public class Scheduler {
     }
 
     private void cleanUp(Strand justCompleted) {
+        if (metricsEnabled) {
+            liveStrands.remove(justCompleted);
+        }
         justCompleted.scheduler = null;
         justCompleted.frames = null;
         justCompleted.waitingContexts = null;
@@ -440,14 +538,17 @@ public class Scheduler {
 
     private void notifyChannels(SchedulerItem item, Throwable panic) {
         Set<ChannelDetails> channels = item.future.strand.channelDetails;
+        if (channels == null) {
+            return;
+        }
 
         for (ChannelDetails details: channels) {
             WorkerDataChannel wdChannel;
 
             if (details.channelInSameStrand) {
-                wdChannel = item.future.strand.wdChannels.getWorkerDataChannel(details.name);
+                wdChannel = item.future.strand.getWDChannels().getWorkerDataChannel(details.name);
             } else {
-                wdChannel = item.future.strand.parent.wdChannels.getWorkerDataChannel(details.name);
+                wdChannel = item.future.strand.parent.getWDChannels().getWorkerDataChannel(details.name);
             }
 
             if (details.send) {
@@ -461,6 +562,7 @@ public class Scheduler {
     private void reschedule(SchedulerItem item) {
         if (!item.getState().equals(State.RUNNABLE)) {
             ItemGroup group = item.future.strand.strandGroup;
+            item.future.strand.setBlockedOn(null);
             item.setState(State.RUNNABLE);
             group.add(item);
 
@@ -469,11 +571,73 @@ public class Scheduler {
             //  2) All others have finished
             // In this case we need to put it back in the runnable list.
             if (group.scheduled.compareAndSet(false, true)) {
-                runnableList.add(group);
+                addToRunnableList(group);
             }
         }
     }
 
+    private void addToRunnableList(ItemGroup group) {
+        if (metricsEnabled) {
+            group.enqueueTime = System.nanoTime();
+        }
+        runnableList.add(group);
+    }
+
+    /**
+     * Starts tracking the live strands and the time strand groups spend in the runnable list. Strands scheduled
+     * before this call are not part of the metrics or the strand dump.
+     */
+    void enableMetrics() {
+        metricsEnabled = true;
+    }
+
+    /**
+     * Returns whether the live strands and the queue times are tracked by this scheduler.
+     *
+     * @return true if the scheduler metrics are enabled
+     */
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    /**
+     * Returns the runtime metrics of this scheduler.
+     *
+     * @return scheduler metrics
+     */
+    public SchedulerMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the number of strand groups waiting in the runnable list for a thread to pick them.
+     *
+     * @return number of runnable strand groups
+     */
+    public int getRunnableGroupCount() {
+        return runnableList.size();
+    }
+
+    /**
+     * Returns the strands that are scheduled and not completed yet.
+     *
+     * @return live strands of this scheduler
+     */
+    public Collection<Strand> getLiveStrands() {
+        return Collections.unmodifiableSet(liveStrands);
+    }
+
+    /**
+     * Generates a dump of the live strands, similar to a thread dump. For each strand the dump contains the strand
+     * metadata, the state and what the strand is waiting on. The live strands are only known once the scheduler
+     * metrics are enabled.
+     *
+     * @return strand dump
+     */
+    public String getStrandDump() {
+        return StrandDump.generate(this);
+    }
+
     public FutureValue createFuture(Strand parent, Callback callback, Map<String, Object> properties,
                                     Type constraint, String name, StrandMetadata metadata) {
         Strand newStrand = new Strand(name, metadata, this, parent, properties);
@@ -488,13 +652,12 @@ public class Scheduler {
     }
 
     private FutureValue createFuture(Strand parent, Callback callback, Type constraint, Strand newStrand) {
-        FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Object[100];
-        return future;
+        return new FutureValue(newStrand, callback, constraint);
     }
 
     public void poison() {
-        for (int i = 0; i < numThreads; i++) {
+        int numWorkers = runnableList.workerCount(numThreads);
+        for (int i = 0; i < numWorkers; i++) {
             runnableList.add(POISON_PILL);
         }
     }
@@ -591,35 +754,76 @@ class SchedulerItem {
 
 /**
  * Represents a group of {@link SchedulerItem} that should run on same thread.
+ * <p>
+ * Items can be added from any thread, but only the thread that has scheduled the group takes them out. Hence the items
+ * are kept in a lock-free (Treiber) stack where both push and pop are a single compare-and-set on the top node.
  */
 class ItemGroup {
 
     /**
-     * Keep the list of items that should run on same thread.
+     * Top of the stack of items that should run on same thread.
      * Using a stack to get advantage of the locality.
      */
-    Stack<SchedulerItem> items = new Stack<>();
+    private final AtomicReference<ItemNode> top = new AtomicReference<>();
 
     /**
      * Indicates this item is already in runnable list/executing or not.
      */
     AtomicBoolean scheduled = new AtomicBoolean(false);
 
+    /**
+     * Time in nanoseconds at which the group was last added to the runnable list.
+     */
+    long enqueueTime;
+
     public static final ItemGroup POISON_PILL = new ItemGroup();
 
     public ItemGroup(SchedulerItem item) {
-        items.push(item);
+        top.set(new ItemNode(item, null));
     }
 
     private ItemGroup() {
-        items = null;
     }
 
     public void add(SchedulerItem item) {
-        items.push(item);
+        ItemNode node = new ItemNode(item, null);
+        ItemNode current;
+        do {
+            current = top.get();
+            node.next = current;
+        } while (!top.compareAndSet(current, node));
     }
 
+    /**
+     * Removes the most recently added item.
+     *
+     * @return the item or null if there are no items in the group
+     */
     public SchedulerItem get() {
-        return items.pop();
+        ItemNode current;
+        do {
+            current = top.get();
+            if (current == null) {
+                return null;
+            }
+        } while (!top.compareAndSet(current, current.next));
+        return current.item;
+    }
+
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    /**
+     * A node in the item stack. Nodes are never reused, so the stack is not subjected to the ABA problem.
+     */
+    private static class ItemNode {
+        final SchedulerItem item;
+        ItemNode next;
+
+        ItemNode(SchedulerItem item, ItemNode next) {
+            this.item = item;
+            this.next = next;
+        }
     }
 }
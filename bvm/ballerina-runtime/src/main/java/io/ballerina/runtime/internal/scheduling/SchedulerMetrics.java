@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Runtime metrics of a {@link Scheduler}.
+ * <p>
+ * Nothing is recorded until the metrics are enabled, which is done when they are registered in a metric registry.
+ * From then on the scheduler keeps the live strands and records the time strand groups spend in the runnable list.
+ * The strand counts are computed from the live strands when the metrics are polled.
+ *
+ * @since 2.0.0
+ */
+public class SchedulerMetrics {
+
+    static final String LIVE_STRANDS = "scheduler_live_strands";
+    static final String RUNNABLE_GROUPS = "scheduler_runnable_groups";
+    static final String PARKED_STRANDS = "scheduler_parked_strands";
+    static final String YIELDED_STRANDS = "scheduler_yielded_strands";
+    static final String BLOCKED_STRANDS = "scheduler_blocked_strands";
+    static final String WAITING_STRANDS = "scheduler_waiting_strands";
+    static final String QUEUE_TIME = "scheduler_queue_time_seconds_total";
+    static final String DEQUEUED_GROUPS = "scheduler_dequeued_groups_total";
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final Scheduler scheduler;
+    private final LongAdder queueTime = new LongAdder();
+    private final LongAdder dequeuedGroups = new LongAdder();
+
+    SchedulerMetrics(Scheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    void recordQueueTime(long nanos) {
+        queueTime.add(nanos);
+        dequeuedGroups.increment();
+    }
+
+    /**
+     * Enables the scheduler metrics without registering them in a metric registry.
+     */
+    public void enable() {
+        scheduler.enableMetrics();
+    }
+
+    /**
+     * Enables the scheduler metrics and registers them as polled gauges in the given registry.
+     *
+     * @param registry metric registry
+     */
+    public void register(MetricRegistry registry) {
+        enable();
+        register(registry, LIVE_STRANDS, "Number of strands that are scheduled and not completed yet",
+                 SchedulerMetrics::getLiveStrandCount);
+        register(registry, RUNNABLE_GROUPS, "Number of strand groups waiting for a scheduler thread",
+                 SchedulerMetrics::getRunnableGroupCount);
+        register(registry, PARKED_STRANDS, "Number of blocked strands returned to the scheduler",
+                 SchedulerMetrics::getParkedStrandCount);
+        register(registry, YIELDED_STRANDS, "Number of strands that yielded and are about to be rescheduled",
+                 SchedulerMetrics::getYieldedStrandCount);
+        register(registry, BLOCKED_STRANDS, "Number of strands blocked on a lock, a worker channel or a callback",
+                 SchedulerMetrics::getBlockedStrandCount);
+        register(registry, WAITING_STRANDS, "Number of strands waiting on other strands",
+                 SchedulerMetrics::getWaitingStrandCount);
+        register(registry, QUEUE_TIME, "Total time strand groups spent in the runnable list",
+                 SchedulerMetrics::getTotalQueueTimeSeconds);
+        register(registry, DEQUEUED_GROUPS, "Number of strand groups taken from the runnable list",
+                 SchedulerMetrics::getDequeuedGroupCount);
+    }
+
+    private void register(MetricRegistry registry, String name, String description,
+                          ToDoubleFunction<SchedulerMetrics> valueFunction) {
+        PolledGauge.builder(name, this, valueFunction).description(description).register(registry);
+    }
+
+    public int getLiveStrandCount() {
+        return scheduler.getLiveStrands().size();
+    }
+
+    public int getRunnableGroupCount() {
+        return scheduler.getRunnableGroupCount();
+    }
+
+    public int getParkedStrandCount() {
+        int count = 0;
+        for (Strand strand : scheduler.getLiveStrands()) {
+            if (strand.schedulerItem.parked) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int getYieldedStrandCount() {
+        return countStrands(State.YIELD);
+    }
+
+    public int getBlockedStrandCount() {
+        return countStrands(State.BLOCK_AND_YIELD);
+    }
+
+    public int getWaitingStrandCount() {
+        return countStrands(State.BLOCK_ON_AND_YIELD);
+    }
+
+    public double getTotalQueueTimeSeconds() {
+        return queueTime.sum() / NANOS_PER_SECOND;
+    }
+
+    public long getDequeuedGroupCount() {
+        return dequeuedGroups.sum();
+    }
+
+    private int countStrands(State state) {
+        int count = 0;
+        for (Strand strand : scheduler.getLiveStrands()) {
+            if (strand.getState() == state) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -29,6 +29,7 @@ import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.transactions.TransactionLocalContext;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -55,6 +56,12 @@ public class Strand {
 
     private static AtomicInteger nextStrandId = new AtomicInteger(0);
 
+    /**
+     * Initial size of the frame array. The array is allocated when the strand yields for the first time, and doubled
+     * whenever the call stack of yielded functions grows beyond it.
+     */
+    private static final int INITIAL_FRAME_COUNT = 8;
+
     private int id;
     private String name;
     private StrandMetadata metadata;
@@ -65,7 +72,6 @@ public class Strand {
     public BError panic;
     public Scheduler scheduler;
     public Strand parent;
-    public WDChannels wdChannels;
     public FlushDetail flushDetail;
     public boolean blockedOnExtern;
     public Set<ChannelDetails> channelDetails;
@@ -77,32 +83,40 @@ public class Strand {
     WaitContext waitContext;
     ItemGroup strandGroup;
 
+    /**
+     * The {@link WaitContext}, {@link WorkerDataChannel} or {@link io.ballerina.runtime.internal.BLock} this strand is
+     * blocked on, if any.
+     */
+    private volatile Object blockedOn;
+
+    private volatile WDChannels wdChannels;
     private Map<String, Object> globalProps;
+    // Whether the property map is also used by the parent or a child strand, in which case it is copied on write
+    private boolean globalPropsShared;
     public TransactionLocalContext currentTrxContext;
     public Stack<TransactionLocalContext> trxContexts;
     private State state;
     private final ReentrantLock strandLock;
 
+    // Worker channels, wait contexts and transaction contexts are only used by a fraction of the strands, hence
+    // they are created on first use to keep the cost of spawning a short lived strand low.
     public Strand(String name, StrandMetadata metadata, Scheduler scheduler, Strand parent,
                   Map<String, Object> properties) {
         this.id = nextStrandId.incrementAndGet();
         this.scheduler = scheduler;
-        this.wdChannels = new WDChannels();
-        this.channelDetails = new HashSet<>();
         this.state = RUNNABLE;
-        this.dependants = new HashSet<>();
         this.strandLock = new ReentrantLock();
-        this.waitingContexts = new ArrayList<>();
         this.name = name;
         this.metadata = metadata;
-        this.trxContexts = new Stack<>();
         this.parent = parent;
 
-        //TODO: improve by using a copy on write map #26710
         if (properties != null) {
-            this.globalProps = properties;
+            this.globalProps = new HashMap<>(properties);
         } else if (parent != null) {
-            this.globalProps = new HashMap<>(parent.globalProps);
+            // The child shares the map of the parent until one of them sets a property
+            this.globalProps = parent.globalProps;
+            this.globalPropsShared = true;
+            parent.globalPropsShared = true;
         } else {
             this.globalProps = new HashMap<>();
         }
@@ -112,6 +126,9 @@ public class Strand {
                   Map<String, Object> properties, TransactionLocalContext currentTrxContext) {
         this(name, metadata, scheduler, parent, properties);
         if (currentTrxContext != null) {
+            if (parent.trxContexts == null) {
+                parent.trxContexts = new Stack<>();
+            }
             this.trxContexts = parent.trxContexts;
             this.trxContexts.push(currentTrxContext);
             this.currentTrxContext = createTrxContextBranch(currentTrxContext, name);
@@ -155,6 +172,10 @@ public class Strand {
      */
     @Deprecated
     public void setProperty(String key, Object value) {
+        if (this.globalPropsShared) {
+            this.globalProps = new HashMap<>(this.globalProps);
+            this.globalPropsShared = false;
+        }
         this.globalProps.put(key, value);
     }
 
@@ -168,7 +189,7 @@ public class Strand {
     }
 
     public void removeCurrentTrxContext() {
-        if (!this.trxContexts.isEmpty()) {
+        if (this.trxContexts != null && !this.trxContexts.isEmpty()) {
             this.currentTrxContext = this.trxContexts.pop();
             return;
         }
@@ -177,6 +198,9 @@ public class Strand {
 
     public void setCurrentTransactionContext(TransactionLocalContext ctx) {
         if (this.currentTrxContext != null) {
+            if (this.trxContexts == null) {
+                this.trxContexts = new Stack<>();
+            }
             this.trxContexts.push(this.currentTrxContext);
         }
         this.currentTrxContext = ctx;
@@ -252,7 +276,7 @@ public class Strand {
                 target.put(StringUtils.fromString(entry.getKey()), future.result);
             } else {
                 this.setState(BLOCK_ON_AND_YIELD);
-                entry.getValue().strand.waitingContexts.add(ctx);
+                entry.getValue().strand.addWaitingContext(ctx);
             }
             future.strand.unlock();
         }
@@ -261,6 +285,7 @@ public class Strand {
             ctx.completed = true;
         } else {
             this.waitContext = ctx;
+            this.blockedOn = ctx;
             ctx.intermediate = true;
         }
         ctx.unLock();
@@ -292,7 +317,7 @@ public class Strand {
                     waitResult = new WaitResult(true, future.result);
                     break;
                 } else {
-                    future.strand.waitingContexts.add(ctx);
+                    future.strand.addWaitingContext(ctx);
                 }
             } finally {
                 future.strand.unlock();
@@ -307,6 +332,7 @@ public class Strand {
             waitResult = new WaitResult(true, error);
         } else {
             this.waitContext = ctx;
+            this.blockedOn = ctx;
             this.setState(BLOCK_ON_AND_YIELD);
         }
         ctx.unLock();
@@ -315,6 +341,9 @@ public class Strand {
     }
 
     public void updateChannelDetails(ChannelDetails[] channels) {
+        if (this.channelDetails == null) {
+            this.channelDetails = new HashSet<>();
+        }
         for (ChannelDetails channel: channels) {
             this.channelDetails.add(channel);
         }
@@ -323,13 +352,74 @@ public class Strand {
     private WorkerDataChannel getWorkerDataChannel(ChannelDetails channel) {
         WorkerDataChannel dataChannel;
         if (channel.channelInSameStrand) {
-            dataChannel = this.wdChannels.getWorkerDataChannel(channel.name);
+            dataChannel = this.getWDChannels().getWorkerDataChannel(channel.name);
         } else {
-            dataChannel = this.parent.wdChannels.getWorkerDataChannel(channel.name);
+            dataChannel = this.parent.getWDChannels().getWorkerDataChannel(channel.name);
         }
         return dataChannel;
     }
 
+    /**
+     * Returns the worker data channels of this strand, creating them on first access. Child strands access the
+     * channels of their parent, hence the creation is synchronized.
+     *
+     * @return worker data channels of this strand
+     */
+    public WDChannels getWDChannels() {
+        WDChannels channels = this.wdChannels;
+        if (channels == null) {
+            synchronized (this) {
+                channels = this.wdChannels;
+                if (channels == null) {
+                    channels = new WDChannels();
+                    this.wdChannels = channels;
+                }
+            }
+        }
+        return channels;
+    }
+
+    /**
+     * Stores the frame of a yielding function, so that it can be restored on resume.
+     *
+     * @param frame frame of the yielding function
+     */
+    public void pushFrame(Object frame) {
+        if (this.frames == null) {
+            this.frames = new Object[INITIAL_FRAME_COUNT];
+        } else if (this.resumeIndex == this.frames.length) {
+            this.frames = Arrays.copyOf(this.frames, this.frames.length << 1);
+        }
+        this.frames[this.resumeIndex++] = frame;
+    }
+
+    /**
+     * Registers a wait context to be notified when this strand completes. Must be called while holding the strand
+     * lock.
+     *
+     * @param ctx wait context of a strand waiting on this strand
+     */
+    void addWaitingContext(WaitContext ctx) {
+        if (this.waitingContexts == null) {
+            this.waitingContexts = new ArrayList<>();
+        }
+        this.waitingContexts.add(ctx);
+    }
+
+    /**
+     * Records what this strand is blocked on, so that it can be shown in the strand dump. Set to null when the strand
+     * becomes runnable again.
+     *
+     * @param blockedOn wait context, worker data channel or lock the strand is blocked on
+     */
+    public void setBlockedOn(Object blockedOn) {
+        this.blockedOn = blockedOn;
+    }
+
+    public Object getBlockedOn() {
+        return blockedOn;
+    }
+
     public void setState(State state) {
         this.lock();
         this.state = state;
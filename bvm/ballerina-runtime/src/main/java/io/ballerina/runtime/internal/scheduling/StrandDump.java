@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.internal.BLock;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Generates a human readable dump of the live strands of a {@link Scheduler}, similar to a thread dump.
+ * <p>
+ * Strands keep changing state while the dump is generated, so the dump is only a best effort snapshot.
+ *
+ * @since 2.0.0
+ */
+class StrandDump {
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private StrandDump() {
+    }
+
+    static String generate(Scheduler scheduler) {
+        if (!scheduler.isMetricsEnabled()) {
+            return "Ballerina strand dump: strands are not tracked as metrics are not enabled" + LINE_SEPARATOR;
+        }
+        List<Strand> strands = new ArrayList<>(scheduler.getLiveStrands());
+        strands.sort(Comparator.comparingInt(Strand::getId));
+
+        StringBuilder dump = new StringBuilder();
+        dump.append("Ballerina strand dump: ").append(strands.size()).append(" live strands, ")
+                .append(scheduler.getRunnableGroupCount()).append(" runnable strand groups")
+                .append(LINE_SEPARATOR);
+        for (Strand strand : strands) {
+            dump.append(LINE_SEPARATOR);
+            appendStrand(dump, strand);
+        }
+        return dump.toString();
+    }
+
+    private static void appendStrand(StringBuilder dump, Strand strand) {
+        State state = strand.getState();
+        dump.append('"').append(strand.getName().orElse("anonymous")).append("\" #").append(strand.getId());
+        if (strand.parent != null) {
+            dump.append(" parent #").append(strand.parent.getId());
+        }
+        dump.append(" [").append(state).append(']').append(LINE_SEPARATOR);
+
+        StrandMetadata metadata = strand.getMetadata();
+        if (metadata != null) {
+            dump.append("    created in: ").append(metadata.getModuleOrg()).append('/')
+                    .append(metadata.getModuleName()).append(':').append(metadata.getModuleVersion()).append(' ');
+            if (metadata.getTypeName() != null) {
+                dump.append(metadata.getTypeName()).append('.');
+            }
+            dump.append(metadata.getParentFunctionName()).append(LINE_SEPARATOR);
+        }
+
+        if (state == State.RUNNABLE || state == State.DONE) {
+            return;
+        }
+        String waitingOn = getWaitingOn(strand);
+        if (waitingOn != null) {
+            dump.append("    waiting on: ").append(waitingOn).append(LINE_SEPARATOR);
+        }
+    }
+
+    private static String getWaitingOn(Strand strand) {
+        Object blockedOn = strand.getBlockedOn();
+        if (blockedOn instanceof WaitAnyContext) {
+            return "wait for any of the given strands";
+        }
+        if (blockedOn instanceof WaitContext) {
+            return "wait for all of the given strands";
+        }
+        if (blockedOn instanceof WorkerDataChannel) {
+            return "worker channel '" + ((WorkerDataChannel) blockedOn).chnlName + "'";
+        }
+        if (blockedOn instanceof BLock) {
+            Strand owner = ((BLock) blockedOn).getOwner();
+            return owner == null ? "lock" : "lock held by strand #" + owner.getId();
+        }
+        if (strand.flushDetail != null && strand.flushDetail.inProgress) {
+            return "worker channel flush";
+        }
+        if (strand.isBlockedOnExtern()) {
+            return "external function call";
+        }
+        return null;
+    }
+}
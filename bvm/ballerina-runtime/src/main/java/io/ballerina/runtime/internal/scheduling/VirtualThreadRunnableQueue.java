@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * {@link RunnableQueue} which runs every runnable {@link ItemGroup} on a fresh JDK virtual thread.
+ * <p>
+ * A strand that blocks inside a Java interop call then only blocks its own virtual thread instead of pinning one of
+ * the scheduler pool threads. Groups are still drained one at a time, so the items of a group never run concurrently.
+ * Only the poison pills are queued, they are taken by the single thread that called {@link Scheduler#start()}. The
+ * executor is shut down when the scheduler is poisoned, the virtual threads already running complete as usual.
+ * <p>
+ * Virtual threads are looked up reflectively since the runtime is built for Java 11. Use {@link #isSupported()}
+ * before creating an instance.
+ *
+ * @since 2.0.0
+ */
+class VirtualThreadRunnableQueue implements RunnableQueue {
+
+    private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = lookupVirtualThreadExecutorFactory();
+
+    private final ExecutorService executor;
+    private final Consumer<ItemGroup> groupRunner;
+    private final BlockingQueue<ItemGroup> poisonPills = new LinkedBlockingQueue<>();
+
+    VirtualThreadRunnableQueue(Consumer<ItemGroup> groupRunner) {
+        this.groupRunner = groupRunner;
+        this.executor = newVirtualThreadExecutor();
+    }
+
+    /**
+     * Checks whether the JVM running the program can create virtual threads.
+     *
+     * @return true if virtual threads are available
+     */
+    static boolean isSupported() {
+        return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    @Override
+    public void registerWorker() {
+        // nothing to do, groups are not taken by the scheduler threads
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        if (group == POISON_PILL) {
+            executor.shutdown();
+            poisonPills.add(group);
+            return;
+        }
+        try {
+            executor.execute(() -> groupRunner.accept(group));
+        } catch (RejectedExecutionException e) {
+            // The scheduler has stopped. As with the other queues, groups added after that are not run.
+        }
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        return poisonPills.take();
+    }
+
+    @Override
+    public int size() {
+        return 0;
+    }
+
+    @Override
+    public int workerCount(int poolSize) {
+        return 1;
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("unable to create a virtual thread executor", e);
+        }
+    }
+
+    private static Method lookupVirtualThreadExecutorFactory() {
+        try {
+            Method factory = Class.forName("java.util.concurrent.Executors")
+                    .getMethod("newVirtualThreadPerTaskExecutor");
+            // virtual threads are a preview feature in some JDK versions, make sure they can be created
+            ((ExecutorService) factory.invoke(null)).shutdown();
+            return factory;
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link RunnableQueue} which keeps a local deque per worker thread and lets idle workers steal from the others.
+ * <p>
+ * Groups made runnable by a worker thread go to that worker's local deque, so the common reschedule path does not
+ * contend with the other workers. Groups added from outside the scheduler (listener threads, callbacks etc.) go to a
+ * shared injection queue. A worker that cannot find anything in its own deque, the injection queue or any other
+ * worker's deque parks itself until a producer unparks it.
+ * <p>
+ * A worker always publishes itself in the parked list before it re-checks the queues, and a producer always
+ * enqueues before it looks at the parked list. Hence either the worker sees the new group, or the producer sees the
+ * worker and unparks it.
+ *
+ * @since 2.0.0
+ */
+class WorkStealingRunnableQueue implements RunnableQueue {
+
+    private static final ThreadLocal<Worker> currentWorker = new ThreadLocal<>();
+
+    // workers register themselves from their own threads and are read by the thieves and size() from the others
+    private final AtomicReferenceArray<Worker> workers;
+    private final AtomicInteger registeredWorkers = new AtomicInteger();
+    private final Queue<ItemGroup> injectionQueue = new ConcurrentLinkedQueue<>();
+    private final Queue<Worker> parkedWorkers = new ConcurrentLinkedQueue<>();
+
+    WorkStealingRunnableQueue(int numThreads) {
+        this.workers = new AtomicReferenceArray<>(numThreads);
+    }
+
+    @Override
+    public void registerWorker() {
+        int index = registeredWorkers.getAndIncrement();
+        if (index >= workers.length()) {
+            throw new IllegalStateException("number of workers exceeds the scheduler pool size: " + workers.length());
+        }
+        Worker worker = new Worker(this, Thread.currentThread());
+        workers.set(index, worker);
+        currentWorker.set(worker);
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        Worker worker = currentWorker.get();
+        if (worker != null && worker.owner == this) {
+            // LIFO for the owner to keep the locality of the strand that just made this group runnable
+            worker.localQueue.offerFirst(group);
+        } else {
+            injectionQueue.offer(group);
+        }
+        signalWork();
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        Worker worker = currentWorker.get();
+        if (worker == null || worker.owner != this) {
+            throw new IllegalStateException("thread is not registered as a worker of this scheduler");
+        }
+
+        while (true) {
+            ItemGroup group = findWork(worker);
+            if (group != null) {
+                return group;
+            }
+
+            worker.parked = true;
+            parkedWorkers.offer(worker);
+
+            // re-check after publishing the parked state, a producer may have missed this worker
+            group = findWork(worker);
+            if (group != null) {
+                worker.parked = false;
+                parkedWorkers.remove(worker);
+                return group;
+            }
+
+            while (worker.parked) {
+                LockSupport.park(this);
+                if (Thread.interrupted()) {
+                    worker.parked = false;
+                    parkedWorkers.remove(worker);
+                    throw new InterruptedException();
+                }
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = injectionQueue.size();
+        for (int i = 0; i < workers.length(); i++) {
+            Worker worker = workers.get(i);
+            if (worker != null) {
+                size += worker.localQueue.size();
+            }
+        }
+        return size;
+    }
+
+    private ItemGroup findWork(Worker worker) {
+        ItemGroup group = worker.localQueue.pollFirst();
+        if (group != null) {
+            return group;
+        }
+        group = injectionQueue.poll();
+        if (group != null) {
+            return group;
+        }
+        return steal(worker);
+    }
+
+    private ItemGroup steal(Worker thief) {
+        int count = registeredWorkers.get();
+        if (count > workers.length()) {
+            count = workers.length();
+        }
+        if (count <= 1) {
+            return null;
+        }
+
+        int start = ThreadLocalRandom.current().nextInt(count);
+        for (int i = 0; i < count; i++) {
+            Worker victim = workers.get((start + i) % count);
+            if (victim == null || victim == thief) {
+                continue;
+            }
+            // steal the oldest group, the victim keeps working on the most recent ones
+            ItemGroup group = victim.localQueue.pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private void signalWork() {
+        Worker worker = parkedWorkers.poll();
+        if (worker != null) {
+            worker.parked = false;
+            LockSupport.unpark(worker.thread);
+        }
+    }
+
+    /**
+     * Per thread state of a worker in the work stealing scheduler.
+     */
+    private static class Worker {
+
+        final WorkStealingRunnableQueue owner;
+        final Thread thread;
+        final ConcurrentLinkedDeque<ItemGroup> localQueue = new ConcurrentLinkedDeque<>();
+        volatile boolean parked;
+
+        Worker(WorkStealingRunnableQueue owner, Thread thread) {
+            this.owner = owner;
+            this.thread = thread;
+        }
+    }
+}
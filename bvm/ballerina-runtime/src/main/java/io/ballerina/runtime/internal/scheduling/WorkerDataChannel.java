@@ -17,10 +17,10 @@
 */
 package io.ballerina.runtime.internal.scheduling;
 
+import io.ballerina.runtime.api.constants.RuntimeConstants;
 import io.ballerina.runtime.internal.values.ErrorValue;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.io.PrintStream;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -29,37 +29,64 @@ import static io.ballerina.runtime.internal.scheduling.State.BLOCK_AND_YIELD;
 /**
  * This represents a worker data channel that is created for each worker to
  * worker interaction for each function call.
+ * <p>
+ * A channel always has a single sending worker and a single receiving worker. Async sends and receives of async
+ * messages use a lock-free single producer, single consumer queue and only take the channel lock when the other side
+ * has to be resumed. Sync sends, flushes and errors are always handled with the channel lock.
+ * <p>
+ * The number of async messages that are not received yet can be limited by setting the
+ * BALLERINA_WORKER_CHANNEL_CAPACITY system variable. When the channel is full, the sending strand is blocked until
+ * the receiver takes a message. By default a channel is unbounded.
  *
  * @since 0.995.0
  */
 public class WorkerDataChannel {
 
-    private Strand receiver;
+    /**
+     * Capacity of unbounded channels.
+     */
+    public static final int UNBOUNDED = 0;
+
+    private static final int DEFAULT_CAPACITY = readDefaultCapacity();
+
+    private volatile Strand receiver;
     private WaitingSender waitingSender;
-    private WaitingSender flushSender;
-    private ErrorValue error;
-    private Throwable panic;
-    private int senderCounter;
-    private int receiverCounter;
+    private volatile WaitingSender flushSender;
+    private volatile Strand blockedSender;
+    private volatile ErrorValue error;
+    private volatile Throwable panic;
+    // Only the sender updates the sender counter and only the receiver updates the receiver counter
+    private volatile int senderCounter;
+    private volatile int receiverCounter;
     private boolean reschedule;
+    private final int capacity;
 
     private Lock channelLock;
 
     public String chnlName;
 
-    @SuppressWarnings("rawtypes")
-    private Queue<WorkerResult> channel = new LinkedList<>();
+    private final MessageQueue channel = new MessageQueue();
 
     public WorkerDataChannel() {
-        this.channelLock = new ReentrantLock();
-        this.senderCounter = 0;
-        this.receiverCounter = 0;
+        this(null, DEFAULT_CAPACITY);
     }
+
     public WorkerDataChannel(String channelName) {
+        this(channelName, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a channel which holds at most the given number of async messages that are not received yet.
+     *
+     * @param channelName name of the channel
+     * @param capacity    maximum number of pending messages or {@link #UNBOUNDED}
+     */
+    public WorkerDataChannel(String channelName, int capacity) {
         this.channelLock = new ReentrantLock();
         this.senderCounter = 0;
         this.receiverCounter = 0;
         this.chnlName = channelName;
+        this.capacity = capacity;
     }
 
     public void acquireChannelLock() {
@@ -70,15 +97,59 @@ public class WorkerDataChannel {
         this.channelLock.unlock();
     }
 
-    @SuppressWarnings("rawtypes")
+    /**
+     * Sends data asynchronously. If the channel is full, the sender is blocked without sending the data. It should
+     * send the data again once it is resumed.
+     *
+     * @param data   data to be sent over the channel
+     * @param sender sending strand
+     */
     public void sendData(Object data, Strand sender) {
+        if (isFull() && blockSender(sender)) {
+            return;
+        }
+
+        this.channel.offer(new WorkerResult(data));
+        this.senderCounter++;
+        // the receiver publishes itself before it checks the queue for the last time, hence either it sees the data
+        // or we see the receiver
+        if (this.receiver != null) {
+            unblockReceiver();
+        }
+    }
+
+    private boolean isFull() {
+        return this.capacity != UNBOUNDED && this.senderCounter - this.receiverCounter >= this.capacity;
+    }
+
+    private boolean blockSender(Strand sender) {
         try {
             acquireChannelLock();
-            this.channel.add(new WorkerResult(data));
-            this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
+            if (this.error != null || this.panic != null) {
+                // receiver will not take anything from the channel anymore
+                return false;
+            }
+            this.blockedSender = sender;
+            // the receiver may have taken a message before it could see the blocked sender
+            if (!isFull()) {
+                this.blockedSender = null;
+                return false;
+            }
+            sender.setBlockedOn(this);
+            sender.setState(BLOCK_AND_YIELD);
+            return true;
+        } finally {
+            releaseChannelLock();
+        }
+    }
+
+    private void unblockReceiver() {
+        try {
+            acquireChannelLock();
+            Strand strand = this.receiver;
+            if (strand != null) {
                 this.receiver = null;
+                strand.scheduler.unblockStrand(strand);
             }
         } finally {
             releaseChannelLock();
@@ -86,7 +157,8 @@ public class WorkerDataChannel {
     }
 
     /**
-     * Put data for sync send.
+     * Method to send data and wait till the data is received.
+     *
      * @param data - data to be sent over the channel
      * @param strand - sending strand, that will be paused
      * @return error if receiver already in error state, else null
@@ -97,7 +169,7 @@ public class WorkerDataChannel {
             acquireChannelLock();
             if (!reschedule) {
                 // this is a new message, not a reschedule
-                this.channel.add(new WorkerResult(data, true));
+                this.channel.offer(new WorkerResult(data, true));
                 this.senderCounter++;
                 this.waitingSender = new WaitingSender(strand, -1);
 
@@ -115,6 +187,7 @@ public class WorkerDataChannel {
                 }
 
                 reschedule = true;
+                strand.setBlockedOn(this);
                 strand.setState(BLOCK_AND_YIELD);
                 return null;
             }
@@ -135,42 +208,47 @@ public class WorkerDataChannel {
         }
     }
 
-    @SuppressWarnings("rawtypes")
     public Object tryTakeData(Strand strand) throws Throwable {
+        WorkerResult result = this.channel.peek();
+        if (result != null && !result.isSync) {
+            // async message, there is no sender to resume unless it is flushing or blocked on a full channel
+            this.channel.poll();
+            this.receiverCounter++;
+            if (this.flushSender != null || this.blockedSender != null) {
+                notifyWaitingSenders();
+            }
+            return result.value;
+        }
+
         try {
             acquireChannelLock();
-            WorkerResult result = this.channel.peek();
+            // publish the receiver before the last check, a sender that does not take the lock may add data meanwhile
+            this.receiver = strand;
+            result = this.channel.poll();
             if (result != null) {
+                this.receiver = null;
                 this.receiverCounter++;
-                this.channel.remove();
 
                 if (result.isSync) {
                     // sync sender will pick the this.error as result, which is null
                     Strand waiting  = this.waitingSender.waitingStrand;
                     waiting.scheduler.unblockStrand(waiting);
                     this.waitingSender = null;
-                } else if (this.flushSender != null && this.flushSender.flushCount == this.receiverCounter) {
-                    this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-                    this.flushSender.waitingStrand.flushDetail.flushedCount++;
-                    if (this.flushSender.waitingStrand.flushDetail.flushedCount
-                            == this.flushSender.waitingStrand.flushDetail.flushChannels.length &&
-                            this.flushSender.waitingStrand.isBlocked()) {
-                            //will continue if this is a sync wait, will try to flush again if blocked on flush
-                            this.flushSender.waitingStrand.scheduler.unblockStrand(this.flushSender.waitingStrand);
-
-                    }
-                    this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-                    this.flushSender = null;
+                } else {
+                    notifyFlushSender();
+                    unblockBlockedSender(false);
                 }
                 return result.value;
             } else if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
+                this.receiver = null;
                 this.receiverCounter++;
                 throw this.panic;
             } else if (this.error != null && this.senderCounter == this.receiverCounter + 1) {
+                this.receiver = null;
                 this.receiverCounter++;
                 return error;
             } else {
-                this.receiver = strand;
+                strand.setBlockedOn(this);
                 strand.setState(BLOCK_AND_YIELD);
                 return null;
             }
@@ -179,6 +257,42 @@ public class WorkerDataChannel {
         }
     }
 
+    private void notifyWaitingSenders() {
+        try {
+            acquireChannelLock();
+            notifyFlushSender();
+            unblockBlockedSender(false);
+        } finally {
+            releaseChannelLock();
+        }
+    }
+
+    private void notifyFlushSender() {
+        WaitingSender sender = this.flushSender;
+        if (sender == null || sender.flushCount > this.receiverCounter) {
+            return;
+        }
+        Strand flushStrand = sender.waitingStrand;
+        flushStrand.flushDetail.flushLock.lock();
+        flushStrand.flushDetail.flushedCount++;
+        if (flushStrand.flushDetail.flushedCount == flushStrand.flushDetail.flushChannels.length &&
+                flushStrand.isBlocked()) {
+            //will continue if this is a sync wait, will try to flush again if blocked on flush
+            flushStrand.scheduler.unblockStrand(flushStrand);
+        }
+        flushStrand.flushDetail.flushLock.unlock();
+        this.flushSender = null;
+    }
+
+    private void unblockBlockedSender(boolean force) {
+        Strand sender = this.blockedSender;
+        if (sender == null || (!force && isFull())) {
+            return;
+        }
+        this.blockedSender = null;
+        sender.scheduler.unblockStrand(sender);
+    }
+
     /**
      * Set the state as error if the receiving worker is in error state.
      * @param error the BError of the receiving worker
@@ -217,6 +331,7 @@ public class WorkerDataChannel {
             waiting.scheduler.unblockStrand(waiting);
             this.waitingSender = null;
         }
+        unblockBlockedSender(true);
         releaseChannelLock();
     }
 
@@ -241,6 +356,8 @@ public class WorkerDataChannel {
                 return null;
             }
             this.flushSender = new WaitingSender(strand, this.senderCounter);
+            // the receiver may have taken the last message before it could see the flush sender
+            notifyFlushSender();
             return null;
         } finally {
             releaseChannelLock();
@@ -295,9 +412,76 @@ public class WorkerDataChannel {
             waiting.scheduler.unblockStrand(waiting);
             this.waitingSender = null;
         }
+        unblockBlockedSender(true);
         releaseChannelLock();
     }
 
+    private static int readDefaultCapacity() {
+        String capacityConf = System.getenv(RuntimeConstants.BALLERINA_WORKER_CHANNEL_CAPACITY_ENV_VAR);
+        if (capacityConf == null) {
+            return UNBOUNDED;
+        }
+        try {
+            int capacity = Integer.parseInt(capacityConf.trim());
+            if (capacity < 0) {
+                throw new IllegalArgumentException("capacity cannot be negative: " + capacity);
+            }
+            return capacity;
+        } catch (Throwable t) {
+            // Log and continue with default
+            PrintStream err = System.err;
+            err.println("ballerina: error occurred while reading system variable:" +
+                                RuntimeConstants.BALLERINA_WORKER_CHANNEL_CAPACITY_ENV_VAR + ", " + t.getMessage());
+            return UNBOUNDED;
+        }
+    }
+
+    /**
+     * Unbounded queue of messages, safe for one thread adding messages while another thread takes them. Both ends
+     * only do volatile reads and writes, without any locks or compare-and-set.
+     */
+    private static class MessageQueue {
+
+        private volatile Node head = new Node(null);
+        private volatile Node tail = head;
+
+        void offer(WorkerResult result) {
+            Node node = new Node(result);
+            Node last = this.tail;
+            last.next = node;
+            this.tail = node;
+        }
+
+        WorkerResult peek() {
+            Node first = this.head.next;
+            return first == null ? null : first.result;
+        }
+
+        WorkerResult poll() {
+            Node first = this.head.next;
+            if (first == null) {
+                return null;
+            }
+            WorkerResult result = first.result;
+            // the polled node becomes the new sentinel, drop the result so that it can be collected
+            first.result = null;
+            this.head = first;
+            return result;
+        }
+
+        /**
+         * A message in the queue.
+         */
+        private static class Node {
+            WorkerResult result;
+            volatile Node next;
+
+            Node(WorkerResult result) {
+                this.result = result;
+            }
+        }
+    }
+
     /**
      * This represents a worker result value. This is done as a value to be used in the
      * queues used for worker communication. In this way, the queue can distinguish the
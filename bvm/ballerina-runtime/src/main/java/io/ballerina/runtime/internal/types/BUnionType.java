@@ -50,6 +50,7 @@ public class BUnionType extends BType implements UnionType {
     protected IntersectionType immutableType;
     private boolean resolving = false;
     public boolean resolvingReadonly = false;
+    private long basicTypeTagMask;
 
     private static final String INT_CLONEABLE = "__Cloneable";
     private static final String CLONEABLE = "Cloneable";
@@ -207,6 +208,7 @@ public class BUnionType extends BType implements UnionType {
         }
         if (members.isEmpty()) {
             this.memberTypes = members;
+            this.basicTypeTagMask = 0;
             return;
         }
         this.resolvingReadonly = true;
@@ -221,6 +223,7 @@ public class BUnionType extends BType implements UnionType {
         }
         if (members.isEmpty()) {
             this.memberTypes = members;
+            this.basicTypeTagMask = 0;
             return;
         }
         this.resolvingReadonly = true;
@@ -272,6 +275,7 @@ public class BUnionType extends BType implements UnionType {
     }
 
     private void setFlagsBasedOnMembers() {
+        this.basicTypeTagMask = computeBasicTypeTagMask(memberTypes);
         if (this.resolving) {
             return;
         }
@@ -302,6 +306,29 @@ public class BUnionType extends BType implements UnionType {
         return memberTypes;
     }
 
+    /**
+     * Returns a bitset of the type tags of the member types, where the bit at the position of the tag is set. The
+     * bitset is only computed for unions of types such as `int|string|()` which satisfy
+     * {@link TypeTags#isSimpleBasicTypeTag(int)}, and is zero for any other union.
+     *
+     * @return the bitset of the member type tags
+     */
+    public long getBasicTypeTagMask() {
+        return basicTypeTagMask;
+    }
+
+    private static long computeBasicTypeTagMask(List<Type> memberTypes) {
+        long mask = 0;
+        for (Type memberType : memberTypes) {
+            int tag = memberType.getTag();
+            if (!TypeTags.isSimpleBasicTypeTag(tag)) {
+                return 0;
+            }
+            mask |= 1L << tag;
+        }
+        return mask;
+    }
+
     public boolean isNullable() {
         return isNilable();
     }
@@ -18,6 +18,7 @@
 
 package io.ballerina.runtime.internal.values;
 
+ import io.ballerina.runtime.api.utils.StringUtils;
  import io.ballerina.runtime.api.values.BLink;
  import io.ballerina.runtime.api.values.BString;
 
@@ -51,12 +52,16 @@ package io.ballerina.runtime.internal.values;
 
      @Override
      public BString concat(BString str) {
+         if (!RopeStringValue.isFlatConcat(this, str)) {
+             return new RopeStringValue(this, str);
+         }
          if (str instanceof BmpStringValue) {
              return new BmpStringValue(this.value + ((BmpStringValue) str).value);
          } else if (str instanceof NonBmpStringValue) {
-             return new NonBmpStringValue(this.value + str.getValue(), ((NonBmpStringValue) str).getSurrogates());
+             return new NonBmpStringValue(this.value + str.getValue(),
+                                          ((NonBmpStringValue) str).getSurrogates(value.length()));
          } else {
-             throw new RuntimeException("not impl yet");
+             return StringUtils.fromString(this.value + str.getValue());
          }
      }
 
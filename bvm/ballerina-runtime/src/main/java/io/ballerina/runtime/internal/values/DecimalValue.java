@@ -36,6 +36,14 @@ import java.util.Map;
  * The {@link DecimalValue} represents a decimal value in Ballerina.
  * </p>
  * <p>
+ * A value whose unscaled value fits in a {@code long} is kept as the unscaled value and the scale, and the arithmetic
+ * operations on two such values are done with exact {@code long} arithmetic. Since a {@code long} has fewer digits
+ * than the precision of {@link MathContext#DECIMAL128}, these results never need rounding and are the same as the
+ * results of the {@code BigDecimal} operations. An operation falls back to {@code BigDecimal} when the result
+ * overflows or, for division, when the quotient is not exact. The {@code BigDecimal} of a compact value is only
+ * created when it is asked for.
+ * </p>
+ * <p>
  * <i>Note: This is an internal API and may change in future versions.</i>
  * </p> 
  * @since 0.995.0
@@ -50,36 +58,68 @@ public class DecimalValue implements SimpleValue, BDecimal {
 
     private static final DecimalValue NaN = new DecimalValue("-1", DecimalValueKind.NOT_A_NUMBER);
 
+    // Marks a value which is not compact, as in BigDecimal.
+    private static final long INFLATED = Long.MIN_VALUE;
+
+    // A BigDecimal with at most 18 digits always has an unscaled value which fits in a long.
+    private static final int MAX_COMPACT_PRECISION = 18;
+
+    private static final long[] LONG_TEN_POWERS_TABLE = {
+            1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L, 10000000000L,
+            100000000000L, 1000000000000L, 10000000000000L, 100000000000000L, 1000000000000000L,
+            10000000000000000L, 100000000000000000L, 1000000000000000000L
+    };
+
     // Variable used to track the kind of a decimal value.
     @Deprecated
     public DecimalValueKind valueKind = DecimalValueKind.OTHER;
 
+    // Created lazily for compact values. Racing threads create equal values, hence the field is not volatile.
     private BigDecimal value;
 
+    // The unscaled value and the scale of a compact value, the unscaled value is INFLATED otherwise.
+    private final long unscaledValue;
+    private final int scale;
+
     public DecimalValue(BigDecimal value) {
         this.value = value;
+        if (value.precision() <= MAX_COMPACT_PRECISION) {
+            this.unscaledValue = value.unscaledValue().longValue();
+            this.scale = value.scale();
+        } else {
+            this.unscaledValue = INFLATED;
+            this.scale = 0;
+        }
         if (!this.booleanValue()) {
             this.valueKind = DecimalValueKind.ZERO;
         }
     }
 
-    public DecimalValue(String value) {
-        // Check whether the number provided is a hexadecimal value.
-        if (isHexValueString(value)) {
-            this.value = hexToDecimalFloatingPointNumber(value);
-        } else {
-            this.value = new BigDecimal(value, MathContext.DECIMAL128);
-        }
-        if (!this.booleanValue()) {
+    private DecimalValue(long unscaledValue, int scale) {
+        this.unscaledValue = unscaledValue;
+        this.scale = scale;
+        if (unscaledValue == 0) {
             this.valueKind = DecimalValueKind.ZERO;
         }
     }
 
+    public DecimalValue(String value) {
+        this(parseDecimal(value));
+    }
+
     public DecimalValue(String value, DecimalValueKind valueKind) {
         this(value);
         this.valueKind = valueKind;
     }
 
+    private static BigDecimal parseDecimal(String value) {
+        // Check whether the number provided is a hexadecimal value.
+        if (isHexValueString(value)) {
+            return hexToDecimalFloatingPointNumber(value);
+        }
+        return new BigDecimal(value, MathContext.DECIMAL128);
+    }
+
     private static boolean isHexValueString(String value) {
         String upperCaseValue = value.toUpperCase();
         return upperCaseValue.startsWith("0X") || upperCaseValue.startsWith("-0X");
@@ -142,7 +182,86 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the value
      */
     public BigDecimal decimalValue() {
-        return this.value;
+        BigDecimal value = this.value;
+        if (value == null) {
+            value = BigDecimal.valueOf(unscaledValue, scale);
+            this.value = value;
+        }
+        return value;
+    }
+
+    private boolean isCompact() {
+        return unscaledValue != INFLATED;
+    }
+
+    /**
+     * Creates a compact value, or returns null if the result of a {@code long} operation does not fit in one.
+     *
+     * @param unscaledValue unscaled value of the result
+     * @param scale scale of the result
+     * @return the value or null
+     */
+    private static DecimalValue compactValueOf(long unscaledValue, long scale) {
+        if (unscaledValue == INFLATED || scale != (int) scale) {
+            return null;
+        }
+        return new DecimalValue(unscaledValue, (int) scale);
+    }
+
+    /**
+     * Returns the unscaled value of a compact value rescaled to the given larger scale, or {@link #INFLATED} if it
+     * does not fit in a {@code long}.
+     */
+    private static long rescale(long unscaledValue, int scale, int newScale) {
+        long scaleDiff = (long) newScale - scale;
+        if (scaleDiff == 0) {
+            return unscaledValue;
+        }
+        if (scaleDiff >= LONG_TEN_POWERS_TABLE.length) {
+            return INFLATED;
+        }
+        return multiplyExact(unscaledValue, LONG_TEN_POWERS_TABLE[(int) scaleDiff]);
+    }
+
+    /**
+     * Returns the product of the given values, or {@link #INFLATED} if it does not fit in a {@code long}.
+     */
+    private static long multiplyExact(long x, long y) {
+        long result = x * y;
+        // the product fits in a long iff the high half is only the sign extension of the low half
+        if (Math.multiplyHigh(x, y) != (result >> 63)) {
+            return INFLATED;
+        }
+        return result;
+    }
+
+    private static DecimalValue addCompact(DecimalValue lhs, DecimalValue rhs, boolean subtract) {
+        int resultScale = Math.max(lhs.scale, rhs.scale);
+        long lhsValue = rescale(lhs.unscaledValue, lhs.scale, resultScale);
+        long rhsValue = rescale(rhs.unscaledValue, rhs.scale, resultScale);
+        if (lhsValue == INFLATED || rhsValue == INFLATED) {
+            return null;
+        }
+        long result = subtract ? lhsValue - rhsValue : lhsValue + rhsValue;
+        // overflow iff both operands of the addition have the opposite sign of the result
+        long rhsOperand = subtract ? -rhsValue : rhsValue;
+        if (((lhsValue ^ result) & (rhsOperand ^ result)) < 0) {
+            return null;
+        }
+        return compactValueOf(result, resultScale);
+    }
+
+    private static DecimalValue multiplyCompact(DecimalValue lhs, DecimalValue rhs) {
+        return compactValueOf(multiplyExact(lhs.unscaledValue, rhs.unscaledValue), (long) lhs.scale + rhs.scale);
+    }
+
+    private static DecimalValue divideCompact(DecimalValue lhs, DecimalValue rhs) {
+        // only an exact quotient of the unscaled values can be used, its scale is then the preferred scale of
+        // BigDecimal division
+        if (lhs.unscaledValue % rhs.unscaledValue != 0) {
+            return null;
+        }
+        return compactValueOf(lhs.unscaledValue / rhs.unscaledValue, (long) lhs.scale - rhs.scale);
     }
 
     /**
@@ -160,6 +279,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 throw ErrorUtils.createNumericConversionError(POSITIVE_INF, PredefinedTypes.TYPE_INT);
         }
 
+        BigDecimal value = decimalValue();
         if (!isDecimalWithinIntRange(value)) {
             throw ErrorUtils.createNumericConversionError(this.stringValue(null), PredefinedTypes.TYPE_DECIMAL,
                                                           PredefinedTypes.TYPE_INT);
@@ -192,7 +312,8 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 throw ErrorUtils.createNumericConversionError(POSITIVE_INF, PredefinedTypes.TYPE_BYTE);
         }
 
-        int intVal = (int) Math.rint(this.value.doubleValue());
+        BigDecimal value = decimalValue();
+        int intVal = (int) Math.rint(value.doubleValue());
         if (!isByteLiteral(intVal)) {
             throw ErrorUtils.createNumericConversionError(value, PredefinedTypes.TYPE_DECIMAL,
                                                           PredefinedTypes.TYPE_BYTE);
@@ -212,7 +333,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind == DecimalValueKind.NOT_A_NUMBER) {
             return Double.NaN;
         }
-        return value.doubleValue();
+        return decimalValue().doubleValue();
     }
 
     /**
@@ -220,6 +341,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return true if the value is non zero
      */
     public boolean booleanValue() {
+        if (isCompact()) {
+            return unscaledValue != 0;
+        }
         return value.compareTo(BigDecimal.ZERO) != 0;
     }
 
@@ -242,7 +366,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue();
         }
-        return value.toString();
+        return decimalValue().toString();
     }
 
     /**
@@ -254,7 +378,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue() + "d";
         }
-        return value.toString() + "d";
+        return decimalValue().toString() + "d";
     }
 
     /**
@@ -262,7 +386,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the decimal value
      */
     public BigDecimal value() {
-        return this.value;
+        return decimalValue();
     }
 
     /**
@@ -303,6 +427,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
                     return this;
                 }
                 if (augend.valueKind == DecimalValueKind.OTHER) {
+                    if (this.isCompact() && augend.isCompact()) {
+                        DecimalValue result = addCompact(this, augend, false);
+                        if (result != null) {
+                            return result;
+                        }
+                    }
                     return new DecimalValue(this.decimalValue().add(augend.decimalValue(), MathContext.DECIMAL128));
                 }
                 return augend;
@@ -341,6 +471,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
                     return this;
                 }
                 if (subtrahend.valueKind == DecimalValueKind.OTHER) {
+                    if (this.isCompact() && subtrahend.isCompact()) {
+                        DecimalValue result = addCompact(this, subtrahend, true);
+                        if (result != null) {
+                            return result;
+                        }
+                    }
                     return new DecimalValue(this.decimalValue().subtract(subtrahend.decimalValue(),
                             MathContext.DECIMAL128));
                 }
@@ -384,6 +520,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 return NaN;
             default:
                 if (multiplicand.valueKind == DecimalValueKind.OTHER) {
+                    if (this.isCompact() && multiplicand.isCompact()) {
+                        DecimalValue result = multiplyCompact(this, multiplicand);
+                        if (result != null) {
+                            return result;
+                        }
+                    }
                     return new DecimalValue(this.decimalValue().multiply(multiplicand.decimalValue(),
                             MathContext.DECIMAL128));
                 }
@@ -433,6 +575,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 return NaN;
             default:
                 if (divisor.valueKind == DecimalValueKind.OTHER) {
+                    if (this.isCompact() && divisor.isCompact()) {
+                        DecimalValue result = divideCompact(this, divisor);
+                        if (result != null) {
+                            return result;
+                        }
+                    }
                     return new DecimalValue(this.decimalValue().divide(divisor.decimalValue(), MathContext.DECIMAL128));
                 }
                 if (divisor.valueKind == DecimalValueKind.POSITIVE_INFINITY ||
@@ -476,6 +624,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
     public DecimalValue negate() {
         switch (this.valueKind) {
             case OTHER:
+                if (isCompact()) {
+                    return new DecimalValue(-unscaledValue, scale);
+                }
                 return new DecimalValue(this.decimalValue().negate());
             case POSITIVE_INFINITY:
                 return NEGATIVE_INF;
@@ -532,12 +683,18 @@ public class DecimalValue implements SimpleValue, BDecimal {
         }
 
         DecimalValue bDecimal = (DecimalValue) obj;
-        return ((value.compareTo(bDecimal.value) == 0) && (this.valueKind == bDecimal.valueKind));
+        if (this.valueKind != bDecimal.valueKind) {
+            return false;
+        }
+        if (this.isCompact() && bDecimal.isCompact() && this.scale == bDecimal.scale) {
+            return this.unscaledValue == bDecimal.unscaledValue;
+        }
+        return decimalValue().compareTo(bDecimal.decimalValue()) == 0;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return decimalValue().hashCode();
     }
 
     /**
@@ -555,7 +712,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return decimal value
      */
     public static DecimalValue valueOf(int value) {
-        return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
+        return new DecimalValue(value * 10L, 1);
     }
 
     /**
@@ -564,6 +721,10 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return decimal value
      */
     public static DecimalValue valueOf(long value) {
+        long unscaledValue = rescale(value, 0, 1);
+        if (unscaledValue != INFLATED) {
+            return new DecimalValue(unscaledValue, 1);
+        }
         return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
     }
 
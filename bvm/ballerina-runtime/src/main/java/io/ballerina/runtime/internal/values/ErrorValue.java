@@ -35,7 +35,9 @@ import io.ballerina.runtime.internal.services.ErrorHandlerUtils;
 import io.ballerina.runtime.internal.types.BErrorType;
 import io.ballerina.runtime.internal.types.BTypeIdSet;
 
+import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -44,6 +46,7 @@ import java.util.Optional;
 import java.util.StringJoiner;
 
 import static io.ballerina.runtime.api.PredefinedTypes.TYPE_MAP;
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_ERROR_STACK_TRACE_ENV_VAR;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.BLANG_SRC_FILE_SUFFIX;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.DOT;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.MODULE_INIT_CLASS_NAME;
@@ -53,6 +56,11 @@ import static io.ballerina.runtime.api.constants.RuntimeConstants.MODULE_INIT_CL
  * Represent an error in ballerina.
  * </p>
  * <p>
+ * By default an error captures the whole stack of the thread which created it. Errors are ordinary return values in
+ * ballerina and can be created at a high rate, hence how much of the stack is captured can be reduced by setting the
+ * BALLERINA_ERROR_STACK_TRACE system variable to {@value #CALL_SITE_STACK_TRACE} or {@value #NO_STACK_TRACE}.
+ * </p>
+ * <p>
  * <i>Note: This is an internal API and may change in future versions.</i>
  * </p>
  * 
@@ -66,6 +74,37 @@ public class ErrorValue extends BError implements RefValue {
     private final BError cause;
     private final Object details;
 
+    /**
+     * Frame of the ballerina function which created the error, captured instead of the whole stack in the call site
+     * mode.
+     */
+    private transient StackWalker.StackFrame callSite;
+    private transient Thread creatorThread;
+    private transient volatile StackTraceElement[] filteredStackTrace;
+
+    /**
+     * Captures the frame of the ballerina function which created the error and takes its callers from the stack when
+     * the stack trace is needed. The callers are only known while the function which created the error is running or
+     * when the error is panicked, hence errors which are returned before their stack trace is requested only have the
+     * call site. Errors created by java code capture the whole stack, since they are mostly thrown and the stack is
+     * gone by the time they are printed.
+     */
+    static final String CALL_SITE_STACK_TRACE = "call-site";
+
+    /**
+     * Captures the whole stack of the creating thread. This is the default.
+     */
+    static final String FULL_STACK_TRACE = "full";
+
+    /**
+     * Does not capture the stack, errors have an empty stack trace.
+     */
+    static final String NO_STACK_TRACE = "none";
+
+    private static volatile String stackTraceMode = readStackTraceMode();
+    private static final StackWalker STACK_WALKER =
+            StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
     private static final String GENERATE_OBJECT_CLASS_PREFIX = ".$value$";
     private static final String GENERATE_PKG_INIT = "___init_";
     private static final String GENERATE_PKG_START = "___start_";
@@ -86,6 +125,9 @@ public class ErrorValue extends BError implements RefValue {
 
     public ErrorValue(Type type, BString message, BError cause, Object details) {
         super(message);
+        if (CALL_SITE_STACK_TRACE.equals(stackTraceMode) && !captureCallSite()) {
+            super.fillInStackTrace();
+        }
         this.type = type;
         this.message = message;
         this.cause = cause;
@@ -95,6 +137,9 @@ public class ErrorValue extends BError implements RefValue {
     public ErrorValue(Type type, BString message, BError cause, Object details,
                       String typeIdName, Module typeIdPkg) {
         super(message);
+        if (CALL_SITE_STACK_TRACE.equals(stackTraceMode) && !captureCallSite()) {
+            super.fillInStackTrace();
+        }
         this.type = type;
         this.message = message;
         this.cause = cause;
@@ -267,17 +312,147 @@ public class ErrorValue extends BError implements RefValue {
         printWriter.print(ERROR_PRINT_PREFIX + getPrintableStackTrace());
     }
     
+    /**
+     * Captures the stack of the creating thread in the full mode. This is called by the {@link Throwable} constructor.
+     *
+     * @return this error value
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (!FULL_STACK_TRACE.equals(stackTraceMode)) {
+            return this;
+        }
+        return super.fillInStackTrace();
+    }
+
     @Override
     public StackTraceElement[] getStackTrace() {
-        StackTraceElement[] stackTrace = super.getStackTrace();
-        List<StackTraceElement> filteredStack = new LinkedList<>();
+        StackTraceElement[] stackTrace = filteredStackTrace;
+        if (stackTrace == null) {
+            stackTrace = callSite != null ? filterStackTrace(getCallSiteStackTrace(false)) :
+                    filterStackTrace(super.getStackTrace());
+            filteredStackTrace = stackTrace;
+        }
+        return stackTrace.clone();
+    }
+
+    @Override
+    public void setStackTrace(StackTraceElement[] stackTrace) {
+        super.setStackTrace(stackTrace);
+        this.callSite = null;
+        this.creatorThread = null;
+        this.filteredStackTrace = null;
+    }
+
+    /**
+     * Builds the stack trace from the callers which are on the stack now, if only the call site was captured. This is
+     * done before the error is panicked, since the callers are gone by the time a panic is printed.
+     */
+    public void fillInCallerStackTrace() {
+        if (callSite != null && filteredStackTrace == null) {
+            filteredStackTrace = filterStackTrace(getCallSiteStackTrace(true));
+        }
+    }
+
+    /**
+     * Changes how much of the stack is captured by the errors created from now on.
+     *
+     * @param mode {@value #CALL_SITE_STACK_TRACE}, {@value #FULL_STACK_TRACE} or {@value #NO_STACK_TRACE}
+     */
+    public static void setStackTraceMode(String mode) {
+        if (!isStackTraceMode(mode)) {
+            throw new IllegalArgumentException("unknown error stack trace mode: " + mode);
+        }
+        stackTraceMode = mode;
+    }
+
+    /**
+     * Captures the frame which created the error, if it is a ballerina function.
+     *
+     * @return false if the error is created by java code, which has to capture the whole stack
+     */
+    private boolean captureCallSite() {
+        StackWalker.StackFrame creator = STACK_WALKER.walk(
+                frames -> frames.dropWhile(ErrorValue::isConstructorFrame).findFirst()).orElse(null);
+        if (creator == null || !isBallerinaFrame(creator)) {
+            return false;
+        }
+        this.callSite = creator;
+        this.creatorThread = Thread.currentThread();
+        return true;
+    }
+
+    /**
+     * Returns the call site followed by its callers. The callers are the frames below the function which created the
+     * error, if it is still running on the creating thread. Otherwise the callers at the creation are gone. When the
+     * error is being panicked the current frames are used instead, which start at the function that panics it, else
+     * only the call site is returned, since the frames of the reader may be unrelated to the error.
+     *
+     * @param panicking whether the error is being panicked by the current thread
+     */
+    private StackTraceElement[] getCallSiteStackTrace(boolean panicking) {
+        StackTraceElement callSiteElement = callSite.toStackTraceElement();
+        if (creatorThread != Thread.currentThread()) {
+            return new StackTraceElement[]{callSiteElement};
+        }
+        StackTraceElement[] currentStack = Thread.currentThread().getStackTrace();
+        int callers = -1;
+        for (int i = 0; i < currentStack.length; i++) {
+            if (currentStack[i].getMethodName().equals(callSiteElement.getMethodName()) &&
+                    currentStack[i].getClassName().equals(callSiteElement.getClassName())) {
+                callers = i + 1;
+                break;
+            }
+        }
+        if (callers < 0) {
+            if (!panicking) {
+                return new StackTraceElement[]{callSiteElement};
+            }
+            callers = 0;
+        }
+        StackTraceElement[] stackTrace = new StackTraceElement[currentStack.length - callers + 1];
+        stackTrace[0] = callSiteElement;
+        System.arraycopy(currentStack, callers, stackTrace, 1, currentStack.length - callers);
+        return stackTrace;
+    }
+
+    private StackTraceElement[] filterStackTrace(StackTraceElement[] stackTrace) {
+        List<StackTraceElement> filteredStack = new ArrayList<>(stackTrace.length);
         int index = 0;
         for (StackTraceElement stackFrame : stackTrace) {
             Optional<StackTraceElement> stackTraceElement = filterStackTraceElement(stackFrame, index++);
             stackTraceElement.ifPresent(filteredStack::add);
         }
-        StackTraceElement[] filteredStackArray = new StackTraceElement[filteredStack.size()];
-        return filteredStack.toArray(filteredStackArray);
+        return filteredStack.toArray(new StackTraceElement[0]);
+    }
+
+    private static boolean isConstructorFrame(StackWalker.StackFrame frame) {
+        return ErrorValue.class.isAssignableFrom(frame.getDeclaringClass());
+    }
+
+    private static boolean isBallerinaFrame(StackWalker.StackFrame frame) {
+        String fileName = frame.getFileName();
+        return fileName != null && fileName.endsWith(BLANG_SRC_FILE_SUFFIX) && frame.getLineNumber() >= 0;
+    }
+
+    private static boolean isStackTraceMode(String mode) {
+        return CALL_SITE_STACK_TRACE.equals(mode) || FULL_STACK_TRACE.equals(mode) || NO_STACK_TRACE.equals(mode);
+    }
+
+    private static String readStackTraceMode() {
+        String modeConf = System.getenv(BALLERINA_ERROR_STACK_TRACE_ENV_VAR);
+        if (modeConf == null) {
+            return FULL_STACK_TRACE;
+        }
+        modeConf = modeConf.trim();
+        if (isStackTraceMode(modeConf)) {
+            return modeConf;
+        }
+        // Log and continue with default
+        PrintStream err = System.err;
+        err.println("ballerina: unknown error stack trace mode '" + modeConf + "' in system variable:" +
+                            BALLERINA_ERROR_STACK_TRACE_ENV_VAR);
+        return FULL_STACK_TRACE;
     }
 
     /**
@@ -0,0 +1,665 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Compact, insertion ordered hash map which uses open addressing.
+ * <p>
+ * The keys and values are kept next to each other in a single array in insertion order, so no object is allocated
+ * per entry. A separate open addressing table with linear probing maps the hash of a key to the position of its
+ * entry. Removing a key leaves a hole in the entry array, which is dropped the next time the array is resized. A map
+ * which never had an entry does not allocate any arrays.
+ * <p>
+ * Like {@link java.util.LinkedHashMap}, iteration order is the order in which keys were first inserted, null keys and
+ * values are allowed, the map is not synchronized and the iterators are fail-fast. The map is serialized as its size
+ * followed by its keys and values in insertion order.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ * @since 2.0.0
+ */
+public class LinkedOpenHashMap<K, V> extends AbstractMap<K, V> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final Object[] EMPTY_ENTRIES = {};
+    private static final int[] EMPTY_INTS = {};
+    private static final int MIN_CAPACITY = 4;
+    private static final int MAX_CAPACITY = 1 << 29;
+
+    /**
+     * Marks an empty slot in the hash table. Other slots hold the entry position plus one.
+     */
+    private static final int FREE = 0;
+
+    /**
+     * Marks a slot in the hash table whose entry was removed. Lookups have to continue probing past it.
+     */
+    private static final int DELETED = -1;
+
+    /**
+     * Key of a removed entry in the entry array.
+     */
+    private static final Object REMOVED = new Object();
+
+    /**
+     * Keys and values of the entries, the key of the entry at position {@code i} is at {@code 2 * i} and the value is
+     * at {@code 2 * i + 1}.
+     */
+    private transient Object[] entries = EMPTY_ENTRIES;
+    private transient int[] table = EMPTY_INTS;
+    private transient int capacity;
+
+    /**
+     * Number of used entry positions, including removed entries.
+     */
+    private transient int used;
+    private transient int size;
+    private transient int modCount;
+
+    private transient Set<Map.Entry<K, V>> entrySetView;
+    private transient Set<K> keySetView;
+    private transient Collection<V> valuesView;
+
+    public LinkedOpenHashMap() {
+    }
+
+    public LinkedOpenHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("illegal expected size: " + expectedSize);
+        }
+        if (expectedSize > 0) {
+            allocate(capacityFor(expectedSize));
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return findSlot(key, hash(key)) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (int i = 0; i < used; i++) {
+            if (entries[i << 1] != REMOVED && Objects.equals(entries[valueIndex(i)], value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(Object key) {
+        int slot = findSlot(key, hash(key));
+        return slot < 0 ? null : (V) entries[valueIndex(table[slot] - 1)];
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return putEntry(key, value, false);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        return putEntry(key, value, true);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map) {
+        int count = map.size();
+        if (count == 0) {
+            return;
+        }
+        if (capacity - used < count) {
+            ensureCapacity(size + count);
+        }
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            putEntry(entry.getKey(), entry.getValue(), false);
+        }
+    }
+
+    @Override
+    public V remove(Object key) {
+        int slot = findSlot(key, hash(key));
+        return slot < 0 ? null : removeAt(slot);
+    }
+
+    @Override
+    public void clear() {
+        if (used == 0) {
+            return;
+        }
+        Arrays.fill(entries, 0, used << 1, null);
+        Arrays.fill(table, FREE);
+        used = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> view = entrySetView;
+        if (view == null) {
+            view = new EntrySet();
+            entrySetView = view;
+        }
+        return view;
+    }
+
+    @Override
+    public Set<K> keySet() {
+        Set<K> view = keySetView;
+        if (view == null) {
+            view = new KeySet();
+            keySetView = view;
+        }
+        return view;
+    }
+
+    @Override
+    public Collection<V> values() {
+        Collection<V> view = valuesView;
+        if (view == null) {
+            view = new Values();
+            valuesView = view;
+        }
+        return view;
+    }
+
+    /**
+     * Returns the number of entry positions in use, including the positions of removed entries. Together with
+     * {@link #isRemovedAt(int)}, {@link #keyAt(int)} and {@link #valueAt(int)}, this allows walking the entries in
+     * insertion order without allocating an iterator or entry objects.
+     *
+     * @return the number of entry positions in use
+     */
+    public final int positionCount() {
+        return used;
+    }
+
+    public final boolean isRemovedAt(int position) {
+        return entries[position << 1] == REMOVED;
+    }
+
+    @SuppressWarnings("unchecked")
+    public final K keyAt(int position) {
+        return (K) entries[position << 1];
+    }
+
+    @SuppressWarnings("unchecked")
+    public final V valueAt(int position) {
+        return (V) entries[valueIndex(position)];
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < used; i++) {
+            Object key = entries[i << 1];
+            if (key != REMOVED) {
+                out.writeObject(key);
+                out.writeObject(entries[valueIndex(i)]);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int count = in.readInt();
+        if (count < 0) {
+            throw new InvalidObjectException("illegal size: " + count);
+        }
+        entries = EMPTY_ENTRIES;
+        table = EMPTY_INTS;
+        if (count > 0) {
+            allocate(capacityFor(count));
+        }
+        for (int i = 0; i < count; i++) {
+            K key = (K) in.readObject();
+            V value = (V) in.readObject();
+            putEntry(key, value, false);
+        }
+    }
+
+    private static int hash(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        // spread the higher bits, the table index only uses the lower bits
+        return h ^ (h >>> 16);
+    }
+
+    private static int valueIndex(int position) {
+        return (position << 1) + 1;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        return Math.max(MIN_CAPACITY, Math.min(expectedSize, MAX_CAPACITY));
+    }
+
+    /**
+     * Finds the hash table slot of the given key.
+     *
+     * @return the slot or -1 if the key is not in the map
+     */
+    private int findSlot(Object key, int hash) {
+        if (size == 0) {
+            return -1;
+        }
+        int[] table = this.table;
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        while (true) {
+            int position = table[slot];
+            if (position == FREE) {
+                return -1;
+            }
+            if (position != DELETED && Objects.equals(entries[(position - 1) << 1], key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Inserts or updates an entry. Like {@link java.util.HashMap}, {@link #putIfAbsent(Object, Object)} and
+     * {@link #putAll(Map)} use this directly instead of {@link #put(Object, Object)}, so that the checks a subclass
+     * adds to {@code put} do not run for them.
+     */
+    @SuppressWarnings("unchecked")
+    private V putEntry(K key, V value, boolean onlyIfAbsent) {
+        int hash = hash(key);
+        int slot = findSlot(key, hash);
+        if (slot >= 0) {
+            int valueIndex = valueIndex(table[slot] - 1);
+            V oldValue = (V) entries[valueIndex];
+            if (!onlyIfAbsent || oldValue == null) {
+                entries[valueIndex] = value;
+            }
+            return oldValue;
+        }
+        addEntry(key, value, hash);
+        return null;
+    }
+
+    private void addEntry(K key, V value, int hash) {
+        if (used == capacity) {
+            resize();
+        }
+        int entry = used++;
+        entries[entry << 1] = key;
+        entries[valueIndex(entry)] = value;
+        insertIntoTable(hash, entry);
+        size++;
+        modCount++;
+    }
+
+    private void insertIntoTable(int hash, int entry) {
+        int[] table = this.table;
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        // the key is known to be absent, hence the slot of a removed entry can be reused
+        while (table[slot] > FREE) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = entry + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V removeAt(int slot) {
+        int entry = table[slot] - 1;
+        V oldValue = (V) entries[valueIndex(entry)];
+        table[slot] = DELETED;
+        entries[entry << 1] = REMOVED;
+        entries[valueIndex(entry)] = null;
+        size--;
+        modCount++;
+        return oldValue;
+    }
+
+    private void removeEntry(int entry) {
+        Object key = entries[entry << 1];
+        int slot = findSlot(key, hash(key));
+        if (slot < 0 || table[slot] - 1 != entry) {
+            throw new ConcurrentModificationException();
+        }
+        removeAt(slot);
+    }
+
+    private void resize() {
+        if (capacity == 0) {
+            allocate(MIN_CAPACITY);
+            return;
+        }
+        // If at least half of the entries were removed, dropping them makes enough room
+        int newCapacity = size <= capacity / 2 ? capacity : capacity << 1;
+        if (newCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("map cannot hold more than " + MAX_CAPACITY + " entries");
+        }
+        rebuild(newCapacity);
+    }
+
+    private void ensureCapacity(int expectedSize) {
+        int newCapacity = capacityFor(expectedSize);
+        if (capacity == 0) {
+            allocate(newCapacity);
+        } else if (newCapacity > capacity) {
+            rebuild(newCapacity);
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.capacity = capacity;
+        entries = new Object[capacity << 1];
+        table = new int[tableSizeFor(capacity)];
+    }
+
+    /**
+     * Returns a power of two table size which keeps the table at most half full with the given number of entries.
+     */
+    private static int tableSizeFor(int capacity) {
+        return Integer.highestOneBit(capacity - 1) << 2;
+    }
+
+    private void rebuild(int capacity) {
+        Object[] oldEntries = entries;
+        int oldUsed = used;
+
+        allocate(capacity);
+        int entry = 0;
+        for (int i = 0; i < oldUsed; i++) {
+            Object key = oldEntries[i << 1];
+            if (key == REMOVED) {
+                continue;
+            }
+            entries[entry << 1] = key;
+            entries[valueIndex(entry)] = oldEntries[valueIndex(i)];
+            insertIntoTable(hash(key), entry);
+            entry++;
+        }
+        used = entry;
+        modCount++;
+    }
+
+    /**
+     * Base iterator over the entry positions in insertion order.
+     */
+    private abstract class PositionIterator<T> implements Iterator<T> {
+
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        PositionIterator() {
+            next = skipRemoved(0);
+        }
+
+        private int skipRemoved(int position) {
+            while (position < used && entries[position << 1] == REMOVED) {
+                position++;
+            }
+            return position;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < used;
+        }
+
+        int nextPosition() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= used) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = skipRemoved(next + 1);
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeEntry(last);
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * Entry of the map. It reads and writes the value in the map as long as the entry is not removed or moved by a
+     * resize, and keeps the last known value afterwards.
+     */
+    private final class Entry implements Map.Entry<K, V> {
+
+        private final K key;
+        private final int position;
+        private V value;
+
+        Entry(K key, V value, int position) {
+            this.key = key;
+            this.value = value;
+            this.position = position;
+        }
+
+        private boolean isLive() {
+            return position < used && entries[position << 1] == key;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public V getValue() {
+            if (isLive()) {
+                value = (V) entries[valueIndex(position)];
+            }
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V oldValue = getValue();
+            if (isLive()) {
+                entries[valueIndex(position)] = value;
+            }
+            this.value = value;
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            return Objects.equals(key, entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+
+    /**
+     * Entry set view of the map.
+     */
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new PositionIterator<Map.Entry<K, V>>() {
+                @SuppressWarnings("unchecked")
+                @Override
+                public Map.Entry<K, V> next() {
+                    int position = nextPosition();
+                    return new Entry((K) entries[position << 1], (V) entries[valueIndex(position)], position);
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            Object key = entry.getKey();
+            int slot = findSlot(key, hash(key));
+            return slot >= 0 && Objects.equals(entries[valueIndex(table[slot] - 1)], entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!contains(o)) {
+                return false;
+            }
+            Object key = ((Map.Entry<?, ?>) o).getKey();
+            removeAt(findSlot(key, hash(key)));
+            return true;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            LinkedOpenHashMap.this.clear();
+        }
+    }
+
+    /**
+     * Key set view of the map.
+     */
+    private final class KeySet extends AbstractSet<K> {
+
+        @Override
+        public Iterator<K> iterator() {
+            return new PositionIterator<K>() {
+                @SuppressWarnings("unchecked")
+                @Override
+                public K next() {
+                    return (K) entries[nextPosition() << 1];
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return findSlot(key, hash(key)) >= 0;
+        }
+
+        @Override
+        public boolean remove(Object key) {
+            int slot = findSlot(key, hash(key));
+            if (slot < 0) {
+                return false;
+            }
+            removeAt(slot);
+            return true;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            LinkedOpenHashMap.this.clear();
+        }
+    }
+
+    /**
+     * Values view of the map.
+     */
+    private final class Values extends AbstractCollection<V> {
+
+        @Override
+        public Iterator<V> iterator() {
+            return new PositionIterator<V>() {
+                @SuppressWarnings("unchecked")
+                @Override
+                public V next() {
+                    return (V) entries[valueIndex(nextPosition())];
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object value) {
+            return containsValue(value);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            LinkedOpenHashMap.this.clear();
+        }
+    }
+}
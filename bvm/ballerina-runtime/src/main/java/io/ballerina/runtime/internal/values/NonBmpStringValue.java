@@ -70,16 +70,23 @@
 
     @Override
     public BString concat(BString str) {
+        if (!RopeStringValue.isFlatConcat(this, str)) {
+            return new RopeStringValue(this, str);
+        }
         if (str instanceof NonBmpStringValue) {
             NonBmpStringValue other = (NonBmpStringValue) str;
             int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
-            System.arraycopy(other.surrogates, 0, both, surrogates.length, other.surrogates.length);
+            // the surrogate locations of the other string start after the code points of this string
+            int offset = length();
+            for (int i = 0; i < other.surrogates.length; i++) {
+                both[surrogates.length + i] = other.surrogates[i] + offset;
+            }
             return new NonBmpStringValue(this.value + other.value, both);
         } else if (str instanceof BmpStringValue) {
             BmpStringValue other = (BmpStringValue) str;
             return new NonBmpStringValue(this.value + other.getValue(), surrogates);
         } else {
-            throw new RuntimeException("not impl yet");
+            return StringUtils.fromString(this.value + str.getValue());
         }
     }
 
@@ -102,6 +109,20 @@
          return surrogates.clone();
      }
 
+     /**
+      * Returns the surrogate pair locations of this string when it is placed after the given number of code points.
+      *
+      * @param offset number of code points before this string
+      * @return surrogate pair locations shifted by the offset
+      */
+     int[] getSurrogates(int offset) {
+         int[] shifted = new int[surrogates.length];
+         for (int i = 0; i < surrogates.length; i++) {
+             shifted[i] = surrogates[i] + offset;
+         }
+         return shifted;
+     }
+
      @Override
      public String toString() {
          return value;
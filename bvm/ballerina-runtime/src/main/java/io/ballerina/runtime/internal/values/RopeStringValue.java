@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BLink;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * <p>
+ * Represent a ballerina string which is the concatenation of two other strings.
+ * </p>
+ * <p>
+ * Concatenating to a rope only creates a new node, so building a string with repeated concatenations, for example in
+ * a loop or a long concatenation chain, is linear in the length of the result instead of quadratic. The characters
+ * are copied into a flat string the first time they are needed, and the parts are released afterwards.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class RopeStringValue implements StringValue {
+
+    /**
+     * Concatenations of flat strings up to this many chars create a flat string, which is cheaper than a rope for
+     * short strings.
+     */
+    static final int FLAT_CONCAT_LIMIT = 64;
+
+    private final int length;
+    private final int charLength;
+
+    /**
+     * Either the {@link Parts} of this rope or, once flattened, the flat string.
+     */
+    private volatile Object content;
+
+    public RopeStringValue(BString left, BString right) {
+        this.length = Math.addExact(left.length(), right.length());
+        this.charLength = Math.addExact(charLength(left), charLength(right));
+        this.content = new Parts(left, right);
+    }
+
+    /**
+     * Checks whether the concatenation of the given strings should create a flat string instead of a rope.
+     *
+     * @param left  the string on the left
+     * @param right the string on the right
+     * @return true if both strings are flat and short
+     */
+    static boolean isFlatConcat(BString left, BString right) {
+        return !(left instanceof RopeStringValue) && !(right instanceof RopeStringValue) &&
+                left.getValue().length() + right.getValue().length() <= FLAT_CONCAT_LIMIT;
+    }
+
+    private static int charLength(BString str) {
+        if (str instanceof RopeStringValue) {
+            return ((RopeStringValue) str).charLength;
+        }
+        return str.getValue().length();
+    }
+
+    /**
+     * Copies the chars of all the parts into a flat string. Ropes built in a loop are deeply nested, hence the parts
+     * are walked with an explicit stack, filling the chars from the end.
+     *
+     * @return the flat string
+     */
+    private BString flatten() {
+        Object current = content;
+        if (current instanceof BString) {
+            return (BString) current;
+        }
+
+        char[] chars = new char[charLength];
+        int end = charLength;
+        Deque<BString> pending = new ArrayDeque<>();
+        pushParts(pending, (Parts) current);
+        while (!pending.isEmpty()) {
+            BString part = pending.pop();
+            if (part instanceof RopeStringValue) {
+                Object partContent = ((RopeStringValue) part).content;
+                if (partContent instanceof Parts) {
+                    pushParts(pending, (Parts) partContent);
+                    continue;
+                }
+                part = (BString) partContent;
+            }
+            String value = part.getValue();
+            end -= value.length();
+            value.getChars(0, value.length(), chars, end);
+        }
+
+        String value = new String(chars);
+        // the char length only differs from the code point length if there are surrogate pairs
+        BString flat = length == charLength ? new BmpStringValue(value) : StringUtils.fromString(value);
+        content = flat;
+        return flat;
+    }
+
+    private static void pushParts(Deque<BString> pending, Parts parts) {
+        // the right part is popped first, since the chars are filled from the end
+        pending.push(parts.left);
+        pending.push(parts.right);
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().getValue();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        return new RopeStringValue(this, str);
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    @Override
+    public String stringValue(BLink parent) {
+        return getValue();
+    }
+
+    @Override
+    public String informalStringValue(BLink parent) {
+        return "\"" + getValue() + "\"";
+    }
+
+    @Override
+    public String expressionStringValue(BLink parent) {
+        return informalStringValue(parent);
+    }
+
+    @Override
+    public int hashCode() {
+        return getValue().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object str) {
+        if (str == this) {
+            return true;
+        }
+        if (str instanceof BString) {
+            return ((BString) str).getValue().equals(getValue());
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    /**
+     * The two strings concatenated by a rope which is not flattened yet.
+     */
+    private static class Parts {
+
+        final BString left;
+        final BString right;
+
+        Parts(BString left, BString right) {
+            this.left = left;
+            this.right = right;
+        }
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TableUtils;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.OPERATION_NOT_SUPPORTED_ERROR;
+
+/**
+ * Secondary index on a field of the rows of a {@link TableValueImpl}.
+ * <p>
+ * The table keeps its secondary indexes up to date when rows are added, replaced or removed. Only readonly fields
+ * can be indexed, since a row could otherwise change the indexed value after it was added to the table.
+ * <p>
+ * The rows with the same value are kept by identity, since two rows with the same shape are still different rows.
+ * Each row is mapped to a sequence number which follows the order of the rows in the table, hence the rows found by
+ * the index are returned in the same order as a scan of the table would return them.
+ *
+ * @since 2.0.0
+ */
+abstract class TableIndex {
+
+    final BString fieldName;
+    private long nextSequence;
+
+    TableIndex(BString fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    /**
+     * Adds a row which is added at the end of the table.
+     *
+     * @param row the row
+     */
+    void add(Object row) {
+        add(row, nextSequence++);
+    }
+
+    /**
+     * Replaces a row by another row which takes its place in the table.
+     *
+     * @param oldRow the replaced row
+     * @param newRow the new row
+     */
+    void replace(Object oldRow, Object newRow) {
+        Long sequence = remove(oldRow);
+        add(newRow, sequence == null ? nextSequence++ : sequence);
+    }
+
+    /**
+     * Removes a row.
+     *
+     * @param row the row
+     * @return the sequence number of the row or null if the row is not indexed
+     */
+    Long remove(Object row) {
+        Object value = ((MapValue<?, ?>) row).get(fieldName);
+        Map<Object, Long> rows = getRows(value);
+        if (rows == null) {
+            return null;
+        }
+        Long sequence = rows.remove(row);
+        if (rows.isEmpty()) {
+            removeRows(value);
+        }
+        return sequence;
+    }
+
+    /**
+     * Returns the rows whose indexed field is equal to the given value, in the order of the table.
+     *
+     * @param value value of the indexed field
+     * @return the matching rows
+     */
+    List<Object> get(Object value) {
+        Map<Object, Long> rows = getRows(value);
+        if (rows == null) {
+            return new ArrayList<>(0);
+        }
+        List<Object> result = new ArrayList<>(rows.size());
+        addInTableOrder(rows, result);
+        return result;
+    }
+
+    private void add(Object row, long sequence) {
+        Object value = ((MapValue<?, ?>) row).get(fieldName);
+        getOrCreateRows(value).put(row, sequence);
+    }
+
+    private static void addInTableOrder(Map<Object, Long> rows, List<Object> result) {
+        if (rows.size() == 1) {
+            result.addAll(rows.keySet());
+            return;
+        }
+        List<Map.Entry<Object, Long>> entries = new ArrayList<>(rows.entrySet());
+        entries.sort(Map.Entry.comparingByValue());
+        for (Map.Entry<Object, Long> entry : entries) {
+            result.add(entry.getKey());
+        }
+    }
+
+    private static Map<Object, Long> newRows() {
+        return new IdentityHashMap<>(2);
+    }
+
+    abstract Map<Object, Long> getRows(Object value);
+
+    /**
+     * Returns the rows for the given value, creating an empty map if there are none yet.
+     *
+     * @return the rows
+     */
+    abstract Map<Object, Long> getOrCreateRows(Object value);
+
+    abstract void removeRows(Object value);
+
+    abstract void clear();
+
+    /**
+     * Hash index, which answers equality lookups.
+     */
+    static class HashIndex extends TableIndex {
+
+        private final Map<IndexKey, Map<Object, Long>> rows = new HashMap<>();
+
+        HashIndex(BString fieldName) {
+            super(fieldName);
+        }
+
+        @Override
+        Map<Object, Long> getRows(Object value) {
+            return rows.get(new IndexKey(value));
+        }
+
+        @Override
+        Map<Object, Long> getOrCreateRows(Object value) {
+            return rows.computeIfAbsent(new IndexKey(value), key -> newRows());
+        }
+
+        @Override
+        void removeRows(Object value) {
+            rows.remove(new IndexKey(value));
+        }
+
+        @Override
+        void clear() {
+            rows.clear();
+        }
+    }
+
+    /**
+     * Sorted index, which answers equality and range lookups. Nil cannot be ordered, hence the rows where the field
+     * is nil are kept apart from the sorted values, and are never in a range.
+     */
+    static class SortedIndex extends TableIndex {
+
+        private final NavigableMap<Object, Map<Object, Long>> rows = new TreeMap<>(SortedIndex::compare);
+        private Map<Object, Long> nilRows;
+
+        SortedIndex(BString fieldName) {
+            super(fieldName);
+        }
+
+        /**
+         * Returns the rows whose indexed field is in the given range, ordered by the indexed field. The rows with the
+         * same value are in the order of the table.
+         *
+         * @param from lower bound of the range, inclusive, or null if there is no lower bound
+         * @param to   upper bound of the range, exclusive, or null if there is no upper bound
+         * @return the matching rows
+         */
+        List<Object> getRange(Object from, Object to) {
+            NavigableMap<Object, Map<Object, Long>> range = rows;
+            if (from != null) {
+                range = range.tailMap(from, true);
+            }
+            if (to != null) {
+                range = range.headMap(to, false);
+            }
+            List<Object> result = new ArrayList<>();
+            for (Map<Object, Long> rowsWithValue : range.values()) {
+                addInTableOrder(rowsWithValue, result);
+            }
+            return result;
+        }
+
+        @Override
+        Map<Object, Long> getRows(Object value) {
+            return value == null ? nilRows : rows.get(value);
+        }
+
+        @Override
+        Map<Object, Long> getOrCreateRows(Object value) {
+            if (value != null) {
+                return rows.computeIfAbsent(value, key -> newRows());
+            }
+            if (nilRows == null) {
+                nilRows = newRows();
+            }
+            return nilRows;
+        }
+
+        @Override
+        void removeRows(Object value) {
+            if (value == null) {
+                nilRows = null;
+            } else {
+                rows.remove(value);
+            }
+        }
+
+        @Override
+        void clear() {
+            rows.clear();
+            nilRows = null;
+        }
+
+        /**
+         * Checks whether the values of the given type can be kept in a sorted index. These are the values of a
+         * single ordered basic type, optionally with nil.
+         *
+         * @param type type of the indexed field
+         * @return true if the values of the type can be ordered
+         */
+        static boolean isOrderedType(Type type) {
+            if (type.getTag() != TypeTags.UNION_TAG) {
+                return getOrderedBasicTypeTag(type) != -1;
+            }
+
+            int basicTypeTag = -1;
+            for (Type memberType : ((UnionType) type).getMemberTypes()) {
+                if (memberType.getTag() == TypeTags.NULL_TAG) {
+                    continue;
+                }
+                int memberTag = getOrderedBasicTypeTag(memberType);
+                if (memberTag == -1 || (basicTypeTag != -1 && basicTypeTag != memberTag)) {
+                    return false;
+                }
+                basicTypeTag = memberTag;
+            }
+            return basicTypeTag != -1;
+        }
+
+        private static int getOrderedBasicTypeTag(Type type) {
+            switch (type.getTag()) {
+                case TypeTags.INT_TAG:
+                case TypeTags.SIGNED32_INT_TAG:
+                case TypeTags.SIGNED16_INT_TAG:
+                case TypeTags.SIGNED8_INT_TAG:
+                case TypeTags.UNSIGNED32_INT_TAG:
+                case TypeTags.UNSIGNED16_INT_TAG:
+                case TypeTags.UNSIGNED8_INT_TAG:
+                    return TypeTags.INT_TAG;
+                case TypeTags.STRING_TAG:
+                case TypeTags.CHAR_STRING_TAG:
+                    return TypeTags.STRING_TAG;
+                case TypeTags.FLOAT_TAG:
+                case TypeTags.DECIMAL_TAG:
+                case TypeTags.BOOLEAN_TAG:
+                    return type.getTag();
+                default:
+                    return -1;
+            }
+        }
+
+        static int compare(Object lhs, Object rhs) {
+            if (lhs instanceof Long && rhs instanceof Long) {
+                return Long.compare((Long) lhs, (Long) rhs);
+            }
+            if (lhs instanceof Double && rhs instanceof Double) {
+                return Double.compare((Double) lhs, (Double) rhs);
+            }
+            if (lhs instanceof BString && rhs instanceof BString) {
+                return ((BString) lhs).getValue().compareTo(((BString) rhs).getValue());
+            }
+            if (lhs instanceof DecimalValue && rhs instanceof DecimalValue) {
+                return ((DecimalValue) lhs).value().compareTo(((DecimalValue) rhs).value());
+            }
+            if (lhs instanceof Boolean && rhs instanceof Boolean) {
+                return Boolean.compare((Boolean) lhs, (Boolean) rhs);
+            }
+            throw ErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR,
+                                           StringUtils.fromString("values of types '" + TypeChecker.getType(lhs) +
+                                                                          "' and '" + TypeChecker.getType(rhs) +
+                                                                          "' cannot be ordered"));
+        }
+    }
+
+    /**
+     * Wraps an indexed value so that values with the same shape are equal.
+     */
+    private static class IndexKey {
+
+        private final Object value;
+        private final long hash;
+
+        IndexKey(Object value) {
+            this.value = value;
+            this.hash = TableUtils.hash(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof IndexKey)) {
+                return false;
+            }
+            IndexKey other = (IndexKey) o;
+            return hash == other.hash && TypeChecker.isEqual(value, other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) (hash ^ (hash >>> 32));
+        }
+    }
+}
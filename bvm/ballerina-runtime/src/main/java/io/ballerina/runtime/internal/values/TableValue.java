@@ -18,8 +18,11 @@
 package io.ballerina.runtime.internal.values;
 
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
 
+import java.util.List;
+
 /**
  * <p>
  * Interface to be implemented by Table implementation.
@@ -43,4 +46,35 @@ public interface TableValue<K, V> extends RefValue, CollectionValue, BTable<K, V
     long getNextKey();
 
     Type getKeyType();
+
+    /**
+     * Adds a secondary index on a readonly field of the rows. The index is built from the current rows and is kept
+     * up to date when rows are added, replaced or removed.
+     *
+     * @param fieldName name of the field to index
+     * @param sorted    true for an index which also answers range lookups
+     */
+    void addIndex(BString fieldName, boolean sorted);
+
+    /**
+     * Returns the rows whose given field is equal to the given value, in the order of the table. Uses the secondary
+     * index on the field if there is one, else scans the rows.
+     *
+     * @param fieldName name of the field
+     * @param value     value to look for
+     * @return the matching rows
+     */
+    List<V> getRowsByField(BString fieldName, Object value);
+
+    /**
+     * Returns the rows whose given field is within the given range, ordered by the value of the field. Rows with the
+     * same value are in the order of the table. The order is the same whether the sorted secondary index on the field
+     * is used, if there is one, or the rows are scanned. Rows where the field is nil are never in the range.
+     *
+     * @param fieldName name of the field
+     * @param from      lower bound of the range, inclusive, or null if there is no lower bound
+     * @param to        upper bound of the range, exclusive, or null if there is no upper bound
+     * @return the matching rows
+     */
+    List<V> getRowsInRange(BString fieldName, Object from, Object to);
 }
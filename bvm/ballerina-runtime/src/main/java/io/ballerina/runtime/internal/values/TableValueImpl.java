@@ -20,6 +20,7 @@ package io.ballerina.runtime.internal.values;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.TableType;
 import io.ballerina.runtime.api.types.Type;
@@ -40,20 +41,19 @@ import io.ballerina.runtime.internal.types.BTableType;
 import io.ballerina.runtime.internal.types.BTupleType;
 import io.ballerina.runtime.internal.util.exceptions.BLangFreezeException;
 
+import java.util.AbstractCollection;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INHERENT_TYPE_VIOLATION_ERROR_IDENTIFIER;
@@ -64,6 +64,11 @@ import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReason
 
 /**
  * The runtime representation of table.
+ * <p>
+ * Rows are stored once, in insertion order, in parallel key, value and key hash arrays. A removed row leaves a hole
+ * in the arrays which is dropped the next time the arrays grow. Tables with a key also keep an open addressing hash
+ * index which maps the hash of a key to the position of its row. Keys with the same hash are told apart with
+ * {@link TypeChecker#isEqual(Object, Object)}.
  *
  * @param <K> the type of keys maintained by this map
  * @param <V> the type of mapped values
@@ -72,19 +77,32 @@ import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReason
  */
 public class TableValueImpl<K, V> implements TableValue<K, V> {
 
+    private static final Object[] EMPTY_ROWS = {};
+    private static final long[] EMPTY_HASHES = {};
+    private static final int[] EMPTY_INDEX = {};
+    private static final int MIN_CAPACITY = 8;
+
+    // Slot values of the hash index, other slots hold the row position plus one
+    private static final int FREE_SLOT = 0;
+    private static final int DELETED_SLOT = -1;
+
     private TableType type;
     private Type iteratorNextReturnType;
-    private ConcurrentHashMap<Long, Map.Entry<K, V>> entries;
-    private LinkedHashMap<Long, V> values;
-    private LinkedHashMap<Long, K> keys;
     private String[] fieldNames;
+    private final boolean keyed;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, Long> indexToKeyMap;
-    private LinkedHashMap<Long, Long> keyToIndexMap;
-    private long noOfAddedEntries = 0;
+    private Object[] rowKeys = EMPTY_ROWS;
+    // a null value marks a removed row, rows are always mapping values
+    private Object[] rowValues = EMPTY_ROWS;
+    private long[] rowHashes = EMPTY_HASHES;
+    private int[] hashIndex = EMPTY_INDEX;
+    // number of used row positions, including removed rows
+    private int usedRows;
+    private int size;
+    // secondary indexes by field name, created when the first one is added
+    private Map<String, TableIndex> secondaryIndexes;
 
     private boolean nextKeySupported;
 
@@ -93,13 +111,9 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     public TableValueImpl(TableType type) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
         this.fieldNames = type.getFieldNames();
-        if (type.getFieldNames() != null) {
+        this.keyed = type.getFieldNames() != null;
+        if (keyed) {
             this.valueHolder = new KeyHashValueHolder();
         } else {
             this.valueHolder = new ValueHolder();
@@ -212,23 +226,131 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
-        return new LinkedHashSet<>(entries.values());
+        Set<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
+        for (int i = 0; i < usedRows; i++) {
+            V value = (V) rowValues[i];
+            if (value != null) {
+                // key-less tables use the row itself as the key
+                K key = keyed ? (K) rowKeys[i] : (K) value;
+                entrySet.add(new AbstractMap.SimpleEntry<>(key, value));
+            }
+        }
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        return values.values();
+        return new RowValues();
     }
 
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        keys.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        Arrays.fill(rowKeys, 0, usedRows, null);
+        Arrays.fill(rowValues, 0, usedRows, null);
+        Arrays.fill(hashIndex, FREE_SLOT);
+        usedRows = 0;
+        size = 0;
+        if (secondaryIndexes != null) {
+            secondaryIndexes.values().forEach(TableIndex::clear);
+        }
+    }
+
+    @Override
+    public void addIndex(BString fieldName, boolean sorted) {
+        Type fieldType = getIndexableFieldType(fieldName);
+        TableIndex index;
+        if (sorted) {
+            if (!TableIndex.SortedIndex.isOrderedType(fieldType)) {
+                throw ErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR, StringUtils.fromString(
+                        "values of field '" + fieldName + "' of type '" + fieldType + "' cannot be ordered"));
+            }
+            index = new TableIndex.SortedIndex(fieldName);
+        } else {
+            index = new TableIndex.HashIndex(fieldName);
+        }
+
+        for (V row : values()) {
+            index.add(row);
+        }
+        if (secondaryIndexes == null) {
+            secondaryIndexes = new HashMap<>();
+        }
+        secondaryIndexes.put(fieldName.getValue(), index);
+    }
+
+    @Override
+    public List<V> getRowsByField(BString fieldName, Object value) {
+        TableIndex index = secondaryIndexes == null ? null : secondaryIndexes.get(fieldName.getValue());
+        if (index != null) {
+            return (List<V>) index.get(value);
+        }
+
+        List<V> rows = new ArrayList<>();
+        for (V row : values()) {
+            if (TypeChecker.isEqual(((MapValue) row).get(fieldName), value)) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    @Override
+    public List<V> getRowsInRange(BString fieldName, Object from, Object to) {
+        TableIndex index = secondaryIndexes == null ? null : secondaryIndexes.get(fieldName.getValue());
+        if (index instanceof TableIndex.SortedIndex) {
+            return (List<V>) ((TableIndex.SortedIndex) index).getRange(from, to);
+        }
+
+        List<V> rows = new ArrayList<>();
+        for (V row : values()) {
+            Object fieldValue = ((MapValue) row).get(fieldName);
+            if (fieldValue != null && (from == null || TableIndex.SortedIndex.compare(fieldValue, from) >= 0) &&
+                    (to == null || TableIndex.SortedIndex.compare(fieldValue, to) < 0)) {
+                rows.add(row);
+            }
+        }
+        // the sort is stable, the rows with the same value stay in the order of the table
+        rows.sort((row1, row2) -> TableIndex.SortedIndex.compare(((MapValue) row1).get(fieldName),
+                                                                 ((MapValue) row2).get(fieldName)));
+        return rows;
+    }
+
+    // Only readonly fields of a record constraint can be indexed, other fields may change after a row is added
+    private Type getIndexableFieldType(BString fieldName) {
+        Type constraintType = type.getConstrainedType();
+        if (constraintType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+            Field field = ((BRecordType) constraintType).getFields().get(fieldName.getValue());
+            if (field != null && SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY)) {
+                return field.getFieldType();
+            }
+        }
+        throw ErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR, StringUtils.fromString(
+                "cannot create an index on field '" + fieldName + "', only readonly record fields can be indexed"));
+    }
+
+    private void indexRow(Object row) {
+        if (secondaryIndexes != null) {
+            for (TableIndex index : secondaryIndexes.values()) {
+                index.add(row);
+            }
+        }
+    }
+
+    private void reindexRow(Object oldRow, Object newRow) {
+        if (secondaryIndexes != null) {
+            for (TableIndex index : secondaryIndexes.values()) {
+                index.replace(oldRow, newRow);
+            }
+        }
+    }
+
+    private void unindexRow(Object row) {
+        if (secondaryIndexes != null) {
+            for (TableIndex index : secondaryIndexes.values()) {
+                index.remove(row);
+            }
+        }
     }
 
     @Override
@@ -257,7 +379,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return size == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public Type getKeyType() {
@@ -285,17 +407,27 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) keys.values().toArray(new Object[]{});
+        if (!keyed) {
+            return (K[]) new Object[]{};
+        }
+        Object[] keys = new Object[size];
+        int index = 0;
+        for (int i = 0; i < usedRows; i++) {
+            if (rowValues[i] != null) {
+                keys[index++] = rowKeys[i];
+            }
+        }
+        return (K[]) keys;
     }
 
     @Override
     public int size() {
-        return entries.size();
+        return size;
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return size == 0;
     }
 
     @Override
@@ -320,8 +452,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr, parent);
+        return createStringValueDataEntry(values().iterator(), parent);
     }
 
     @Override
@@ -331,21 +462,20 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
-        return createExpressionStringValueDataEntry(itr, parent);
+        return createExpressionStringValueDataEntry(values().iterator(), parent);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(StringUtils.getStringValue(struct.getValue(),
+            V struct = itr.next();
+            sj.add(StringUtils.getStringValue(struct,
                                               new CycleUtils.Node(this, parent)));
         }
         return "[" + sj.toString() + "]";
     }
 
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createExpressionStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         if (type.getFieldNames() != null) {
@@ -355,8 +485,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             }
         }
         while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(StringUtils.getExpressionStringValue(struct.getValue(),
+            V struct = itr.next();
+            sj.add(StringUtils.getExpressionStringValue(struct,
                                                         new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner.toString() + ") [" + sj.toString() + "]";
@@ -386,7 +516,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     private class TableIterator<K, V> implements IteratorValue {
-        private long cursor;
+        private int cursor;
 
         TableIterator() {
             this.cursor = 0;
@@ -394,31 +524,61 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         @Override
         public Object next() {
-            Long hash = indexToKeyMap.get(cursor);
-            if (hash != null) {
-                Map.Entry<K, V> next = (Map.Entry<K, V>) entries.get(hash);
-                V value = next.getValue();
-                K key = next.getKey();
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
             }
+            V value = (V) rowValues[cursor];
+            // key-less tables use the row itself as the key
+            K key = keyed ? (K) rowKeys[cursor] : (K) value;
+
+            List<Type> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            cursor++;
+            return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+            cursor = nextRow(cursor);
+            return cursor < usedRows;
+        }
+    }
+
+    /**
+     * Live view of the rows of the table in insertion order.
+     */
+    private class RowValues extends AbstractCollection<V> {
+
+        @Override
+        public Iterator<V> iterator() {
+            return new Iterator<V>() {
+                private int cursor;
+
+                @Override
+                public boolean hasNext() {
+                    cursor = nextRow(cursor);
+                    return cursor < usedRows;
+                }
+
+                @Override
+                public V next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return (V) rowValues[cursor++];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
         }
     }
 
@@ -440,11 +600,9 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue) data, type);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entry);
-            updateIndexKeyMappings((long) uuid.hashCode());
-            return values.put((long) uuid.hashCode(), data);
+            // key-less tables do not have an index, the row is only appended
+            addRow(null, data, 0);
+            return null;
         }
 
         public V remove(K key) {
@@ -485,63 +643,70 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                StringUtils.fromString("A value " + "found for key '" + key + "'"));
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (size == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            Long hash = TableUtils.hash(key, null);
-            putData(key, data, entry, hash);
+            addRow(key, data, TableUtils.hash(key));
         }
 
         public V getData(K key) {
-            return values.get(TableUtils.hash(key, null));
+            int slot = findSlot(key, TableUtils.hash(key));
+            return slot < 0 ? null : (V) rowValues[hashIndex[slot] - 1];
         }
 
         public V putData(K key, V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
-
-            if (!hash.equals(actualHash)) {
+            if (!TypeChecker.isEqual(key, actualKey)) {
                 throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR, StringUtils.fromString("The key '" +
                         key + "' not found in value " + data.toString()));
             }
 
-            return putData(key, data, entry, hash);
+            return putRow(key, data);
         }
 
-        private V putData(K key, V data, Map.Entry<K, V> entry, Long hash) {
-            entries.put(hash, entry);
-            keys.put(hash, key);
-            updateIndexKeyMappings(hash);
-            return values.put(hash, data);
+        private V putRow(K key, V data) {
+            long hash = TableUtils.hash(key);
+            int slot = findSlot(key, hash);
+            if (slot < 0) {
+                addRow(key, data, hash);
+                return null;
+            }
+
+            // an existing key keeps the position of its row
+            int row = hashIndex[slot] - 1;
+            V oldValue = (V) rowValues[row];
+            rowKeys[row] = key;
+            rowValues[row] = data;
+            reindexRow(oldValue, data);
+            return oldValue;
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-            return putData((K) key, data, entry, hash);
+            return putRow(key, data);
         }
 
         public V remove(K key) {
-            Long hash = TableUtils.hash(key, null);
-            entries.remove(hash);
-            keys.remove(hash);
-            Long index = keyToIndexMap.remove(hash);
-            indexToKeyMap.remove(index);
-            if (index != null && index == noOfAddedEntries - 1) {
-                noOfAddedEntries--;
+            int slot = findSlot(key, TableUtils.hash(key));
+            if (slot < 0) {
+                return null;
             }
-            return values.remove(hash);
+
+            int row = hashIndex[slot] - 1;
+            V oldValue = (V) rowValues[row];
+            hashIndex[slot] = DELETED_SLOT;
+            rowKeys[row] = null;
+            rowValues[row] = null;
+            size--;
+            unindexRow(oldValue);
+            return oldValue;
         }
 
         public boolean containsKey(K key) {
-            return keys.containsKey(TableUtils.hash(key, null));
+            return findSlot(key, TableUtils.hash(key)) >= 0;
         }
 
         public Type getKeyType() {
@@ -592,13 +757,104 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(Long hash) {
-        if (!keyToIndexMap.containsKey(hash)) {
-            keyToIndexMap.put(hash, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, hash);
-            noOfAddedEntries++;
+    // Returns the position of the first row at or after the given position, skipping removed rows
+    private int nextRow(int position) {
+        while (position < usedRows && rowValues[position] == null) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Finds the hash index slot of the row with the given key.
+     *
+     * @return the slot or -1 if the table does not have a row with the key
+     */
+    private int findSlot(Object key, long hash) {
+        if (size == 0) {
+            return -1;
+        }
+        int[] index = this.hashIndex;
+        int mask = index.length - 1;
+        int slot = spread(hash) & mask;
+        while (true) {
+            int position = index[slot];
+            if (position == FREE_SLOT) {
+                return -1;
+            }
+            if (position != DELETED_SLOT) {
+                int row = position - 1;
+                if (rowHashes[row] == hash && TypeChecker.isEqual(rowKeys[row], key)) {
+                    return slot;
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void addRow(Object key, Object value, long hash) {
+        if (usedRows == rowValues.length) {
+            growRows();
+        }
+        int row = usedRows++;
+        rowValues[row] = value;
+        if (keyed) {
+            rowKeys[row] = key;
+            rowHashes[row] = hash;
+            insertIntoIndex(hash, row);
+        }
+        size++;
+        indexRow(value);
+    }
+
+    private void insertIntoIndex(long hash, int row) {
+        int[] index = this.hashIndex;
+        int mask = index.length - 1;
+        int slot = spread(hash) & mask;
+        // the key is known to be absent, hence the slot of a removed row can be reused
+        while (index[slot] > FREE_SLOT) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = row + 1;
+    }
+
+    private static int spread(long hash) {
+        int h = (int) (hash ^ (hash >>> 32));
+        return h ^ (h >>> 16);
+    }
+
+    // Drops the removed rows, and doubles the capacity unless that makes enough room
+    private void growRows() {
+        int capacity = rowValues.length;
+        int newCapacity = capacity == 0 ? MIN_CAPACITY : (size <= capacity / 2 ? capacity : capacity << 1);
+
+        Object[] oldKeys = rowKeys;
+        Object[] oldValues = rowValues;
+        long[] oldHashes = rowHashes;
+        int oldUsedRows = usedRows;
+
+        rowValues = new Object[newCapacity];
+        if (keyed) {
+            rowKeys = new Object[newCapacity];
+            rowHashes = new long[newCapacity];
+            // keep the index at most half full
+            hashIndex = new int[newCapacity << 1];
+        }
+
+        int row = 0;
+        for (int i = 0; i < oldUsedRows; i++) {
+            if (oldValues[i] == null) {
+                continue;
+            }
+            rowValues[row] = oldValues[i];
+            if (keyed) {
+                rowKeys[row] = oldKeys[i];
+                rowHashes[row] = oldHashes[i];
+                insertIntoIndex(oldHashes[i], row);
+            }
+            row++;
         }
+        usedRows = row;
     }
 
     // This method checks for inherent table type violation
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BLink;
+import io.ballerina.runtime.api.values.BString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Represent a ballerina string which keeps the UTF-8 bytes it was created from.
+ * </p>
+ * <p>
+ * The bytes are validated and the code points are counted when the string is created, but they are only decoded
+ * when the characters are needed. A string which is only forwarded, for example a payload read from the network
+ * and written out again, hence never gets decoded and encoded.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class Utf8StringValue implements StringValue {
+
+    private final byte[] bytes;
+    private final int length;
+    private final int charLength;
+    private volatile BString decoded;
+
+    private Utf8StringValue(byte[] bytes, int length, int charLength) {
+        this.bytes = bytes;
+        this.length = length;
+        this.charLength = charLength;
+    }
+
+    /**
+     * Creates a string backed by the given UTF-8 bytes. The array is not copied, hence it must not be modified
+     * afterwards.
+     *
+     * @param bytes UTF-8 encoded bytes
+     * @return the string or null if the bytes are not valid UTF-8
+     */
+    public static Utf8StringValue fromBytes(byte[] bytes) {
+        int length = 0;
+        int supplementaryCount = 0;
+        int i = 0;
+        while (i < bytes.length) {
+            int b = bytes[i] & 0xFF;
+            int sequenceLength;
+            if (b < 0x80) {
+                sequenceLength = 1;
+            } else if (b >= 0xC2 && b <= 0xDF) {
+                sequenceLength = 2;
+            } else if (b >= 0xE0 && b <= 0xEF) {
+                sequenceLength = 3;
+            } else if (b >= 0xF0 && b <= 0xF4) {
+                sequenceLength = 4;
+                supplementaryCount++;
+            } else {
+                return null;
+            }
+            if (i + sequenceLength > bytes.length || !isValidSequence(bytes, i, b, sequenceLength)) {
+                return null;
+            }
+            i += sequenceLength;
+            length++;
+        }
+        return new Utf8StringValue(bytes, length, length + supplementaryCount);
+    }
+
+    private static boolean isValidSequence(byte[] bytes, int start, int lead, int sequenceLength) {
+        if (sequenceLength == 1) {
+            return true;
+        }
+        // the second byte is limited further to reject overlong encodings, surrogates and code points above U+10FFFF
+        int second = bytes[start + 1] & 0xFF;
+        int min = 0x80;
+        int max = 0xBF;
+        if (lead == 0xE0) {
+            min = 0xA0;
+        } else if (lead == 0xED) {
+            max = 0x9F;
+        } else if (lead == 0xF0) {
+            min = 0x90;
+        } else if (lead == 0xF4) {
+            max = 0x8F;
+        }
+        if (second < min || second > max) {
+            return false;
+        }
+        for (int i = start + 2; i < start + sequenceLength; i++) {
+            if ((bytes[i] & 0xC0) != 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a copy of the UTF-8 bytes of this string.
+     *
+     * @return UTF-8 encoded bytes
+     */
+    public byte[] getUtf8Bytes() {
+        return bytes.clone();
+    }
+
+    private BString decode() {
+        BString result = decoded;
+        if (result == null) {
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            // the char length only differs from the code point length if there are supplementary characters
+            result = length == charLength ? new BmpStringValue(value) : StringUtils.fromString(value);
+            decoded = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String getValue() {
+        return decode().getValue();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        if (bytes.length == length) {
+            // ASCII only, every byte is a code point
+            if (index < 0 || index >= length) {
+                throw new StringIndexOutOfBoundsException(index);
+            }
+            return bytes[index];
+        }
+        return decode().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        return decode().concat(str);
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return decode().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return decode().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return decode().substring(beginIndex, endIndex);
+    }
+
+    @Override
+    public String stringValue(BLink parent) {
+        return getValue();
+    }
+
+    @Override
+    public String informalStringValue(BLink parent) {
+        return "\"" + getValue() + "\"";
+    }
+
+    @Override
+    public String expressionStringValue(BLink parent) {
+        return informalStringValue(parent);
+    }
+
+    @Override
+    public int hashCode() {
+        return getValue().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object str) {
+        if (str == this) {
+            return true;
+        }
+        if (str instanceof Utf8StringValue) {
+            return Arrays.equals(bytes, ((Utf8StringValue) str).bytes);
+        }
+        if (str instanceof BString) {
+            return ((BString) str).getValue().equals(getValue());
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+}
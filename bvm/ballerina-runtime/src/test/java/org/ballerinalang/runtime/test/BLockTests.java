@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.internal.BLock;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.State;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for the lock used by lock statements.
+ * <p>
+ * The scheduler is not started, so unblocking a waiting strand only changes its state to {@link State#YIELD}. The
+ * test threads play the part of the scheduler and retry the lock once their strand is unblocked.
+ */
+public class BLockTests {
+
+    private static final StrandMetadata METADATA = new StrandMetadata("testorg", "testmodule", "1.0.0", "main");
+    private static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    @Test
+    public void testReentrantLock() {
+        Scheduler scheduler = new Scheduler(1, false);
+        Strand owner = newStrand(scheduler, "owner");
+        Strand other = newStrand(scheduler, "other");
+        BLock lock = new BLock();
+
+        Assert.assertTrue(lock.lock(owner));
+        Assert.assertTrue(lock.lock(owner));
+        Assert.assertTrue(lock.lock(owner));
+        Assert.assertTrue(lock.lockedBySameContext(owner));
+
+        lock.unlock();
+        lock.unlock();
+        Assert.assertSame(lock.getOwner(), owner);
+        Assert.assertFalse(lock.lock(other));
+
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertEquals(awaitUnblocked(other), State.YIELD);
+        retry(other);
+        Assert.assertTrue(lock.lock(other));
+        Assert.assertSame(lock.getOwner(), other);
+    }
+
+    @Test
+    public void testWaitersUnblockedInOrder() {
+        Scheduler scheduler = new Scheduler(1, false);
+        Strand owner = newStrand(scheduler, "owner");
+        Strand first = newStrand(scheduler, "first");
+        Strand second = newStrand(scheduler, "second");
+        BLock lock = new BLock();
+
+        Assert.assertTrue(lock.lock(owner));
+        Assert.assertFalse(lock.lock(first));
+        Assert.assertFalse(lock.lock(second));
+        Assert.assertSame(first.getBlockedOn(), lock);
+
+        lock.unlock();
+        Assert.assertEquals(first.getState(), State.YIELD);
+        Assert.assertEquals(second.getState(), State.BLOCK_AND_YIELD);
+
+        retry(first);
+        Assert.assertTrue(lock.lock(first));
+        lock.unlock();
+        Assert.assertEquals(second.getState(), State.YIELD);
+    }
+
+    @Test
+    public void testHandoffUnderContention() throws Exception {
+        int threadCount = 4;
+        int iterations = 5000;
+        Scheduler scheduler = new Scheduler(1, false);
+        BLock lock = new BLock();
+        AtomicInteger holders = new AtomicInteger();
+        int[] counter = new int[1];
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                Strand strand = newStrand(scheduler, "worker-" + i);
+                results.add(executor.submit(() -> {
+                    for (int j = 0; j < iterations; j++) {
+                        while (!lock.lock(strand)) {
+                            awaitUnblocked(strand);
+                            retry(strand);
+                        }
+                        Assert.assertEquals(holders.incrementAndGet(), 1);
+                        counter[0]++;
+                        holders.decrementAndGet();
+                        lock.unlock();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertEquals(counter[0], threadCount * iterations);
+    }
+
+    @Test
+    public void testWaiterQueuedWhileUnlocking() throws Exception {
+        Scheduler scheduler = new Scheduler(1, false);
+        BLock lock = new BLock();
+        Strand owner = newStrand(scheduler, "owner");
+        Strand waiter = newStrand(scheduler, "waiter");
+        CyclicBarrier barrier = new CyclicBarrier(2);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            for (int i = 0; i < 10000; i++) {
+                Assert.assertTrue(lock.lock(owner));
+                Future<Boolean> waiterResult = executor.submit(() -> {
+                    barrier.await();
+                    return lock.lock(waiter);
+                });
+                // Release the lock while the waiter is trying to get it
+                barrier.await();
+                lock.unlock();
+
+                if (!waiterResult.get(30, TimeUnit.SECONDS)) {
+                    // The waiter is queued, hence the unlock must wake it up, even if it raced with the queueing
+                    Assert.assertEquals(awaitUnblocked(waiter), State.YIELD, "lost wake up in iteration " + i);
+                    retry(waiter);
+                    Assert.assertTrue(lock.lock(waiter));
+                }
+                Assert.assertSame(lock.getOwner(), waiter);
+                lock.unlock();
+                Assert.assertTrue(lock.isLockFree());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Strand newStrand(Scheduler scheduler, String name) {
+        return scheduler.schedule(new Object[1], params -> null, null, null, name, METADATA).strand;
+    }
+
+    private static State awaitUnblocked(Strand strand) {
+        long deadline = System.nanoTime() + TIMEOUT_NANOS;
+        while (true) {
+            // reading the state under the strand lock makes the update of the unlocking thread visible
+            strand.lock();
+            State state = strand.getState();
+            strand.unlock();
+            if (state != State.BLOCK_AND_YIELD || System.nanoTime() > deadline) {
+                return state;
+            }
+            Thread.yield();
+        }
+    }
+
+    private static void retry(Strand strand) {
+        // what the scheduler does before it runs the unblocked strand again
+        strand.setState(State.RUNNABLE);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.internal.DecimalValueKind;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Test cases for the arithmetic of {@link DecimalValue}, comparing the results with {@link BigDecimal}.
+ *
+ * @since 2.0.0
+ */
+public class DecimalValueTests {
+
+    @Test
+    void testAddWithDifferentScales() {
+        assertResult(decimal("10.25").add(decimal("0.005")), "10.255");
+        assertResult(decimal("1E+3").add(decimal("1.5")), "1001.5");
+        Assert.assertEquals(decimal("1.50").subtract(decimal("1.5")).getValueKind(), DecimalValueKind.ZERO);
+    }
+
+    @Test
+    void testAddOverflow() {
+        DecimalValue max = decimal("999999999999999999");
+        BigDecimal expected = max.decimalValue().add(new BigDecimal("0.1"), MathContext.DECIMAL128);
+        assertResult(max.add(decimal("0.1")), expected.toString());
+        assertResult(max.add(max).add(max).add(max).add(max).add(max).add(max).add(max).add(max).add(max),
+                "9999999999999999990");
+        assertResult(max.add(max).add(max).add(max).add(max).add(max).add(max).add(max).add(max).add(max)
+                .add(max), "10999999999999999989");
+    }
+
+    @Test
+    void testMultiply() {
+        assertResult(decimal("19.99").multiply(decimal("3")), "59.97");
+        assertResult(decimal("-0.1").multiply(decimal("0.1")), "-0.01");
+        BigDecimal large = new BigDecimal("123456789012.345678");
+        assertResult(new DecimalValue(large).multiply(new DecimalValue(large)),
+                large.multiply(large, MathContext.DECIMAL128).toString());
+    }
+
+    @Test
+    void testDivide() {
+        assertResult(decimal("10.00").divide(decimal("4")), "2.50");
+        assertResult(decimal("100").divide(decimal("0.5")), "2.0E+2");
+        assertResult(decimal("1").divide(decimal("3")), BigDecimal.ONE.divide(new BigDecimal(3),
+                MathContext.DECIMAL128).toString());
+    }
+
+    @Test
+    void testValueOf() {
+        assertResult(DecimalValue.valueOf(42), "42.0");
+        assertResult(DecimalValue.valueOf(Long.MAX_VALUE), "9223372036854775807.0");
+        Assert.assertEquals(DecimalValue.valueOf(5).negate(), decimal("-5.0"));
+    }
+
+    private static DecimalValue decimal(String value) {
+        return new DecimalValue(value);
+    }
+
+    private static void assertResult(DecimalValue result, String expected) {
+        Assert.assertEquals(result.stringValue(null), expected);
+        Assert.assertEquals(result.decimalValue(), new BigDecimal(expected));
+    }
+}
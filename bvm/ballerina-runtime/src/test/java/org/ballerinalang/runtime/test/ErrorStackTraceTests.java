@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.internal.values.ErrorValue;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+/**
+ * Test cases for the error stack trace modes selected with the BALLERINA_ERROR_STACK_TRACE system variable.
+ * <p>
+ * The functions which create the errors are compiled from a source named errors.bal, so that their frames are
+ * treated as ballerina frames.
+ */
+public class ErrorStackTraceTests {
+
+    private static final String[] BALLERINA_SOURCE = {
+            "import io.ballerina.runtime.api.utils.StringUtils;",
+            "import io.ballerina.runtime.internal.ErrorUtils;",
+            "import io.ballerina.runtime.internal.values.ErrorValue;",
+            "class Functions implements java.util.function.Function<Object, Object> {",
+            "    public Object apply(Object function) {",
+            "        switch ((String) function) {",
+            "            case \"create\": return create();",
+            "            case \"panic\": return panic();",
+            "            case \"running\": return running();",
+            "            case \"returned\": return returned();",
+            "            default: return Natives.create();",
+            "        }",
+            "    }",
+            "    ErrorValue create() {",
+            "        return new ErrorValue(StringUtils.fromString(\"error\"));",
+            "    }",
+            "    Object panic() {",
+            "        ErrorValue error = create();",
+            "        return ErrorUtils.fillInPanicStackTrace(error);",
+            "    }",
+            "    Object running() {",
+            "        ErrorValue error = new ErrorValue(StringUtils.fromString(\"error\"));",
+            "        error.getStackTrace();",
+            "        return error;",
+            "    }",
+            "    Object returned() {",
+            "        ErrorValue error = create();",
+            "        error.getStackTrace();",
+            "        return error;",
+            "    }",
+            "}"
+    };
+
+    private static final String[] NATIVE_SOURCE = {
+            "import io.ballerina.runtime.api.utils.StringUtils;",
+            "import io.ballerina.runtime.internal.values.ErrorValue;",
+            "class Natives {",
+            "    static ErrorValue create() {",
+            "        return new ErrorValue(StringUtils.fromString(\"error\"));",
+            "    }",
+            "}"
+    };
+
+    private Function<Object, Object> functions;
+
+    @BeforeClass
+    @SuppressWarnings("unchecked")
+    public void setup() throws Exception {
+        Path classes = Files.createTempDirectory("error-stack-trace");
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> options = Arrays.asList("-d", classes.toString(), "-classpath",
+                                             System.getProperty("java.class.path"));
+        boolean compiled = compiler.getTask(null, null, null, options, null,
+                                            Arrays.asList(new Source("errors.bal", BALLERINA_SOURCE),
+                                                          new Source("natives.java", NATIVE_SOURCE))).call();
+        Assert.assertTrue(compiled);
+        ClassLoader classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()},
+                                                     getClass().getClassLoader());
+        java.lang.reflect.Constructor<?> constructor = classLoader.loadClass("Functions").getDeclaredConstructor();
+        constructor.setAccessible(true);
+        functions = (Function<Object, Object>) constructor.newInstance();
+    }
+
+    @AfterMethod
+    public void resetMode() {
+        ErrorValue.setStackTraceMode("full");
+    }
+
+    @Test
+    public void testFullStackTrace() {
+        ErrorValue.setStackTraceMode("full");
+        assertStackTrace("create", "create:15", "apply:7");
+        assertStackTrace("panic", "create:15", "panic:18", "apply:8");
+        assertStackTrace("running", "running:22", "apply:9");
+        assertStackTrace("returned", "create:15", "returned:27", "apply:10");
+        assertStackTrace("native", "apply:11");
+    }
+
+    @Test
+    public void testCallSiteStackTrace() {
+        ErrorValue.setStackTraceMode("call-site");
+        // the callers of a returned error are gone when its stack trace is first requested, only the call site is
+        // known and the frames of the reader are not added
+        assertStackTrace("create", "create:15");
+        assertStackTrace("returned", "create:15");
+        // the callers are taken from the stack when the error is panicked, with the line of the panic
+        assertStackTrace("panic", "create:15", "panic:19", "apply:8");
+        // the same as the full stack trace while the function which created the error is running
+        assertStackTrace("running", "running:22", "apply:9");
+        // errors created by java code capture the whole stack
+        assertStackTrace("native", "apply:11");
+    }
+
+    @Test
+    public void testNoStackTrace() {
+        ErrorValue.setStackTraceMode("none");
+        assertStackTrace("create");
+        assertStackTrace("returned");
+        assertStackTrace("panic");
+        assertStackTrace("running");
+        assertStackTrace("native");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testUnknownMode() {
+        ErrorValue.setStackTraceMode("partial");
+    }
+
+    private void assertStackTrace(String function, String... expectedFrames) {
+        ErrorValue error = (ErrorValue) functions.apply(function);
+        StackTraceElement[] stackTrace = error.getStackTrace();
+        String[] frames = new String[stackTrace.length];
+        for (int i = 0; i < stackTrace.length; i++) {
+            Assert.assertEquals(stackTrace[i].getFileName(), "errors.bal");
+            frames[i] = stackTrace[i].getMethodName() + ":" + stackTrace[i].getLineNumber();
+        }
+        Assert.assertEquals(frames, expectedFrames, "Stack trace of " + function);
+    }
+
+    /**
+     * In memory source file, the file name is kept in the compiled classes.
+     */
+    private static class Source extends SimpleJavaFileObject {
+
+        private final String content;
+
+        Source(String fileName, String[] lines) {
+            super(URI.create("string:///" + fileName), JavaFileObject.Kind.SOURCE);
+            this.content = String.join("\n", lines);
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) throws IOException {
+            return content;
+        }
+    }
+}
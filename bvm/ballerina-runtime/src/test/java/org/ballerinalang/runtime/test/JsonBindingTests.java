@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.ValueCreator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for parsing JSON content straight into records, maps and arrays.
+ *
+ * @since 2.0.0
+ */
+public class JsonBindingTests {
+
+    private static final Module MODULE = new Module("test", "binding", "1.0.0");
+    private static final Map<String, RecordType> RECORD_TYPES = new HashMap<>();
+
+    private static final RecordType ITEM = recordType("Item", true, null,
+            field("name", PredefinedTypes.TYPE_STRING, true),
+            field("price", PredefinedTypes.TYPE_DECIMAL, true),
+            field("quantity", PredefinedTypes.TYPE_INT, false));
+    private static final RecordType ORDER = recordType("Order", false, PredefinedTypes.TYPE_JSON,
+            field("id", PredefinedTypes.TYPE_INT, true),
+            field("total", PredefinedTypes.TYPE_FLOAT, true),
+            field("note", TypeCreator.createUnionType(PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_NULL), false),
+            field("items", TypeCreator.createArrayType(ITEM), true));
+
+    static {
+        ValueCreator.addValueCreator(MODULE.getOrg(), MODULE.getName(), MODULE.getVersion(), new ValueCreator() {
+            @Override
+            public MapValue<BString, Object> createRecordValue(String recordTypeName) {
+                return new MapValueImpl<>(RECORD_TYPES.get(recordTypeName));
+            }
+
+            @Override
+            public BObject createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
+                                             Map<String, Object> properties, Object[] args) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public BError createErrorValue(String errorTypeName, BString message, BError cause, Object details) {
+                throw new UnsupportedOperationException();
+            }
+        });
+    }
+
+    @Test
+    void testBindRecord() {
+        BMap<BString, Object> order = (BMap<BString, Object>) parse("{\"id\": 7, \"total\": 30, \"items\": [" +
+                "{\"name\": \"pen\", \"price\": 1.25, \"quantity\": 4}, {\"name\": \"ink\", \"price\": 25}], " +
+                "\"tag\": {\"a\": [true, null]}}", ORDER);
+        Assert.assertEquals(order.getType(), ORDER);
+        Assert.assertEquals(order.get(StringUtils.fromString("id")), 7L);
+        Assert.assertEquals(order.get(StringUtils.fromString("total")), 30.0);
+        Assert.assertFalse(order.containsKey(StringUtils.fromString("note")));
+        Assert.assertEquals(order.get(StringUtils.fromString("tag")).toString(), "{\"a\":[true,null]}");
+
+        BArray items = (BArray) order.get(StringUtils.fromString("items"));
+        Assert.assertEquals(items.size(), 2);
+        BMap<BString, Object> ink = (BMap<BString, Object>) items.get(1);
+        Assert.assertEquals(ink.getType(), ITEM);
+        Assert.assertEquals(ink.get(StringUtils.fromString("name")), StringUtils.fromString("ink"));
+        Assert.assertEquals(ink.get(StringUtils.fromString("price")), new DecimalValue("25"));
+    }
+
+    @Test
+    void testBindArrayAndMap() {
+        BArray ints = (BArray) parse("[1, 2.5, -3]", TypeCreator.createArrayType(PredefinedTypes.TYPE_INT));
+        Assert.assertEquals(ints.size(), 3);
+        Assert.assertEquals(ints.getInt(1), 2L);
+        Assert.assertEquals(ints.getInt(2), -3L);
+
+        BMap<BString, Object> floats = (BMap<BString, Object>) parse("{\"a\": 1, \"b\": 0.5}",
+                TypeCreator.createMapType(PredefinedTypes.TYPE_FLOAT));
+        Assert.assertEquals(floats.get(StringUtils.fromString("a")), 1.0);
+        Assert.assertEquals(floats.get(StringUtils.fromString("b")), 0.5);
+    }
+
+    @Test
+    void testIncompatibleFieldPath() {
+        assertError("{\"id\": 7, \"total\": 30, \"items\": [{\"name\": \"pen\", \"price\": 1}, " +
+                        "{\"name\": \"ink\", \"price\": \"free\"}]}", ORDER,
+                "incompatible value 'free' for type 'decimal' at '$.items[1].price' at line: 1 column: 96");
+        assertError("{\"id\": 7, \"total\": 30, \"items\": {}}", ORDER,
+                "incompatible value an object for type 'binding:Item[]' at '$.items' at line: 1 column: 35");
+        assertError("{\"id\": null}", ORDER, "incompatible value 'null' for type 'int' at '$.id' at line: 1 " +
+                "column: 13");
+    }
+
+    @Test
+    void testMissingAndUnknownFields() {
+        assertError("{\"id\": 7, \"total\": 30, \"items\": [{\"name\": \"pen\"}]}", ORDER,
+                "missing required field 'price' of 'binding:Item' at '$.items[0]' at line: 1 column: 50");
+        assertError("{\"id\": 7, \"total\": 30, \"items\": [{\"name\": \"pen\", \"price\": 1, \"size\": 2}]}",
+                ORDER, "field 'size' cannot be added to the closed record 'binding:Item' at '$.items[0].size' " +
+                        "at line: 1 column: 70");
+    }
+
+    @Test
+    void testBindableTypes() {
+        Assert.assertTrue(JsonUtils.isBindable(ORDER));
+        Assert.assertTrue(JsonUtils.isBindable(TypeCreator.createArrayType(ORDER)));
+        Assert.assertFalse(JsonUtils.isBindable(TypeCreator.createArrayType(ITEM, 2)));
+        Assert.assertFalse(JsonUtils.isBindable(TypeCreator.createTupleType(List.of(PredefinedTypes.TYPE_INT))));
+        Assert.assertFalse(JsonUtils.isBindable(TypeCreator.createUnionType(ITEM, ORDER)));
+    }
+
+    private static Object parse(String json, Type targetType) {
+        return JsonUtils.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), "UTF-8", targetType);
+    }
+
+    private static void assertError(String json, Type targetType, String message) {
+        try {
+            parse(json, targetType);
+        } catch (BError e) {
+            Assert.assertEquals(e.getMessage(), message);
+            return;
+        }
+        Assert.fail("expected an error for " + json);
+    }
+
+    private static Field field(String name, Type type, boolean required) {
+        return TypeCreator.createField(type, name, required ? SymbolFlags.REQUIRED : SymbolFlags.OPTIONAL);
+    }
+
+    private static RecordType recordType(String name, boolean sealed, Type restFieldType, Field... fields) {
+        Map<String, Field> fieldMap = new LinkedHashMap<>();
+        for (Field field : fields) {
+            fieldMap.put(field.getFieldName(), field);
+        }
+        RecordType recordType = TypeCreator.createRecordType(name, MODULE, 0, fieldMap, restFieldType, sealed, 0);
+        RECORD_TYPES.put(name, recordType);
+        return recordType;
+    }
+}
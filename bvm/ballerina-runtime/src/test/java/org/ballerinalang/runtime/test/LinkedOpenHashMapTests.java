@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.internal.values.LinkedOpenHashMap;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Test cases for {@link LinkedOpenHashMap}.
+ */
+public class LinkedOpenHashMapTests {
+
+    @Test
+    public void testInsertionOrder() {
+        Map<String, Integer> map = new LinkedOpenHashMap<>();
+        map.put("c", 1);
+        map.put("a", 2);
+        map.put("b", 3);
+        map.put("a", 4);
+        Assert.assertEquals(new ArrayList<>(map.keySet()), List.of("c", "a", "b"));
+        Assert.assertEquals(new ArrayList<>(map.values()), List.of(1, 4, 3));
+
+        map.remove("c");
+        map.put("c", 5);
+        Assert.assertEquals(new ArrayList<>(map.keySet()), List.of("a", "b", "c"));
+    }
+
+    @Test
+    public void testNullKeysAndValues() {
+        Map<String, Integer> map = new LinkedOpenHashMap<>();
+        map.put(null, 1);
+        map.put("a", null);
+        Assert.assertTrue(map.containsKey(null));
+        Assert.assertTrue(map.containsKey("a"));
+        Assert.assertTrue(map.containsValue(null));
+        Assert.assertEquals(map.get(null), Integer.valueOf(1));
+        Assert.assertNull(map.get("a"));
+        Assert.assertEquals(map.remove(null), Integer.valueOf(1));
+        Assert.assertFalse(map.containsKey(null));
+    }
+
+    @Test
+    public void testIteratorRemoveAndSetValue() {
+        Map<Integer, Integer> map = new LinkedOpenHashMap<>();
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+        }
+        Iterator<Map.Entry<Integer, Integer>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, Integer> entry = iterator.next();
+            if (entry.getKey() % 2 == 0) {
+                iterator.remove();
+            } else {
+                entry.setValue(entry.getValue() * 10);
+            }
+        }
+        Assert.assertEquals(map.size(), 5);
+        Assert.assertEquals(new ArrayList<>(map.values()), List.of(10, 30, 50, 70, 90));
+    }
+
+    @Test(expectedExceptions = ConcurrentModificationException.class)
+    public void testFailFastIterator() {
+        Map<Integer, Integer> map = new LinkedOpenHashMap<>();
+        map.put(1, 1);
+        map.put(2, 2);
+        for (Integer key : map.keySet()) {
+            map.put(key + 10, key);
+        }
+    }
+
+    @Test
+    public void testSameBehaviourAsLinkedHashMap() {
+        Map<Integer, Integer> expected = new LinkedHashMap<>();
+        Map<Integer, Integer> actual = new LinkedOpenHashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 20000; i++) {
+            // small key range so that keys are removed and added back often
+            Integer key = random.nextInt(300);
+            if (random.nextInt(3) == 0) {
+                Assert.assertEquals(actual.remove(key), expected.remove(key));
+            } else {
+                Assert.assertEquals(actual.put(key, i), expected.put(key, i));
+            }
+            if (i % 1000 == 0) {
+                Assert.assertEquals(new ArrayList<>(actual.entrySet()), new ArrayList<>(expected.entrySet()));
+            }
+        }
+        Assert.assertEquals(actual, expected);
+        Assert.assertEquals(actual.hashCode(), expected.hashCode());
+
+        actual.clear();
+        Assert.assertTrue(actual.isEmpty());
+        Assert.assertFalse(actual.keySet().iterator().hasNext());
+    }
+
+    @Test
+    public void testPutAllAndPutIfAbsentBypassOverriddenPut() {
+        Map<String, Integer> map = new LinkedOpenHashMap<>() {
+            @Override
+            public Integer put(String key, Integer value) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        Map<String, Integer> source = new LinkedHashMap<>();
+        for (int i = 0; i < 10; i++) {
+            source.put("k" + i, i);
+        }
+        map.putAll(source);
+        Assert.assertEquals(map, source);
+        Assert.assertEquals(new ArrayList<>(map.keySet()), new ArrayList<>(source.keySet()));
+
+        map.putAll(Map.of("k3", 30));
+        Assert.assertEquals(map.get("k3"), Integer.valueOf(30));
+        Assert.assertEquals(map.putIfAbsent("k3", 300), Integer.valueOf(30));
+        Assert.assertEquals(map.get("k3"), Integer.valueOf(30));
+        Assert.assertNull(map.putIfAbsent("new", 1));
+        Assert.assertEquals(map.get("new"), Integer.valueOf(1));
+        Assert.assertEquals(map.size(), 11);
+    }
+
+    @Test
+    public void testPutIfAbsentReplacesNullValue() {
+        Map<String, Integer> map = new LinkedOpenHashMap<>();
+        map.put("a", null);
+        Assert.assertNull(map.putIfAbsent("a", 1));
+        Assert.assertEquals(map.get("a"), Integer.valueOf(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        LinkedOpenHashMap<String, Integer> map = new LinkedOpenHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            map.put("k" + i, i);
+        }
+        map.remove("k4");
+        map.put(null, null);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(map);
+        }
+        Map<String, Integer> copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (Map<String, Integer>) in.readObject();
+        }
+        Assert.assertEquals(copy, map);
+        Assert.assertEquals(new ArrayList<>(copy.keySet()), new ArrayList<>(map.keySet()));
+        copy.put("k4", 4);
+        Assert.assertEquals(copy.size(), 21);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.internal.BLock;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.SchedulerMetrics;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.values.FutureValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for the scheduler metrics and the strand dump.
+ */
+public class SchedulerMetricsTests {
+
+    private static final StrandMetadata METADATA = new StrandMetadata("testorg", "testmodule", "1.0.0", "main");
+
+    @Test
+    public void testMetricsOfCompletedStrands() {
+        Scheduler scheduler = new Scheduler(1, false);
+        SchedulerMetrics metrics = scheduler.getMetrics();
+        metrics.enable();
+        scheduler.schedule(new Object[1], params -> null, null, null, "first", METADATA);
+        scheduler.schedule(new Object[1], params -> null, null, null, "second", METADATA);
+
+        Assert.assertEquals(metrics.getLiveStrandCount(), 2);
+        Assert.assertEquals(metrics.getRunnableGroupCount(), 2);
+
+        scheduler.start();
+
+        Assert.assertEquals(metrics.getLiveStrandCount(), 0);
+        Assert.assertEquals(metrics.getRunnableGroupCount(), 0);
+        Assert.assertEquals(metrics.getDequeuedGroupCount(), 2);
+        Assert.assertTrue(metrics.getTotalQueueTimeSeconds() > 0);
+    }
+
+    @Test
+    public void testMetricsNotEnabled() {
+        Scheduler scheduler = new Scheduler(1, false);
+        scheduler.schedule(new Object[1], params -> null, null, null, "first", METADATA);
+
+        SchedulerMetrics metrics = scheduler.getMetrics();
+        Assert.assertFalse(scheduler.isMetricsEnabled());
+        Assert.assertEquals(metrics.getLiveStrandCount(), 0);
+        Assert.assertTrue(scheduler.getStrandDump().contains("strands are not tracked"));
+
+        scheduler.start();
+
+        Assert.assertEquals(metrics.getDequeuedGroupCount(), 0);
+        Assert.assertTrue(metrics.getTotalQueueTimeSeconds() == 0);
+    }
+
+    @Test
+    public void testStrandDumpOfBlockedStrand() {
+        Scheduler scheduler = new Scheduler(1, false);
+        scheduler.getMetrics().enable();
+        FutureValue owner = scheduler.schedule(new Object[1], params -> null, null, null, "owner", METADATA);
+        FutureValue waiter = scheduler.schedule(new Object[1], params -> null, null, null, "waiter", METADATA);
+        Strand ownerStrand = owner.strand;
+        Strand waiterStrand = waiter.strand;
+
+        BLock lock = new BLock();
+        Assert.assertTrue(lock.lock(ownerStrand));
+        Assert.assertFalse(lock.lock(waiterStrand));
+        Assert.assertEquals(scheduler.getMetrics().getBlockedStrandCount(), 1);
+
+        String dump = scheduler.getStrandDump();
+        Assert.assertTrue(dump.contains("2 live strands"), dump);
+        Assert.assertTrue(dump.contains("\"owner\" #" + ownerStrand.getId() + " [RUNNABLE]"), dump);
+        Assert.assertTrue(dump.contains("\"waiter\" #" + waiterStrand.getId() + " [BLOCK_AND_YIELD]"), dump);
+        Assert.assertTrue(dump.contains("created in: testorg/testmodule:1.0.0 main"), dump);
+        Assert.assertTrue(dump.contains("waiting on: lock held by strand #" + ownerStrand.getId()), dump);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases which run strands through the scheduler in the mode set by the BALLERINA_SCHEDULER_MODE system
+ * variable. The build runs them once per scheduler mode.
+ */
+public class SchedulerModeTests {
+
+    private static final StrandMetadata METADATA = new StrandMetadata("testorg", "testmodule", "1.0.0", "main");
+    private static final String SCHEDULER_MODE = System.getenv("BALLERINA_SCHEDULER_MODE");
+    private static final Method IS_VIRTUAL = lookupIsVirtual();
+
+    @Test
+    public void testStrandsScheduledByStrands() throws Exception {
+        int rootCount = 50;
+        int childCount = 20;
+        Scheduler scheduler = new Scheduler(4, false);
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger onVirtualThreads = new AtomicInteger();
+        for (int i = 0; i < rootCount; i++) {
+            scheduler.schedule(new Object[1], params -> {
+                Strand parent = (Strand) ((Object[]) params)[0];
+                for (int j = 0; j < childCount; j++) {
+                    // scheduled from a scheduler thread, this goes to the queue of the current worker
+                    scheduler.schedule(new Object[1], childParams -> {
+                        countStrand(completed, onVirtualThreads);
+                        return null;
+                    }, parent, null, "child-" + j, METADATA);
+                }
+                countStrand(completed, onVirtualThreads);
+                return null;
+            }, null, null, "root-" + i, METADATA);
+        }
+
+        Thread schedulerThread = startScheduler(scheduler);
+        schedulerThread.join(TimeUnit.SECONDS.toMillis(60));
+
+        Assert.assertFalse(schedulerThread.isAlive(), "scheduler did not stop after all strands completed");
+        int strandCount = rootCount * (childCount + 1);
+        Assert.assertEquals(completed.get(), strandCount);
+        Assert.assertEquals(onVirtualThreads.get(), isVirtualThreadMode() ? strandCount : 0);
+    }
+
+    @Test
+    public void testStrandsScheduledFromOutside() throws Exception {
+        int strandCount = 200;
+        Scheduler scheduler = new Scheduler(4, true);
+        Thread schedulerThread = startScheduler(scheduler);
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger onVirtualThreads = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(strandCount);
+        for (int i = 0; i < strandCount; i++) {
+            // scheduled from a thread which is not a scheduler thread, while the workers may be parked
+            scheduler.schedule(new Object[1], params -> {
+                countStrand(completed, onVirtualThreads);
+                latch.countDown();
+                return null;
+            }, null, null, "strand-" + i, METADATA);
+            if (i % 20 == 0) {
+                Thread.sleep(1);
+            }
+        }
+
+        Assert.assertTrue(latch.await(60, TimeUnit.SECONDS), "strands did not complete, a worker was not woken up");
+        scheduler.poison();
+        schedulerThread.join(TimeUnit.SECONDS.toMillis(60));
+
+        Assert.assertFalse(schedulerThread.isAlive(), "scheduler did not stop after it was poisoned");
+        Assert.assertEquals(completed.get(), strandCount);
+        Assert.assertEquals(onVirtualThreads.get(), isVirtualThreadMode() ? strandCount : 0);
+    }
+
+    @Test
+    public void testScheduleAfterStop() throws Exception {
+        Scheduler scheduler = new Scheduler(2, false);
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger onVirtualThreads = new AtomicInteger();
+        scheduler.schedule(new Object[1], params -> {
+            countStrand(completed, onVirtualThreads);
+            return null;
+        }, null, null, "first", METADATA);
+        Thread schedulerThread = startScheduler(scheduler);
+        schedulerThread.join(TimeUnit.SECONDS.toMillis(60));
+        Assert.assertFalse(schedulerThread.isAlive(), "scheduler did not stop after all strands completed");
+
+        // the scheduler threads, or the virtual thread executor, are gone and the strand is not run
+        scheduler.schedule(new Object[1], params -> {
+            countStrand(completed, onVirtualThreads);
+            return null;
+        }, null, null, "late", METADATA);
+        Thread.sleep(100);
+        Assert.assertEquals(completed.get(), 1);
+    }
+
+    private static Thread startScheduler(Scheduler scheduler) {
+        Thread schedulerThread = new Thread(scheduler::start, "scheduler-mode-test");
+        schedulerThread.setDaemon(true);
+        schedulerThread.start();
+        return schedulerThread;
+    }
+
+    private static void countStrand(AtomicInteger completed, AtomicInteger onVirtualThreads) {
+        completed.incrementAndGet();
+        if (isVirtual(Thread.currentThread())) {
+            onVirtualThreads.incrementAndGet();
+        }
+    }
+
+    private static boolean isVirtualThreadMode() {
+        return "virtual-thread".equalsIgnoreCase(SCHEDULER_MODE) && IS_VIRTUAL != null;
+    }
+
+    private static boolean isVirtual(Thread thread) {
+        try {
+            return IS_VIRTUAL != null && (boolean) IS_VIRTUAL.invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    private static Method lookupIsVirtual() {
+        // virtual threads are not available in the Java version the runtime is built for
+        try {
+            return Thread.class.getMethod("isVirtual");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test cases for the properties shared between parent and child strands.
+ */
+@SuppressWarnings("deprecation")
+public class StrandPropertiesTests {
+
+    private static final StrandMetadata METADATA = new StrandMetadata("testorg", "testmodule", "1.0.0", "main");
+
+    @Test
+    public void testChildInheritsParentProperties() {
+        Scheduler scheduler = new Scheduler(1, false);
+        Strand parent = new Strand("parent", METADATA, scheduler, null, Map.of("key", "parent"));
+        Strand child = new Strand("child", METADATA, scheduler, parent, null);
+
+        Assert.assertEquals(child.getProperty("key"), "parent");
+    }
+
+    @Test
+    public void testChildWriteNotVisibleToParent() {
+        Scheduler scheduler = new Scheduler(1, false);
+        Strand parent = new Strand("parent", METADATA, scheduler, null, null);
+        parent.setProperty("key", "parent");
+        Strand child = new Strand("child", METADATA, scheduler, parent, null);
+        Strand sibling = new Strand("sibling", METADATA, scheduler, parent, null);
+
+        child.setProperty("key", "child");
+        child.setProperty("other", "child");
+
+        Assert.assertEquals(child.getProperty("key"), "child");
+        Assert.assertEquals(parent.getProperty("key"), "parent");
+        Assert.assertNull(parent.getProperty("other"));
+        Assert.assertEquals(sibling.getProperty("key"), "parent");
+        Assert.assertNull(sibling.getProperty("other"));
+    }
+
+    @Test
+    public void testParentWriteNotVisibleToChild() {
+        Scheduler scheduler = new Scheduler(1, false);
+        Strand parent = new Strand("parent", METADATA, scheduler, null, null);
+        parent.setProperty("key", "parent");
+        Strand child = new Strand("child", METADATA, scheduler, parent, null);
+        Strand grandChild = new Strand("grandChild", METADATA, scheduler, child, null);
+
+        parent.setProperty("key", "updated");
+        parent.setProperty("other", "parent");
+
+        Assert.assertEquals(parent.getProperty("key"), "updated");
+        Assert.assertEquals(child.getProperty("key"), "parent");
+        Assert.assertNull(child.getProperty("other"));
+        Assert.assertEquals(grandChild.getProperty("key"), "parent");
+
+        // A later child sees the properties of the parent at the time it is created
+        Strand laterChild = new Strand("laterChild", METADATA, scheduler, parent, null);
+        Assert.assertEquals(laterChild.getProperty("key"), "updated");
+        Assert.assertEquals(laterChild.getProperty("other"), "parent");
+    }
+
+    @Test
+    public void testRootStrandCopiesGivenProperties() {
+        Scheduler scheduler = new Scheduler(1, false);
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("key", "given");
+        Strand root = new Strand("root", METADATA, scheduler, null, properties);
+
+        root.setProperty("key", "root");
+        properties.put("other", "given");
+
+        Assert.assertEquals(properties.get("key"), "given");
+        Assert.assertEquals(root.getProperty("key"), "root");
+        Assert.assertNull(root.getProperty("other"));
+    }
+}
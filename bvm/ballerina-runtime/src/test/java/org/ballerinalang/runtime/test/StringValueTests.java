@@ -1,9 +1,15 @@
 package org.ballerinalang.runtime.test;
 
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.BmpStringValue;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
+import io.ballerina.runtime.internal.values.RopeStringValue;
+import io.ballerina.runtime.internal.values.Utf8StringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.nio.charset.StandardCharsets;
+
 
 /**
  * Test cases for {@link io.ballerina.runtime.internal.values.StringValue class} implementations.
@@ -40,4 +46,63 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testConcatNonBmpAfterBmp() {
+        BString concat = new BmpStringValue("abc").concat(SUBJECT);
+        Assert.assertEquals(concat.length(), 19);
+        Assert.assertEquals(concat.getCodePoint(4), 0x1F6F8);
+        Assert.assertEquals(concat.getCodePoint(17), 0x1F47D);
+    }
+
+    @Test
+    void testConcatNonBmpAfterNonBmp() {
+        BString concat = SUBJECT.concat(SUBJECT);
+        Assert.assertEquals(concat.length(), 32);
+        Assert.assertEquals(concat.getCodePoint(17), 0x1F6F8);
+        Assert.assertEquals(concat.getCodePoint(31), 'r');
+    }
+
+    @Test
+    void testConcatInLoop() {
+        BString result = new BmpStringValue("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            result = result.concat(new BmpStringValue("ab"));
+            expected.append("ab");
+        }
+        Assert.assertTrue(result instanceof RopeStringValue);
+        Assert.assertEquals(result.length(), 2000);
+        Assert.assertEquals(result.getValue(), expected.toString());
+        Assert.assertEquals(result, new BmpStringValue(expected.toString()));
+    }
+
+    @Test
+    void testRopeWithNonBmp() {
+        BString prefix = new BmpStringValue("0123456789012345678901234567890123456789012345678901234567890123456789");
+        BString rope = prefix.concat(SUBJECT).concat(prefix);
+        Assert.assertEquals(rope.length(), 156);
+        Assert.assertEquals(rope.getCodePoint(71), 0x1F6F8);
+        Assert.assertEquals(rope.getCodePoint(85), 'r');
+        Assert.assertEquals(rope.getValue(), prefix.getValue() + UNICODE_STR + prefix.getValue());
+    }
+
+    @Test
+    void testUtf8BytesWithNonBmp() {
+        byte[] bytes = UNICODE_STR.getBytes(StandardCharsets.UTF_8);
+        Utf8StringValue str = Utf8StringValue.fromBytes(bytes);
+        Assert.assertNotNull(str);
+        Assert.assertEquals(str.length(), 16);
+        Assert.assertEquals(str.getCodePoint(1), 0x1F6F8);
+        Assert.assertEquals(str.getCodePoint(15), 'r');
+        Assert.assertEquals(str.getUtf8Bytes(), bytes);
+        Assert.assertEquals(str.getValue(), UNICODE_STR);
+        Assert.assertEquals(str, SUBJECT);
+    }
+
+    @Test
+    void testInvalidUtf8Bytes() {
+        Assert.assertNull(Utf8StringValue.fromBytes(new byte[]{'a', (byte) 0xC0, (byte) 0x80}));
+        Assert.assertNull(Utf8StringValue.fromBytes(new byte[]{(byte) 0xED, (byte) 0xA0, (byte) 0x80}));
+        Assert.assertNull(Utf8StringValue.fromBytes(new byte[]{(byte) 0xE2, (byte) 0x82}));
+    }
 }
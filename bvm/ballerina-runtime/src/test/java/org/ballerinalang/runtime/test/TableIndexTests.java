@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BField;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.types.BTableType;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for the secondary indexes of {@link TableValueImpl}.
+ */
+public class TableIndexTests {
+
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString DEPT = StringUtils.fromString("dept");
+    private static final BString AGE = StringUtils.fromString("age");
+    private static final BString MANAGER = StringUtils.fromString("manager");
+
+    private BRecordType employeeType;
+    private TableValueImpl<Long, MapValueImpl<BString, Object>> table;
+
+    @BeforeMethod
+    public void setup() {
+        long readonlyField = SymbolFlags.READONLY | SymbolFlags.REQUIRED;
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("id", new BField(PredefinedTypes.TYPE_INT, "id", readonlyField));
+        fields.put("dept", new BField(PredefinedTypes.TYPE_STRING, "dept", readonlyField));
+        fields.put("age", new BField(PredefinedTypes.TYPE_INT, "age", SymbolFlags.REQUIRED));
+        fields.put("manager", new BField(TypeCreator.createUnionType(PredefinedTypes.TYPE_INT,
+                                                                     PredefinedTypes.TYPE_NULL),
+                                         "manager", SymbolFlags.READONLY | SymbolFlags.OPTIONAL));
+        employeeType = new BRecordType("Employee", new Module("test", "test", "1.0.0"), 0, fields, null, true, 0);
+        table = new TableValueImpl<>(new BTableType(employeeType, new String[]{"id"}, false));
+    }
+
+    @Test
+    public void testHashIndex() {
+        table.add(employee(1, "sales", 30));
+        table.addIndex(DEPT, false);
+        table.add(employee(2, "hr", 40));
+        table.add(employee(3, "sales", 50));
+
+        assertIds(table.getRowsByField(DEPT, StringUtils.fromString("sales")), 1, 3);
+        assertIds(table.getRowsByField(DEPT, StringUtils.fromString("hr")), 2);
+        assertIds(table.getRowsByField(DEPT, StringUtils.fromString("finance")));
+
+        table.remove(1L);
+        assertIds(table.getRowsByField(DEPT, StringUtils.fromString("sales")), 3);
+
+        // replacing a row re-indexes it
+        table.put(employee(3, "hr", 55));
+        assertIds(table.getRowsByField(DEPT, StringUtils.fromString("sales")));
+        assertIds(table.getRowsByField(DEPT, StringUtils.fromString("hr")), 2, 3);
+
+        table.clear();
+        assertIds(table.getRowsByField(DEPT, StringUtils.fromString("hr")));
+    }
+
+    @Test
+    public void testSortedIndex() {
+        for (long id = 10; id > 0; id--) {
+            table.add(employee(id, "sales", 20 + id));
+        }
+        table.addIndex(ID, true);
+
+        assertIds(table.getRowsInRange(ID, 3L, 6L), 3, 4, 5);
+        assertIds(table.getRowsInRange(ID, null, 3L), 1, 2);
+        assertIds(table.getRowsInRange(ID, 9L, null), 9, 10);
+        assertIds(table.getRowsByField(ID, 7L), 7);
+
+        table.remove(4L);
+        table.add(employee(11, "hr", 31));
+        assertIds(table.getRowsInRange(ID, 3L, 6L), 3, 5);
+        assertIds(table.getRowsInRange(ID, 10L, null), 10, 11);
+    }
+
+    @Test
+    public void testLookupWithoutIndex() {
+        table.add(employee(2, "sales", 30));
+        table.add(employee(1, "hr", 40));
+        table.add(employee(3, "sales", 50));
+
+        assertIds(table.getRowsByField(AGE, 40L), 1);
+        assertIds(table.getRowsByField(DEPT, StringUtils.fromString("sales")), 2, 3);
+        assertIds(table.getRowsInRange(ID, 2L, null), 2, 3);
+    }
+
+    @Test
+    public void testRowOrder() {
+        table.add(employee(1, "sales", 30));
+        table.add(employee(2, "hr", 40));
+        table.add(employee(3, "sales", 50));
+        table.add(employee(4, "finance", 60));
+        table.add(employee(5, "hr", 70));
+        // a replaced row keeps its place in the table
+        table.put(employee(2, "sales", 45));
+
+        // ordered by the field, rows with the same value in the order of the table, with and without an index
+        assertIds(table.getRowsInRange(DEPT, null, null), 4, 5, 1, 2, 3);
+        assertIds(table.getRowsInRange(DEPT, StringUtils.fromString("hr"), null), 5, 1, 2, 3);
+        assertIds(table.getRowsByField(DEPT, StringUtils.fromString("sales")), 1, 2, 3);
+        table.addIndex(DEPT, true);
+        assertIds(table.getRowsInRange(DEPT, null, null), 4, 5, 1, 2, 3);
+        assertIds(table.getRowsInRange(DEPT, StringUtils.fromString("hr"), null), 5, 1, 2, 3);
+        assertIds(table.getRowsByField(DEPT, StringUtils.fromString("sales")), 1, 2, 3);
+
+        table.put(employee(1, "hr", 35));
+        table.add(employee(6, "sales", 80));
+        assertIds(table.getRowsInRange(DEPT, null, null), 4, 1, 5, 2, 3, 6);
+        assertIds(table.getRowsByField(DEPT, StringUtils.fromString("hr")), 1, 5);
+    }
+
+    @Test
+    public void testRemoveFromLargeIndexBucket() {
+        table.addIndex(DEPT, false);
+        for (long id = 1; id <= 1000; id++) {
+            table.add(employee(id, "sales", 30));
+        }
+        for (long id = 1; id <= 1000; id += 2) {
+            table.remove(id);
+        }
+
+        List<MapValueImpl<BString, Object>> rows = table.getRowsByField(DEPT, StringUtils.fromString("sales"));
+        Assert.assertEquals(rows.size(), 500);
+        for (int i = 0; i < rows.size(); i++) {
+            Assert.assertEquals(rows.get(i).get(ID), 2L * (i + 1));
+        }
+    }
+
+    @Test
+    public void testNilValues() {
+        table.add(employee(1, "sales", 30));
+        table.add(employee(2, "sales", 40, 1L));
+        table.add(employee(3, "hr", 50, null));
+        table.add(employee(4, "hr", 60, 3L));
+
+        // a missing optional field is nil as well
+        assertIds(table.getRowsByField(MANAGER, null), 1, 3);
+        assertIds(table.getRowsInRange(MANAGER, null, null), 2, 4);
+        table.addIndex(MANAGER, true);
+        assertIds(table.getRowsByField(MANAGER, null), 1, 3);
+        assertIds(table.getRowsByField(MANAGER, 1L), 2);
+        assertIds(table.getRowsInRange(MANAGER, null, null), 2, 4);
+
+        table.put(employee(2, "sales", 45, null));
+        table.remove(1L);
+        assertIds(table.getRowsByField(MANAGER, null), 2, 3);
+        assertIds(table.getRowsInRange(MANAGER, null, null), 4);
+        table.remove(2L);
+        table.remove(3L);
+        assertIds(table.getRowsByField(MANAGER, null));
+
+        table.clear();
+        table.add(employee(5, "hr", 70, null));
+        assertIds(table.getRowsByField(MANAGER, null), 5);
+    }
+
+    @Test
+    public void testIndexOnMutableField() {
+        try {
+            table.addIndex(AGE, false);
+            Assert.fail("an index was created on a mutable field");
+        } catch (BError e) {
+            // the message of the exception is the error reason, the message of the error is in the details
+            Assert.assertTrue(e.toString().contains("only readonly record fields can be indexed"), e.toString());
+        }
+    }
+
+    private MapValueImpl<BString, Object> employee(long id, String dept, long age) {
+        MapValueImpl<BString, Object> employee = new MapValueImpl<>(employeeType);
+        employee.put(ID, id);
+        employee.put(DEPT, StringUtils.fromString(dept));
+        employee.put(AGE, age);
+        return employee;
+    }
+
+    private MapValueImpl<BString, Object> employee(long id, String dept, long age, Long manager) {
+        MapValueImpl<BString, Object> employee = employee(id, dept, age);
+        employee.put(MANAGER, manager);
+        return employee;
+    }
+
+    private static void assertIds(List<MapValueImpl<BString, Object>> rows, long... ids) {
+        Assert.assertEquals(rows.size(), ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            Assert.assertEquals(rows.get(i).get(ID), ids[i]);
+        }
+    }
+}
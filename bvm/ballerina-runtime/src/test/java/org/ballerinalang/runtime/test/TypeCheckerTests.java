@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.TypeChecker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for type tests against unions of basic types and cached type test results.
+ *
+ * @since 2.0.0
+ */
+public class TypeCheckerTests {
+
+    private static final UnionType INT_OR_STRING =
+            TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING);
+
+    @Test
+    public void testBasicTypeInUnion() {
+        Assert.assertTrue(TypeChecker.checkIsType(PredefinedTypes.TYPE_INT, INT_OR_STRING));
+        Assert.assertTrue(TypeChecker.checkIsType(PredefinedTypes.TYPE_BYTE, INT_OR_STRING));
+        Assert.assertTrue(TypeChecker.checkIsType(PredefinedTypes.TYPE_STRING, INT_OR_STRING));
+        Assert.assertFalse(TypeChecker.checkIsType(PredefinedTypes.TYPE_FLOAT, INT_OR_STRING));
+        Assert.assertFalse(TypeChecker.checkIsType(PredefinedTypes.TYPE_NULL, INT_OR_STRING));
+
+        UnionType byteOrNil = TypeCreator.createUnionType(PredefinedTypes.TYPE_BYTE, PredefinedTypes.TYPE_NULL);
+        Assert.assertFalse(TypeChecker.checkIsType(PredefinedTypes.TYPE_INT, byteOrNil));
+        Assert.assertTrue(TypeChecker.checkIsType(PredefinedTypes.TYPE_NULL, byteOrNil));
+    }
+
+    @Test
+    public void testBasicTypeUnionInUnion() {
+        UnionType byteOrString = TypeCreator.createUnionType(PredefinedTypes.TYPE_BYTE, PredefinedTypes.TYPE_STRING);
+        UnionType stringOrFloat = TypeCreator.createUnionType(PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_FLOAT);
+        Assert.assertTrue(TypeChecker.checkIsType(byteOrString, INT_OR_STRING));
+        Assert.assertFalse(TypeChecker.checkIsType(INT_OR_STRING, byteOrString));
+        Assert.assertFalse(TypeChecker.checkIsType(INT_OR_STRING, stringOrFloat));
+        Assert.assertFalse(TypeChecker.checkIsType(stringOrFloat, INT_OR_STRING));
+    }
+
+    @Test
+    public void testBasicTypeValueInUnion() {
+        Assert.assertTrue(TypeChecker.checkIsType(10L, INT_OR_STRING));
+        Assert.assertTrue(TypeChecker.checkIsType(StringUtils.fromString("ten"), INT_OR_STRING));
+        Assert.assertFalse(TypeChecker.checkIsType(10.0, INT_OR_STRING));
+        Assert.assertFalse(TypeChecker.checkIsType((Object) null, INT_OR_STRING));
+    }
+
+    @Test
+    public void testRepeatedStructuredTypeChecks() {
+        Type intMap = TypeCreator.createMapType(PredefinedTypes.TYPE_INT);
+        Type intOrStringMap = TypeCreator.createMapType(INT_OR_STRING);
+        Type intOrStringArray = TypeCreator.createArrayType(INT_OR_STRING);
+        UnionType mixed = TypeCreator.createUnionType(intOrStringMap, PredefinedTypes.TYPE_BOOLEAN);
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(TypeChecker.checkIsType(intMap, intOrStringMap));
+            Assert.assertFalse(TypeChecker.checkIsType(intOrStringMap, intMap));
+            Assert.assertTrue(TypeChecker.checkIsType(intMap, mixed));
+            Assert.assertFalse(TypeChecker.checkIsType(intOrStringArray, mixed));
+            Assert.assertTrue(TypeChecker.checkIsType(PredefinedTypes.TYPE_BOOLEAN, mixed));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.State;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.scheduling.WorkerDataChannel;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link WorkerDataChannel}.
+ */
+public class WorkerDataChannelTests {
+
+    private Strand sender;
+    private Strand receiver;
+
+    @BeforeMethod
+    public void setup() {
+        Scheduler scheduler = new Scheduler(1, false);
+        sender = scheduler.schedule(new Object[1], params -> null, null, null, "sender", null).strand;
+        receiver = scheduler.schedule(new Object[1], params -> null, null, null, "receiver", null).strand;
+    }
+
+    @Test
+    public void testUnboundedChannel() throws Throwable {
+        WorkerDataChannel channel = new WorkerDataChannel("sender->receiver", WorkerDataChannel.UNBOUNDED);
+        for (long i = 0; i < 100; i++) {
+            channel.sendData(i, sender);
+        }
+        Assert.assertEquals(sender.getState(), State.RUNNABLE);
+        for (long i = 0; i < 100; i++) {
+            Assert.assertEquals(channel.tryTakeData(receiver), i);
+        }
+        Assert.assertNull(channel.tryTakeData(receiver));
+        Assert.assertEquals(receiver.getState(), State.BLOCK_AND_YIELD);
+        Assert.assertSame(receiver.getBlockedOn(), channel);
+    }
+
+    @Test
+    public void testSenderBlocksOnFullChannel() throws Throwable {
+        WorkerDataChannel channel = new WorkerDataChannel("sender->receiver", 2);
+        channel.sendData(1L, sender);
+        channel.sendData(2L, sender);
+        Assert.assertEquals(sender.getState(), State.RUNNABLE);
+
+        // the third message is not sent, the sender has to send it again once it is resumed
+        channel.sendData(3L, sender);
+        Assert.assertEquals(sender.getState(), State.BLOCK_AND_YIELD);
+        Assert.assertSame(sender.getBlockedOn(), channel);
+
+        Assert.assertEquals(channel.tryTakeData(receiver), 1L);
+        // the sender is resumed, it has not returned to the scheduler yet, hence it is marked to yield
+        Assert.assertEquals(sender.getState(), State.YIELD);
+
+        sender.setState(State.RUNNABLE);
+        channel.sendData(3L, sender);
+        Assert.assertEquals(sender.getState(), State.RUNNABLE);
+        Assert.assertEquals(channel.tryTakeData(receiver), 2L);
+        Assert.assertEquals(channel.tryTakeData(receiver), 3L);
+    }
+
+    @Test
+    public void testBlockedReceiverIsResumed() throws Throwable {
+        WorkerDataChannel channel = new WorkerDataChannel("sender->receiver", 1);
+        Assert.assertNull(channel.tryTakeData(receiver));
+        Assert.assertEquals(receiver.getState(), State.BLOCK_AND_YIELD);
+
+        channel.sendData(1L, sender);
+        Assert.assertEquals(receiver.getState(), State.YIELD);
+
+        receiver.setState(State.RUNNABLE);
+        Assert.assertEquals(channel.tryTakeData(receiver), 1L);
+    }
+}
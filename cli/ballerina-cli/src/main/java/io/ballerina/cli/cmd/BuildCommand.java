@@ -152,6 +152,14 @@ public class BuildCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--taint-check", description = "perform taint flow analysis")
     private Boolean taintCheck;
 
+    @CommandLine.Option(names = "--parallel-codegen", description = "generate the JAR files of independent modules " +
+            "in parallel")
+    private Boolean parallelCodeGen;
+
+    @CommandLine.Option(names = "--incremental", description = "reuse the compiled modules of the previous build " +
+            "which are unchanged since then")
+    private Boolean incrementalBuild;
+
     @CommandLine.Option(names = "--includes", hidden = true,
             description = "hidden option for code coverage to include all classes")
     private String includes;
@@ -243,7 +251,8 @@ public class BuildCommand implements BLauncherCmd {
         }
 
         TaskExecutor taskExecutor = new TaskExecutor.TaskBuilder()
-                .addTask(new CleanTargetDirTask(), isSingleFileBuild)   // clean the target directory(projects only)
+                // clean the target directory(projects only), unless the cache is reused by an incremental build
+                .addTask(new CleanTargetDirTask(), isSingleFileBuild || project.buildOptions().incrementalBuild())
                 .addTask(new ResolveMavenDependenciesTask(outStream)) // resolve maven dependencies in Ballerina.toml
                 .addTask(new CompileTask(outStream, errStream)) // compile the modules
 //                .addTask(new CopyResourcesTask()) // merged with CreateJarTask
@@ -272,6 +281,8 @@ public class BuildCommand implements BLauncherCmd {
                 .taintCheck(taintCheck)
                 .dumpBir(dumpBIR)
                 .dumpBirFile(dumpBIRFile)
+                .parallelCodeGen(parallelCodeGen)
+                .incrementalBuild(incrementalBuild)
                 .build();
     }
 
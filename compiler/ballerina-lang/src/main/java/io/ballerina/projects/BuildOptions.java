@@ -63,6 +63,14 @@ public class BuildOptions {
         return this.compilationOptions.getCloud();
     }
 
+    public boolean parallelCodeGen() {
+        return this.compilationOptions.parallelCodeGen();
+    }
+
+    public boolean incrementalBuild() {
+        return this.compilationOptions.incrementalBuild();
+    }
+
     CompilationOptions compilationOptions() {
         return compilationOptions;
     }
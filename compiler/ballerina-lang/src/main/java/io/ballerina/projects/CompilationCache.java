@@ -37,6 +37,27 @@ public abstract class CompilationCache {
 
     public abstract void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent);
 
+    /**
+     * Returns the cached BIR of the given module, only if it was compiled from inputs with the given content hash.
+     *
+     * @param moduleName  name of the module
+     * @param contentHash hash of the sources, dependencies and compilation options of the module
+     * @return the cached BIR or an empty array if there is no up-to-date BIR in the cache
+     */
+    public byte[] getBir(ModuleName moduleName, String contentHash) {
+        return new byte[0];
+    }
+
+    /**
+     * Records the content hash of the inputs from which the cached BIR and platform-specific libraries of the given
+     * module are generated. Caches that do not support incremental compilation ignore it.
+     *
+     * @param moduleName  name of the module
+     * @param contentHash hash of the sources, dependencies and compilation options of the module
+     */
+    public void cacheContentHash(ModuleName moduleName, String contentHash) {
+    }
+
     public abstract Optional<Path> getPlatformSpecificLibrary(CompilerBackend compilerBackend, String libraryName);
 
     public abstract void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
@@ -33,10 +33,13 @@ class CompilationOptions {
     private String dumpBirFile;
     private String cloud;
     private Boolean taintCheck;
+    private Boolean parallelCodeGen;
+    private Boolean incrementalBuild;
 
     public CompilationOptions(Boolean skipTests, Boolean offlineBuild, Boolean experimental,
                               Boolean observabilityIncluded, Boolean dumpBir, String dumpBirFile,
-                              String cloud, Boolean taintCheck) {
+                              String cloud, Boolean taintCheck, Boolean parallelCodeGen,
+                              Boolean incrementalBuild) {
         this.skipTests = skipTests;
         this.offlineBuild = offlineBuild;
         this.experimental = experimental;
@@ -45,6 +48,8 @@ class CompilationOptions {
         this.dumpBirFile = dumpBirFile;
         this.cloud = cloud;
         this.taintCheck = taintCheck;
+        this.parallelCodeGen = parallelCodeGen;
+        this.incrementalBuild = incrementalBuild;
     }
 
     boolean skipTests() {
@@ -79,6 +84,14 @@ class CompilationOptions {
         return toBooleanDefaultIfNull(taintCheck);
     }
 
+    boolean parallelCodeGen() {
+        return toBooleanDefaultIfNull(parallelCodeGen);
+    }
+
+    boolean incrementalBuild() {
+        return toBooleanDefaultIfNull(incrementalBuild);
+    }
+
     /**
      * Merge the given compilation options by favoring theirs if there are conflicts.
      *
@@ -100,6 +113,10 @@ class CompilationOptions {
         this.dumpBirFile = theirOptions.dumpBirFile;
         this.taintCheck = Objects.requireNonNullElseGet(theirOptions.taintCheck,
                 () -> toBooleanDefaultIfNull(this.taintCheck));
+        this.parallelCodeGen = Objects.requireNonNullElseGet(theirOptions.parallelCodeGen,
+                () -> toBooleanDefaultIfNull(this.parallelCodeGen));
+        this.incrementalBuild = Objects.requireNonNullElseGet(theirOptions.incrementalBuild,
+                () -> toBooleanDefaultIfNull(this.incrementalBuild));
         return this;
     }
 
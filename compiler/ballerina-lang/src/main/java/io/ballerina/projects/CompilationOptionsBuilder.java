@@ -33,6 +33,8 @@ class CompilationOptionsBuilder {
     private String dumpBirFile;
     private String cloud;
     private Boolean taintCheck;
+    private Boolean parallelCodeGen;
+    private Boolean incrementalBuild;
 
     public CompilationOptionsBuilder() {
     }
@@ -77,8 +79,18 @@ class CompilationOptionsBuilder {
         return this;
     }
 
+    public CompilationOptionsBuilder parallelCodeGen(Boolean value) {
+        parallelCodeGen = value;
+        return this;
+    }
+
+    public CompilationOptionsBuilder incrementalBuild(Boolean value) {
+        incrementalBuild = value;
+        return this;
+    }
+
     public CompilationOptions build() {
         return new CompilationOptions(skipTests, buildOffline, experimental, observabilityIncluded, dumpBir,
-                dumpBirFile, cloud, taintCheck);
+                dumpBirFile, cloud, taintCheck, parallelCodeGen, incrementalBuild);
     }
 }
@@ -19,6 +19,8 @@ package io.ballerina.projects;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
 
 /**
  * {@code Document} represents a Ballerina source file(.bal).
@@ -72,6 +74,8 @@ public class Document {
      */
     public static class Modifier {
         private String content;
+        private SyntaxTree syntaxTree;
+        private Document oldDocument;
         private String name;
         private DocumentId documentId;
         private Module oldModule;
@@ -79,7 +83,7 @@ public class Document {
         private Modifier(Document oldDocument) {
             this.documentId = oldDocument.documentId();
             this.name = oldDocument.name();
-            this.content = oldDocument.textDocument().toString();
+            this.oldDocument = oldDocument;
             this.oldModule = oldDocument.module();
         }
 
@@ -91,18 +95,66 @@ public class Document {
          */
         public Modifier withContent(String content) {
             this.content = content;
+            this.syntaxTree = null;
+            this.oldDocument = null;
             return this;
         }
 
+        /**
+         * Applies the given text edits to the current content.
+         * <p>
+         * Unlike {@link #withContent(String)}, only the edited ranges are sent, and the syntax tree of the current
+         * content is incrementally reparsed. Several changes can be added to the same modifier before the new
+         * document is created.
+         *
+         * @param textDocumentChange text edits, relative to the current content, ordered by their positions
+         * @return Document.Modifier that holds the content to be changed
+         */
+        public Modifier withTextDocumentChange(TextDocumentChange textDocumentChange) {
+            this.syntaxTree = SyntaxTree.from(syntaxTree(), textDocumentChange);
+            this.content = null;
+            this.oldDocument = null;
+            return this;
+        }
+
+        /**
+         * Returns the text document of the content to be changed, with the changes added so far.
+         * <p>
+         * The positions of the next {@link TextDocumentChange} are relative to this text document.
+         *
+         * @return text document of the current content
+         */
+        public TextDocument textDocument() {
+            if (this.syntaxTree != null) {
+                return this.syntaxTree.textDocument();
+            }
+            if (this.oldDocument != null) {
+                return this.oldDocument.textDocument();
+            }
+            return TextDocuments.from(this.content);
+        }
+
+        private SyntaxTree syntaxTree() {
+            if (this.syntaxTree == null) {
+                this.syntaxTree = this.oldDocument != null ? this.oldDocument.syntaxTree() :
+                        SyntaxTree.from(TextDocuments.from(this.content), this.name);
+            }
+            return this.syntaxTree;
+        }
+
         /**
          * Returns a new document with updated content.
          *
          * @return document with updated content
          */
         public Document apply() {
-            DocumentConfig documentConfig = DocumentConfig.from(this.documentId, this.content,
-                    this.name);
-            DocumentContext documentContext = DocumentContext.from(documentConfig);
+            DocumentContext documentContext;
+            if (this.content != null) {
+                DocumentConfig documentConfig = DocumentConfig.from(this.documentId, this.content, this.name);
+                documentContext = DocumentContext.from(documentConfig);
+            } else {
+                documentContext = DocumentContext.from(this.documentId, this.name, syntaxTree());
+            }
             Module newModule = oldModule.modify().updateDocument(documentContext).apply();
             return newModule.document(this.documentId);
         }
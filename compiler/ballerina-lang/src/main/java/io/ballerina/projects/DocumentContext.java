@@ -70,6 +70,15 @@ class DocumentContext {
         return new DocumentContext(documentConfig.documentId(), documentConfig.name(), documentConfig.content());
     }
 
+    static DocumentContext from(DocumentId documentId, String name, SyntaxTree syntaxTree) {
+        // The syntax tree is already parsed, e.g. incrementally from the text edits of the previous one. The
+        // content is only materialized if it is asked for.
+        DocumentContext documentContext = new DocumentContext(documentId, name, null);
+        documentContext.syntaxTree = syntaxTree;
+        documentContext.textDocument = syntaxTree.textDocument();
+        return documentContext;
+    }
+
     DocumentId documentId() {
         return this.documentId;
     }
@@ -78,6 +87,13 @@ class DocumentContext {
         return this.name;
     }
 
+    String content() {
+        if (this.content == null) {
+            this.content = this.textDocument().toString();
+        }
+        return this.content;
+    }
+
     void parse() {
         if (syntaxTree != null) {
             return;
@@ -59,7 +59,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
@@ -93,6 +96,8 @@ public class JBallerinaBackend extends CompilerBackend {
     private final InteropValidator interopValidator;
     private final JarResolver jarResolver;
     private final CompilerOptions compilerOptions;
+    private final boolean parallelCodeGen;
+    private final Map<ModuleId, Runnable> codeGenTasks;
     private DiagnosticResult diagnosticResult;
     private boolean codeGenCompleted;
 
@@ -115,6 +120,8 @@ public class JBallerinaBackend extends CompilerBackend {
         this.interopValidator = InteropValidator.getInstance(compilerContext);
         this.jvmCodeGenerator = CodeGenerator.getInstance(compilerContext);
         this.compilerOptions = CompilerOptions.getInstance(compilerContext);
+        this.parallelCodeGen = packageContext.compilationOptions().parallelCodeGen();
+        this.codeGenTasks = new HashMap<>();
 
         // TODO: Move to a compiler extension once Compiler revamp is complete
         if (packageContext.compilationOptions().observabilityIncluded()) {
@@ -139,6 +146,11 @@ public class JBallerinaBackend extends CompilerBackend {
         List<Diagnostic> diagnostics = new ArrayList<>();
         for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
             moduleContext.generatePlatformSpecificCode(compilerContext, this);
+        }
+        if (parallelCodeGen) {
+            runCodeGenTasks();
+        }
+        for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
             moduleContext.diagnostics().forEach(diagnostic ->
                     diagnostics.add(new PackageDiagnostic(diagnostic, moduleContext.moduleName())));
         }
@@ -152,6 +164,40 @@ public class JBallerinaBackend extends CompilerBackend {
         codeGenCompleted = true;
     }
 
+    /**
+     * Runs the JVM code generation of the modules concurrently, once the compilation of all the modules is complete.
+     * <p>
+     * The code generation of a module reads the BIR of the modules it imports, which is rewritten by the code
+     * generation of those modules. Hence the code generation of a module is started only once the code generation
+     * of all its dependencies is complete.
+     */
+    private void runCodeGenTasks() {
+        Map<ModuleId, CompletableFuture<Void>> runningTasks = new HashMap<>();
+        for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
+            // There is no task for the modules which were skipped due to compilation errors
+            Runnable codeGenTask = codeGenTasks.get(moduleContext.moduleId());
+            if (codeGenTask == null) {
+                continue;
+            }
+            CompletableFuture<?>[] dependencyTasks = moduleContext.dependencies().stream()
+                    .map(dependency -> runningTasks.get(dependency.moduleId()))
+                    .filter(Objects::nonNull)
+                    .toArray(CompletableFuture[]::new);
+            runningTasks.put(moduleContext.moduleId(),
+                    CompletableFuture.allOf(dependencyTasks).thenRunAsync(codeGenTask));
+        }
+        codeGenTasks.clear();
+
+        try {
+            CompletableFuture.allOf(runningTasks.values().toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     public DiagnosticResult diagnosticResult() {
         return diagnosticResult;
     }
@@ -259,7 +305,20 @@ public class JBallerinaBackend extends CompilerBackend {
         if (bLangPackage.getErrorCount() > 0) {
             return;
         }
-        CompiledJarFile compiledJarFile = jvmCodeGenerator.generate(bLangPackage);
+        if (!parallelCodeGen) {
+            generateJarFiles(moduleContext, bLangPackage, compilationCache, jvmCodeGenerator.generate(bLangPackage));
+            return;
+        }
+
+        // Desugaring updates symbols which are read while compiling the modules that import this one, hence it is
+        // done here on the compiling thread. The rest of the code generation is run once all modules are compiled.
+        jvmCodeGenerator.desugar(bLangPackage);
+        codeGenTasks.put(moduleContext.moduleId(), () -> generateJarFiles(moduleContext, bLangPackage,
+                compilationCache, jvmCodeGenerator.generateDesugared(bLangPackage)));
+    }
+
+    private void generateJarFiles(ModuleContext moduleContext, BLangPackage bLangPackage,
+                                  CompilationCache compilationCache, CompiledJarFile compiledJarFile) {
         String jarFileName = getJarFileName(moduleContext) + JAR_FILE_NAME_SUFFIX;
         try {
             ByteArrayOutputStream byteStream = JarWriter.write(compiledJarFile);
@@ -269,21 +328,22 @@ public class JBallerinaBackend extends CompilerBackend {
         }
 
         // skip generation of the test jar if --skip-tests option is set to true
-        if (Boolean.parseBoolean(compilerOptions.get(SKIP_TESTS))) {
-            return;
-        }
-
-        if (!bLangPackage.hasTestablePackage()) {
-            return;
+        if (!Boolean.parseBoolean(compilerOptions.get(SKIP_TESTS)) && bLangPackage.hasTestablePackage()) {
+            String testJarFileName = jarFileName + TEST_JAR_FILE_NAME_SUFFIX;
+            CompiledJarFile compiledTestJarFile =
+                    jvmCodeGenerator.generateTestModule(bLangPackage.testablePkgs.get(0));
+            try {
+                ByteArrayOutputStream byteStream = JarWriter.write(compiledTestJarFile);
+                compilationCache.cachePlatformSpecificLibrary(this, testJarFileName, byteStream);
+            } catch (IOException e) {
+                throw new ProjectException("Failed to cache generated test jar, module: " +
+                        moduleContext.moduleName());
+            }
         }
 
-        String testJarFileName = jarFileName + TEST_JAR_FILE_NAME_SUFFIX;
-        CompiledJarFile compiledTestJarFile = jvmCodeGenerator.generateTestModule(bLangPackage.testablePkgs.get(0));
-        try {
-            ByteArrayOutputStream byteStream = JarWriter.write(compiledTestJarFile);
-            compilationCache.cachePlatformSpecificLibrary(this, testJarFileName, byteStream);
-        } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated test jar, module: " + moduleContext.moduleName());
+        // The cached BIR and jar files of the module are now up-to-date with its content hash
+        if (moduleContext.contentHash() != null) {
+            compilationCache.cacheContentHash(moduleContext.moduleName(), moduleContext.contentHash());
         }
     }
 
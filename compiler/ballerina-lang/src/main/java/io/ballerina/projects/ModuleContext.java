@@ -19,6 +19,7 @@ package io.ballerina.projects;
 
 import io.ballerina.projects.PackageResolution.DependencyResolution;
 import io.ballerina.projects.environment.ModuleLoadRequest;
+import io.ballerina.projects.environment.PackageCache;
 import io.ballerina.projects.environment.PackageResolver;
 import io.ballerina.projects.environment.ProjectEnvironment;
 import io.ballerina.projects.internal.CompilerPhaseRunner;
@@ -35,11 +36,21 @@ import org.wso2.ballerinalang.compiler.tree.BLangTestablePackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.programfile.PackageFileWriter;
+import org.wso2.ballerinalang.util.RepoUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -47,6 +58,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 
 import static org.ballerinalang.compiler.CompilerOptionName.SKIP_TESTS;
 import static org.ballerinalang.model.tree.SourceKind.REGULAR_SOURCE;
@@ -60,6 +72,8 @@ import static org.ballerinalang.model.tree.SourceKind.TEST_SOURCE;
  * @since 2.0.0
  */
 class ModuleContext {
+    private static final String CONTENT_HASH_ALGORITHM = "SHA-256";
+
     private final ModuleId moduleId;
     private final ModuleDescriptor moduleDescriptor;
     private final Collection<DocumentId> srcDocIds;
@@ -79,6 +93,7 @@ class ModuleContext {
     private final Bootstrap bootstrap;
     private ModuleCompilationState moduleCompState;
     private Set<ModuleLoadRequest> allModuleLoadRequests;
+    private String contentHash;
 
     ModuleContext(Project project,
                   ModuleId moduleId,
@@ -319,6 +334,157 @@ class ModuleContext {
         moduleDependencies.add(moduleDependency);
     }
 
+    String contentHash() {
+        return contentHash;
+    }
+
+    /**
+     * Computes the content hash of this module and switches the module to load its BIR from the compilation cache,
+     * if the cache contains the BIR compiled from inputs with the same hash.
+     *
+     * @param moduleContentHashes content hashes of the modules compiled before this module
+     * @param compilationOptions  compilation options of the root package
+     */
+    void loadFromCacheIfUnchanged(Map<ModuleId, String> moduleContentHashes, CompilationOptions compilationOptions) {
+        this.contentHash = computeContentHash(moduleContentHashes, compilationOptions);
+        if (this.contentHash == null) {
+            return;
+        }
+
+        // The test runner and the observability symbol collector need the semantic model of the module
+        if (compilationOptions.observabilityIncluded()
+                || (!compilationOptions.skipTests() && !testSrcDocIds.isEmpty())) {
+            return;
+        }
+
+        ModuleCompilationState compilationState = currentCompilationState();
+        if (compilationState != ModuleCompilationState.LOADED_FROM_SOURCES
+                && compilationState != ModuleCompilationState.PARSED
+                && compilationState != ModuleCompilationState.DEPENDENCIES_RESOLVED_FROM_SOURCES) {
+            return;
+        }
+
+        byte[] cachedBirBytes = compilationCache.getBir(moduleName(), this.contentHash);
+        if (cachedBirBytes.length == 0) {
+            return;
+        }
+        this.birBytes = cachedBirBytes;
+        setCompilationState(ModuleCompilationState.BIR_LOADED);
+    }
+
+    /**
+     * Returns the hash of all the inputs that determine the compiled output of this module, i.e. the compiler
+     * version, the compilation options, the platform libraries of the package, the module sources and the content
+     * hashes of the module dependencies.
+     *
+     * @return the content hash or null if the content hash of a dependency is not known or if a platform library
+     * cannot be read
+     */
+    private String computeContentHash(Map<ModuleId, String> moduleContentHashes,
+                                      CompilationOptions compilationOptions) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new ProjectException("Failed to compute the content hash of module: " + moduleName(), e);
+        }
+
+        updateContentHash(messageDigest, RepoUtils.getBallerinaVersion());
+        updateContentHash(messageDigest, String.valueOf(compilationOptions.skipTests()));
+        updateContentHash(messageDigest, String.valueOf(compilationOptions.experimental()));
+        updateContentHash(messageDigest, String.valueOf(compilationOptions.observabilityIncluded()));
+        updateContentHash(messageDigest, String.valueOf(compilationOptions.getTaintCheck()));
+        updateContentHash(messageDigest, compilationOptions.getCloud());
+        updateContentHash(messageDigest, moduleDescriptor.org().toString());
+        updateContentHash(messageDigest, moduleDescriptor.packageName().toString());
+        updateContentHash(messageDigest, moduleDescriptor.version().toString());
+        updateContentHash(messageDigest, moduleDescriptor.name().toString());
+        if (!updatePlatformContentHash(messageDigest)) {
+            return null;
+        }
+
+        List<DocumentContext> documentContexts = new ArrayList<>(srcDocContextMap.values());
+        if (!compilationOptions.skipTests()) {
+            documentContexts.addAll(testDocContextMap.values());
+        }
+        documentContexts.sort(Comparator.comparing(DocumentContext::name));
+        for (DocumentContext documentContext : documentContexts) {
+            updateContentHash(messageDigest, documentContext.name());
+            updateContentHash(messageDigest, documentContext.content());
+        }
+
+        List<String> dependencyContentHashes = new ArrayList<>();
+        for (ModuleDependency moduleDependency : moduleDependencies) {
+            String dependencyContentHash = moduleContentHashes.get(moduleDependency.moduleId());
+            if (dependencyContentHash == null) {
+                return null;
+            }
+            dependencyContentHashes.add(dependencyContentHash);
+        }
+        Collections.sort(dependencyContentHashes);
+        dependencyContentHashes.forEach(hash -> updateContentHash(messageDigest, hash));
+
+        StringBuilder contentHash = new StringBuilder();
+        for (byte b : messageDigest.digest()) {
+            contentHash.append(String.format("%02x", b));
+        }
+        return contentHash.toString();
+    }
+
+    /**
+     * Adds the platform sections of the Ballerina.toml file of the package to the content hash. The interop functions
+     * of the module are validated against the platform libraries, hence the contents of the libraries given by a path
+     * are hashed as well. The libraries resolved from a maven repository are identified by their version.
+     *
+     * @return false if a platform library cannot be read
+     */
+    private boolean updatePlatformContentHash(MessageDigest messageDigest) {
+        PackageCache packageCache = project.projectEnvironmentContext().getService(PackageCache.class);
+        Package pkg = packageCache.getPackageOrThrow(moduleId.packageId());
+        Map<String, PackageManifest.Platform> platforms = new TreeMap<>(pkg.manifest().platforms());
+        for (Map.Entry<String, PackageManifest.Platform> platform : platforms.entrySet()) {
+            updateContentHash(messageDigest, platform.getKey());
+            for (Map<String, Object> repository : platform.getValue().repositories()) {
+                updateContentHash(messageDigest, repository);
+            }
+            for (Map<String, Object> dependency : platform.getValue().dependencies()) {
+                updateContentHash(messageDigest, dependency);
+                Object dependencyFilePath = dependency.get(JarLibrary.KEY_PATH);
+                if (!(dependencyFilePath instanceof String) || ((String) dependencyFilePath).isEmpty()) {
+                    continue;
+                }
+                Path jarPath = Paths.get((String) dependencyFilePath);
+                if (!jarPath.isAbsolute()) {
+                    jarPath = pkg.project().sourceRoot().resolve(jarPath);
+                }
+                try (InputStream jarContent = Files.newInputStream(jarPath)) {
+                    byte[] buffer = new byte[8192];
+                    int length;
+                    while ((length = jarContent.read(buffer)) > 0) {
+                        messageDigest.update(buffer, 0, length);
+                    }
+                } catch (IOException e) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static void updateContentHash(MessageDigest messageDigest, Map<String, Object> entries) {
+        updateContentHash(messageDigest, String.valueOf(entries.size()));
+        for (Map.Entry<String, Object> entry : new TreeMap<>(entries).entrySet()) {
+            updateContentHash(messageDigest, entry.getKey());
+            updateContentHash(messageDigest, String.valueOf(entry.getValue()));
+        }
+    }
+
+    private static void updateContentHash(MessageDigest messageDigest, String value) {
+        messageDigest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        // Separate the values, so that the boundaries of the values are part of the hash
+        messageDigest.update((byte) 0);
+    }
+
     void compile(CompilerContext compilerContext) {
         currentCompilationState().compile(this, compilerContext);
     }
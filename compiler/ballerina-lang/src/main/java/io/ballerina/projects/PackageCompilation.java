@@ -144,7 +144,14 @@ public class PackageCompilation {
             }
             
             List<Diagnostic> diagnostics = new ArrayList<>();
+            CompilationOptions compilationOptions = rootPackageContext.compilationOptions();
+            Map<ModuleId, String> moduleContentHashes = new HashMap<>();
             for (ModuleContext moduleContext : packageResolution.topologicallySortedModuleList()) {
+                if (compilationOptions.incrementalBuild()) {
+                    // Reuse the BIR of the previous build, if the module and its dependencies are unchanged
+                    moduleContext.loadFromCacheIfUnchanged(moduleContentHashes, compilationOptions);
+                    moduleContentHashes.put(moduleContext.moduleId(), moduleContext.contentHash());
+                }
                 moduleContext.compile(compilerContext);
                 moduleContext.diagnostics()
                         .forEach(diagnostic -> diagnostics
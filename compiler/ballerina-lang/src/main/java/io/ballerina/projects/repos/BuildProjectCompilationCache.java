@@ -19,16 +19,27 @@ package io.ballerina.projects.repos;
 
 import io.ballerina.projects.ModuleName;
 import io.ballerina.projects.Project;
+import io.ballerina.projects.util.ProjectConstants;
+import org.apache.commons.io.FileUtils;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 /**
  * Default {@code CompilationCache} linked with the {@code BuildProject}.
+ * <p>
+ * Along with the BIR of each module, it records the content hash of the inputs from which the BIR and the
+ * platform-specific libraries of the module are generated. An incremental build reuses them only when the hash
+ * of the current inputs matches the recorded one.
  *
  * @since 2.0.0
  */
 public class BuildProjectCompilationCache extends FileSystemCache {
     private static final String TARGET_DIR_NAME = "target";
+    private static final String CONTENT_HASH_FILE_EXT = ".hash";
     private static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
 
     private BuildProjectCompilationCache(Project project, Path cacheDirPath) {
@@ -42,8 +53,55 @@ public class BuildProjectCompilationCache extends FileSystemCache {
 
     @Override
     public byte[] getBir(ModuleName moduleName) {
-        // Do not return the cached BIR in the target directory
-        // We can improve this implementation to cache the BIR later to enable incremental compilation.
+        // Do not return the cached BIR in the target directory, unless the caller can prove that it is up-to-date.
+        // See getBir(ModuleName, String)
         return EMPTY_BYTE_ARRAY;
     }
+
+    @Override
+    public byte[] getBir(ModuleName moduleName, String contentHash) {
+        Path contentHashFilePath = getContentHashFilePath(moduleName);
+        if (!Files.exists(contentHashFilePath)) {
+            return EMPTY_BYTE_ARRAY;
+        }
+
+        try {
+            String cachedContentHash = Files.readString(contentHashFilePath, StandardCharsets.UTF_8);
+            if (!cachedContentHash.equals(contentHash)) {
+                return EMPTY_BYTE_ARRAY;
+            }
+        } catch (IOException e) {
+            // Compile the module from sources if the cache cannot be read
+            return EMPTY_BYTE_ARRAY;
+        }
+        return super.getBir(moduleName);
+    }
+
+    @Override
+    public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
+        Path birFilePath = getBirPath().resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
+        try {
+            // The content hash of the previous compilation is no longer valid for the new BIR
+            Files.deleteIfExists(getContentHashFilePath(moduleName));
+            FileUtils.writeByteArrayToFile(birFilePath.toFile(), birContent.toByteArray());
+        } catch (IOException e) {
+            // TODO proper error handling
+            throw new RuntimeException("Failed to cache the bir of module: " + moduleName, e);
+        }
+    }
+
+    @Override
+    public void cacheContentHash(ModuleName moduleName, String contentHash) {
+        try {
+            FileUtils.writeStringToFile(getContentHashFilePath(moduleName).toFile(), contentHash,
+                    StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            // TODO proper error handling
+            throw new RuntimeException("Failed to cache the content hash of module: " + moduleName, e);
+        }
+    }
+
+    private Path getContentHashFilePath(ModuleName moduleName) {
+        return getBirPath().resolve(moduleName.toString() + CONTENT_HASH_FILE_EXT);
+    }
 }
@@ -70,7 +70,12 @@ public enum CompilerOptionName {
      */
     PROJECT_API_INITIATED_COMPILATION("projectAPTInitiatedCompilation"),
 
-    TOOLING_COMPILATION("toolingCompilation");
+    TOOLING_COMPILATION("toolingCompilation"),
+
+    /**
+     * Turns off memoizing type assignability results during type checking. Used to measure the effect of the cache.
+     */
+    ASSIGNABILITY_CACHE_DISABLED("assignabilityCacheDisabled");
 
     public final String name;
 
@@ -71,19 +71,48 @@ public class CodeGenerator {
         return generate(bLangTestablePackage.symbol);
     }
 
+    /**
+     * Runs the first steps of the code generation, which add the observability instrumentation and encode the
+     * identifiers of the given package. These steps update symbols that are read while compiling the modules which
+     * import the package, hence they are not to be run concurrently with the compilation of any other module.
+     *
+     * @param bLangPackage package to desugar
+     */
+    public void desugar(BLangPackage bLangPackage) {
+        desugar(bLangPackage.symbol);
+    }
+
+    /**
+     * Generates the JVM classes of a package that is already desugared with {@link #desugar(BLangPackage)}. Packages
+     * can be generated concurrently, provided that the packages they import are generated already.
+     *
+     * @param bLangPackage package to generate
+     * @return generated jar entries
+     */
+    public CompiledJarFile generateDesugared(BLangPackage bLangPackage) {
+        return generateDesugared(bLangPackage.symbol);
+    }
+
     private CompiledJarFile generate(BPackageSymbol packageSymbol) {
+        desugar(packageSymbol);
+        return generateDesugared(packageSymbol);
+    }
+
+    private void desugar(BPackageSymbol packageSymbol) {
 
         // Desugar BIR to include the observations
         JvmObservabilityGen jvmObservabilityGen = new JvmObservabilityGen(packageCache, symbolTable);
         jvmObservabilityGen.instrumentPackage(packageSymbol.bir);
 
-        dlog.setCurrentPackageId(packageSymbol.pkgID);
-        final JvmPackageGen jvmPackageGen = new JvmPackageGen(symbolTable, packageCache, dlog);
-
-        populateExternalMap(jvmPackageGen);
-
         //Rewrite identifier names with encoding special characters
         JvmDesugarPhase.encodeModuleIdentifiers(packageSymbol.bir, Names.getInstance(this.compilerContext));
+    }
+
+    private CompiledJarFile generateDesugared(BPackageSymbol packageSymbol) {
+
+        final JvmPackageGen jvmPackageGen = new JvmPackageGen(symbolTable, packageCache, dlog, packageSymbol.pkgID);
+
+        populateExternalMap(jvmPackageGen);
 
         // TODO Get-rid of the following assignment
         packageSymbol.compiledJarFile = jvmPackageGen.generate(packageSymbol.bir, true);
@@ -98,7 +98,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.XML_VALUE
  * The common functions used in CodeGen.
  */
 public class JvmCodeGenUtil {
-    public static final ResolvedTypeBuilder TYPE_BUILDER = new ResolvedTypeBuilder();
     public static final String INITIAL_METHOD_DESC = String.format("(L%s;", STRAND_CLASS);
     private static final Pattern JVM_RESERVED_CHAR_SET = Pattern.compile("[\\.:/<>]");
     public static final String SCOPE_PREFIX = "_SCOPE_";
@@ -378,7 +377,7 @@ public class JvmCodeGenUtil {
     }
 
     public static String generateReturnType(BType bType) {
-        bType = JvmCodeGenUtil.TYPE_BUILDER.build(bType);
+        bType = new ResolvedTypeBuilder().build(bType);
         if (bType == null || bType.tag == TypeTags.NIL || bType.tag == TypeTags.NEVER) {
             return String.format(")L%s;", OBJECT);
         } else if (TypeTags.isIntegerTypeTag(bType.tag)) {
@@ -487,6 +486,7 @@ public class JvmCodeGenUtil {
                                                     Set<BirScope> visitedScopesSet, BirScope lastScope) {
 
         int insCount = bb.instructions.size();
+        BIRAbstractInstruction previousInst = null;
         for (int i = 0; i < insCount; i++) {
             Label insLabel = labelGen.getLabel(funcName + bb.id.value + "ins" + i);
             mv.visitLabel(insLabel);
@@ -494,8 +494,9 @@ public class JvmCodeGenUtil {
             if (inst != null) {
                 lastScope = getLastScopeFromDiagnosticGen(inst, funcName, mv, labelGen,
                                                           visitedScopesSet, lastScope);
-                instGen.generateInstructions(localVarOffset, inst);
+                instGen.generateInstructions(localVarOffset, inst, previousInst);
             }
+            previousInst = inst;
         }
 
         return lastScope;
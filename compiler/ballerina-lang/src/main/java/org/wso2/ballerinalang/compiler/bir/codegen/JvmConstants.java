@@ -221,6 +221,7 @@ public class JvmConstants {
     public static final String SET_DETAIL_TYPE_METHOD = "setDetailType";
     public static final String SET_TYPEID_SET_METHOD = "setTypeIdSet";
     public static final String TRAP_ERROR_METHOD = "trapError";
+    public static final String FILL_IN_PANIC_STACK_TRACE_METHOD = "fillInPanicStackTrace";
     public static final String BLOCKED_ON_EXTERN_FIELD = "blockedOnExtern";
     public static final String IS_BLOCKED_ON_EXTERN_FIELD = "isBlockedOnExtern";
 
@@ -280,7 +281,10 @@ public class JvmConstants {
     public static final String GLOBAL_LOCK_NAME = "lock";
     public static final String SERVICE_EP_AVAILABLE = "$serviceEPAvailable";
     public static final String LOCK_STORE_VAR_NAME = "$LOCK_STORE";
+    public static final String LOCK_VAR_NAME_PREFIX = "$lock";
     public static final String RECORD_INIT_WRAPPER_NAME = "$init";
+    public static final String RECORD_FIELD_NAMES = "$fieldNames";
+    public static final String RECORD_GET_FIELD_INDEX_METHOD = "$getFieldIndex";
     public static final String LISTENER_REGISTRY_VARIABLE = "$listenerRegistry";
     public static final String CONFIGURE_INIT = "$configureInit";
     public static final String CONFIGURATION_CLASS_NAME = "$ConfigurationMapper";
@@ -39,7 +39,9 @@ import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SchedulerPolicy;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.util.Flags;
@@ -65,6 +67,7 @@ import static org.objectweb.asm.Opcodes.DSUB;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.FLOAD;
 import static org.objectweb.asm.Opcodes.FSTORE;
+import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.I2B;
@@ -88,6 +91,7 @@ import static org.objectweb.asm.Opcodes.IF_ICMPLT;
 import static org.objectweb.asm.Opcodes.IF_ICMPNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INEG;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -121,6 +125,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATIO
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_VALUE_IMPL;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BAL_OPTIONAL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BERROR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BYTE_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_INITIAL_VALUE_ENTRY;
@@ -1218,7 +1223,13 @@ public class JvmInstructionGen {
         }
     }
 
-    void generateMapLoadIns(BIRNonTerminator.FieldAccess mapLoadIns) {
+    void generateMapLoadIns(BIRNonTerminator.FieldAccess mapLoadIns, BIRInstruction previousIns) {
+        BField recordField = getAccessedRecordField(mapLoadIns, previousIns);
+        if (recordField != null) {
+            generateRecordFieldLoadIns(mapLoadIns, recordField);
+            return;
+        }
+
         // visit map_ref
         this.loadVar(mapLoadIns.rhsOp.variableDcl);
         BType varRefType = mapLoadIns.rhsOp.variableDcl.type;
@@ -1255,6 +1266,79 @@ public class JvmInstructionGen {
         this.storeToVar(mapLoadIns.lhsOp.variableDcl);
     }
 
+    /**
+     * Returns the field read by a field access on a record type of this module, if the field is a required field and
+     * its name is the constant loaded by the previous instruction of the basic block. The value of such a field is
+     * kept in a JVM field of the record value class.
+     */
+    private BField getAccessedRecordField(BIRNonTerminator.FieldAccess mapLoadIns, BIRInstruction previousIns) {
+        BType varRefType = mapLoadIns.rhsOp.variableDcl.type;
+        if (varRefType.tag != TypeTags.RECORD || varRefType.tsymbol == null || mapLoadIns.fillingRead ||
+                mapLoadIns.optionalFieldAccess || !varRefType.tsymbol.pkgID.equals(currentPackage) ||
+                !(previousIns instanceof BIRNonTerminator.ConstantLoad)) {
+            return null;
+        }
+
+        BIRNonTerminator.ConstantLoad keyLoadIns = (BIRNonTerminator.ConstantLoad) previousIns;
+        if (!TypeTags.isStringTypeTag(keyLoadIns.type.tag) ||
+                !keyLoadIns.lhsOp.variableDcl.equals(mapLoadIns.keyOp.variableDcl)) {
+            return null;
+        }
+
+        String fieldName = String.valueOf(keyLoadIns.value);
+        for (BField field : ((BRecordType) varRefType).fields.values()) {
+            if (IdentifierUtils.decodeIdentifier(field.name.value).equals(fieldName)) {
+                return (field.symbol.flags & BAL_OPTIONAL) == BAL_OPTIONAL ? null : field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads a required record field directly from the JVM field of the record value class. Record types are
+     * structural, so a value of the static type can be an instance of the value class of any other record type. Such
+     * values are read through {@code MapValue.get} as before.
+     */
+    private void generateRecordFieldLoadIns(BIRNonTerminator.FieldAccess mapLoadIns, BField recordField) {
+        BType varRefType = mapLoadIns.rhsOp.variableDcl.type;
+        BType targetType = mapLoadIns.lhsOp.variableDcl.type;
+        String className = getTypeValueClassName(currentPackageName, toNameString(varRefType));
+        // the unboxed field value can be stored as it is, if it has the same JVM type as the target
+        boolean isSameValueType = isUnboxedValueType(recordField.type) && isUnboxedValueType(targetType) &&
+                getTypeDesc(recordField.type).equals(getTypeDesc(targetType));
+        Label mapLoadLabel = new Label();
+        Label unboxLabel = new Label();
+        Label storeLabel = new Label();
+
+        this.loadVar(mapLoadIns.rhsOp.variableDcl);
+        jvmCastGen.addUnboxInsn(this.mv, varRefType);
+        this.mv.visitInsn(DUP);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, mapLoadLabel);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        this.mv.visitFieldInsn(GETFIELD, className, recordField.name.value, getTypeDesc(recordField.type));
+        if (isSameValueType) {
+            this.mv.visitJumpInsn(GOTO, storeLabel);
+        } else {
+            jvmCastGen.addBoxInsn(this.mv, recordField.type);
+            this.mv.visitJumpInsn(GOTO, unboxLabel);
+        }
+
+        this.mv.visitLabel(mapLoadLabel);
+        this.loadVar(mapLoadIns.keyOp.variableDcl);
+        this.mv.visitMethodInsn(INVOKEINTERFACE, MAP_VALUE, "get", String.format("(L%s;)L%s;", OBJECT, OBJECT),
+                                true);
+        this.mv.visitLabel(unboxLabel);
+        jvmCastGen.addUnboxInsn(this.mv, targetType);
+        this.mv.visitLabel(storeLabel);
+        this.storeToVar(mapLoadIns.lhsOp.variableDcl);
+    }
+
+    private static boolean isUnboxedValueType(BType type) {
+        return TypeTags.isIntegerTypeTag(type.tag) || type.tag == TypeTags.BYTE || type.tag == TypeTags.FLOAT ||
+                type.tag == TypeTags.BOOLEAN;
+    }
+
     void generateObjectLoadIns(BIRNonTerminator.FieldAccess objectLoadIns) {
         // visit object_ref
         this.loadVar(objectLoadIns.rhsOp.variableDcl);
@@ -1881,7 +1965,7 @@ public class JvmInstructionGen {
         }
     }
 
-    void generateInstructions(int localVarOffset, BIRInstruction inst) {
+    void generateInstructions(int localVarOffset, BIRInstruction inst, BIRInstruction previousIns) {
         if (inst instanceof BIRNonTerminator.BinaryOp) {
             generateBinaryOpIns((BIRNonTerminator.BinaryOp) inst);
         } else {
@@ -1917,7 +2001,7 @@ public class JvmInstructionGen {
                     generateArrayStoreIns((FieldAccess) inst);
                     break;
                 case MAP_LOAD:
-                    generateMapLoadIns((FieldAccess) inst);
+                    generateMapLoadIns((FieldAccess) inst, previousIns);
                     break;
                 case ARRAY_LOAD:
                     generateArrayValueLoad((FieldAccess) inst);
@@ -42,12 +42,14 @@ import org.wso2.ballerinalang.compiler.bir.codegen.methodgen.MethodGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.methodgen.ModuleStopMethodGen;
 import org.wso2.ballerinalang.compiler.bir.model.BIRInstruction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRGlobalVariableDcl;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewInstance;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarScope;
 import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLog;
@@ -58,6 +60,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BNilType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.ResolvedTypeBuilder;
@@ -73,6 +76,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
@@ -82,9 +86,11 @@ import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
 import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.objectweb.asm.Opcodes.RETURN;
@@ -95,9 +101,12 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.toNameS
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BALLERINA;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CURRENT_MODULE_VAR_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ENCODED_DOT_CHARACTER;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GLOBAL_LOCK_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_STORE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_STORE_VAR_NAME;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_VAR_NAME_PREFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_STARTED;
@@ -120,7 +129,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.interop.ExternalMethod
  */
 public class JvmPackageGen {
 
-    private static ResolvedTypeBuilder typeBuilder;
 
     public final SymbolTable symbolTable;
     public final PackageCache packageCache;
@@ -133,8 +141,10 @@ public class JvmPackageGen {
     private final Map<String, String> globalVarClassMap;
     private final Map<String, PackageID> dependentModules;
     private final BLangDiagnosticLog dlog;
+    private final PackageID entryModuleId;
 
-    JvmPackageGen(SymbolTable symbolTable, PackageCache packageCache, BLangDiagnosticLog dlog) {
+    JvmPackageGen(SymbolTable symbolTable, PackageCache packageCache, BLangDiagnosticLog dlog,
+                  PackageID entryModuleId) {
         birFunctionMap = new HashMap<>();
         globalVarClassMap = new HashMap<>();
         externClassMap = new HashMap<>();
@@ -142,11 +152,11 @@ public class JvmPackageGen {
         this.symbolTable = symbolTable;
         this.packageCache = packageCache;
         this.dlog = dlog;
+        this.entryModuleId = entryModuleId;
         methodGen = new MethodGen(this);
         initMethodGen = new InitMethodGen(symbolTable);
         configMethodGen = new ConfigMethodGen();
         frameClassGen = new FrameClassGen();
-        typeBuilder = new ResolvedTypeBuilder();
 
         JvmInstructionGen.anyType = symbolTable.anyType;
     }
@@ -228,23 +238,57 @@ public class JvmPackageGen {
 
     }
 
-    private static void generateLockForVariable(ClassWriter cw) {
+    private static void generateLockForVariable(ClassWriter cw, Set<Integer> lockIds) {
 
         String lockStoreClass = "L" + LOCK_STORE + ";";
         FieldVisitor fv;
         fv = cw.visitField(ACC_PUBLIC + ACC_FINAL + ACC_STATIC, LOCK_STORE_VAR_NAME, lockStoreClass, null, null);
         fv.visitEnd();
+
+        // a field per lock, so that lock statements do not look the lock up from the lock store by name
+        String lockClass = "L" + LOCK_VALUE + ";";
+        for (Integer lockId : lockIds) {
+            fv = cw.visitField(ACC_PUBLIC + ACC_FINAL + ACC_STATIC, LOCK_VAR_NAME_PREFIX + lockId, lockClass, null,
+                               null);
+            fv.visitEnd();
+        }
+    }
+
+    private static Set<Integer> getLockIds(BIRPackage module) {
+        Set<Integer> lockIds = new TreeSet<>();
+        for (BIRFunction func : module.functions) {
+            addLockIds(func, lockIds);
+        }
+        for (BIRTypeDefinition typeDef : module.typeDefs) {
+            if (typeDef.attachedFuncs == null) {
+                continue;
+            }
+            for (BIRFunction func : typeDef.attachedFuncs) {
+                addLockIds(func, lockIds);
+            }
+        }
+        return lockIds;
+    }
+
+    private static void addLockIds(BIRFunction func, Set<Integer> lockIds) {
+        for (BIRBasicBlock basicBlock : func.basicBlocks) {
+            if (basicBlock.terminator instanceof BIRTerminator.Lock) {
+                lockIds.add(((BIRTerminator.Lock) basicBlock.terminator).lockId);
+            }
+        }
     }
 
     private static void generateStaticInitializer(ClassWriter cw, String className,
                                                   PackageID packageID, boolean isInitClass,
-                                                  boolean serviceEPAvailable, AsyncDataCollector asyncDataCollector) {
+                                                  boolean serviceEPAvailable, AsyncDataCollector asyncDataCollector,
+                                                  Set<Integer> lockIds) {
         if (!isInitClass && asyncDataCollector.getStrandMetadata().isEmpty()) {
             return;
         }
         MethodVisitor mv = cw.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
         if (isInitClass) {
             setLockStoreField(mv, className);
+            setLockFields(mv, className, lockIds);
             setServiceEPAvailableField(cw, mv, serviceEPAvailable, className);
             setModuleStatusField(cw, mv, className);
             setCurrentModuleField(cw, mv, packageID, className);
@@ -263,6 +307,19 @@ public class JvmPackageGen {
         mv.visitFieldInsn(PUTSTATIC, className, LOCK_STORE_VAR_NAME, lockStoreClass);
     }
 
+    private static void setLockFields(MethodVisitor mv, String className, Set<Integer> lockIds) {
+        String lockStoreClass = "L" + LOCK_STORE + ";";
+        String lockClass = "L" + LOCK_VALUE + ";";
+        for (Integer lockId : lockIds) {
+            // locks are still registered in the lock store, which is used to detect async calls inside locks
+            mv.visitFieldInsn(GETSTATIC, className, LOCK_STORE_VAR_NAME, lockStoreClass);
+            mv.visitLdcInsn(GLOBAL_LOCK_NAME + lockId);
+            mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "getLockFromMap",
+                               String.format("(L%s;)L%s;", STRING_VALUE, LOCK_VALUE), false);
+            mv.visitFieldInsn(PUTSTATIC, className, LOCK_VAR_NAME_PREFIX + lockId, lockClass);
+        }
+    }
+
     private static void setServiceEPAvailableField(ClassWriter cw, MethodVisitor mv, boolean serviceEPAvailable,
                                                    String initClass) {
         FieldVisitor fv = cw.visitField(ACC_PUBLIC + ACC_STATIC, SERVICE_EP_AVAILABLE, "Z", null, null);
@@ -330,7 +387,7 @@ public class JvmPackageGen {
 
         BType retType = functionTypeDesc.retType;
         if (isExternFunc(currentFunc) && Symbols.isFlagOn(retType.flags, Flags.PARAMETERIZED)) {
-            retType = typeBuilder.build(retType);
+            retType = new ResolvedTypeBuilder().build(retType);
         }
 
         String jvmMethodDescription;
@@ -393,7 +450,7 @@ public class JvmPackageGen {
             BPackageSymbol pkgSymbol = packageCache.getSymbol(
                     getBvmAlias(importModule.packageID.orgName.value, importModule.packageID.name.value));
             generateDependencyList(pkgSymbol);
-            if (dlog.errorCount() > 0) {
+            if (hasEntryModuleErrors()) {
                 return new CompiledJarFile(Collections.emptyMap());
             }
             serviceEPAvailable |= listenerDeclarationFound(pkgSymbol);
@@ -401,7 +458,7 @@ public class JvmPackageGen {
         String moduleInitClass = JvmCodeGenUtil.getModuleLevelClassName(module.packageID, MODULE_INIT_CLASS_NAME);
         Map<String, JavaClass> jvmClassMapping = generateClassNameLinking(module, moduleInitClass, isEntry);
 
-        if (!isEntry || dlog.errorCount() > 0) {
+        if (!isEntry || hasEntryModuleErrors()) {
             return new CompiledJarFile(Collections.emptyMap());
         }
 
@@ -445,10 +502,20 @@ public class JvmPackageGen {
         return new CompiledJarFile(getModuleLevelClassName(module.packageID, MODULE_INIT_CLASS_NAME, "."), jarEntries);
     }
 
+    /**
+     * Checks the errors of the module being generated only, since the diagnostic log counts the errors of all the
+     * modules, which may be compiled or generated concurrently.
+     */
+    private boolean hasEntryModuleErrors() {
+        BLangPackage entryModule = packageCache.get(entryModuleId);
+        return entryModule != null && entryModule.getErrorCount() > 0;
+    }
+
     private void generateModuleClasses(BIRPackage module, Map<String, byte[]> jarEntries,
                                        String moduleInitClass, JvmBStringConstantsGen stringConstantsGen,
                                        Map<String, JavaClass> jvmClassMapping, List<PackageID> moduleImports,
                                        boolean serviceEPAvailable) {
+        Set<Integer> lockIds = getLockIds(module);
         jvmClassMapping.entrySet().parallelStream().forEach(entry -> {
             String moduleClass = entry.getKey();
             JavaClass javaClass = entry.getValue();
@@ -486,7 +553,7 @@ public class JvmPackageGen {
                 }
                 initMethodGen.generateLambdaForPackageInits(cw, module, moduleClass, moduleImports, jvmCastGen);
 
-                generateLockForVariable(cw);
+                generateLockForVariable(cw, lockIds);
                 jvmTypeGen.generateCreateTypesMethod(cw, module.typeDefs, moduleInitClass, symbolTable);
                 initMethodGen.generateModuleInitializer(cw, module, moduleInitClass);
                 ModuleStopMethodGen moduleStopMethodGen = new ModuleStopMethodGen(symbolTable, jvmTypeGen);
@@ -510,7 +577,7 @@ public class JvmPackageGen {
             }
             JvmCodeGenUtil.visitStrandMetadataFields(cw, asyncDataCollector.getStrandMetadata());
             generateStaticInitializer(cw, moduleClass, module.packageID, isInitClass, serviceEPAvailable,
-                                      asyncDataCollector);
+                                      asyncDataCollector, lockIds);
             cw.visitEnd();
 
             byte[] bytes = getBytes(cw, moduleClass, module);
@@ -601,7 +668,7 @@ public class JvmPackageGen {
                             getBirFunctionWrapper(isEntry, module.packageID, func, className, lookupKey);
                     birFunctionMap.put(pkgName + lookupKey, birFuncWrapperOrError);
                 } catch (JInteropException e) {
-                    dlog.error(func.pos, e.getCode(), e.getMessage());
+                    dlog.error(entryModuleId, func.pos, e.getCode(), e.getMessage());
                 }
             }
         }
@@ -684,7 +751,7 @@ public class JvmPackageGen {
                                                                                  birFuncName);
                 birFunctionMap.put(pkgName + birFuncName, birFuncWrapperOrError);
             } catch (JInteropException e) {
-                dlog.error(birFunc.pos, e.getCode(), e.getMessage());
+                dlog.error(entryModuleId, birFunc.pos, e.getCode(), e.getMessage());
             }
         }
     }
@@ -717,11 +784,11 @@ public class JvmPackageGen {
         } catch (MethodTooLargeException e) {
             String funcName = e.getMethodName();
             BIRFunction func = findFunction(node, funcName);
-            dlog.error(func.pos, DiagnosticErrorCode.METHOD_TOO_LARGE,
+            dlog.error(entryModuleId, func.pos, DiagnosticErrorCode.METHOD_TOO_LARGE,
                     IdentifierUtils.decodeIdentifier(func.name.value));
             result = new byte[0];
         } catch (ClassTooLargeException e) {
-            dlog.error(node.pos, DiagnosticErrorCode.FILE_TOO_LARGE,
+            dlog.error(entryModuleId, node.pos, DiagnosticErrorCode.FILE_TOO_LARGE,
                     IdentifierUtils.decodeIdentifier(e.getClassName()));
             result = new byte[0];
         } catch (Throwable e) {
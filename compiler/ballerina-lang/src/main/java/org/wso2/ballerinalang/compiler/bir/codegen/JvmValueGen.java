@@ -57,7 +57,9 @@ import java.util.Map;
 import static io.ballerina.runtime.api.utils.IdentifierUtils.decodeIdentifier;
 import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.AALOAD;
+import static org.objectweb.asm.Opcodes.AASTORE;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
@@ -73,9 +75,11 @@ import static org.objectweb.asm.Opcodes.CHECKCAST;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.DUP2;
 import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
+import static org.objectweb.asm.Opcodes.ICONST_M1;
 import static org.objectweb.asm.Opcodes.IFEQ;
 import static org.objectweb.asm.Opcodes.IFNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
@@ -89,6 +93,7 @@ import static org.objectweb.asm.Opcodes.L2I;
 import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.POP;
 import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.SWAP;
 import static org.objectweb.asm.Opcodes.V1_8;
@@ -105,7 +110,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_VAL
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_VALUE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_TO_STRING_METHOD;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HASH_MAP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HASH_SET;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LIST;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_VALUE;
@@ -116,6 +120,8 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_VALUE
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT_TYPE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.POPULATE_INITIAL_VALUES_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.RECORD_FIELD_NAMES;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.RECORD_GET_FIELD_INDEX_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.SET;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRAND_CLASS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_BUILDER;
@@ -665,16 +671,19 @@ class JvmValueGen {
         }
 
         Map<String, BField> fields = recordType.fields;
+        List<BField> fieldList = new ArrayList<>(fields.values());
         this.createRecordFields(cw, fields);
-        this.createRecordGetMethod(cw, fields, className, jvmCastGen);
-        this.createRecordSetMethod(cw, fields, className, jvmCastGen);
-        this.createRecordEntrySetMethod(cw, fields, className, jvmCastGen);
-        this.createRecordContainsKeyMethod(cw, fields, className);
-        this.createRecordGetValuesMethod(cw, fields, className, jvmCastGen);
+        this.createRecordFieldNames(cw);
+        this.createRecordGetFieldIndexMethod(cw, fieldList);
+        this.createRecordGetMethod(cw, fieldList, className, jvmCastGen);
+        this.createRecordSetMethod(cw, fieldList, className, jvmCastGen);
+        this.createRecordEntrySetMethod(cw, fieldList, className, jvmCastGen);
+        this.createRecordContainsKeyMethod(cw, fieldList, className);
+        this.createRecordGetValuesMethod(cw, fieldList, className, jvmCastGen);
         this.createGetSizeMethod(cw, fields, className);
         this.createRecordClearMethod(cw);
-        this.createRecordRemoveMethod(cw, fields, className, jvmCastGen);
-        this.createRecordGetKeysMethod(cw, fields, className);
+        this.createRecordRemoveMethod(cw, fieldList, className, jvmCastGen);
+        this.createRecordGetKeysMethod(cw, fieldList, className);
         this.createRecordPopulateInitialValuesMethod(cw);
 
         this.createRecordConstructor(cw, TYPEDESC_VALUE);
@@ -682,7 +691,7 @@ class JvmValueGen {
         this.createRecordInitWrapper(cw, className, typeDef);
         this.createLambdas(cw, asyncDataCollector, lambdaGen);
         JvmCodeGenUtil.visitStrandMetadataFields(cw, asyncDataCollector.getStrandMetadata());
-        this.generateStaticInitializer(cw, className, module.packageID, asyncDataCollector);
+        this.generateRecordStaticInitializer(cw, className, fieldList, asyncDataCollector);
         cw.visitEnd();
 
         return jvmPackageGen.getBytes(cw, className, typeDef);
@@ -752,6 +761,33 @@ class JvmValueGen {
         mv.visitEnd();
     }
 
+    private void generateRecordStaticInitializer(ClassWriter cw, String className, List<BField> fields,
+                                                 AsyncDataCollector asyncDataCollector) {
+
+        MethodVisitor mv = cw.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
+        mv.visitCode();
+
+        // create the field names used as the keys of the record
+        mv.visitLdcInsn(fields.size());
+        mv.visitTypeInsn(ANEWARRAY, B_STRING_VALUE);
+        int i = 0;
+        for (BField field : fields) {
+            mv.visitInsn(DUP);
+            mv.visitLdcInsn(i);
+            mv.visitLdcInsn(decodeIdentifier(field.name.value));
+            mv.visitMethodInsn(INVOKESTATIC, STRING_UTILS, "fromString",
+                               String.format("(L%s;)L%s;", STRING_VALUE, B_STRING_VALUE), false);
+            mv.visitInsn(AASTORE);
+            i += 1;
+        }
+        mv.visitFieldInsn(PUTSTATIC, className, RECORD_FIELD_NAMES, String.format("[L%s;", B_STRING_VALUE));
+
+        JvmCodeGenUtil.generateStrandMetadata(mv, className, module.packageID, asyncDataCollector);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
     // TODO: remove this method, logic moved to createInstantiateMethod, see #23012
     private void createRecordInitWrapper(ClassWriter cw, String className, BIRNode.BIRTypeDefinition typeDef) {
 
@@ -828,35 +864,110 @@ class JvmValueGen {
         return (field.symbol.flags & BAL_OPTIONAL) == BAL_OPTIONAL;
     }
 
-    private void createRecordGetMethod(ClassWriter cw, Map<String, BField> fields, String className,
-                                       JvmCastGen jvmCastGen) {
+    /**
+     * Generates a static method which maps a field name to the index of that field in the declaration order of the
+     * record type, or to -1 if the record type does not declare such a field. The generated {@code get},
+     * {@code putValue}, {@code containsKey} and {@code remove} methods switch on this index, so the string switch on
+     * the field name is generated only once per record type.
+     */
+    private void createRecordGetFieldIndexMethod(ClassWriter cw, List<BField> fields) {
 
-        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "get",
-                                              String.format("(L%s;)L%s;", OBJECT, OBJECT),
-                                              String.format("(L%s;)TV;", OBJECT), null);
+        MethodVisitor mv = cw.visitMethod(ACC_PRIVATE + ACC_STATIC, RECORD_GET_FIELD_INDEX_METHOD,
+                                          String.format("(L%s;)I", OBJECT), null, null);
         mv.visitCode();
 
-        int fieldNameRegIndex = 1;
-        int strKeyVarIndex = 2;
+        int fieldNameRegIndex = 0;
+        int strKeyVarIndex = 1;
         Label defaultCaseLabel = new Label();
 
         // cast key to java.lang.String
         mv.visitVarInsn(ALOAD, fieldNameRegIndex);
-            mv.visitTypeInsn(CHECKCAST, B_STRING_VALUE);
-            mv.visitMethodInsn(INVOKEINTERFACE, B_STRING_VALUE, GET_VALUE_METHOD, String.format("()L%s;", STRING_VALUE),
-                               true);
+        mv.visitTypeInsn(CHECKCAST, B_STRING_VALUE);
+        mv.visitMethodInsn(INVOKEINTERFACE, B_STRING_VALUE, GET_VALUE_METHOD, String.format("()L%s;", STRING_VALUE),
+                           true);
         mv.visitVarInsn(ASTORE, strKeyVarIndex);
 
         // sort the fields before generating switch case
-        List<BField> sortedFields = new ArrayList<>(fields.values());
+        List<BField> sortedFields = new ArrayList<>(fields);
         sortedFields.sort(FIELD_NAME_HASH_COMPARATOR);
 
-            List<Label> labels = createDecodedLabelsForSwitch(mv, strKeyVarIndex, sortedFields, defaultCaseLabel);
-            List<Label> targetLabels = createDecodedLabelsForEqualCheck(mv, strKeyVarIndex, sortedFields, labels,
-                                                                 defaultCaseLabel);
+        List<Label> labels = createDecodedLabelsForSwitch(mv, strKeyVarIndex, sortedFields, defaultCaseLabel);
+        List<Label> targetLabels = createDecodedLabelsForEqualCheck(mv, strKeyVarIndex, sortedFields, labels,
+                                                                    defaultCaseLabel);
 
         int i = 0;
-        for (BField optionalField : sortedFields) {
+        for (BField field : sortedFields) {
+            mv.visitLabel(targetLabels.get(i));
+            mv.visitLdcInsn(fields.indexOf(field));
+            mv.visitInsn(IRETURN);
+            i += 1;
+        }
+
+        mv.visitLabel(defaultCaseLabel);
+        mv.visitInsn(ICONST_M1);
+        mv.visitInsn(IRETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    /**
+     * Generates a table switch on the index of the field with the given name. The returned labels are the case labels
+     * of the fields in the declaration order.
+     */
+    private List<Label> createRecordFieldIndexSwitch(MethodVisitor mv, String className, int fieldNameRegIndex,
+                                                     int fieldCount, Label defaultCaseLabel) {
+
+        mv.visitVarInsn(ALOAD, fieldNameRegIndex);
+        mv.visitMethodInsn(INVOKESTATIC, className, RECORD_GET_FIELD_INDEX_METHOD, String.format("(L%s;)I", OBJECT),
+                           false);
+
+        List<Label> labels = new ArrayList<>(fieldCount);
+        if (fieldCount == 0) {
+            mv.visitInsn(POP);
+            mv.visitJumpInsn(GOTO, defaultCaseLabel);
+            return labels;
+        }
+
+        for (int i = 0; i < fieldCount; i++) {
+            labels.add(new Label());
+        }
+        mv.visitTableSwitchInsn(0, fieldCount - 1, defaultCaseLabel, labels.toArray(new Label[0]));
+        return labels;
+    }
+
+    private void createRecordFieldNames(ClassWriter cw) {
+
+        FieldVisitor fv = cw.visitField(ACC_PRIVATE + ACC_STATIC + ACC_FINAL, RECORD_FIELD_NAMES,
+                                        String.format("[L%s;", B_STRING_VALUE), null, null);
+        fv.visitEnd();
+    }
+
+    /**
+     * Loads the field name of the field at the given index as a {@code BString}. The names are created once in the
+     * static initializer of the record class, instead of every time the keys or the entries are read.
+     */
+    private void loadRecordFieldName(MethodVisitor mv, String className, int fieldIndex) {
+
+        mv.visitFieldInsn(GETSTATIC, className, RECORD_FIELD_NAMES, String.format("[L%s;", B_STRING_VALUE));
+        mv.visitLdcInsn(fieldIndex);
+        mv.visitInsn(AALOAD);
+    }
+
+    private void createRecordGetMethod(ClassWriter cw, List<BField> fields, String className,
+                                       JvmCastGen jvmCastGen) {
+
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "get",
+                                              String.format("(L%s;)L%s;", OBJECT, OBJECT),
+                                              String.format("(L%s;)TV;", OBJECT), null);
+        mv.visitCode();
+
+        int fieldNameRegIndex = 1;
+        Label defaultCaseLabel = new Label();
+        List<Label> targetLabels = createRecordFieldIndexSwitch(mv, className, fieldNameRegIndex, fields.size(),
+                                                                defaultCaseLabel);
+
+        int i = 0;
+        for (BField optionalField : fields) {
             Label targetLabel = targetLabels.get(i);
             mv.visitLabel(targetLabel);
 
@@ -886,7 +997,7 @@ class JvmValueGen {
         mv.visitEnd();
     }
 
-    private void createRecordSetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    private void createRecordSetMethod(ClassWriter cw, List<BField> fields, String className,
                                        JvmCastGen jvmCastGen) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PROTECTED, "putValue",
@@ -896,27 +1007,13 @@ class JvmValueGen {
         mv.visitCode();
         int fieldNameRegIndex = 1;
         int valueRegIndex = 2;
-        int strKeyVarIndex = 3;
         Label defaultCaseLabel = new Label();
-
-        // cast key to java.lang.String
-        mv.visitVarInsn(ALOAD, fieldNameRegIndex);
-        mv.visitTypeInsn(CHECKCAST, B_STRING_VALUE);
-        mv.visitMethodInsn(INVOKEINTERFACE, B_STRING_VALUE, GET_VALUE_METHOD, String.format("()L%s;", STRING_VALUE),
-                           true);
-        mv.visitVarInsn(ASTORE, strKeyVarIndex);
-
-        // sort the fields before generating switch case
-        List<BField> sortedFields = new ArrayList<>(fields.values());
-        sortedFields.sort(FIELD_NAME_HASH_COMPARATOR);
-
-            List<Label> labels = createDecodedLabelsForSwitch(mv, strKeyVarIndex, sortedFields, defaultCaseLabel);
-            List<Label> targetLabels = createDecodedLabelsForEqualCheck(mv, strKeyVarIndex, sortedFields, labels,
-                                                                 defaultCaseLabel);
+        List<Label> targetLabels = createRecordFieldIndexSwitch(mv, className, fieldNameRegIndex, fields.size(),
+                                                                defaultCaseLabel);
 
         // case body
         int i = 0;
-        for (BField optionalField : sortedFields) {
+        for (BField optionalField : fields) {
             Label targetLabel = targetLabels.get(i);
             mv.visitLabel(targetLabel);
 
@@ -970,7 +1067,7 @@ class JvmValueGen {
         mv.visitInsn(ARETURN);
     }
 
-    private void createRecordEntrySetMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    private void createRecordEntrySetMethod(ClassWriter cw, List<BField> fields, String className,
                                             JvmCastGen jvmCastGen) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "entrySet",
@@ -985,15 +1082,15 @@ class JvmValueGen {
         mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_SET, JVM_INIT_METHOD, "()V", false);
         mv.visitVarInsn(ASTORE, entrySetVarIndex);
 
-        for (BField optionalField : fields.values()) {
+        int i = 0;
+        for (BField optionalField : fields) {
             Label ifNotPresent = new Label();
 
             // If its an optional field, generate if-condition to check the presense of the field.
             String fieldName = optionalField.name.value;
             if (this.isOptionalRecordField(optionalField)) {
                 mv.visitVarInsn(ALOAD, 0);
-                mv.visitFieldInsn(GETFIELD, className,
-                        this.getFieldIsPresentFlagName(decodeIdentifier(fieldName)),
+                mv.visitFieldInsn(GETFIELD, className, this.getFieldIsPresentFlagName(fieldName),
                         getTypeDesc(booleanType));
                 mv.visitJumpInsn(IFEQ, ifNotPresent);
             }
@@ -1003,9 +1100,7 @@ class JvmValueGen {
             mv.visitInsn(DUP);
 
             // field name as key
-            mv.visitLdcInsn(decodeIdentifier(fieldName));
-            mv.visitMethodInsn(INVOKESTATIC, STRING_UTILS, "fromString",
-                               String.format("(L%s;)L%s;", STRING_VALUE, B_STRING_VALUE), false);
+            this.loadRecordFieldName(mv, className, i);
 
             // field value as the map-entry value
             mv.visitVarInsn(ALOAD, 0);
@@ -1018,12 +1113,13 @@ class JvmValueGen {
             mv.visitInsn(POP);
 
             mv.visitLabel(ifNotPresent);
+            i += 1;
         }
 
         // Add all from super.enrtySet() to the current entry set.
         mv.visitVarInsn(ALOAD, entrySetVarIndex);
         mv.visitVarInsn(ALOAD, 0);
-        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_MAP, "entrySet", String.format("()L%s;", SET), false);
+        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "entrySet", String.format("()L%s;", SET), false);
         mv.visitMethodInsn(INVOKEINTERFACE, SET, "addAll", String.format("(L%s;)Z", COLLECTION), true);
         mv.visitInsn(POP);
 
@@ -1034,32 +1130,18 @@ class JvmValueGen {
 
     }
 
-    private void createRecordContainsKeyMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+    private void createRecordContainsKeyMethod(ClassWriter cw, List<BField> fields, String className) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "containsKey", String.format("(L%s;)Z", OBJECT), null, null);
         mv.visitCode();
 
         int fieldNameRegIndex = 1;
-        int strKeyVarIndex = 2;
-
-        // cast key to java.lang.String
-        mv.visitVarInsn(ALOAD, fieldNameRegIndex);
-        mv.visitTypeInsn(CHECKCAST, B_STRING_VALUE);
-        mv.visitMethodInsn(INVOKEINTERFACE, B_STRING_VALUE, GET_VALUE_METHOD, String.format("()L%s;", STRING_VALUE),
-                           true);
-        mv.visitVarInsn(ASTORE, strKeyVarIndex);
-
-        // sort the fields before generating switch case
-        List<BField> sortedFields = new ArrayList<>(fields.values());
-        sortedFields.sort(FIELD_NAME_HASH_COMPARATOR);
-
         Label defaultCaseLabel = new Label();
-        List<Label> labels = createDecodedLabelsForSwitch(mv, strKeyVarIndex, sortedFields, defaultCaseLabel);
-        List<Label> targetLabels = createDecodedLabelsForEqualCheck(mv, strKeyVarIndex, sortedFields, labels,
-                defaultCaseLabel);
+        List<Label> targetLabels = createRecordFieldIndexSwitch(mv, className, fieldNameRegIndex, fields.size(),
+                                                                defaultCaseLabel);
 
         int i = 0;
-        for (BField optionalField : sortedFields) {
+        for (BField optionalField : fields) {
             Label targetLabel = targetLabels.get(i);
             mv.visitLabel(targetLabel);
 
@@ -1089,7 +1171,7 @@ class JvmValueGen {
         mv.visitEnd();
     }
 
-    private void createRecordGetValuesMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    private void createRecordGetValuesMethod(ClassWriter cw, List<BField> fields, String className,
                                              JvmCastGen jvmCastGen) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "values", String.format("()L%s;", COLLECTION),
@@ -1099,10 +1181,11 @@ class JvmValueGen {
         int valuesVarIndex = 1;
         mv.visitTypeInsn(NEW, ARRAY_LIST);
         mv.visitInsn(DUP);
-        mv.visitMethodInsn(INVOKESPECIAL, ARRAY_LIST, JVM_INIT_METHOD, "()V", false);
+        mv.visitLdcInsn(fields.size());
+        mv.visitMethodInsn(INVOKESPECIAL, ARRAY_LIST, JVM_INIT_METHOD, "(I)V", false);
         mv.visitVarInsn(ASTORE, valuesVarIndex);
 
-        for (BField optionalField : fields.values()) {
+        for (BField optionalField : fields) {
             Label ifNotPresent = new Label();
 
             // If its an optional field, generate if-condition to check the presense of the field.
@@ -1181,7 +1264,7 @@ class JvmValueGen {
         mv.visitEnd();
     }
 
-    private void createRecordRemoveMethod(ClassWriter cw, Map<String, BField> fields, String className,
+    private void createRecordRemoveMethod(ClassWriter cw, List<BField> fields, String className,
                                           JvmCastGen jvmCastGen) {
         // throw an UnsupportedOperationException, since remove is not supported by for records.
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "remove", String.format("(L%s;)L%s;", OBJECT, OBJECT),
@@ -1189,29 +1272,16 @@ class JvmValueGen {
         mv.visitCode();
 
         int fieldNameRegIndex = 1;
-        int strKeyVarIndex = 2;
-
-        // cast key to java.lang.String
-        mv.visitVarInsn(ALOAD, fieldNameRegIndex);
-        mv.visitTypeInsn(CHECKCAST, B_STRING_VALUE);
-        mv.visitMethodInsn(INVOKEINTERFACE, B_STRING_VALUE, GET_VALUE_METHOD, String.format("()L%s;", STRING_VALUE),
-                           true);
-        mv.visitVarInsn(ASTORE, strKeyVarIndex);
 
         mv.visitVarInsn(ALOAD, 0);
         mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "validateFreezeStatus", "()V", false);
 
-        // sort the fields before generating switch case
-        List<BField> sortedFields = new ArrayList<>(fields.values());
-        sortedFields.sort(FIELD_NAME_HASH_COMPARATOR);
-
         Label defaultCaseLabel = new Label();
-        List<Label> labels = createDecodedLabelsForSwitch(mv, strKeyVarIndex, sortedFields, defaultCaseLabel);
-        List<Label> targetLabels = createDecodedLabelsForEqualCheck(mv, strKeyVarIndex, sortedFields, labels,
-                defaultCaseLabel);
+        List<Label> targetLabels = createRecordFieldIndexSwitch(mv, className, fieldNameRegIndex, fields.size(),
+                                                                defaultCaseLabel);
 
         int i = 0;
-        for (BField optionalField : sortedFields) {
+        for (BField optionalField : fields) {
             Label targetLabel = targetLabels.get(i);
             mv.visitLabel(targetLabel);
 
@@ -1270,7 +1340,7 @@ class JvmValueGen {
         }
     }
 
-    private void createRecordGetKeysMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+    private void createRecordGetKeysMethod(ClassWriter cw, List<BField> fields, String className) {
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "getKeys", String.format("()[L%s;", OBJECT), "()[TK;", null);
         mv.visitCode();
@@ -1281,11 +1351,12 @@ class JvmValueGen {
         mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_SET, JVM_INIT_METHOD, "()V", false);
         mv.visitVarInsn(ASTORE, keysVarIndex);
 
-        for (BField optionalField : fields.values()) {
+        int i = 0;
+        for (BField optionalField : fields) {
             Label ifNotPresent = new Label();
 
             // If its an optional field, generate if-condition to check the presense of the field.
-            String fieldName = decodeIdentifier(optionalField.name.value);
+            String fieldName = optionalField.name.value;
             if (this.isOptionalRecordField(optionalField)) {
                 mv.visitVarInsn(ALOAD, 0); // this
                 mv.visitFieldInsn(GETFIELD, className, this.getFieldIsPresentFlagName(fieldName),
@@ -1294,17 +1365,16 @@ class JvmValueGen {
             }
 
             mv.visitVarInsn(ALOAD, keysVarIndex);
-            mv.visitLdcInsn(fieldName);
-                mv.visitMethodInsn(INVOKESTATIC, STRING_UTILS, "fromString",
-                                   String.format("(L%s;)L%s;", STRING_VALUE, B_STRING_VALUE), false);
+            this.loadRecordFieldName(mv, className, i);
             mv.visitMethodInsn(INVOKEINTERFACE, SET, "add", String.format("(L%s;)Z", OBJECT), true);
             mv.visitInsn(POP);
             mv.visitLabel(ifNotPresent);
+            i += 1;
         }
 
         mv.visitVarInsn(ALOAD, keysVarIndex);
         mv.visitVarInsn(ALOAD, 0); // this
-        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_MAP, "keySet", String.format("()L%s;", SET), false);
+        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "keySet", String.format("()L%s;", SET), false);
         mv.visitMethodInsn(INVOKEINTERFACE, SET, "addAll", String.format("(L%s;)Z", COLLECTION), true);
         mv.visitInsn(POP);
 
@@ -40,6 +40,7 @@ import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.ResolvedTypeBuilder;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 
 import java.util.ArrayList;
@@ -221,7 +222,7 @@ public class ExternalMethodGen {
     }
 
     static String generateExternReturnType(BType bType) {
-        bType = JvmCodeGenUtil.TYPE_BUILDER.build(bType);
+        bType = new ResolvedTypeBuilder().build(bType);
         if (bType == null || bType.tag == TypeTags.NIL || bType.tag == TypeTags.NEVER) {
             return ")V";
         }
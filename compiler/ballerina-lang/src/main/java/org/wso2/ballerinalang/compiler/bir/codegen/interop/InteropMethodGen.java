@@ -49,6 +49,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.ResolvedTypeBuilder;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.util.Flags;
 
@@ -140,7 +141,7 @@ public class InteropMethodGen {
         BType retType = birFunc.type.retType;
 
         if (Symbols.isFlagOn(retType.flags, Flags.PARAMETERIZED)) {
-            retType = JvmCodeGenUtil.TYPE_BUILDER.build(birFunc.type.retType);
+            retType = new ResolvedTypeBuilder().build(birFunc.type.retType);
         }
 
         String desc = JvmCodeGenUtil.getMethodDesc(birFunc.type.paramTypes, retType);
@@ -320,7 +321,7 @@ public class InteropMethodGen {
         // resetting the variable generation index
         BType retType = birFunc.type.retType;
         if (Symbols.isFlagOn(retType.flags, Flags.PARAMETERIZED)) {
-            retType = JvmCodeGenUtil.TYPE_BUILDER.build(birFunc.type.retType);
+            retType = new ResolvedTypeBuilder().build(birFunc.type.retType);
         }
         JMethod jMethod = birFunc.jMethod;
         Class<?>[] jMethodParamTypes = jMethod.getParamTypes();
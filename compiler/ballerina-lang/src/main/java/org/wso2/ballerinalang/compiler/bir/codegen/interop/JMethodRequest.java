@@ -46,7 +46,6 @@ class JMethodRequest {
     boolean restParamExist = false;
     BType receiverType = null;
 
-    private static ResolvedTypeBuilder typeBuilder = new ResolvedTypeBuilder();
 
     private JMethodRequest() {
 
@@ -74,7 +73,7 @@ class JMethodRequest {
         jMethodReq.bFuncParamCount = paramTypes.size();
         jMethodReq.bParamTypes = paramTypes.toArray(new BType[0]);
 
-        BType returnType = typeBuilder.build(bFuncType.retType);
+        BType returnType = new ResolvedTypeBuilder().build(bFuncType.retType);
         jMethodReq.bReturnType = returnType;
         if (returnType.tag == TypeTags.UNION) {
             for (BType bType : ((BUnionType) returnType).getMemberTypes()) {
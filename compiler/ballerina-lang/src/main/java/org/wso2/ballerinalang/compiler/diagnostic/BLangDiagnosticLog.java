@@ -99,6 +99,19 @@ public class BLangDiagnosticLog implements DiagnosticLog {
         reportDiagnostic(null, code, location, msg, DiagnosticSeverity.ERROR, args);
     }
 
+    /**
+     * Log an error against the given module, instead of the current module of the logger.
+     *
+     * @param packageID Package ID of the module the error belongs to.
+     * @param location Location of the error in the source code.
+     * @param code Error code
+     * @param args Parameters associated with the error
+     */
+    public void error(PackageID packageID, Location location, DiagnosticCode code, Object... args) {
+        String msg = formatMessage(ERROR_PREFIX, code, args);
+        reportDiagnostic(packageID, code, location, msg, DiagnosticSeverity.ERROR, args);
+    }
+
     /**
      * Log a warning.
      *
@@ -180,7 +193,7 @@ public class BLangDiagnosticLog implements DiagnosticLog {
      * @param pkgId Package ID of the diagnostic associated with
      * @param diagnostic the diagnostic to be logged
      */
-    public void logDiagnostic(PackageID pkgId, Diagnostic diagnostic) {
+    public synchronized void logDiagnostic(PackageID pkgId, Diagnostic diagnostic) {
         if (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR) {
             this.errorCount++;
         }
@@ -195,8 +208,8 @@ public class BLangDiagnosticLog implements DiagnosticLog {
         return MessageFormat.format(msgKey, args);
     }
 
-    private void reportDiagnostic(PackageID packageID, DiagnosticCode diagnosticCode, Location location,
-                                  String msg, DiagnosticSeverity severity, Object[] args) {
+    private synchronized void reportDiagnostic(PackageID packageID, DiagnosticCode diagnosticCode, Location location,
+                                               String msg, DiagnosticSeverity severity, Object[] args) {
         if (severity == DiagnosticSeverity.ERROR) {
             this.errorCount++;
         }
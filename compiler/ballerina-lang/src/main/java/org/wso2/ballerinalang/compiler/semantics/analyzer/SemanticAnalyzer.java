@@ -19,6 +19,7 @@ package org.wso2.ballerinalang.compiler.semantics.analyzer;
 
 import io.ballerina.tools.diagnostics.DiagnosticCode;
 import io.ballerina.tools.diagnostics.Location;
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.compiler.CompilerPhase;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.elements.AttachPoint;
@@ -181,6 +182,7 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangTableTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangType;
 import org.wso2.ballerinalang.compiler.util.BArrayState;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.compiler.util.ImmutableTypeCloner;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
@@ -232,6 +234,7 @@ public class SemanticAnalyzer extends BLangNodeVisitor {
     private ConstantAnalyzer constantAnalyzer;
     private ConstantValueResolver constantValueResolver;
     private BLangAnonymousModelHelper anonModelHelper;
+    private boolean assignabilityCacheEnabled;
 
     private SymbolEnv env;
     private BType expType;
@@ -268,6 +271,8 @@ public class SemanticAnalyzer extends BLangNodeVisitor {
         this.constantAnalyzer = ConstantAnalyzer.getInstance(context);
         this.constantValueResolver = ConstantValueResolver.getInstance(context);
         this.anonModelHelper = BLangAnonymousModelHelper.getInstance(context);
+        this.assignabilityCacheEnabled = !Boolean.parseBoolean(
+                CompilerOptions.getInstance(context).get(CompilerOptionName.ASSIGNABILITY_CACHE_DISABLED));
     }
 
     public BLangPackage analyze(BLangPackage pkgNode) {
@@ -290,6 +295,12 @@ public class SemanticAnalyzer extends BLangNodeVisitor {
                 .forEach(constant -> analyzeDef((BLangNode) constant, pkgEnv));
         this.constantValueResolver.resolve(pkgNode.constants, pkgNode.packageID);
 
+        // All the module level types are resolved by now, so the assignability results can be memoized till the end
+        // of this module.
+        if (assignabilityCacheEnabled) {
+            types.enableAssignabilityCache();
+        }
+
         for (int i = 0; i < pkgNode.topLevelNodes.size(); i++) {
             TopLevelNode pkgLevelNode = pkgNode.topLevelNodes.get(i);
             NodeKind kind = pkgLevelNode.getKind();
@@ -317,6 +328,8 @@ public class SemanticAnalyzer extends BLangNodeVisitor {
             analyzeDef(lambdaFunction.function, lambdaFunction.capturedClosureEnv);
         }
 
+        types.disableAssignabilityCache();
+
         pkgNode.getTestablePkgs().forEach(testablePackage -> visit((BLangPackage) testablePackage));
         pkgNode.completedPhases.add(CompilerPhase.TYPE_CHECK);
     }
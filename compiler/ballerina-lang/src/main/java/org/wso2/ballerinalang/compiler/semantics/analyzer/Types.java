@@ -98,6 +98,7 @@ import java.math.MathContext;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -146,6 +147,8 @@ public class Types {
     private final BLangAnonymousModelHelper anonymousModelHelper;
     private int recordCount = 0;
     private SymbolEnv env;
+    private Map<TypePair, Boolean> sameTypeCache;
+    private Map<TypePair, Boolean> assignableTypeCache;
 
     public static Types getInstance(CompilerContext context) {
         Types types = context.get(TYPES_KEY);
@@ -310,7 +313,17 @@ public class Types {
     }
 
     public boolean isSameType(BType source, BType target) {
-        return isSameType(source, target, new HashSet<>());
+        if (sameTypeCache == null || !isCacheable(source) || !isCacheable(target)) {
+            return isSameType(source, target, new HashSet<>());
+        }
+
+        TypePair pair = new TypePair(source, target);
+        Boolean result = sameTypeCache.get(pair);
+        if (result == null) {
+            result = isSameType(source, target, new HashSet<>());
+            sameTypeCache.put(pair, result);
+        }
+        return result;
     }
 
     public boolean isPureType(BType type) {
@@ -620,7 +633,51 @@ public class Types {
      * @return true if source type is assignable to the target type.
      */
     public boolean isAssignable(BType source, BType target) {
-        return isAssignable(source, target, new HashSet<>());
+        if (assignableTypeCache == null || !isCacheable(source) || !isCacheable(target)) {
+            return isAssignable(source, target, new HashSet<>());
+        }
+
+        TypePair pair = new TypePair(source, target);
+        Boolean result = assignableTypeCache.get(pair);
+        if (result == null) {
+            result = isAssignable(source, target, new HashSet<>());
+            assignableTypeCache.put(pair, result);
+        }
+        return result;
+    }
+
+    /**
+     * Starts memoizing the results of {@link #isSameType(BType, BType)} and {@link #isAssignable(BType, BType)}.
+     * This should only be called once all the module level types have been resolved, since the results are keyed by
+     * the type instances and would go stale if a type is modified after it has been checked.
+     */
+    void enableAssignabilityCache() {
+        this.sameTypeCache = new HashMap<>();
+        this.assignableTypeCache = new HashMap<>();
+    }
+
+    void disableAssignabilityCache() {
+        this.sameTypeCache = null;
+        this.assignableTypeCache = null;
+    }
+
+    private boolean isCacheable(BType type) {
+        switch (type.tag) {
+            case TypeTags.NONE:
+            case TypeTags.SEMANTIC_ERROR:
+            case TypeTags.PARAMETERIZED_TYPE:
+                // Placeholder types which are replaced once the actual type is known.
+                return false;
+            case TypeTags.INVOKABLE:
+                // The return type of lambdas is filled in while their bodies are being type checked, and function
+                // types are compared structurally rather than by identity.
+                return false;
+            case TypeTags.ARRAY:
+                // The size of an inferred array (`int[*]`) is set when the initializer is type checked.
+                return ((BArrayType) type).state != BArrayState.INFERRED;
+            default:
+                return true;
+        }
     }
 
     private boolean isAssignable(BType source, BType target, Set<TypePair> unresolvedTypes) {
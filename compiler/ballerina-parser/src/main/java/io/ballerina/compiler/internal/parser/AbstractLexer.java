@@ -74,6 +74,16 @@ public abstract class AbstractLexer {
         reader.reset(offset);
     }
 
+    /**
+     * Reset the lexer to the given operation mode, discarding the modes started so far.
+     *
+     * @param mode Mode to reset to
+     */
+    public void resetMode(ParserMode mode) {
+        this.modeStack.clear();
+        startMode(mode);
+    }
+
     /**
      * Start the given operation mode of the lexer.
      * 
@@ -102,6 +102,15 @@ public abstract class AbstractParser {
         return token;
     }
 
+    /**
+     * Checks whether the error recovery has removed or inserted tokens that are not yet attached to the next token.
+     *
+     * @return <code>true</code> if there are tokens waiting for the next token to be consumed
+     */
+    protected boolean hasPendingRecoveredTokens() {
+        return this.insertedToken != null || !invalidNodeInfoStack.isEmpty();
+    }
+
     protected Solution recover(STToken token, ParserRuleContext currentCtx, Object... args) {
         Solution sol = this.errorHandler.recover(currentCtx, token, args);
         // If the action is to remove, then re-parse the same rule.
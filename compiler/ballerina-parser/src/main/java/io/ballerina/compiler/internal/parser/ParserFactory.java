@@ -64,7 +64,8 @@ public class ParserFactory {
 
     /**
      * Creates an incremental {@code BallerinaParser} instance from
-     * the old {@code SyntaxTree} and text modifications.
+     * the old {@code SyntaxTree} and text modifications. A regular parser
+     * is created if the old tree cannot be reused with the modifications.
      *
      * @param oldTree            previous syntax tree
      * @param newTextDocument    new source code
@@ -74,6 +75,10 @@ public class ParserFactory {
     public static BallerinaParser getParser(SyntaxTree oldTree,
                                             TextDocument newTextDocument,
                                             TextDocumentChange textDocumentChange) {
+        if (!HybridNodeStorage.canReuse(oldTree, textDocumentChange)) {
+            return getParser(newTextDocument);
+        }
+
         HybridNodeStorage hybridNodeStorage = new HybridNodeStorage(oldTree,
                 getLexer(newTextDocument), textDocumentChange);
         AbstractTokenReader tokeReader = new HybridTokenReader(hybridNodeStorage);
@@ -18,9 +18,11 @@
 package io.ballerina.compiler.internal.parser.incremental;
 
 import io.ballerina.compiler.internal.parser.BallerinaLexer;
+import io.ballerina.compiler.internal.parser.ParserMode;
 import io.ballerina.compiler.internal.parser.tree.STToken;
 import io.ballerina.compiler.internal.parser.utils.PersistentStack;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.tools.text.TextDocumentChange;
@@ -40,6 +42,7 @@ public class HybridNodeStorage {
 
     // TODO improve this implementation
     private final List<HybridNode> hybridNodeList;
+    private final BallerinaLexer lexer;
 
     private int consumedNodeIndex = 0;
     private int peekedNodeIndex = 0;
@@ -52,17 +55,70 @@ public class HybridNodeStorage {
                              BallerinaLexer lexer,
                              TextDocumentChange textDocumentChange) {
         this.hybridNodeList = new ArrayList<>(20);
+        this.lexer = lexer;
         this.hybridNodeList.add(createInitialNode(oldTree.rootNode(), lexer, textDocumentChange));
         consumedNodeIndex++;
         peekedNodeIndex++;
     }
 
+    /**
+     * Checks whether the nodes of the old tree can be reused with the given text edits. The tokens of a documentation
+     * or a template depend on the mode of the lexer, which is not known in the middle of them, hence an edit within
+     * one of them, or an edit which may start one, requires a full parse.
+     *
+     * @param oldTree            previous syntax tree
+     * @param textDocumentChange a collection of text edits applied to the previous source code
+     * @return true if the old tree can be reused
+     */
+    public static boolean canReuse(SyntaxTree oldTree, TextDocumentChange textDocumentChange) {
+        ModulePartNode modulePartNode = oldTree.rootNode();
+        for (int index = 0; index < textDocumentChange.getTextEditCount(); index++) {
+            TextEdit textEdit = textDocumentChange.getTextEdit(index);
+            String text = textEdit.text();
+            if (text.indexOf('`') >= 0 || text.indexOf('#') >= 0) {
+                return false;
+            }
+
+            TextRange textRange = textEdit.range();
+            Token affectedToken = modulePartNode.findToken(textRange.startOffset());
+            STToken internalToken = (STToken) affectedToken.internalNode();
+            for (int lbIndex = 0; lbIndex < internalToken.lookbackTokenCount() &&
+                    affectedToken.textRangeWithMinutiae().startOffset() > 0; lbIndex++) {
+                if (isWithinRelexedNode(affectedToken)) {
+                    return false;
+                }
+                affectedToken = modulePartNode.findToken(affectedToken.textRangeWithMinutiae().startOffset() - 1);
+            }
+            if (isWithinRelexedNode(affectedToken) ||
+                    isWithinRelexedNode(modulePartNode.findToken(textRange.endOffset()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWithinRelexedNode(Node node) {
+        for (Node parent = node.parent(); parent != null; parent = parent.parent()) {
+            if (HybridNodes.isRelexedNode(parent)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    BallerinaLexer lexer() {
+        return lexer;
+    }
+
     HybridNode getCurrentToken() {
         return currentToken;
     }
 
     HybridNode consumeSubtree() {
         HybridNode hybridNode = currentNode;
+        // A reused subtree is never within a template, hence the lexer continues in the default mode after it, even
+        // if the tokens peeked before the subtree was taken started a template.
+        lexer.resetMode(ParserMode.DEFAULT);
         this.hybridNodeList.add(consumedNodeIndex++, hybridNode);
         peekedNodeIndex = consumedNodeIndex;
         currentNode = null;
@@ -85,6 +141,8 @@ public class HybridNodeStorage {
         }
         HybridNode hybridNode = currentToken;
         currentToken = null;
+        // The subtree peeked before this token starts at it, so it is no longer the next one
+        currentNode = null;
         consumedNodeIndex++;
         return hybridNode;
     }
@@ -110,8 +168,14 @@ public class HybridNodeStorage {
         return peek(k);
     }
     
+    /**
+     * Returns the index of the next node to be consumed. Like the index of the regular token reader, this only changes
+     * when a node is consumed, so that the error handler can tell when it does not make progress.
+     *
+     * @return index of the next node
+     */
     int getCurrentTokenIndex() {
-        return this.peekedNodeIndex;
+        return this.consumedNodeIndex;
     }
 
     private HybridNode peek(int k) {
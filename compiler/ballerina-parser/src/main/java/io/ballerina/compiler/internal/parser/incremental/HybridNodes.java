@@ -17,11 +17,13 @@
  */
 package io.ballerina.compiler.internal.parser.incremental;
 
+import io.ballerina.compiler.internal.parser.BallerinaLexer;
 import io.ballerina.compiler.internal.parser.tree.STToken;
 import io.ballerina.compiler.internal.parser.utils.PersistentStack;
 import io.ballerina.compiler.internal.syntax.SyntaxUtils;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.tools.text.CharReader;
 import io.ballerina.tools.text.TextRange;
 
 /**
@@ -57,7 +59,7 @@ class HybridNodes {
         }
 
         Node oldTreeNode = state.oldTreePtr.currentNode();
-        while (SyntaxUtils.isNonTerminalNode(oldTreeNode)) {
+        while (SyntaxUtils.isNonTerminalNode(oldTreeNode) && !isRelexedNode(oldTreeNode)) {
             if (isNodeReusable(oldTreeNode, state)) {
                 // Adjust offsets accordingly
                 int width = oldTreeNode.textRangeWithMinutiae().length();
@@ -87,7 +89,7 @@ class HybridNodes {
             } else if (state.oldTextOffset < state.newTextOffset) {
                 // state.oldTextOffset < state.newTextOffset
                 // We need to skip a token from the old tree and see weather both offsets are aligned
-                syncOldWithNewTextOffset(getTokenFromOldTree(state), state);
+                syncOldWithNewTextOffset(getNodeFromOldTree(state), state);
             } else {
                 // Both oldTextOffset and the newTextOffset are in sync.
                 // Let's try to reuse a token from the old tree
@@ -98,15 +100,22 @@ class HybridNodes {
         return hybridNode;
     }
 
-    private static void syncOldWithNewTextOffset(Token token, HybridNode.State state) {
-        state.oldTextOffset += token.textRangeWithMinutiae().length();
+    private static void syncOldWithNewTextOffset(Node node, HybridNode.State state) {
+        state.oldTextOffset += node.textRangeWithMinutiae().length();
         state.oldTreePtr = state.oldTreePtr.nextSibling();
-        removeInvalidTextEdits(token, state);
+        removeInvalidTextEdits(node, state);
     }
 
     private static HybridNode getReusableTokenFromOldTree(HybridNode.State state) {
-        Token token = getTokenFromOldTree(state);
-        if (isNodeReusable(token, state)) {
+        Node node = getNodeFromOldTree(state);
+        if (!SyntaxUtils.isToken(node)) {
+            // The tokens of the node have to be lexed again from the new text
+            syncOldWithNewTextOffset(node, state);
+            return null;
+        }
+
+        Token token = (Token) node;
+        if (isNodeReusable(token, state) && isLexedToken((STToken) token.internalNode())) {
             // Adjust offsets accordingly
             int width = token.textRangeWithMinutiae().length();
             state.oldTextOffset += width;
@@ -120,22 +129,49 @@ class HybridNodes {
         }
     }
 
-    private static Token getTokenFromOldTree(HybridNode.State state) {
-        if (SyntaxUtils.isToken(state.oldTreePtr.currentNode())) {
-            return state.oldTreePtr.currentToken();
+    /**
+     * Returns the next token in the old tree, or the next node whose tokens cannot be reused one by one.
+     *
+     * @param state current state
+     * @return a token or a node to be lexed again
+     */
+    private static Node getNodeFromOldTree(HybridNode.State state) {
+        Node node = state.oldTreePtr.currentNode();
+        while (!SyntaxUtils.isToken(node) && !isRelexedNode(node)) {
+            // state.nodePointer points to a NonTerminalNode.
+            // Move down to the next token in the tree.
+            state.oldTreePtr = state.oldTreePtr.nextChild();
+            node = state.oldTreePtr.currentNode();
         }
+        return node;
+    }
 
-        // state.nodePointer points to a NonTerminalNode.
-        // Move to the next token in the tree.
-        state.oldTreePtr = state.oldTreePtr.nextToken();
-        return state.oldTreePtr.currentToken();
+    /**
+     * Checks whether the tokens of the given node have to be lexed again from the new text, rather than reused one
+     * by one. The tokens of a documentation or of the content of an XML template are created by separate lexers, and
+     * the tokens of a template or a byte array literal depend on the mode of the lexer.
+     *
+     * @param node a node from the old tree
+     * @return true if the tokens of the node are lexed again
+     */
+    static boolean isRelexedNode(Node node) {
+        switch (node.kind()) {
+            case MARKDOWN_DOCUMENTATION:
+            case XML_TEMPLATE_EXPRESSION:
+            case STRING_TEMPLATE_EXPRESSION:
+            case RAW_TEMPLATE_EXPRESSION:
+            case BYTE_ARRAY_LITERAL:
+                return true;
+            default:
+                return false;
+        }
     }
 
-    private static void removeInvalidTextEdits(Token oldToken, HybridNode.State state) {
+    private static void removeInvalidTextEdits(Node oldNode, HybridNode.State state) {
         if (state.textEditRanges.isEmpty()) {
             return;
         }
-        int nextOldTokenStartOffset = oldToken.textRangeWithMinutiae().endOffset();
+        int nextOldTokenStartOffset = oldNode.textRangeWithMinutiae().endOffset();
         TextEditRange textEditRange = state.textEditRanges.peek();
         if (nextOldTokenStartOffset < textEditRange.oldEndOffset) {
             return;
@@ -157,9 +193,28 @@ class HybridNodes {
             return false;
         }
 
+        // Nodes with diagnostics may contain the tokens recovered from errors in the old tree, which are recovered
+        // differently with the new text
+        if (node.internalNode().hasDiagnostics()) {
+            return false;
+        }
+
         return noOverlapWithCurrentTextEdit(node, state.textEditRanges);
     }
 
+    /**
+     * Checks whether the given token is the same token the lexer creates for its text. The parser replaces some of
+     * the tokens, e.g. a {@code key} identifier with the key keyword or two {@code >} tokens with a shift operator,
+     * and such a token does not fit a context in which the parser expects the lexed one.
+     *
+     * @param token a token from the old tree
+     * @return true if the lexer creates the same token
+     */
+    private static boolean isLexedToken(STToken token) {
+        STToken lexedToken = new BallerinaLexer(CharReader.from(token.text())).nextToken();
+        return lexedToken.kind == token.kind && lexedToken.width() == token.width();
+    }
+
     private static boolean noOverlapWithCurrentTextEdit(Node oldNode,
                                                         PersistentStack<TextEditRange> textEditRanges) {
         if (textEditRanges.isEmpty()) {
@@ -64,14 +64,17 @@ public class HybridTokenReader extends AbstractTokenReader {
 
     @Override
     public void startMode(ParserMode mode) {
+        this.hybridNodeStorage.lexer().startMode(mode);
     }
 
     @Override
     public void switchMode(ParserMode mode) {
+        this.hybridNodeStorage.lexer().switchMode(mode);
     }
 
     @Override
     public void endMode() {
+        this.hybridNodeStorage.lexer().endMode();
     }
 
     @Override
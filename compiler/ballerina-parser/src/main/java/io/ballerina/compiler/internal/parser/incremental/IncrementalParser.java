@@ -58,9 +58,11 @@ public class IncrementalParser extends BallerinaParser {
     }
 
     private STNode getIfReusable(STNode node, Predicate<SyntaxKind> predicate) {
-        if (node != null && predicate.test(node.kind)) {
-            this.subtreeSupplier.consume();
+        // A reused subtree does not go through consume(), so it cannot carry the tokens of the error recovery
+        if (node == null || !predicate.test(node.kind) || hasPendingRecoveredTokens()) {
+            return null;
         }
+        this.subtreeSupplier.consume();
         return node;
     }
 
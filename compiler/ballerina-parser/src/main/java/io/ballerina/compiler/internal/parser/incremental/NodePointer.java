@@ -17,13 +17,11 @@
  */
 package io.ballerina.compiler.internal.parser.incremental;
 
-import io.ballerina.compiler.internal.syntax.SyntaxUtils;
 import io.ballerina.compiler.syntax.tree.ChildNodeList;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NonTerminalNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
-import io.ballerina.compiler.syntax.tree.Token;
 
 /**
  * Represents a pointer to a {@code Node} in the syntax tree.
@@ -51,10 +49,6 @@ class NodePointer {
         return new NodePointer(current, childBucketIndex);
     }
 
-    Token currentToken() {
-        return (Token) current;
-    }
-
     Node currentNode() {
         return current;
     }
@@ -95,29 +89,6 @@ class NodePointer {
         return moveToParent().nextSibling();
     }
 
-    /**
-     * Returns a {@code NodePointer} to the next token. If the current
-     * {@code NodePointer} is at token, then return the current {@code NodePointer}.
-     * If the current {@code NodePointer} is at a {@code NonTerminalNode}, then move
-     * down until you reach a token.
-     *
-     * @return NodePointer pointer to the next token
-     */
-    NodePointer nextToken() {
-        NodePointer nodePointer = this;
-        if (isAtEOF()) {
-            return this;
-        }
-
-        Node node = nodePointer.current;
-        while (!SyntaxUtils.isToken(node)) {
-            nodePointer = nodePointer.nextChild();
-            node = nodePointer.current;
-        }
-
-        return nodePointer;
-    }
-
     private NodePointer moveToParent() {
         NonTerminalNode parent = current.parent();
         if (parent.parent() == null) {
@@ -67,6 +67,24 @@ public class ModuleLevelDeclarationTest extends AbstractIncrementalParserTest {
         Assert.assertEquals(funcName.text(), "main");
     }
 
+    @Test
+    public void testUpdatingEmptyFunctionBody() {
+        String input = "function foo() {\n}";
+        TextDocument textDocument = TextDocuments.from(input);
+        SyntaxTree oldTree = SyntaxTree.from(textDocument);
+
+        // Adding a statement, the old function body cannot be reused
+        TextEdit[] edits = new TextEdit[]{TextEdit.from(TextRange.from(16, 0), "\n    int a = 1;")};
+        TextDocumentChange textDocumentChange = TextDocumentChange.from(edits);
+        SyntaxTree newTree = SyntaxTree.from(oldTree, textDocumentChange);
+
+        Assert.assertEquals(newTree.toSourceCode(), "function foo() {\n    int a = 1;\n}");
+        Assert.assertFalse(newTree.hasDiagnostics());
+        ModulePartNode modulePartNode = newTree.rootNode();
+        FunctionDefinitionNode functionDefinitionNode = (FunctionDefinitionNode) modulePartNode.members().get(0);
+        Assert.assertEquals(functionDefinitionNode.functionBody().kind(), SyntaxKind.FUNCTION_BODY_BLOCK);
+    }
+
     @Test
     public void testReusingModuleLevelDeclerations() {
         SyntaxTree oldTree = parseFile("module_declarations/module_declarations_old.bal");
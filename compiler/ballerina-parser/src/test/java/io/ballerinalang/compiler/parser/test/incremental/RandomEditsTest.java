@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerinalang.compiler.parser.test.incremental;
+
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextLine;
+import io.ballerina.tools.text.TextRange;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * Compares incrementally parsed syntax trees with fully parsed ones over random edits.
+ *
+ * @since 2.0.0
+ */
+public class RandomEditsTest extends AbstractIncrementalParserTest {
+
+    private static final String[] INSERTIONS = {"a", " ", "\n    int x = 1;", "}", "(", "`", "#", "${", "\""};
+
+    @Test
+    public void testRandomEdits() {
+        Random random = new Random(20210401);
+        SyntaxTree sourceTree = parseFile("random_edits/random_edits_source.bal");
+        // Each round applies a few consecutive edits, so that the trees also contain reused erroneous nodes without
+        // the source drifting too far from valid code
+        for (int round = 0; round < 20; round++) {
+            SyntaxTree oldTree = sourceTree;
+            for (int i = 0; i < 4; i++) {
+                TextEdit textEdit = randomEdit(oldTree.textDocument(), random);
+                oldTree = assertIncrementalParse(oldTree, textEdit);
+                if (!oldTree.toSourceCode().equals(oldTree.textDocument().toString())) {
+                    // The text ranges of the tree no longer match the text document
+                    break;
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testEditsInsideTemplatesAndDocumentation() {
+        SyntaxTree oldTree = parseFile("random_edits/random_edits_source.bal");
+        String text = oldTree.toSourceCode();
+        String[] targets = {"Hello", "return - the", "<name>", "aabb", "${person.age}</age>"};
+        for (String target : targets) {
+            int offset = text.indexOf(target);
+            assertIncrementalParse(oldTree, TextEdit.from(TextRange.from(offset, 0), "`"));
+            assertIncrementalParse(oldTree, TextEdit.from(TextRange.from(offset, target.length()), "x"));
+            assertIncrementalParse(oldTree, TextEdit.from(TextRange.from(offset + 1, 0), "\n"));
+        }
+    }
+
+    private static SyntaxTree assertIncrementalParse(SyntaxTree oldTree, TextEdit textEdit) {
+        String oldText = oldTree.toSourceCode();
+        int start = textEdit.range().startOffset();
+        String newText = oldText.substring(0, start) + textEdit.text() +
+                oldText.substring(textEdit.range().endOffset());
+
+        SyntaxTree newTree = SyntaxTree.from(oldTree, TextDocumentChange.from(new TextEdit[]{textEdit}));
+        SyntaxTree expectedTree = SyntaxTree.from(TextDocuments.from(newText));
+        String message = "edit at " + start + " replacing " + textEdit.range().length() + " chars with '" +
+                textEdit.text() + "' in:\n" + oldText;
+        Assert.assertEquals(newTree.textDocument().toString(), newText, message);
+        // The error recovery may drop tokens, hence compare the source code with the full parse, not the new text
+        Assert.assertEquals(newTree.toSourceCode(), expectedTree.toSourceCode(), message);
+        Assert.assertEquals(toKindTree(newTree.rootNode()), toKindTree(expectedTree.rootNode()), message);
+        return newTree;
+    }
+
+    private static TextEdit randomEdit(TextDocument textDocument, Random random) {
+        int lineCount = textDocument.linePositionFrom(textDocument.toString().length()).line() + 1;
+        TextLine line = textDocument.line(random.nextInt(lineCount));
+        switch (random.nextInt(4)) {
+            case 0:
+                // Delete a line
+                return TextEdit.from(TextRange.from(line.startOffset(), line.lengthWithNewLineChars()), "");
+            case 1:
+                // Duplicate another line
+                TextLine otherLine = textDocument.line(random.nextInt(lineCount));
+                return TextEdit.from(TextRange.from(line.startOffset(), 0), otherLine.text() + "\n");
+            case 2:
+                // Delete a few characters
+                int offset = line.startOffset() + random.nextInt(line.length() + 1);
+                int length = Math.min(random.nextInt(4), line.endOffset() - offset);
+                return TextEdit.from(TextRange.from(offset, length), "");
+            default:
+                // Insert a token fragment
+                offset = line.startOffset() + random.nextInt(line.length() + 1);
+                return TextEdit.from(TextRange.from(offset, 0), INSERTIONS[random.nextInt(INSERTIONS.length)]);
+        }
+    }
+
+    private static String toKindTree(Node node) {
+        StringBuilder kindTree = new StringBuilder();
+        appendKindTree(node, kindTree);
+        return kindTree.toString();
+    }
+
+    private static void appendKindTree(Node node, StringBuilder kindTree) {
+        kindTree.append(node.kind()).append('(');
+        if (node instanceof NonTerminalNode) {
+            for (Node child : ((NonTerminalNode) node).children()) {
+                appendKindTree(child, kindTree);
+            }
+        } else {
+            kindTree.append(node.toSourceCode());
+        }
+        kindTree.append(')');
+    }
+}
@@ -0,0 +1,50 @@
+import ballerina/io;
+
+const int MAX = 10;
+
+type Person record {|
+    string name;
+    int age = 0;
+|};
+
+# Returns the greeting for the given person.
+#
+# + person - the person to greet
+# + return - the greeting
+public function greet(Person person) returns string {
+    string greeting = string `Hello ${person.name}, you are ${person.age}`;
+    if person.age > MAX {
+        greeting = greeting + "!";
+    }
+    return greeting;
+}
+
+function sum(int[] values) returns int {
+    int total = 0;
+    foreach int value in values {
+        total += value;
+    }
+    return total;
+}
+
+function toXml(Person person) returns xml {
+    xml name = xml `<name>${person.name}</name>`;
+    return xml `<person>${name}<age>${person.age}</age></person>`;
+}
+
+public function main() {
+    Person person = {name: "Anne", age: 12};
+    io:println(greet(person));
+    byte[] data = base16 `aabbccdd`;
+    map<int> counts = {a: 1, b: 2};
+    counts["c"] = sum([1, 2, 3]) + data.length();
+    worker w1 {
+        int x = 1;
+        x -> w2;
+    }
+    worker w2 {
+        int y = <- w1;
+        io:println(y);
+    }
+    io:println(toXml(person));
+}
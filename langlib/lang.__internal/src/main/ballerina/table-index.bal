@@ -0,0 +1,54 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Adds a secondary index on a readonly field of the members of a table. The index is kept up to date when members are
+# added, replaced or removed, and is used by `getTableRowsByField` and `getTableRowsInRange`.
+#
+# + t - the table
+# + fieldName - name of the readonly field to index
+# + sorted - true for an index which also answers range lookups
+public isolated function addTableIndex(table<map<any|error>> t, string fieldName, boolean sorted) = @java:Method {
+    'class: "org.ballerinalang.langlib.internal.TableIndex",
+    name: "addTableIndex"
+} external;
+
+# Returns the members of a table whose given field is equal to the given value, in the order of the table.
+#
+# + t - the table
+# + fieldName - name of the field
+# + value - value of the field to look for
+# + return - an array of the matching members of `t`
+public isolated function getTableRowsByField(table<Type> t, string fieldName, anydata value) returns Type[] =
+@java:Method {
+    'class: "org.ballerinalang.langlib.internal.TableIndex",
+    name: "getTableRowsByField"
+} external;
+
+# Returns the members of a table whose given field is within the given range, ordered by the field. Members where
+# the field is nil are never in the range.
+#
+# + t - the table
+# + fieldName - name of the field
+# + lowerBound - lower bound of the range, inclusive, or nil if there is no lower bound
+# + upperBound - upper bound of the range, exclusive, or nil if there is no upper bound
+# + return - an array of the matching members of `t`
+public isolated function getTableRowsInRange(table<Type> t, string fieldName, anydata lowerBound,
+                                             anydata upperBound) returns Type[] = @java:Method {
+    'class: "org.ballerinalang.langlib.internal.TableIndex",
+    name: "getTableRowsInRange"
+} external;
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.internal;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.values.TableValue;
+
+import java.util.List;
+
+/**
+ * Native implementation of lang.internal:addTableIndex, getTableRowsByField and getTableRowsInRange.
+ *
+ * @since 2.0.0
+ */
+public class TableIndex {
+
+    public static void addTableIndex(BTable t, BString fieldName, boolean sorted) {
+        ((TableValue<?, ?>) t).addIndex(fieldName, sorted);
+    }
+
+    public static BArray getTableRowsByField(BTable t, BString fieldName, Object value) {
+        return toArray(t, ((TableValue<?, ?>) t).getRowsByField(fieldName, value));
+    }
+
+    public static BArray getTableRowsInRange(BTable t, BString fieldName, Object lowerBound, Object upperBound) {
+        return toArray(t, ((TableValue<?, ?>) t).getRowsInRange(fieldName, lowerBound, upperBound));
+    }
+
+    private static BArray toArray(BTable t, List<?> rows) {
+        return ValueCreator.createArrayValue(rows.toArray(), TypeCreator.createArrayType(
+                ((TableType) t.getType()).getConstrainedType()));
+    }
+}
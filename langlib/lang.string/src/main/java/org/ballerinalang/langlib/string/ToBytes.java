@@ -18,11 +18,10 @@
 package org.ballerinalang.langlib.string;
 
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BString;
 
-import java.nio.charset.StandardCharsets;
-
 /**
  * Convert String to byte array.
  */
@@ -38,7 +37,7 @@ public class ToBytes {
 
     public static BArray toBytes(BString value) {
 
-        byte[] bytes = value.getValue().getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = StringUtils.toUtf8Bytes(value);
         return ValueCreator.createArrayValue(bytes);
     }
 }
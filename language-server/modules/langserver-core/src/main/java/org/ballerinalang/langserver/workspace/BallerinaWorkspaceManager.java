@@ -40,6 +40,12 @@ import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.directory.SingleFileProject;
 import io.ballerina.projects.util.ProjectConstants;
 import io.ballerina.projects.util.ProjectPaths;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextLine;
+import io.ballerina.tools.text.TextRange;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.ballerinalang.langserver.LSClientLogger;
@@ -54,12 +60,16 @@ import org.eclipse.lsp4j.DidCloseTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.FileChangeType;
 import org.eclipse.lsp4j.FileEvent;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
@@ -259,18 +269,31 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         ProjectPair projectPair = createOrGetProjectPair(filePath, LSContextOperation.TXT_DID_CHANGE.getName());
 
         Project project = projectPair.project();
+        List<TextDocumentContentChangeEvent> contentChanges = params.getContentChanges();
         if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.BALLERINA_TOML))) {
             // Update Ballerina.toml
-            updateBallerinaToml(params.getContentChanges().get(0).getText(), projectPair, false);
+            TextDocument textDocument = project.currentPackage().ballerinaToml()
+                    .map(toml -> toml.tomlDocument().textDocument())
+                    .orElseThrow(() -> new WorkspaceDocumentException(
+                            ProjectConstants.BALLERINA_TOML + " does not exists!"));
+            updateBallerinaToml(applyContentChanges(textDocument, contentChanges), projectPair, false);
         } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.DEPENDENCIES_TOML))) {
             // create or update Dependencies.toml
-            updateDependenciesToml(params.getContentChanges().get(0).getText(), projectPair, false);
+            TextDocument textDocument = project.currentPackage().dependenciesToml()
+                    .map(toml -> toml.tomlDocument().textDocument())
+                    .orElseThrow(() -> new WorkspaceDocumentException(
+                            ProjectConstants.DEPENDENCIES_TOML + " does not exists!"));
+            updateDependenciesToml(applyContentChanges(textDocument, contentChanges), projectPair, false);
         } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.CLOUD_TOML))) {
             // create or update Cloud.toml
-            updateCloudToml(params.getContentChanges().get(0).getText(), projectPair, false);
+            TextDocument textDocument = project.currentPackage().cloudToml()
+                    .map(toml -> toml.tomlDocument().textDocument())
+                    .orElseThrow(() -> new WorkspaceDocumentException(
+                            ProjectConstants.CLOUD_TOML + " does not exists!"));
+            updateCloudToml(applyContentChanges(textDocument, contentChanges), projectPair, false);
         } else if (ProjectPaths.isBalFile(filePath)) {
-            // Update .bal document
-            updateDocument(filePath, params.getContentChanges().get(0).getText(), projectPair, false);
+            // Update .bal document with the edited ranges
+            updateDocument(filePath, contentChanges, projectPair);
         } else {
             throw new WorkspaceDocumentException("Unsupported file update");
         }
@@ -712,6 +735,64 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         }
     }
 
+    private void updateDocument(Path filePath, List<TextDocumentContentChangeEvent> contentChanges,
+                                ProjectPair projectPair) throws WorkspaceDocumentException {
+        // Lock Project Instance
+        Lock lock = projectPair.lockAndGet();
+        try {
+            // Get document
+            Optional<Document> document = document(filePath, projectPair.project());
+            if (document.isEmpty()) {
+                throw new WorkspaceDocumentException("Document does not exist in path: " + filePath.toString());
+            }
+
+            // Add the changes in the order they were sent by the client, each relative to the content after the
+            // previous change, and create the updated document once
+            Document.Modifier modifier = document.get().modify();
+            for (TextDocumentContentChangeEvent contentChange : contentChanges) {
+                if (contentChange.getRange() == null) {
+                    modifier.withContent(contentChange.getText());
+                } else {
+                    modifier.withTextDocumentChange(toTextDocumentChange(modifier.textDocument(), contentChange));
+                }
+            }
+            Document updatedDoc = modifier.apply();
+
+            // Update project instance
+            projectPair.setProject(updatedDoc.module().project());
+        } finally {
+            // Unlock Project Instance
+            lock.unlock();
+        }
+    }
+
+    private static String applyContentChanges(TextDocument textDocument,
+                                              List<TextDocumentContentChangeEvent> contentChanges) {
+        for (TextDocumentContentChangeEvent contentChange : contentChanges) {
+            if (contentChange.getRange() == null) {
+                textDocument = TextDocuments.from(contentChange.getText());
+            } else {
+                textDocument = textDocument.apply(toTextDocumentChange(textDocument, contentChange));
+            }
+        }
+        return textDocument.toString();
+    }
+
+    private static TextDocumentChange toTextDocumentChange(TextDocument textDocument,
+                                                           TextDocumentContentChangeEvent contentChange) {
+        Range range = contentChange.getRange();
+        int start = toTextPosition(textDocument, range.getStart());
+        int end = toTextPosition(textDocument, range.getEnd());
+        TextEdit textEdit = TextEdit.from(TextRange.from(start, end - start), contentChange.getText());
+        return TextDocumentChange.from(new TextEdit[]{textEdit});
+    }
+
+    private static int toTextPosition(TextDocument textDocument, Position position) {
+        // As per the LSP, a character past the end of the line defaults back to the line length
+        TextLine textLine = textDocument.line(position.getLine());
+        return textLine.startOffset() + Math.min(position.getCharacter(), textLine.length());
+    }
+
     /**
      * The document close notification is sent from the client to the server when the document got closed in the
      * client.
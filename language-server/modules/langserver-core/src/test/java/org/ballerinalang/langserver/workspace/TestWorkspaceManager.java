@@ -29,6 +29,8 @@ import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.FileChangeType;
 import org.eclipse.lsp4j.FileEvent;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
@@ -86,6 +88,51 @@ public class TestWorkspaceManager {
         Assert.assertEquals(document.get().syntaxTree().textDocument().toString(), dummyContent);
     }
 
+    @Test
+    public void testUpdateDocumentWithOrderedEdits() throws WorkspaceDocumentException {
+        Path filePath = RESOURCE_DIRECTORY.resolve("myproject").resolve("main.bal").toAbsolutePath();
+        openFile(filePath);
+
+        // Each change is relative to the content after the previous change
+        DidChangeTextDocumentParams params = new DidChangeTextDocumentParams();
+        params.setTextDocument(new VersionedTextDocumentIdentifier(filePath.toUri().toString(), 1));
+        params.getContentChanges().add(contentChange(0, 16, 0, 16, CommonUtil.LINE_SEPARATOR + "    int a = 1;"));
+        params.getContentChanges().add(contentChange(0, 9, 0, 12, "bar"));
+        params.getContentChanges().add(contentChange(1, 12, 1, 13, "2"));
+        // A character past the end of the line defaults back to the line length
+        params.getContentChanges().add(contentChange(2, 50, 2, 60, " // end"));
+        workspaceManager.didChange(filePath, params);
+
+        Document document = workspaceManager.document(filePath).orElseThrow();
+        String expected = "function bar() {" + CommonUtil.LINE_SEPARATOR + "    int a = 2;" +
+                CommonUtil.LINE_SEPARATOR + "} // end";
+        Assert.assertEquals(document.syntaxTree().textDocument().toString(), expected);
+        Assert.assertEquals(document.syntaxTree().toSourceCode(), expected);
+    }
+
+    @Test
+    public void testUpdateCloudTomlWithEdits() throws WorkspaceDocumentException, IOException {
+        Path filePath = RESOURCE_DIRECTORY.resolve("myproject").resolve("main.bal").toAbsolutePath();
+        Path cloudTomlFile = RESOURCE_DIRECTORY.resolve("myproject").resolve(ProjectConstants.CLOUD_TOML)
+                .toAbsolutePath();
+        Files.write(cloudTomlFile, "[container.image]\nname = \"hello\"\n".getBytes());
+        try {
+            openFile(filePath);
+
+            DidChangeTextDocumentParams params = new DidChangeTextDocumentParams();
+            params.setTextDocument(new VersionedTextDocumentIdentifier(cloudTomlFile.toUri().toString(), 1));
+            params.getContentChanges().add(contentChange(1, 8, 1, 13, "world"));
+            params.getContentChanges().add(contentChange(2, 0, 2, 20, "tag = \"v1\""));
+            workspaceManager.didChange(cloudTomlFile, params);
+
+            Project project = workspaceManager.project(filePath).orElseThrow();
+            Assert.assertEquals(project.currentPackage().cloudToml().orElseThrow().tomlDocument().textDocument()
+                                        .toString(), "[container.image]\nname = \"world\"\ntag = \"v1\"");
+        } finally {
+            Files.deleteIfExists(cloudTomlFile);
+        }
+    }
+
     @Test
     public void testWSEventsCreateBalSource() throws WorkspaceDocumentException, IOException {
         Path filePath = RESOURCE_DIRECTORY.resolve("myproject").resolve("main.bal").toAbsolutePath();
@@ -361,6 +408,13 @@ public class TestWorkspaceManager {
         workspaceManager.didOpen(singleFile, params);
     }
 
+    private static TextDocumentContentChangeEvent contentChange(int startLine, int startCharacter, int endLine,
+                                                                int endCharacter, String text) {
+        TextDocumentContentChangeEvent contentChange = new TextDocumentContentChangeEvent(text);
+        contentChange.setRange(new Range(new Position(startLine, startCharacter), new Position(endLine, endCharacter)));
+        return contentChange;
+    }
+
     @DataProvider
     public Object[] fileOpenUpdateTestDataProvider() {
         return new Path[]{
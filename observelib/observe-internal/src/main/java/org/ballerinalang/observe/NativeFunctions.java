@@ -19,6 +19,7 @@ package org.ballerinalang.observe;
 
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
 import io.ballerina.runtime.observability.ObserveUtils;
 import io.ballerina.runtime.observability.metrics.BallerinaMetricsObserver;
 import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
@@ -55,8 +56,10 @@ public class NativeFunctions {
 
         try {
             selectedProvider.init();
-            DefaultMetricRegistry.setInstance(new MetricRegistry(selectedProvider));
+            MetricRegistry metricRegistry = new MetricRegistry(selectedProvider);
+            DefaultMetricRegistry.setInstance(metricRegistry);
             ObserveUtils.addObserver(new BallerinaMetricsObserver());
+            Scheduler.getStrand().scheduler.getMetrics().register(metricRegistry);
             return null;
         } catch (BError e) {
             return e;
@@ -90,6 +90,15 @@ public function lookupMetric(string name, map<string>? tags = ()) returns Counte
     name: "lookupMetric"
 } external;
 
+# Generates a dump of the live strands, similar to a thread dump. For each strand the dump contains where the strand
+# was created, its state and what it is waiting on. The strands are only tracked when metrics are enabled.
+#
+# + return - The strand dump.
+public function getStrandDump() returns string = @java:Method {
+    'class: "org.ballerinalang.observe.nativeimpl.GetStrandDump",
+    name: "getStrandDump"
+} external;
+
 # This represents the metric type - counter, that can be only increased by an integer number.
 #
 # + name - Name of the counter metric.
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.observe;
+
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Tests for the strand dump.
+ *
+ * @since 2.0.0
+ */
+public class StrandDumpTest {
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        String resourceRoot = Paths.get("src", "test", "resources").toAbsolutePath().toString();
+        Path testResourceRoot = Paths.get(resourceRoot, "test-src");
+        compileResult = BCompileUtil.compile(testResourceRoot.resolve("strand_dump_test.bal").toString());
+    }
+
+    @Test
+    public void testStrandDump() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testStrandDump");
+        String dump = returns[0].stringValue();
+        // Metrics are not enabled in the tests, so the strands are not tracked
+        Assert.assertTrue(dump.startsWith("Ballerina strand dump: strands are not tracked"), dump);
+    }
+}
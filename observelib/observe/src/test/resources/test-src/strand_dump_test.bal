@@ -0,0 +1,5 @@
+import ballerina/observe;
+
+function testStrandDump() returns string {
+    return observe:getStrandDump();
+}
@@ -17,6 +17,8 @@
  */
 package io.ballerina.projects.test;
 
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.BuildOptionsBuilder;
 import io.ballerina.projects.CompilationCache;
 import io.ballerina.projects.CompilationCacheFactory;
 import io.ballerina.projects.CompilerBackend;
@@ -39,6 +41,10 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -50,6 +56,7 @@ import java.util.stream.Stream;
  */
 public class TestBirAndJarCache {
     private static final Path RESOURCE_DIRECTORY = Paths.get("src/test/resources/");
+    private static final FileTime PREVIOUS_BUILD_TIME = FileTime.fromMillis(0);
 
     @Test(description = "tests writing of the BIR and Jar files")
     public void testBirAndJarCaching() throws IOException {
@@ -97,6 +104,121 @@ public class TestBirAndJarCache {
         }
     }
 
+    @Test(description = "tests reusing the cached BIR and jar files of the unchanged modules")
+    public void testIncrementalBuild() throws IOException {
+        Path projectPath = Files.createTempDirectory("test-incremental-build" + System.nanoTime());
+        copyDirectory(RESOURCE_DIRECTORY.resolve("balawriter").resolve("projectOne"), projectPath);
+        BuildOptions buildOptions = new BuildOptionsBuilder().skipTests(true).incrementalBuild(true).build();
+
+        // 1) Build the project, which caches the BIR and the content hash of each module
+        Package currentPackage = build(projectPath, buildOptions);
+        List<Path> birFiles = findCachedFiles(projectPath, ".bir");
+        Assert.assertEquals(birFiles.size(), currentPackage.moduleIds().size());
+        Assert.assertEquals(findCachedFiles(projectPath, ".hash").size(), currentPackage.moduleIds().size());
+
+        // 2) Rebuild the unchanged project, which should not compile any of the modules again
+        resetBuildTime(birFiles);
+        build(projectPath, buildOptions);
+        assertCompiledModules(birFiles);
+
+        // 3) Rebuild after changing the storage module, which should compile only that module again
+        resetBuildTime(birFiles);
+        Path storageSourcePath = projectPath.resolve("modules").resolve("storage").resolve("db.bal");
+        Files.writeString(storageSourcePath, "\npublic function closeDatabase() {\n}\n", StandardOpenOption.APPEND);
+        build(projectPath, buildOptions);
+        assertCompiledModules(birFiles, "winery.storage.bir");
+    }
+
+    @Test(description = "tests that incremental builds compile the dependents of a changed module again")
+    public void testIncrementalBuildOfDependentModules() throws IOException {
+        Path projectPath = Files.createTempDirectory("test-incremental-build" + System.nanoTime());
+        copyDirectory(RESOURCE_DIRECTORY.resolve("balawriter").resolve("projectOne"), projectPath);
+        // Make the services module depend on the storage module
+        Files.writeString(projectPath.resolve("modules").resolve("services").resolve("storage_client.bal"),
+                "import winery.storage;\n\npublic function initServices() {\n    storage:initDatabase();\n}\n");
+        BuildOptions buildOptions = new BuildOptionsBuilder().skipTests(true).incrementalBuild(true).build();
+        build(projectPath, buildOptions);
+        List<Path> birFiles = findCachedFiles(projectPath, ".bir");
+
+        // 1) Rebuild after changing the storage module, which should compile the services module again as well
+        resetBuildTime(birFiles);
+        Path storageSourcePath = projectPath.resolve("modules").resolve("storage").resolve("db.bal");
+        Files.writeString(storageSourcePath, "\npublic function closeDatabase() {\n}\n", StandardOpenOption.APPEND);
+        build(projectPath, buildOptions);
+        assertCompiledModules(birFiles, "winery.storage.bir", "winery.services.bir");
+
+        // 2) Rebuild after changing the services module, which has no dependents in the package
+        resetBuildTime(birFiles);
+        Path servicesSourcePath = projectPath.resolve("modules").resolve("services").resolve("svc.bal");
+        Files.writeString(servicesSourcePath, "\npublic function stopServices() {\n}\n", StandardOpenOption.APPEND);
+        build(projectPath, buildOptions);
+        assertCompiledModules(birFiles, "winery.services.bir");
+
+        // 3) Rebuild after changing a platform library of the package, which should compile all the modules again
+        resetBuildTime(birFiles);
+        Path platformLibPath = projectPath.resolve("libs").resolve("ballerina-io-1.0.0-java.txt");
+        Files.writeString(platformLibPath, "changed", StandardOpenOption.APPEND);
+        build(projectPath, buildOptions);
+        assertCompiledModules(birFiles, birFiles.stream()
+                .map(birFile -> birFile.getFileName().toString()).toArray(String[]::new));
+
+        // 4) Rebuild after changing the platform section of the Ballerina.toml file
+        resetBuildTime(birFiles);
+        Path ballerinaTomlPath = projectPath.resolve("Ballerina.toml");
+        Files.writeString(ballerinaTomlPath, Files.readString(ballerinaTomlPath)
+                .replace("\nscope = \"testOnly\"", ""));
+        build(projectPath, buildOptions);
+        assertCompiledModules(birFiles, birFiles.stream()
+                .map(birFile -> birFile.getFileName().toString()).toArray(String[]::new));
+    }
+
+    private static void resetBuildTime(List<Path> birFiles) throws IOException {
+        for (Path birFile : birFiles) {
+            Files.setLastModifiedTime(birFile, PREVIOUS_BUILD_TIME);
+        }
+    }
+
+    private static void assertCompiledModules(List<Path> birFiles, String... compiledBirFileNames)
+            throws IOException {
+        List<String> compiledBirFiles = Arrays.asList(compiledBirFileNames);
+        for (Path birFile : birFiles) {
+            boolean isCompiled = compiledBirFiles.contains(birFile.getFileName().toString());
+            Assert.assertEquals(!Files.getLastModifiedTime(birFile).equals(PREVIOUS_BUILD_TIME), isCompiled,
+                    birFile.toString());
+        }
+    }
+
+    private static Package build(Path projectPath, BuildOptions buildOptions) {
+        BuildProject project = BuildProject.load(projectPath, buildOptions);
+        Package currentPackage = project.currentPackage();
+        PackageCompilation pkgCompilation = currentPackage.getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(pkgCompilation, JvmTarget.JAVA_11);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors(),
+                jBallerinaBackend.diagnosticResult().errors().toString());
+        return currentPackage;
+    }
+
+    private static List<Path> findCachedFiles(Path projectPath, String fileExtension) throws IOException {
+        try (Stream<Path> pathStream = Files.find(projectPath.resolve("target"), 100,
+                (path, fileAttributes) -> !Files.isDirectory(path) &&
+                        path.getFileName().toString().endsWith(fileExtension))) {
+            return pathStream.collect(Collectors.toList());
+        }
+    }
+
+    private static void copyDirectory(Path source, Path target) throws IOException {
+        try (Stream<Path> pathStream = Files.walk(source)) {
+            for (Path path : pathStream.collect(Collectors.toList())) {
+                Path targetPath = target.resolve(source.relativize(path).toString());
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(targetPath);
+                } else {
+                    Files.copy(path, targetPath, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+    }
+
     /**
      * An instance of {@code CompilationCacheFactory} used for testing purposes.
      */
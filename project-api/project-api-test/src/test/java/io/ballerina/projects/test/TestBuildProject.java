@@ -54,19 +54,29 @@ import io.ballerina.projects.util.ProjectUtils;
 import io.ballerina.toml.semantic.ast.TomlTableArrayNode;
 import io.ballerina.toml.semantic.ast.TomlTableNode;
 import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
 import org.testng.Assert;
 import org.testng.SkipException;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 import java.util.stream.Collectors;
 
 import static io.ballerina.projects.test.TestUtils.isWindows;
@@ -260,6 +270,92 @@ public class TestBuildProject {
         }
     }
 
+    @Test(description = "tests package diagnostics with parallel code generation")
+    public void testDiagnosticsWithParallelCodeGen() {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("test_proj_pkg_compilation");
+        BuildOptions buildOptions = new BuildOptionsBuilder().parallelCodeGen(true).build();
+
+        // 1) Initialize the project instance
+        BuildProject project = null;
+        try {
+            project = BuildProject.load(projectPath, buildOptions);
+        } catch (Exception e) {
+            Assert.fail(e.getMessage());
+        }
+        Assert.assertTrue(project.buildOptions().parallelCodeGen());
+
+        // 2) Compile the current package
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+
+        // The modules with errors are skipped by the code generator, the same as in the sequential mode
+        Assert.assertEquals(compilation.diagnosticResult().diagnosticCount(), 12);
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_11);
+        Assert.assertEquals(jBallerinaBackend.diagnosticResult().diagnosticCount(), 12);
+    }
+
+    @Test(description = "tests code generation of a build project with parallel code generation")
+    public void testParallelCodeGen() {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("myproject");
+
+        // 1) Generate the jar files of all the modules one module at a time
+        BuildProject project = null;
+        try {
+            project = BuildProject.load(projectPath);
+        } catch (Exception e) {
+            Assert.fail(e.getMessage());
+        }
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        JBallerinaBackend sequentialBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_11);
+        DiagnosticResult sequentialResult = sequentialBackend.diagnosticResult();
+        // Both builds write the jar files to the same cache, hence the entries are read before the second build
+        Map<ModuleName, Set<String>> sequentialJarEntries = getJarEntries(sequentialBackend, project.currentPackage());
+
+        // 2) Generate the jar files of the independent modules in parallel
+        BuildOptions buildOptions = new BuildOptionsBuilder().parallelCodeGen(true).build();
+        try {
+            project = BuildProject.load(projectPath, buildOptions);
+        } catch (Exception e) {
+            Assert.fail(e.getMessage());
+        }
+        compilation = project.currentPackage().getCompilation();
+        JBallerinaBackend parallelBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_11);
+        DiagnosticResult parallelResult = parallelBackend.diagnosticResult();
+
+        Assert.assertEquals(parallelResult.diagnosticCount(), sequentialResult.diagnosticCount(),
+                parallelResult.diagnostics().toString());
+        Assert.assertEquals(parallelResult.errorCount(), sequentialResult.errorCount());
+
+        // 3) Every module has a jar file with the same classes as in the sequential build. The class files themselves
+        // are not compared, since the names of the string constants depend on the order the classes are generated in
+        Map<ModuleName, Set<String>> parallelJarEntries = getJarEntries(parallelBackend, project.currentPackage());
+        Assert.assertEquals(parallelJarEntries.keySet(), sequentialJarEntries.keySet());
+        for (Map.Entry<ModuleName, Set<String>> moduleJarEntries : sequentialJarEntries.entrySet()) {
+            Assert.assertFalse(moduleJarEntries.getValue().isEmpty(),
+                    "no classes are generated for module: " + moduleJarEntries.getKey());
+            Assert.assertEquals(parallelJarEntries.get(moduleJarEntries.getKey()), moduleJarEntries.getValue(),
+                    "generated classes differ for module: " + moduleJarEntries.getKey());
+        }
+    }
+
+    private static Map<ModuleName, Set<String>> getJarEntries(JBallerinaBackend jBallerinaBackend,
+                                                              Package currentPackage) {
+        Map<ModuleName, Set<String>> jarEntries = new HashMap<>();
+        for (ModuleId moduleId : currentPackage.moduleIds()) {
+            ModuleName moduleName = currentPackage.module(moduleId).moduleName();
+            Path jarPath = jBallerinaBackend.codeGeneratedLibrary(currentPackage.packageId(), moduleName).path();
+            Assert.assertTrue(Files.exists(jarPath), "jar file is not generated for module: " + moduleName);
+            try (JarFile jarFile = new JarFile(jarPath.toFile())) {
+                jarEntries.put(moduleName, jarFile.stream()
+                        .map(JarEntry::getName)
+                        .filter(name -> name.endsWith(".class"))
+                        .collect(Collectors.toSet()));
+            } catch (IOException e) {
+                Assert.fail("failed to read the jar file of module: " + moduleName, e);
+            }
+        }
+        return jarEntries;
+    }
+
     @Test(description = "tests codegen with native libraries", enabled = false)
     public void testJBallerinaBackend() {
         Path projectPath = RESOURCE_DIRECTORY.resolve("test_proj_pkg_compilation_simple");
@@ -494,6 +590,29 @@ public class TestBuildProject {
         Assert.assertEquals(updatedPackage, updatedDoc.module().packageInstance());
     }
 
+    @Test
+    public void testUpdateDocumentWithTextDocumentChange() {
+        Path filePath = RESOURCE_DIRECTORY.resolve("myproject").resolve("main.bal").toAbsolutePath();
+        Project buildProject = ProjectLoader.loadProject(filePath);
+        DocumentId oldDocumentId = buildProject.documentId(filePath);
+        Document oldDocument = buildProject.currentPackage().module(oldDocumentId.moduleId()).document(oldDocumentId);
+        String oldContent = oldDocument.textDocument().toString();
+
+        // Insert a new function at the end of the document
+        String newFunction = "\nfunction newFunction() {\n}\n";
+        TextEdit textEdit = TextEdit.from(TextRange.from(oldContent.length(), 0), newFunction);
+        Document updatedDoc = oldDocument.modify()
+                .withTextDocumentChange(TextDocumentChange.from(new TextEdit[]{textEdit}))
+                .apply();
+
+        Assert.assertNotEquals(oldDocument, updatedDoc);
+        Assert.assertEquals(updatedDoc.textDocument().toString(), oldContent + newFunction);
+        Assert.assertEquals(updatedDoc.syntaxTree().toSourceCode(), oldContent + newFunction);
+        Assert.assertFalse(updatedDoc.syntaxTree().hasDiagnostics());
+        Assert.assertEquals(buildProject.currentPackage().module(oldDocumentId.moduleId()).document(oldDocumentId),
+                updatedDoc);
+    }
+
     @Test
     public void testAddDocument() {
         Path projectPath = RESOURCE_DIRECTORY.resolve("myproject");
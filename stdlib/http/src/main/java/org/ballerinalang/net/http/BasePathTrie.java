@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Segment trie of the service base paths of a host, used to find the most specific base path of a request path.
+ * <p>
+ * The trie is built once when the services are registered, and it is never modified afterwards. A lookup walks the
+ * raw request path once, segment by segment, without allocating. Hence the cost of a lookup depends on the length
+ * of the path, not on the number of services.
+ * <p>
+ * A base path matches a request path which is equal to it ignoring the case, or which starts with the base path
+ * followed by a {@code /}.
+ *
+ * @since 2.0.0
+ */
+public class BasePathTrie {
+
+    private static final char PATH_DELIMITER = '/';
+
+    private final Node root;
+
+    private BasePathTrie(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Builds a trie of the given base paths. A base path which is equal to another ignoring the case is matched
+     * after the ones which come before it.
+     *
+     * @param basePaths base paths of the services
+     * @return the trie
+     */
+    public static BasePathTrie build(List<String> basePaths) {
+        Node root = new Node(null);
+        for (String basePath : basePaths) {
+            if (basePath.length() <= 1 || basePath.charAt(0) != PATH_DELIMITER) {
+                // the default base path is matched when nothing else matches
+                continue;
+            }
+            Node node = root;
+            int start = 1;
+            while (true) {
+                int end = basePath.indexOf(PATH_DELIMITER, start);
+                if (end < 0) {
+                    end = basePath.length();
+                }
+                node = node.addChild(basePath.substring(start, end));
+                if (end == basePath.length()) {
+                    break;
+                }
+                start = end + 1;
+            }
+            node.basePaths.add(basePath);
+        }
+        root.freeze();
+        return new BasePathTrie(root);
+    }
+
+    /**
+     * Finds the longest base path which matches the given request path.
+     *
+     * @param path raw path of the request
+     * @return the base path or null if there is no match
+     */
+    public String match(String path) {
+        int length = path.length();
+        Node node = root;
+        String match = null;
+        int position = 0;
+        while (position < length && path.charAt(position) == PATH_DELIMITER) {
+            int start = position + 1;
+            int end = path.indexOf(PATH_DELIMITER, start);
+            if (end < 0) {
+                end = length;
+            }
+            node = node.findChild(path, start, end);
+            if (node == null) {
+                break;
+            }
+            if (node.matches != null) {
+                if (end == length) {
+                    // the whole path is equal to the base path ignoring the case, no longer base path can match
+                    return node.matches[0];
+                }
+                for (String basePath : node.matches) {
+                    if (path.startsWith(basePath)) {
+                        match = basePath;
+                        break;
+                    }
+                }
+            }
+            position = end;
+        }
+        return match;
+    }
+
+    private static int hash(String str, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + fold(str.charAt(i));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static char fold(char c) {
+        // folded the same way as String.regionMatches ignoring the case, hence equal segments hash the same
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * A path segment in the trie. The children are kept in an open addressing table, keyed by the case folded
+     * segment.
+     */
+    private static class Node {
+
+        private final String segment;
+        private Map<String, Node> childrenByKey = new LinkedHashMap<>();
+        private List<String> basePaths = new ArrayList<>();
+
+        private Node[] children;
+        private String[] matches;
+
+        Node(String segment) {
+            this.segment = segment;
+        }
+
+        Node addChild(String segment) {
+            char[] key = new char[segment.length()];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = fold(segment.charAt(i));
+            }
+            return childrenByKey.computeIfAbsent(new String(key), k -> new Node(segment));
+        }
+
+        void freeze() {
+            if (!basePaths.isEmpty()) {
+                matches = basePaths.toArray(new String[0]);
+            }
+            if (!childrenByKey.isEmpty()) {
+                int capacity = Integer.highestOneBit(childrenByKey.size() * 2 - 1) << 1;
+                children = new Node[capacity];
+                for (Node child : childrenByKey.values()) {
+                    int index = hash(child.segment, 0, child.segment.length()) & (capacity - 1);
+                    while (children[index] != null) {
+                        index = (index + 1) & (capacity - 1);
+                    }
+                    children[index] = child;
+                    child.freeze();
+                }
+            }
+            childrenByKey = null;
+            basePaths = null;
+        }
+
+        Node findChild(String path, int start, int end) {
+            if (children == null) {
+                return null;
+            }
+            int segmentLength = end - start;
+            int mask = children.length - 1;
+            int index = hash(path, start, end) & mask;
+            Node child;
+            while ((child = children[index]) != null) {
+                if (child.segment.length() == segmentLength &&
+                        path.regionMatches(true, start, child.segment, 0, segmentLength)) {
+                    return child;
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+    }
+}
@@ -100,6 +100,16 @@ public class HTTPServicesRegistry {
         return servicesMapByHost.get(hostName).sortedServiceURIs;
     }
 
+    /**
+     * Get the base path trie for given host name.
+     *
+     * @param hostName of the service
+     * @return the base path trie if exists else null
+     */
+    public BasePathTrie getBasePathTrieByHost(String hostName) {
+        return servicesMapByHost.get(hostName).basePathTrie;
+    }
+
     /**
      * Register a service into the map.
      *
@@ -135,6 +145,7 @@ public class HTTPServicesRegistry {
             //basePath will get cached after registering service
             sortedServiceURIs.add(basePath);
             sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            servicesMapByHost.get(hostName).rebuildBasePathTrie();
             // Register the WebSocket upgrade service in the WebSocket registry
             registerWebSocketUpgradeService(httpService, runtime);
         }
@@ -169,17 +180,10 @@ public class HTTPServicesRegistry {
     }
 
     public String findTheMostSpecificBasePath(String requestURIPath, Map<String, HttpService> services,
-                                              List<String> sortedServiceURIs) {
-        for (Object key : sortedServiceURIs) {
-            if (!requestURIPath.toLowerCase().contains(key.toString().toLowerCase())) {
-                continue;
-            }
-            if (requestURIPath.length() <= key.toString().length()) {
-                return key.toString();
-            }
-            if (requestURIPath.startsWith(key.toString().concat("/"))) {
-                return key.toString();
-            }
+                                              BasePathTrie basePathTrie) {
+        String basePath = basePathTrie.match(requestURIPath);
+        if (basePath != null) {
+            return basePath;
         }
         if (services.containsKey(HttpConstants.DEFAULT_BASE_PATH)) {
             return HttpConstants.DEFAULT_BASE_PATH;
@@ -200,15 +204,22 @@ public class HTTPServicesRegistry {
     }
 
     /**
-     * Holds both serviceByBasePath map and sorted Service basePath list.
+     * Holds the serviceByBasePath map, the sorted Service basePath list and the trie built from that list.
      */
     protected class ServicesMapHolder {
         private Map<String, HttpService> servicesByBasePath;
         private List<String> sortedServiceURIs;
+        private volatile BasePathTrie basePathTrie;
 
         public ServicesMapHolder(Map<String, HttpService> servicesByBasePath, List<String> sortedServiceURIs) {
             this.servicesByBasePath = servicesByBasePath;
             this.sortedServiceURIs = sortedServiceURIs;
+            rebuildBasePathTrie();
+        }
+
+        // The trie is never modified, a new one replaces it when the services change
+        private void rebuildBasePathTrie() {
+            this.basePathTrie = BasePathTrie.build(sortedServiceURIs);
         }
     }
 
@@ -239,6 +250,7 @@ public class HTTPServicesRegistry {
                                            basePath));
             }
             sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            servicesMapHolder.rebuildBasePathTrie();
         }
     }
 }
@@ -55,15 +55,15 @@ public class HttpDispatcher {
     public static HttpService findService(HTTPServicesRegistry servicesRegistry, HttpCarbonMessage inboundReqMsg) {
         try {
             Map<String, HttpService> servicesOnInterface;
-            List<String> sortedServiceURIs;
+            BasePathTrie basePathTrie;
             String hostName = inboundReqMsg.getHeader(HttpHeaderNames.HOST.toString());
 
             if (hostName != null && servicesRegistry.getServicesMapHolder(hostName) != null) {
                 servicesOnInterface = servicesRegistry.getServicesByHost(hostName);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(hostName);
+                basePathTrie = servicesRegistry.getBasePathTrieByHost(hostName);
             } else if (servicesRegistry.getServicesMapHolder(DEFAULT_HOST) != null) {
                 servicesOnInterface = servicesRegistry.getServicesByHost(DEFAULT_HOST);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(DEFAULT_HOST);
+                basePathTrie = servicesRegistry.getBasePathTrieByHost(DEFAULT_HOST);
             } else {
                 inboundReqMsg.setHttpStatusCode(404);
                 String localAddress = inboundReqMsg.getProperty(HttpConstants.LOCAL_ADDRESS).toString();
@@ -81,7 +81,7 @@ public class HttpDispatcher {
             URI validatedUri = getValidatedURI(uriWithoutMatrixParams);
 
             String basePath = servicesRegistry.findTheMostSpecificBasePath(validatedUri.getRawPath(),
-                    servicesOnInterface, sortedServiceURIs);
+                    servicesOnInterface, basePathTrie);
 
             if (basePath == null) {
                 inboundReqMsg.setHttpStatusCode(404);
@@ -168,37 +168,21 @@ public class HttpDispatcher {
 
         HttpResourceArguments resourceArgumentValues =
                 (HttpResourceArguments) httpCarbonMessage.getProperty(HttpConstants.RESOURCE_ARGS);
-        BMap pathParamOrder = HttpResource.getPathParamOrderMap(httpResource.getBalResource());
-
-        for (Object paramName : pathParamOrder.getKeys()) {
-            String argumentValue = resourceArgumentValues.getMap().get(paramName.toString());
-            try {
-                argumentValue = URLDecoder.decode(argumentValue, "UTF-8");
-            } catch (UnsupportedEncodingException e) {
-                // we can simply ignore and send the value to application and let the
-                // application deal with the value.
+        List<Type> pathParamTypes = signatureParams.getPathParamTypes();
+        int[] pathParamVariables = httpResource.getPathParamVariables();
+        if (pathParamVariables != null && resourceArgumentValues.hasPathVariables()) {
+            // the params are read from the request path in the signature order
+            for (int i = 0; i < pathParamVariables.length; i++) {
+                setPathParam(paramValues, (COMPULSORY_PARAM_COUNT + i) * 2, pathParamTypes.get(i),
+                             resourceArgumentValues.getPathVariable(pathParamVariables[i]));
             }
-            int actualSignatureParamIndex = ((Long) pathParamOrder.get(paramName)).intValue();
-            paramIndex = actualSignatureParamIndex * 2;
-            Type signatureParamType = signatureParams.getPathParamTypes().get(
-                    actualSignatureParamIndex - COMPULSORY_PARAM_COUNT);
-            try {
-                switch (signatureParamType.getTag()) {
-                    case TypeTags.INT_TAG:
-                        paramValues[paramIndex++] = Long.parseLong(argumentValue);
-                        break;
-                    case TypeTags.FLOAT_TAG:
-                        paramValues[paramIndex++] = Double.parseDouble(argumentValue);
-                        break;
-                    case TypeTags.BOOLEAN_TAG:
-                        paramValues[paramIndex++] = Boolean.parseBoolean(argumentValue);
-                        break;
-                    default:
-                        paramValues[paramIndex++] = BStringUtils.fromString(argumentValue);
-                }
-                paramValues[paramIndex] = true;
-            } catch (Exception ex) {
-                throw new BallerinaConnectorException("Error in casting path param : " + ex.getMessage());
+        } else {
+            BMap pathParamOrder = HttpResource.getPathParamOrderMap(httpResource.getBalResource());
+            for (Object paramName : pathParamOrder.getKeys()) {
+                int actualSignatureParamIndex = ((Long) pathParamOrder.get(paramName)).intValue();
+                setPathParam(paramValues, actualSignatureParamIndex * 2,
+                             pathParamTypes.get(actualSignatureParamIndex - COMPULSORY_PARAM_COUNT),
+                             resourceArgumentValues.get(paramName.toString()));
             }
         }
 
@@ -207,7 +191,8 @@ public class HttpDispatcher {
         }
         try {
             paramValues[paramValues.length - 2] = populateAndGetEntityBody(inRequest, inRequestEntity,
-                                                                   signatureParams.getEntityBody());
+                                                                   signatureParams.getEntityBody(),
+                                                                   signatureParams.isEntityBodyBindable());
             paramValues[paramValues.length - 1] = true;
         } catch (Exception ex) {
             httpCarbonMessage.setHttpStatusCode(Integer.parseInt(HttpConstants.HTTP_BAD_REQUEST));
@@ -216,8 +201,36 @@ public class HttpDispatcher {
         return paramValues;
     }
 
+    private static void setPathParam(Object[] paramValues, int paramIndex, Type signatureParamType,
+                                     String argumentValue) {
+        try {
+            argumentValue = URLDecoder.decode(argumentValue, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            // we can simply ignore and send the value to application and let the
+            // application deal with the value.
+        }
+        try {
+            switch (signatureParamType.getTag()) {
+                case TypeTags.INT_TAG:
+                    paramValues[paramIndex++] = Long.parseLong(argumentValue);
+                    break;
+                case TypeTags.FLOAT_TAG:
+                    paramValues[paramIndex++] = Double.parseDouble(argumentValue);
+                    break;
+                case TypeTags.BOOLEAN_TAG:
+                    paramValues[paramIndex++] = Boolean.parseBoolean(argumentValue);
+                    break;
+                default:
+                    paramValues[paramIndex++] = BStringUtils.fromString(argumentValue);
+            }
+            paramValues[paramIndex] = true;
+        } catch (Exception ex) {
+            throw new BallerinaConnectorException("Error in casting path param : " + ex.getMessage());
+        }
+    }
+
     private static Object populateAndGetEntityBody(BObject inRequest, BObject inRequestEntity,
-                                                   Type entityBodyType)
+                                                   Type entityBodyType, boolean bindable)
             throws IOException {
         HttpUtil.populateEntityBody(inRequest, inRequestEntity, true, true);
         try {
@@ -240,13 +253,13 @@ public class HttpDispatcher {
                         EntityBodyHandler.addMessageDataSource(inRequestEntity, blobDataSource);
                         return blobDataSource;
                     } else if (((ArrayType) entityBodyType).getElementType().getTag() == TypeTags.RECORD_TYPE_TAG) {
-                        return getRecordEntity(inRequestEntity, entityBodyType);
+                        return getRecordEntity(inRequestEntity, entityBodyType, bindable);
                     } else {
                         throw new BallerinaConnectorException("Incompatible Element type found inside an array " +
                                 ((ArrayType) entityBodyType).getElementType().getName());
                     }
                 case TypeTags.RECORD_TYPE_TAG:
-                    return getRecordEntity(inRequestEntity, entityBodyType);
+                    return getRecordEntity(inRequestEntity, entityBodyType, bindable);
                 default:
                         //Do nothing
             }
@@ -256,7 +269,15 @@ public class HttpDispatcher {
         return null;
     }
 
-    private static Object getRecordEntity(BObject inRequestEntity, Type entityBodyType) {
+    private static Object getRecordEntity(BObject inRequestEntity, Type entityBodyType, boolean bindable)
+            throws IOException {
+        if (bindable && EntityBodyHandler.getByteChannel(inRequestEntity) != null) {
+            // The raw payload is kept as the data source rather than the record, which is owned by the resource. A
+            // later json read builds a separate json value from it.
+            BArray payload = EntityBodyHandler.constructBlobDataSource(inRequestEntity);
+            EntityBodyHandler.addMessageDataSource(inRequestEntity, payload);
+            return EntityBodyHandler.constructJsonDataSource(inRequestEntity, payload, entityBodyType);
+        }
         Object result = getRecord(entityBodyType, getBJsonValue(inRequestEntity));
         if (result instanceof BError) {
             throw (BError) result;
@@ -40,6 +40,7 @@ import static org.ballerinalang.net.http.HttpConstants.ANN_NAME_RESOURCE_CONFIG;
 import static org.ballerinalang.net.http.HttpConstants.PACKAGE_BALLERINA_BUILTIN;
 import static org.ballerinalang.net.http.HttpConstants.PROTOCOL_PACKAGE_HTTP;
 import static org.ballerinalang.net.http.HttpUtil.checkConfigAnnotationAvailability;
+import static org.ballerinalang.net.http.compiler.ResourceSignatureValidator.COMPULSORY_PARAM_COUNT;
 
 /**
  * {@code HttpResource} This is the http wrapper for the {@code Resource} implementation.
@@ -72,6 +73,8 @@ public class HttpResource {
     private boolean interruptible;
 
     private boolean transactionAnnotated = false;
+    // routing table index of each path param in the signature order
+    private int[] pathParamVariables;
 
     protected HttpResource(AttachedFunctionType resource, HttpService parentService) {
         this.balResource = resource;
@@ -115,6 +118,31 @@ public class HttpResource {
         return path;
     }
 
+    int[] getPathParamVariables() {
+        return pathParamVariables;
+    }
+
+    /**
+     * Maps the path params of the resource signature to their index in the routing table of the service. The
+     * mapping is left unset if a param is not in the signature order of the path params.
+     *
+     * @param routingTable routing table of the service
+     */
+    void setPathParamVariables(ResourceRoutingTable<HttpResource, ?> routingTable) {
+        BMap pathParamOrder = getPathParamOrderMap(balResource);
+        int[] variables = new int[pathParamOrder.size()];
+        boolean[] assigned = new boolean[variables.length];
+        for (Object paramName : pathParamOrder.getKeys()) {
+            int paramIndex = ((Long) pathParamOrder.get(paramName)).intValue() - COMPULSORY_PARAM_COUNT;
+            if (paramIndex < 0 || paramIndex >= variables.length || assigned[paramIndex]) {
+                return;
+            }
+            variables[paramIndex] = routingTable.getVariableIndex(paramName.toString());
+            assigned[paramIndex] = true;
+        }
+        this.pathParamVariables = variables;
+    }
+
     public void setPath(String resourcePath) {
         if (resourcePath == null || resourcePath.isEmpty()) {
             log.debug("Path not specified in the Resource instance, using default sub path");
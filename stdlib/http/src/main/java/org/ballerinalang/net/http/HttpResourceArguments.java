@@ -18,23 +18,148 @@
 
 package org.ballerinalang.net.http;
 
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * This class holds the resource signature path parameters.
+ * <p>
+ * While a resource is matched by the {@link ResourceRoutingTable}, only the offsets of the first value of each path
+ * param in the request path are recorded and the values are decoded when they are used. A resource matched by the
+ * URI template, or by a part of the routing table which is delegated to it, keeps the values in a map by the param
+ * name.
  *
  * @since 0.995.0
  */
 public class HttpResourceArguments {
 
-    private Map<String, String> resourceArgumentValues = new HashMap<>();
-
-    public HttpResourceArguments() {
-        resourceArgumentValues = new HashMap<>();
-    }
+    private Map<String, String> resourceArgumentValues;
+    private String path;
+    private String[] variableNames;
+    private int[] variableBounds;
+    private boolean mapped;
 
     public Map<String, String> getMap() {
+        if (resourceArgumentValues == null) {
+            resourceArgumentValues = new HashMap<>();
+        }
         return resourceArgumentValues;
     }
+
+    /**
+     * Get the value of the given argument.
+     *
+     * @param name name of the argument
+     * @return the value or null if the argument is not set
+     */
+    public String get(String name) {
+        if (resourceArgumentValues != null && resourceArgumentValues.containsKey(name)) {
+            return resourceArgumentValues.get(name);
+        }
+        if (mapped || variableNames == null) {
+            return null;
+        }
+        for (int variable = 0; variable < variableNames.length; variable++) {
+            if (variableNames[variable].equals(name)) {
+                return getPathVariable(variable);
+            }
+        }
+        return null;
+    }
+
+    void setPath(String path, String[] variableNames) {
+        this.path = path;
+        this.variableNames = variableNames;
+    }
+
+    /**
+     * Check whether the path params are still recorded as offsets in the request path.
+     *
+     * @return true if the values are read with {@link #getPathVariable(int)}
+     */
+    boolean hasPathVariables() {
+        return variableNames != null && !mapped;
+    }
+
+    /**
+     * Record a value of a path param. As in the URI template, a param keeps its first value and another value of
+     * the same param only matches if it decodes to the same value.
+     *
+     * @param variable index of the param in the routing table
+     * @param start    start of the value in the request path
+     * @param end      end of the value in the request path
+     * @return false if the param already has a different value
+     */
+    boolean bindPathVariable(int variable, int start, int end) {
+        int escape = path.indexOf('%', start);
+        if (escape >= 0 && escape < end) {
+            // the template decodes every value when it is bound, this fails in the same way on a malformed value
+            decode(path.substring(start, end));
+        }
+        if (variableBounds == null) {
+            variableBounds = new int[variableNames.length * 2];
+            Arrays.fill(variableBounds, -1);
+        }
+        int boundStart = variableBounds[variable * 2];
+        if (boundStart < 0) {
+            variableBounds[variable * 2] = start;
+            variableBounds[variable * 2 + 1] = end;
+            return true;
+        }
+        int boundEnd = variableBounds[variable * 2 + 1];
+        if (boundEnd - boundStart == end - start && path.regionMatches(boundStart, path, start, end - start)) {
+            return true;
+        }
+        return getPathVariable(variable).equals(decode(path.substring(start, end)));
+    }
+
+    /**
+     * Get the value of a path param recorded by the routing table. The value is decoded once, as the URI template
+     * does for the values in the argument map.
+     *
+     * @param variable index of the param in the routing table
+     * @return the path param value or null if the param is not set
+     */
+    String getPathVariable(int variable) {
+        if (variableBounds == null || variable < 0 || variableBounds[variable * 2] < 0) {
+            return null;
+        }
+        String value = path.substring(variableBounds[variable * 2], variableBounds[variable * 2 + 1]);
+        return value.indexOf('%') < 0 ? value : decode(value);
+    }
+
+    /**
+     * Move the recorded path params to the argument map, before a part of the path is matched by the URI template.
+     */
+    void mapPathVariables() {
+        if (mapped) {
+            return;
+        }
+        if (variableBounds != null) {
+            Map<String, String> values = getMap();
+            for (int variable = 0; variable < variableNames.length; variable++) {
+                String value = getPathVariable(variable);
+                if (value != null) {
+                    values.put(variableNames[variable], value);
+                }
+            }
+            variableBounds = null;
+        }
+        mapped = true;
+    }
+
+    boolean isMapped() {
+        return mapped;
+    }
+
+    static String decode(String value) {
+        try {
+            return URLDecoder.decode(value.replaceAll("\\+", "%2B"), "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException("Error while encoding value: " + value, e);
+        }
+    }
 }
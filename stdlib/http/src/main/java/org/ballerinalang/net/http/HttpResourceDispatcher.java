@@ -38,7 +38,13 @@ public class HttpResourceDispatcher {
         subPath = sanitizeSubPath(subPath);
         HttpResourceArguments resourceArgumentValues = new HttpResourceArguments();
         try {
-            HttpResource resource = service.getUriTemplate().matches(subPath, resourceArgumentValues, inboundRequest);
+            HttpResource resource;
+            ResourceRoutingTable<HttpResource, HttpCarbonMessage> routingTable = service.getResourceRoutingTable();
+            if (routingTable != null) {
+                resource = routingTable.match(subPath, resourceArgumentValues, inboundRequest);
+            } else {
+                resource = service.getUriTemplate().matches(subPath, resourceArgumentValues, inboundRequest);
+            }
             if (resource != null) {
                 inboundRequest.setProperty(HttpConstants.RESOURCE_ARGS, resourceArgumentValues);
                 inboundRequest.setProperty(HttpConstants.RESOURCES_CORS, resource.getCorsHeaders());
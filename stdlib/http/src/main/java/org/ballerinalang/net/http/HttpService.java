@@ -72,6 +72,7 @@ public class HttpService implements Cloneable {
     private String basePath;
     private CorsHeaders corsHeaders;
     private URITemplate<HttpResource, HttpCarbonMessage> uriTemplate;
+    private ResourceRoutingTable<HttpResource, HttpCarbonMessage> resourceRoutingTable;
     private boolean keepAlive = true; //default behavior
     private BMap<BString, Object> compression;
     private String hostName;
@@ -192,6 +193,15 @@ public class HttpService implements Cloneable {
         this.upgradeToWebSocketResources = upgradeToWebSocketResources;
     }
 
+    /**
+     * Get the compiled routing table of the resources.
+     *
+     * @return the routing table or null if the resources are only dispatched through the URI template
+     */
+    public ResourceRoutingTable<HttpResource, HttpCarbonMessage> getResourceRoutingTable() {
+        return resourceRoutingTable;
+    }
+
     public URITemplate<HttpResource, HttpCarbonMessage> getUriTemplate() throws URITemplateException {
         if (uriTemplate == null) {
             uriTemplate = new URITemplate<>(new Literal<>(new HttpResourceDataElement(), "/"));
@@ -278,6 +288,14 @@ public class HttpService implements Cloneable {
             }
         }
         httpService.setResources(httpResources);
+        try {
+            httpService.resourceRoutingTable = ResourceRoutingTable.compile(httpService.getUriTemplate());
+        } catch (URITemplateException e) {
+            throw new BallerinaConnectorException(e.getMessage());
+        }
+        for (HttpResource httpResource : httpResources) {
+            httpResource.setPathParamVariables(httpService.resourceRoutingTable);
+        }
         httpService.setUpgradeToWebSocketResources(upgradeToWebSocketResources);
     }
 
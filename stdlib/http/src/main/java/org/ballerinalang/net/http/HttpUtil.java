@@ -724,10 +724,10 @@ public class HttpUtil {
                               BStringUtils.fromString(inboundRequestMsg.getHttpVersion()));
         HttpResourceArguments resourceArgValues = (HttpResourceArguments) inboundRequestMsg.getProperty(
                 HttpConstants.RESOURCE_ARGS);
-        if (resourceArgValues != null && resourceArgValues.getMap().get(HttpConstants.EXTRA_PATH_INFO) != null) {
+        if (resourceArgValues != null && resourceArgValues.get(HttpConstants.EXTRA_PATH_INFO) != null) {
             inboundRequestObj.set(
                     HttpConstants.REQUEST_EXTRA_PATH_INFO_FIELD, BStringUtils.fromString(
-                            resourceArgValues.getMap().get(HttpConstants.EXTRA_PATH_INFO)));
+                            resourceArgValues.get(HttpConstants.EXTRA_PATH_INFO)));
         }
     }
 
@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http;
+
+import org.ballerinalang.net.uri.URITemplate;
+import org.ballerinalang.net.uri.parser.DataElement;
+import org.ballerinalang.net.uri.parser.DataReturnAgent;
+import org.ballerinalang.net.uri.parser.DotSuffixExpression;
+import org.ballerinalang.net.uri.parser.Literal;
+import org.ballerinalang.net.uri.parser.Node;
+import org.ballerinalang.net.uri.parser.SimpleStringExpression;
+import org.ballerinalang.net.uri.parser.Variable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routing table of the resources of a service, compiled from its {@link URITemplate} tree once every resource has
+ * been added to the template.
+ * <p>
+ * The table mirrors the template tree and matches a request path in the same way as
+ * {@link Node#matchAll(String, HttpResourceArguments, int, Object, DataReturnAgent)}, including the order in which
+ * the child nodes are tried, literals matching a prefix of a path segment and path params of different resources at
+ * the same level sharing their values. It works on offsets in the request path instead of sub strings, finds the
+ * literal child which is equal to a path segment in a hash table and only records the offsets of the path params.
+ * <p>
+ * Literal and simple string expression nodes are compiled. Any other node, such as a wildcard, a dot suffix
+ * expression or a path param with a prefix modifier, is matched by the template node itself, with the path params
+ * recorded so far moved to the argument map.
+ *
+ * @param <DataType>       Type of data stored in the template nodes.
+ * @param <InboundMsgType> Inbound message type for additional checks.
+ * @since 2.0.0
+ */
+public class ResourceRoutingTable<DataType, InboundMsgType> {
+
+    private static final char PATH_DELIMITER = '/';
+    private static final String WILDCARD = "*";
+
+    private final RouteNode<DataType, InboundMsgType> root;
+    private final String[] variableNames;
+    private final ThreadLocal<DataReturnAgent<DataType>> dataReturnAgents = ThreadLocal.withInitial(
+            DataReturnAgent::new);
+
+    private ResourceRoutingTable(RouteNode<DataType, InboundMsgType> root, String[] variableNames) {
+        this.root = root;
+        this.variableNames = variableNames;
+    }
+
+    /**
+     * Compiles the tree of the given URI template. The template must not be modified afterwards.
+     *
+     * @param uriTemplate      URI template with all the resources of a service
+     * @param <DataType>       Type of data stored in the template nodes
+     * @param <InboundMsgType> Inbound message type for additional checks
+     * @return the routing table
+     */
+    public static <DataType, InboundMsgType> ResourceRoutingTable<DataType, InboundMsgType> compile(
+            URITemplate<DataType, InboundMsgType> uriTemplate) {
+        Map<String, Integer> variables = new LinkedHashMap<>();
+        RouteNode<DataType, InboundMsgType> root = compile(uriTemplate.getSyntaxTree(), variables);
+        return new ResourceRoutingTable<>(root, variables.keySet().toArray(new String[0]));
+    }
+
+    /**
+     * Get the index of a path param, which is used to read its value with
+     * {@link HttpResourceArguments#getPathVariable(int)}.
+     *
+     * @param name name of the path param
+     * @return the index or -1 if the param is only matched by the URI template
+     */
+    public int getVariableIndex(String name) {
+        for (int variable = 0; variable < variableNames.length; variable++) {
+            if (variableNames[variable].equals(name)) {
+                return variable;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the data for the given path, in the same way as {@link URITemplate#matches}.
+     *
+     * @param path       sanitized sub path of the request, relative to the base path of the service
+     * @param arguments  arguments of the resource
+     * @param inboundMsg inbound request
+     * @return the data or null if none matched
+     */
+    public DataType match(String path, HttpResourceArguments arguments, InboundMsgType inboundMsg) {
+        DataReturnAgent<DataType> dataReturnAgent = dataReturnAgents.get();
+        arguments.setPath(path, variableNames);
+        try {
+            if (matchChild(root, path, 0, arguments, inboundMsg, dataReturnAgent)) {
+                return dataReturnAgent.getData();
+            }
+            if (dataReturnAgent.getError() != null) {
+                throw dataReturnAgent.getError();
+            }
+            return null;
+        } finally {
+            dataReturnAgent.setData(null);
+            dataReturnAgent.setError(null);
+        }
+    }
+
+    private boolean matchAll(RouteNode<DataType, InboundMsgType> node, String path, int position,
+                             HttpResourceArguments arguments, InboundMsgType inboundMsg,
+                             DataReturnAgent<DataType> dataReturnAgent) {
+        int length = path.length() - position;
+        int matchLength = node.literal ? matchLiteral(node, path, position) :
+                matchExpression(node, path, position, arguments);
+        if (matchLength < 0) {
+            return false;
+        }
+        if (matchLength == length) {
+            return node.dataElement.getData(inboundMsg, dataReturnAgent);
+        }
+        int childPosition = position + matchLength;
+        if (path.charAt(position) != PATH_DELIMITER && path.indexOf(PATH_DELIMITER, position) >= 0 &&
+                path.charAt(childPosition) == PATH_DELIMITER) {
+            childPosition++;
+        }
+        int subPathEnd = path.indexOf(PATH_DELIMITER, childPosition);
+        if (subPathEnd < 0) {
+            subPathEnd = path.length();
+        }
+        int subPathLength = subPathEnd - childPosition;
+
+        // literals are tried longest first, a literal which is as long as the sub path has to be equal to it and a
+        // longer one cannot match
+        RouteNode<DataType, InboundMsgType> equalLiteral = node.findLiteralChild(path, childPosition, subPathEnd);
+        if (equalLiteral != null &&
+                matchChild(equalLiteral, path, childPosition, arguments, inboundMsg, dataReturnAgent)) {
+            return true;
+        }
+        for (RouteNode<DataType, InboundMsgType> child : node.literalChildren) {
+            if (child.tokenLength >= subPathLength) {
+                continue;
+            }
+            if (child.templateNode == null ? !path.startsWith(child.token, childPosition) :
+                    !contains(path, childPosition, subPathEnd, child.token)) {
+                continue;
+            }
+            if (matchChild(child, path, childPosition, arguments, inboundMsg, dataReturnAgent)) {
+                return true;
+            }
+        }
+        for (RouteNode<DataType, InboundMsgType> child : node.otherChildren) {
+            if (child.wildcard && !path.substring(childPosition, subPathEnd).matches(".*")) {
+                continue;
+            }
+            if (matchChild(child, path, childPosition, arguments, inboundMsg, dataReturnAgent)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchChild(RouteNode<DataType, InboundMsgType> child, String path, int position,
+                               HttpResourceArguments arguments, InboundMsgType inboundMsg,
+                               DataReturnAgent<DataType> dataReturnAgent) {
+        if (child.templateNode == null) {
+            return matchAll(child, path, position, arguments, inboundMsg, dataReturnAgent);
+        }
+        arguments.mapPathVariables();
+        String uriFragment = path.substring(position);
+        if (!child.templateNode.matchAll(uriFragment, arguments, position, inboundMsg, dataReturnAgent)) {
+            return false;
+        }
+        if (child.wildcard) {
+            arguments.getMap().putIfAbsent(HttpConstants.EXTRA_PATH_INFO, "/" + uriFragment);
+        }
+        return true;
+    }
+
+    private static int matchLiteral(RouteNode<?, ?> node, String path, int position) {
+        if (!path.startsWith(node.token, position)) {
+            return -1;
+        }
+        // special case request urls which contains only the root("/") to be dispatched to default resource("/*").
+        if (node.tokenLength == 1 && path.length() - position == 1 && node.token.charAt(0) == PATH_DELIMITER &&
+                !node.dataElement.hasData()) {
+            return 0;
+        }
+        return node.tokenLength;
+    }
+
+    private int matchExpression(RouteNode<?, ?> node, String path, int position, HttpResourceArguments arguments) {
+        if (position == path.length()) {
+            return 0;
+        }
+        int end = path.indexOf(PATH_DELIMITER, position);
+        if (end < 0) {
+            end = path.length();
+        }
+        return setVariables(node, path, position, end, arguments) ? end - position : -1;
+    }
+
+    private boolean setVariables(RouteNode<?, ?> node, String path, int start, int end,
+                                 HttpResourceArguments arguments) {
+        if (!arguments.isMapped()) {
+            for (int variable : node.variables) {
+                if (!arguments.bindPathVariable(variable, start, end)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        // a part of the path has been matched by the template, the values are kept in the map from now on
+        String value = HttpResourceArguments.decode(path.substring(start, end));
+        Map<String, String> values = arguments.getMap();
+        for (int variable : node.variables) {
+            String name = variableNames[variable];
+            if (values.containsKey(name) && !value.equals(values.get(name))) {
+                return false;
+            }
+            values.put(name, value);
+        }
+        return true;
+    }
+
+    private static boolean contains(String path, int start, int end, String token) {
+        int last = end - token.length();
+        for (int i = start; i <= last; i++) {
+            if (path.startsWith(token, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int hash(String str, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + str.charAt(i);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static <DataType, InboundMsgType> RouteNode<DataType, InboundMsgType> compile(
+            Node<DataType, InboundMsgType> templateNode, Map<String, Integer> variables) {
+        RouteNode<DataType, InboundMsgType> node = new RouteNode<>(templateNode);
+        if (templateNode instanceof Literal) {
+            if (node.token.indexOf('*') >= 0) {
+                node.wildcard = WILDCARD.equals(node.token);
+                return node;
+            }
+            node.literal = true;
+        } else if (isSimpleExpression(templateNode)) {
+            List<Variable> templateVariables = ((SimpleStringExpression<?, ?>) templateNode).getVariables();
+            node.variables = new int[templateVariables.size()];
+            for (int i = 0; i < node.variables.length; i++) {
+                node.variables[i] = variables.computeIfAbsent(templateVariables.get(i).getName(),
+                                                              name -> variables.size());
+            }
+        } else {
+            return node;
+        }
+        node.templateNode = null;
+
+        List<RouteNode<DataType, InboundMsgType>> literalChildren = new ArrayList<>();
+        List<RouteNode<DataType, InboundMsgType>> otherChildren = new ArrayList<>();
+        for (Node<DataType, InboundMsgType> templateChild : templateNode.getChildNodes()) {
+            RouteNode<DataType, InboundMsgType> child = compile(templateChild, variables);
+            if (templateChild instanceof Literal && !child.wildcard) {
+                literalChildren.add(child);
+            } else {
+                otherChildren.add(child);
+            }
+        }
+        node.setChildren(literalChildren, otherChildren);
+        return node;
+    }
+
+    private static boolean isSimpleExpression(Node<?, ?> templateNode) {
+        if (!(templateNode instanceof SimpleStringExpression) || templateNode instanceof DotSuffixExpression) {
+            return false;
+        }
+        for (Variable variable : ((SimpleStringExpression<?, ?>) templateNode).getVariables()) {
+            if (variable.hasPrefix()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A node of the template tree. A node which is not compiled keeps the template node it is delegated to.
+     */
+    private static class RouteNode<DataType, InboundMsgType> {
+
+        private final String token;
+        private final int tokenLength;
+        private final DataElement<DataType, InboundMsgType> dataElement;
+        private Node<DataType, InboundMsgType> templateNode;
+        private boolean literal;
+        private boolean wildcard;
+        private int[] variables;
+
+        private List<RouteNode<DataType, InboundMsgType>> literalChildren;
+        private List<RouteNode<DataType, InboundMsgType>> otherChildren;
+        private RouteNode<DataType, InboundMsgType>[] literalTable;
+
+        RouteNode(Node<DataType, InboundMsgType> templateNode) {
+            this.templateNode = templateNode;
+            this.token = templateNode.getToken();
+            this.tokenLength = token.length();
+            this.dataElement = templateNode.getDataElement();
+        }
+
+        @SuppressWarnings("unchecked")
+        void setChildren(List<RouteNode<DataType, InboundMsgType>> literalChildren,
+                         List<RouteNode<DataType, InboundMsgType>> otherChildren) {
+            this.literalChildren = literalChildren;
+            this.otherChildren = otherChildren;
+            if (literalChildren.isEmpty()) {
+                return;
+            }
+            int capacity = Integer.highestOneBit(literalChildren.size() * 2 - 1) << 1;
+            literalTable = new RouteNode[capacity];
+            for (RouteNode<DataType, InboundMsgType> child : literalChildren) {
+                int index = hash(child.token, 0, child.tokenLength) & (capacity - 1);
+                while (literalTable[index] != null) {
+                    index = (index + 1) & (capacity - 1);
+                }
+                literalTable[index] = child;
+            }
+        }
+
+        RouteNode<DataType, InboundMsgType> findLiteralChild(String path, int start, int end) {
+            if (literalTable == null) {
+                return null;
+            }
+            int length = end - start;
+            int mask = literalTable.length - 1;
+            int index = hash(path, start, end) & mask;
+            RouteNode<DataType, InboundMsgType> child;
+            while ((child = literalTable[index]) != null) {
+                if (child.tokenLength == length && path.regionMatches(start, child.token, 0, length)) {
+                    return child;
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+    }
+}
@@ -21,6 +21,7 @@ package org.ballerinalang.net.http;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
 
 import java.util.List;
 
@@ -36,6 +37,7 @@ public class SignatureParams {
     private HttpResource resource;
     private final List<Type> paramTypes;
     private Type entityBody;
+    private boolean entityBodyBindable;
     private List<Type> pathParamTypes;
     private int paramCount = COMPULSORY_PARAM_COUNT;
 
@@ -73,6 +75,8 @@ public class SignatureParams {
         if (type == TypeTags.RECORD_TYPE_TAG || type == TypeTags.JSON_TAG || type == TypeTags.XML_TAG ||
                 type == TypeTags.STRING_TAG || (type == TypeTags.ARRAY_TAG && validArrayType(entityBodyParamType))) {
             this.entityBody = entityBodyParamType;
+            this.entityBodyBindable = type != TypeTags.JSON_TAG && type != TypeTags.XML_TAG &&
+                    type != TypeTags.STRING_TAG && JsonUtils.isBindable(entityBodyParamType);
             paramCount++;
         } else {
             throw HttpUtil.createHttpError("incompatible entity-body type : " + entityBodyParamType.getName(),
@@ -95,6 +99,16 @@ public class SignatureParams {
         return entityBody;
     }
 
+    /**
+     * Check whether the JSON payload can be parsed straight into the entity body type, without building a json value
+     * and converting it afterwards.
+     *
+     * @return a boolean indicating whether the entity body can be bound while parsing
+     */
+    boolean isEntityBodyBindable() {
+        return entityBodyBindable;
+    }
+
     List<Type> getPathParamTypes() {
         return pathParamTypes;
     }
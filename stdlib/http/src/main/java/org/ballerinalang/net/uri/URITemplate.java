@@ -41,6 +41,10 @@ public class URITemplate<DataType, InboundMsgType> {
         this.syntaxTree = syntaxTree;
     }
 
+    public Node<DataType, InboundMsgType> getSyntaxTree() {
+        return syntaxTree;
+    }
+
     public DataType matches(String uri, HttpResourceArguments variables, InboundMsgType inboundMsg) {
         DataReturnAgent<DataType> dataReturnAgent = new DataReturnAgent<>();
         boolean isFound = syntaxTree.matchAll(uri, variables, 0, inboundMsg, dataReturnAgent);
@@ -25,6 +25,7 @@ import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -56,8 +57,17 @@ public abstract class Expression<DataType, InboundMsgType> extends Node<DataType
         }
     }
 
+    /**
+     * Get the variables of the expression.
+     *
+     * @return the variables
+     */
+    public List<Variable> getVariables() {
+        return Collections.unmodifiableList(variableList);
+    }
+
     @Override
-    String getToken() {
+    public String getToken() {
         String str = "{";
         boolean first = true;
         for (Variable var : variableList) {
@@ -83,7 +83,7 @@ public class Literal<DataType, InboundMsgType> extends Node<DataType, InboundMsg
     }
 
     @Override
-    String getToken() {
+    public String getToken() {
         return token;
     }
 
@@ -22,6 +22,7 @@ import org.ballerinalang.net.http.HttpConstants;
 import org.ballerinalang.net.http.HttpResourceArguments;
 import org.ballerinalang.net.uri.URITemplateException;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -43,10 +44,19 @@ public abstract class Node<DataType, InboundMsgType> {
         this.token = token;
     }
 
-    DataElement<DataType, InboundMsgType> getDataElement() {
+    public DataElement<DataType, InboundMsgType> getDataElement() {
         return dataElement;
     }
 
+    /**
+     * Get the child nodes, in the order they are matched.
+     *
+     * @return the child nodes
+     */
+    public List<Node<DataType, InboundMsgType>> getChildNodes() {
+        return Collections.unmodifiableList(childNodesList);
+    }
+
     Node<DataType, InboundMsgType> addChild(Node<DataType, InboundMsgType> childNode)
             throws URITemplateException {
         Node<DataType, InboundMsgType> node = childNode;
@@ -125,7 +135,7 @@ public abstract class Node<DataType, InboundMsgType> {
 
     abstract int match(String uriFragment, HttpResourceArguments variables);
 
-    abstract String getToken();
+    public abstract String getToken();
 
     abstract char getFirstCharacter();
 
@@ -55,6 +55,10 @@ public class Variable {
         return name;
     }
 
+    public boolean hasPrefix() {
+        return prefix > 0;
+    }
+
     public String modify(String value) {
         if (prefix > 0 && prefix < value.length()) {
             return value.substring(0, prefix);
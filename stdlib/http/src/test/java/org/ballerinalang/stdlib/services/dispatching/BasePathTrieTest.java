@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.services.dispatching;
+
+import org.ballerinalang.net.http.BasePathTrie;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Test class for the base path trie, which has to find the same base paths as the linear scan of the base paths it
+ * replaced.
+ *
+ * @since 2.0.0
+ */
+public class BasePathTrieTest {
+
+    private static final String DEFAULT_BASE_PATH = "/";
+
+    @Test(description = "Test that the longest matching base path is found")
+    public void testLongestPrefix() {
+        String[] basePaths = {"/a", "/a/b", "/a/b/c", "/b"};
+        assertMatch(basePaths, "/a/b/c/d", "/a/b/c");
+        assertMatch(basePaths, "/a/b/x", "/a/b");
+        assertMatch(basePaths, "/a/x/c", "/a");
+        assertMatch(basePaths, "/b/a/b", "/b");
+        assertMatch(basePaths, "/c", null);
+        assertSameMatches(basePaths, "/a/bc", "/ab", "/a/b/", "/a//b", "/A/b/c", "/a/B/c/d");
+    }
+
+    @Test(description = "Test the root base path, which is matched when no other base path matches")
+    public void testRootBasePath() {
+        String[] basePaths = {"/", "/a"};
+        assertMatch(basePaths, "/", DEFAULT_BASE_PATH);
+        assertMatch(basePaths, "/a", "/a");
+        assertMatch(basePaths, "/b", DEFAULT_BASE_PATH);
+        assertMatch(basePaths, "/ab", DEFAULT_BASE_PATH);
+        assertSameMatches(basePaths, "", "//", "/a/", "/A", "//a");
+        assertMatch(new String[]{"/a"}, "/", null);
+    }
+
+    @Test(description = "Test base paths and request paths with a trailing slash")
+    public void testTrailingSlash() {
+        String[] basePaths = {"/a/", "/b", "/c/d/"};
+        assertMatch(basePaths, "/a/", "/a/");
+        assertMatch(basePaths, "/b/", "/b");
+        assertMatch(basePaths, "/c/d/", "/c/d/");
+        assertSameMatches(basePaths, "/a", "/a/x", "/a//", "/b//", "/c/d", "/c/d/e", "/C/D/");
+    }
+
+    @Test(description = "Test base paths which overlap, differing only in the case or in the last segment")
+    public void testOverlappingBasePaths() {
+        String[] basePaths = {"/hello", "/Hello", "/hello/world", "/hello/worlds", "/helloworld"};
+        assertMatch(basePaths, "/hello/world/x", "/hello/world");
+        assertMatch(basePaths, "/hello/worlds", "/hello/worlds");
+        assertMatch(basePaths, "/Hello/x", "/Hello");
+        assertMatch(basePaths, "/helloworld/x", "/helloworld");
+        assertSameMatches(basePaths, "/HELLO", "/HELLO/x", "/hello/World", "/hello/World/x", "/hello/worl",
+                          "/hellow", "/HelloWorld");
+    }
+
+    @Test(description = "Test random base paths and request paths against the linear scan")
+    public void testRandomBasePaths() {
+        Random random = new Random(7);
+        String[] segments = {"a", "A", "b", "ab", "aB", "", "c"};
+        for (int i = 0; i < 500; i++) {
+            int count = 1 + random.nextInt(6);
+            List<String> basePaths = new ArrayList<>();
+            for (int j = 0; j < count; j++) {
+                String basePath = randomPath(random, segments);
+                if (!basePaths.contains(basePath)) {
+                    basePaths.add(basePath);
+                }
+            }
+            String[] sortedBasePaths = sort(basePaths.toArray(new String[0]));
+            BasePathTrie trie = BasePathTrie.build(Arrays.asList(sortedBasePaths));
+            for (int j = 0; j < 20; j++) {
+                String path = randomPath(random, segments);
+                Assert.assertEquals(match(trie, sortedBasePaths, path), linearScan(sortedBasePaths, path),
+                                    "Base paths " + basePaths + ", path " + path);
+            }
+        }
+    }
+
+    private static String randomPath(Random random, String[] segments) {
+        StringBuilder path = new StringBuilder();
+        int length = random.nextInt(4);
+        for (int i = 0; i < length; i++) {
+            path.append('/').append(segments[random.nextInt(segments.length)]);
+        }
+        return path.length() == 0 ? DEFAULT_BASE_PATH : path.toString();
+    }
+
+    private static void assertMatch(String[] basePaths, String path, String expected) {
+        String[] sortedBasePaths = sort(basePaths);
+        BasePathTrie trie = BasePathTrie.build(Arrays.asList(sortedBasePaths));
+        Assert.assertEquals(match(trie, sortedBasePaths, path), expected, "Path " + path);
+        Assert.assertEquals(linearScan(sortedBasePaths, path), expected, "Linear scan of path " + path);
+    }
+
+    private static void assertSameMatches(String[] basePaths, String... paths) {
+        String[] sortedBasePaths = sort(basePaths);
+        BasePathTrie trie = BasePathTrie.build(Arrays.asList(sortedBasePaths));
+        for (String path : paths) {
+            Assert.assertEquals(match(trie, sortedBasePaths, path), linearScan(sortedBasePaths, path),
+                                "Path " + path);
+        }
+    }
+
+    // sorted as in the services registry
+    private static String[] sort(String[] basePaths) {
+        String[] sortedBasePaths = basePaths.clone();
+        Arrays.sort(sortedBasePaths, (basePath1, basePath2) -> basePath2.length() - basePath1.length());
+        return sortedBasePaths;
+    }
+
+    // the lookup of HTTPServicesRegistry.findTheMostSpecificBasePath
+    private static String match(BasePathTrie trie, String[] basePaths, String path) {
+        String basePath = trie.match(path);
+        if (basePath != null) {
+            return basePath;
+        }
+        return Arrays.asList(basePaths).contains(DEFAULT_BASE_PATH) ? DEFAULT_BASE_PATH : null;
+    }
+
+    // the lookup which was replaced by the trie
+    private static String linearScan(String[] basePaths, String path) {
+        for (String key : basePaths) {
+            if (!path.toLowerCase().contains(key.toLowerCase())) {
+                continue;
+            }
+            if (path.length() <= key.length()) {
+                return key;
+            }
+            if (path.startsWith(key.concat("/"))) {
+                return key;
+            }
+        }
+        return Arrays.asList(basePaths).contains(DEFAULT_BASE_PATH) ? DEFAULT_BASE_PATH : null;
+    }
+}
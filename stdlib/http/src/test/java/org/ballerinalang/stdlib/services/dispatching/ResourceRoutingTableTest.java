@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.services.dispatching;
+
+import org.ballerinalang.net.http.HttpConstants;
+import org.ballerinalang.net.http.HttpResourceArguments;
+import org.ballerinalang.net.http.ResourceRoutingTable;
+import org.ballerinalang.net.uri.URITemplate;
+import org.ballerinalang.net.uri.URITemplateException;
+import org.ballerinalang.net.uri.parser.DataElement;
+import org.ballerinalang.net.uri.parser.DataReturnAgent;
+import org.ballerinalang.net.uri.parser.Literal;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.UnsupportedEncodingException;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Test class for the resource routing table, which has to dispatch requests in the same way as the URI template.
+ *
+ * @since 2.0.0
+ */
+public class ResourceRoutingTableTest {
+
+    private static final Pattern EXPRESSION = Pattern.compile("\\{([^}]*)}");
+
+    @Test(description = "Test that a literal segment is preferred over a path param")
+    public void testLiteralPrecedence() {
+        String[] templates = {"/orders/{id}", "/orders/new", "/orders/{id}/items", "/orders"};
+        assertMatch(templates, "/orders/new", "/orders/new");
+        assertMatch(templates, "/orders/12", "/orders/{id}", "id", "12");
+        assertMatch(templates, "/orders/new/items", "/orders/{id}/items", "id", "new");
+        assertMatch(templates, "/orders", "/orders");
+        assertSameMatches(templates, "/orders/", "/order", "/orders/12/items/3", "/", "/ordersnew", "/orders//items");
+    }
+
+    @Test(description = "Test that a literal matches the start of a path segment as in the URI template")
+    public void testLiteralPrefix() {
+        String[] templates = {"/foo/{id}", "/foo/bar", "/fo/{id}"};
+        assertMatch(templates, "/foobar", "/foo/bar");
+        assertMatch(templates, "/foobaz", "/foo/{id}", "id", "baz");
+        assertMatch(templates, "/fox", "/fo/{id}", "id", "x");
+        assertSameMatches(templates, "/foo", "/foo/", "/foo/barx", "/fooba/r", "/f");
+    }
+
+    @Test(description = "Test that path params at the same level share their values across resources")
+    public void testPathParamNames() {
+        String[] templates = {"/a/{x}/b", "/a/{y}/c", "/a/{x}/{y}", "/m/{p,q}"};
+        assertMatch(templates, "/a/1/c", "/a/{y}/c", "x", "1", "y", "1");
+        assertMatch(templates, "/a/1/1", "/a/{x}/{y}", "x", "1", "y", "1");
+        assertMatch(templates, "/a/1/2", null);
+        assertMatch(templates, "/m/v", "/m/{p,q}", "p", "v", "q", "v");
+        assertSameMatches(templates, "/a/1/b", "/a/%31/1", "/a//c", "/a/1");
+    }
+
+    @Test(description = "Test path param values which are encoded")
+    public void testEncodedPathParams() {
+        String[] templates = {"/p/{v}", "/p/{v}/{v}"};
+        assertMatch(templates, "/p/a%20b", "/p/{v}", "v", "a b");
+        assertMatch(templates, "/p/a+b", "/p/{v}", "v", "a+b");
+        assertMatch(templates, "/p/x/%78", "/p/{v}/{v}", "v", "x");
+        assertMatch(templates, "/p/x/y", null);
+        assertSameMatches(templates, "/p/%zz", "/p/a%2Fb", "/p/x/%7", "/p/+/%2B");
+    }
+
+    @Test(description = "Test the nodes which are matched by the URI template")
+    public void testTemplateFallback() {
+        String[] templates = {"/files/*", "/files/{name}.{ext}", "/files/list", "/users/{id:3}", "/users/{id}/x",
+                "/users/all", "/*", "/{a}/{b}"};
+        assertMatch(templates, "/files/a/b/c", "/files/*");
+        assertMatch(templates, "/files/a.txt", "/files/{name}.{ext}", "name", "a", "ext", "txt");
+        assertMatch(templates, "/files/list", "/files/list");
+        assertMatch(templates, "/users/abc", "/users/{id:3}", "id", "abc");
+        assertMatch(templates, "/users/abc/x", "/users/{id}/x", "id", "abc");
+        // the path params of both users resources are in one template node, which checks the prefix modifier
+        assertMatch(templates, "/users/abcd/x", "/*");
+        assertSameMatches(templates, "/", "/files", "/files/", "/users/abcd", "/users/all", "/other/1", "/x/y/z",
+                          "/users/ab/x");
+    }
+
+    @Test(description = "Test the root path")
+    public void testRootPath() {
+        assertMatch(new String[]{"/", "/{x}"}, "/", "/");
+        assertMatch(new String[]{"/", "/{x}"}, "/a", "/{x}", "x", "a");
+        assertSameMatches(new String[]{"/*", "/a"}, "/", "/a", "/b");
+        assertSameMatches(new String[]{"/a"}, "/", "/a", "/b");
+    }
+
+    @Test(description = "Test that the next node is tried when the data of a node is not returned")
+    public void testRejectedData() {
+        String[] templates = {"/o/{id}", "/o/new"};
+        Set<String> rejected = Collections.singleton("/o/new");
+        Assert.assertEquals(match(templates, "/o/new", rejected, true).resource, "/o/{id}");
+        assertSameMatch(templates, "/o/new", rejected);
+    }
+
+    @Test(description = "Test random resources and request paths against the URI template")
+    public void testRandomPaths() {
+        String[] templateSegments = {"a", "ab", "b", "{x}", "{y}", "{x,y}", "{z:1}", "{n}.{e}", "a{x}"};
+        String[] pathSegments = {"a", "ab", "b", "ba", "aab", "x", "1", "%61", "a.b", "", "+"};
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            Set<String> templates = new LinkedHashSet<>();
+            int templateCount = 1 + random.nextInt(6);
+            for (int j = 0; j < templateCount; j++) {
+                StringBuilder template = new StringBuilder();
+                int depth = random.nextInt(4);
+                for (int k = 0; k < depth; k++) {
+                    template.append('/').append(templateSegments[random.nextInt(templateSegments.length)]);
+                }
+                if (random.nextInt(5) == 0) {
+                    template.append("/*");
+                }
+                templates.add(template.length() == 0 ? "/" : template.toString());
+            }
+            String[] templateArray = templates.toArray(new String[0]);
+            if (!isValid(templateArray)) {
+                continue;
+            }
+            for (int j = 0; j < 20; j++) {
+                StringBuilder path = new StringBuilder();
+                int depth = random.nextInt(5);
+                for (int k = 0; k < depth; k++) {
+                    path.append('/').append(pathSegments[random.nextInt(pathSegments.length)]);
+                }
+                assertSameMatch(templateArray, path.length() == 0 ? "/" : path.toString(),
+                                Collections.emptySet());
+            }
+        }
+    }
+
+    private static void assertMatch(String[] templates, String path, String resource, String... paramValues) {
+        Result result = match(templates, path, Collections.emptySet(), true);
+        Assert.assertEquals(result.resource, resource, "Resource of " + path);
+        for (int i = 0; i < paramValues.length; i += 2) {
+            Assert.assertEquals(result.arguments.get(paramValues[i]), paramValues[i + 1],
+                                "Value of " + paramValues[i] + " in " + path);
+        }
+        assertSameMatch(templates, path, Collections.emptySet());
+    }
+
+    private static void assertSameMatches(String[] templates, String... paths) {
+        for (String path : paths) {
+            assertSameMatch(templates, path, Collections.emptySet());
+        }
+    }
+
+    private static void assertSameMatch(String[] templates, String path, Set<String> rejected) {
+        Result expected = match(templates, path, rejected, false);
+        Result actual = match(templates, path, rejected, true);
+        String message = path + " with " + String.join(", ", templates);
+        Assert.assertEquals(actual.resource, expected.resource, "Resource of " + message);
+        Assert.assertEquals(actual.error, expected.error, "Error of " + message);
+        if (expected.resource == null) {
+            return;
+        }
+        for (String template : templates) {
+            Matcher matcher = EXPRESSION.matcher(template);
+            while (matcher.find()) {
+                for (String variable : matcher.group(1).split(",")) {
+                    String name = variable.split(":")[0];
+                    Assert.assertEquals(actual.arguments.get(name), expected.arguments.get(name),
+                                        "Value of " + name + " in " + message);
+                }
+            }
+        }
+        Assert.assertEquals(actual.arguments.get(HttpConstants.EXTRA_PATH_INFO),
+                            expected.arguments.get(HttpConstants.EXTRA_PATH_INFO), "Extra path info of " + message);
+    }
+
+    private static boolean isValid(String[] templates) {
+        try {
+            createTemplate(templates);
+            return true;
+        } catch (URITemplateException | UnsupportedEncodingException e) {
+            return false;
+        }
+    }
+
+    private static URITemplate<String, Set<String>> createTemplate(String[] templates)
+            throws URITemplateException, UnsupportedEncodingException {
+        URITemplate<String, Set<String>> uriTemplate = new URITemplate<>(new Literal<>(new TestDataElement(), "/"));
+        for (String template : templates) {
+            uriTemplate.parse(template, template, TestDataElement::new);
+        }
+        return uriTemplate;
+    }
+
+    private static Result match(String[] templates, String path, Set<String> rejected, boolean routingTable) {
+        URITemplate<String, Set<String>> uriTemplate;
+        try {
+            uriTemplate = createTemplate(templates);
+        } catch (URITemplateException | UnsupportedEncodingException e) {
+            throw new AssertionError("Invalid template in " + String.join(", ", templates), e);
+        }
+        Result result = new Result();
+        try {
+            if (routingTable) {
+                result.resource = ResourceRoutingTable.compile(uriTemplate).match(path, result.arguments, rejected);
+            } else {
+                result.resource = uriTemplate.matches(path, result.arguments, rejected);
+            }
+        } catch (RuntimeException e) {
+            result.error = e.getClass().getName();
+        }
+        return result;
+    }
+
+    private static class Result {
+
+        private final HttpResourceArguments arguments = new HttpResourceArguments();
+        private String resource;
+        private String error;
+    }
+
+    /**
+     * Data element which returns its resource unless the resource is in the rejected set of the request.
+     */
+    private static class TestDataElement implements DataElement<String, Set<String>> {
+
+        private String resource;
+
+        @Override
+        public void setData(String data) {
+            if (resource == null) {
+                resource = data;
+            }
+        }
+
+        @Override
+        public boolean hasData() {
+            return resource != null;
+        }
+
+        @Override
+        public boolean getData(Set<String> rejected, DataReturnAgent<String> dataReturnAgent) {
+            if (resource == null || rejected.contains(resource)) {
+                return false;
+            }
+            dataReturnAgent.setData(resource);
+            return true;
+        }
+    }
+}
@@ -29,6 +29,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
 import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 
 
 /**
@@ -363,6 +364,35 @@ public class CharacterChannel implements IOChannel {
         }
     }
 
+    /**
+     * Writes content which is already encoded with the encoding of this channel.
+     *
+     * @param content the encoded content to be written.
+     * @return the number of bytes written.
+     * @throws IOException during I/O error.
+     */
+    public int writeEncoded(byte[] content) throws IOException {
+        int numberOfBytesWritten = 0;
+        if (channel != null) {
+            ByteBuffer encodedBuffer = ByteBuffer.wrap(content);
+            do {
+                numberOfBytesWritten = numberOfBytesWritten + channel.write(encodedBuffer);
+            } while (encodedBuffer.hasRemaining());
+        } else {
+            log.warn("channel has already being closed");
+        }
+        return numberOfBytesWritten;
+    }
+
+    /**
+     * Checks whether the characters are encoded in UTF-8 by this channel.
+     *
+     * @return true if the encoding of the channel is UTF-8.
+     */
+    public boolean isUtf8Encoded() {
+        return StandardCharsets.UTF_8.equals(byteEncoder.charset());
+    }
+
     /**
      * Provides the id of the channel.
      *
@@ -142,6 +142,11 @@ public class CharacterChannelUtils {
     public static Object write(BObject channel, BString content, long startOffset) {
         CharacterChannel characterChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
         try {
+            if (startOffset == 0 && characterChannel.isUtf8Encoded() && StringUtils.hasUtf8Bytes(content)) {
+                // strings created from UTF-8 bytes are written without decoding and encoding them again, all the
+                // other strings go through the encoder of the channel
+                return characterChannel.writeEncoded(StringUtils.toUtf8Bytes(content));
+            }
             return characterChannel.write(content.getValue(), (int) startOffset);
         } catch (IOException e) {
             return IOUtils.createError(e);
@@ -123,7 +123,7 @@ public abstract class MimeDataSourceBuilder {
         try {
             Object dataSource = EntityBodyHandler.getMessageDataSource(entityObj);
             if (dataSource != null) {
-                return StringUtils.fromString(MimeUtil.getMessageAsString(dataSource));
+                return MimeUtil.getMessageAsBString(dataSource);
             }
             result = EntityBodyHandler.constructStringDataSource(entityObj);
             updateDataSource(entityObj, result);
@@ -44,6 +44,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
@@ -225,6 +226,27 @@ public class EntityBodyHandler {
         return jsonData;
     }
 
+    /**
+     * Construct a value of the given type straight from the JSON content of the given payload, without building a
+     * json value first.
+     *
+     * @param entityObj  Represent an entity object
+     * @param payload    Represent the JSON content of the entity body
+     * @param targetType Represent the type of the value, must be supported by {@link JsonUtils#isBindable(Type)}
+     * @return a value of the given type which is kept in memory
+     */
+    public static Object constructJsonDataSource(BObject entityObj, BArray payload, Type targetType) {
+        String charsetValue = null;
+        String contentTypeValue = EntityHeaderHandler.getHeaderValue(entityObj, CONTENT_TYPE);
+        if (isNotNullAndEmpty(contentTypeValue)) {
+            charsetValue = MimeUtil.getContentTypeParamValue(contentTypeValue, CHARSET);
+        }
+        if (!isNotNullAndEmpty(charsetValue)) {
+            charsetValue = Charset.defaultCharset().name();
+        }
+        return JsonUtils.parse(new ByteArrayInputStream(payload.getBytes()), charsetValue, targetType);
+    }
+
     /**
      * Construct XML data source from the underneath byte channel which is associated with the entity object.
      *
@@ -300,7 +322,9 @@ public class EntityBodyHandler {
         String contentTypeValue = EntityHeaderHandler.getHeaderValue(entity, CONTENT_TYPE);
         if (isNotNullAndEmpty(contentTypeValue)) {
             String charsetValue = MimeUtil.getContentTypeParamValue(contentTypeValue, CHARSET);
-            if (isNotNullAndEmpty(charsetValue)) {
+            if (isNotNullAndEmpty(charsetValue) && isUtf8(charsetValue)) {
+                textContent = readUtf8String(inputStream);
+            } else if (isNotNullAndEmpty(charsetValue)) {
                 textContent = StringUtils.getStringFromInputStream(inputStream, charsetValue);
             } else {
                 textContent = StringUtils.getStringFromInputStream(inputStream);
@@ -311,6 +335,26 @@ public class EntityBodyHandler {
         return textContent;
     }
 
+    private static boolean isUtf8(String charset) {
+        return StandardCharsets.UTF_8.name().equalsIgnoreCase(charset) ||
+                StandardCharsets.UTF_8.aliases().contains(charset);
+    }
+
+    /**
+     * Reads a UTF-8 payload into a string which keeps the bytes, so that a payload which is only forwarded is never
+     * decoded and encoded again.
+     *
+     * @param inputStream Represent the input stream
+     * @return the payload as a string
+     */
+    private static BString readUtf8String(InputStream inputStream) {
+        try {
+            return StringUtils.fromUtf8Bytes(MimeUtil.getByteArray(inputStream));
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
     /**
      * Check whether the entity body is present. Entity body can either be a byte channel, fully constructed
      * message data source or a set of body parts.
@@ -508,6 +508,26 @@ public class MimeUtil {
         return StringUtils.getJsonString(dataSource);
     }
 
+    /**
+     * Get the given data source as a ballerina string. A string data source is returned as it is, and the bytes of a
+     * byte array data source are kept by the string without decoding them.
+     *
+     * @param dataSource Represent the data source
+     * @return the data source as a string
+     */
+    public static BString getMessageAsBString(Object dataSource) {
+        if (dataSource instanceof BString) {
+            return (BString) dataSource;
+        }
+        Type type = TypeUtils.getType(dataSource);
+        if (type.getTag() == TypeTags.ARRAY_TAG &&
+                ((ArrayType) type).getElementType().getTag() == TypeTags.BYTE_TAG) {
+            // getBytes returns a copy of the array, hence it can be kept by the string
+            return StringUtils.fromUtf8Bytes(((BArray) dataSource).getBytes());
+        }
+        return StringUtils.fromString(getMessageAsString(dataSource));
+    }
+
     /**
      * Check whether a given value should be serialized specifically as a JSON.
      *
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmark;
+
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Measures the time spent in the type checking phase on a large generated module, with and without the
+ * assignability cache in the compiler.
+ * <p>
+ * The measurement takes around 30 compilations, so it only runs when the {@code type.check.benchmark} system property
+ * is set, e.g. with {@code ./gradlew :jballerina-benchmark-test:test -Ptype.check.benchmark}. That the cache does not
+ * change the result of type checking is tested by {@code AssignabilityCacheTest} in the unit tests.
+ *
+ * @since 2.0.0
+ */
+public class TypeCheckBenchmarkTest {
+
+    private static final PrintStream OUT = System.out;
+    private static final String BENCHMARK_PROPERTY = "type.check.benchmark";
+    private static final String SOURCE_FILE = "types_benchmark.bal";
+    private static final int RECORD_COUNT = 150;
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int ITERATIONS = 5;
+
+    private Path sourceRoot;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        if (!Boolean.getBoolean(BENCHMARK_PROPERTY)) {
+            throw new SkipException("type check benchmark is not enabled, set the '" + BENCHMARK_PROPERTY +
+                                            "' system property to run it");
+        }
+        sourceRoot = Files.createTempDirectory("type-check-benchmark");
+        Files.write(sourceRoot.resolve(SOURCE_FILE), generateSource(RECORD_COUNT).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void cleanup() throws IOException {
+        if (sourceRoot == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(sourceRoot)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testTypeCheckTime() {
+        Assert.assertEquals(compile(CompilerPhase.TYPE_CHECK, true).getErrorCount(), 0);
+        Assert.assertEquals(compile(CompilerPhase.TYPE_CHECK, false).getErrorCount(), 0);
+
+        long uncached = measureTypeCheck(true);
+        long cached = measureTypeCheck(false);
+        OUT.println("Type checking " + RECORD_COUNT + " records: without assignability cache " + uncached +
+                            " ms, with assignability cache " + cached + " ms");
+    }
+
+    /**
+     * Returns the average time spent in the type checking phase. Compiling up to the define phase does the same
+     * amount of parsing, symbol loading and type resolution, so that time is subtracted from the total.
+     */
+    private long measureTypeCheck(boolean cacheDisabled) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            compile(CompilerPhase.TYPE_CHECK, cacheDisabled);
+        }
+
+        long total = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            compile(CompilerPhase.DEFINE, cacheDisabled);
+            long defined = System.nanoTime();
+            compile(CompilerPhase.TYPE_CHECK, cacheDisabled);
+            long typeChecked = System.nanoTime();
+            total += (typeChecked - defined) - (defined - start);
+        }
+        return total / ITERATIONS / 1_000_000;
+    }
+
+    private CompileResult compile(CompilerPhase compilerPhase, boolean cacheDisabled) {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions.getInstance(context).put(CompilerOptionName.ASSIGNABILITY_CACHE_DISABLED,
+                                                  Boolean.toString(cacheDisabled));
+        return BCompileUtil.compile(sourceRoot.resolve(SOURCE_FILE).toString(), context, compilerPhase);
+    }
+
+    /**
+     * Generates a module with a large union of closed records, where each function narrows, constructs and
+     * converts between the members of the union.
+     */
+    private static String generateSource(int recordCount) {
+        StringBuilder source = new StringBuilder();
+        source.append("type Value int|string|float|boolean|decimal|byte|();\n\n");
+
+        for (int i = 0; i < recordCount; i++) {
+            source.append("type Rec").append(i).append(" record {|\n")
+                    .append("    Value a;\n")
+                    .append("    Value b;\n")
+                    .append("    string|int c;\n");
+            if (i > 0) {
+                source.append("    Rec").append(i - 1).append("? prev;\n");
+            }
+            source.append("|};\n\n");
+        }
+
+        source.append("type Shape ");
+        for (int i = 0; i < recordCount; i++) {
+            source.append(i == 0 ? "" : "|").append("Rec").append(i);
+        }
+        source.append(";\n\n");
+
+        for (int i = 0; i < recordCount; i++) {
+            source.append("function process").append(i).append("(Shape s) returns Value {\n")
+                    .append("    if s is Rec").append(i).append(" {\n")
+                    .append("        Rec").append(i).append(" r = {a: s.a, b: s.b, c: s.c")
+                    .append(i > 0 ? ", prev: s.prev" : "").append("};\n")
+                    .append("        Shape copy = r;\n")
+                    .append("        Value[] values = [r.a, r.b, r.c];\n")
+                    .append("        map<Value> entries = {a: r.a, b: r.b, c: r.c};\n")
+                    .append("        return copy is Rec").append(i).append(" ? values[0] : entries[\"c\"];\n")
+                    .append("    }\n")
+                    .append("    return ();\n")
+                    .append("}\n\n");
+        }
+        return source.toString();
+    }
+}
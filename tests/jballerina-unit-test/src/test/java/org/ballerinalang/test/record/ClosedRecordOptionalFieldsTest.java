@@ -147,6 +147,12 @@ public class ClosedRecordOptionalFieldsTest {
         Assert.assertNull(person.get("adrs"));
     }
 
+    @Test(description = "Test optional fields with escaped field names")
+    public void testOptionalFieldsWithEscapedNames() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testOptionalFieldsWithEscapedNames");
+        Assert.assertEquals(returns[0].stringValue(), "first-name;age.years;Anne;30;");
+    }
+
     @AfterClass
     public void tearDown() {
         compileResult = null;
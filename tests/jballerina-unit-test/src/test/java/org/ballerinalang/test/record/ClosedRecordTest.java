@@ -311,6 +311,18 @@ public class ClosedRecordTest {
         BRunUtil.invoke(compileResult, "removeIfHasKeyRest");
     }
 
+    @Test(description = "Test reading the required fields of a closed record")
+    public void testRequiredFieldAccess() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testRequiredFieldAccess");
+        Assert.assertEquals(returns[0].stringValue(), "12;2.5;true;s1;10");
+    }
+
+    @Test(description = "Test reading the required fields of records of a different type than the static type")
+    public void testRequiredFieldAccessOfStructuralSubtypes() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testRequiredFieldAccessOfStructuralSubtypes");
+        Assert.assertEquals(returns[0].stringValue(), "1;2.5;a;3;4.5;7");
+    }
+
     @AfterClass
     public void tearDown() {
         compileResult = null;
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.types;
+
+import io.ballerina.tools.diagnostics.Diagnostic;
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.emit.BIREmitter;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.semantics.model.Scope;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Test that memoizing the assignability checks does not change the result of type checking, i.e. a module compiles
+ * to the same diagnostics and the same types with and without the assignability cache.
+ *
+ * @since 2.0.0
+ */
+public class AssignabilityCacheTest {
+
+    @Test(dataProvider = "sourceFiles")
+    public void testSameResultWithoutCache(String sourceFile) {
+        CompileResult cached = compile(sourceFile, false);
+        CompileResult uncached = compile(sourceFile, true);
+
+        Assert.assertEquals(getDiagnostics(cached), getDiagnostics(uncached));
+        Assert.assertEquals(getSymbolTypes(cached), getSymbolTypes(uncached));
+        if (uncached.getErrorCount() == 0) {
+            Assert.assertEquals(getBIR(cached), getBIR(uncached));
+        }
+    }
+
+    @DataProvider
+    public Object[] sourceFiles() {
+        return new Object[]{
+                "test-src/types/assignability/record_union.bal",
+                "test-src/types/uniontypes/union_types_basic.bal",
+                "test-src/types/uniontypes/negative_union_types_basic.bal",
+                "test-src/types/finite/finite-type.bal",
+                "test-src/types/finite/finite_type_negative.bal",
+                "test-src/types/readonly/test_selectively_immutable_type.bal",
+                "test-src/types/readonly/test_selectively_immutable_type_negative.bal",
+                "test-src/statements/ifelse/type-guard.bal",
+                "test-src/statements/ifelse/type-guard-semantics-negative.bal",
+                "test-src/record/equivalency_rules_cr_to_or.bal",
+                "test-src/record/equiv_rules_neg_cr_to_cr.bal"
+        };
+    }
+
+    private CompileResult compile(String sourceFile, boolean cacheDisabled) {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions.getInstance(context).put(CompilerOptionName.ASSIGNABILITY_CACHE_DISABLED,
+                                                  Boolean.toString(cacheDisabled));
+        return BCompileUtil.compile(sourceFile, context, CompilerPhase.BIR_GEN);
+    }
+
+    private List<String> getDiagnostics(CompileResult result) {
+        List<String> diagnostics = new ArrayList<>();
+        for (Diagnostic diagnostic : result.getDiagnostics()) {
+            diagnostics.add(diagnostic.toString());
+        }
+        return diagnostics;
+    }
+
+    /**
+     * Returns the types of the module level symbols, i.e. the type definitions, the functions and the variables.
+     */
+    private Map<String, String> getSymbolTypes(CompileResult result) {
+        Map<String, String> symbolTypes = new TreeMap<>();
+        BLangPackage pkgNode = (BLangPackage) result.getAST();
+        for (Scope.ScopeEntry entry : pkgNode.symbol.scope.entries.values()) {
+            symbolTypes.put(entry.symbol.name.value, String.valueOf(entry.symbol.type));
+        }
+        return symbolTypes;
+    }
+
+    /**
+     * Returns the BIR of the functions, which has the types of all the variables including the temporary ones
+     * created for the expressions.
+     */
+    private List<String> getBIR(CompileResult result) {
+        BIREmitter birEmitter = BIREmitter.getInstance(new CompilerContext());
+        BIRNode.BIRPackage birPackage = ((BLangPackage) result.getAST()).symbol.bir;
+        List<String> bir = new ArrayList<>();
+        for (BIRNode.BIRTypeDefinition typeDef : birPackage.typeDefs) {
+            bir.add(typeDef.name + " " + typeDef.type);
+            typeDef.attachedFuncs.forEach(func -> bir.add(birEmitter.emitFunction(func, 0)));
+        }
+        birPackage.globalVars.forEach(globalVar -> bir.add(globalVar.name + " " + globalVar.type));
+        birPackage.functions.forEach(func -> bir.add(birEmitter.emitFunction(func, 0)));
+        return bir;
+    }
+}
@@ -93,6 +93,16 @@ public class RecordConstraintTableTest {
         BRunUtil.invoke(result, "testVarTypeTableInvalidMemberAccess");
     }
 
+    @Test(description = "Test keys which have the same hash code")
+    public void testKeysWithSameHash() {
+        BRunUtil.invoke(result, "testKeysWithSameHash");
+    }
+
+    @Test(description = "Test map keys which have the same fields in a different order")
+    public void testMapKeysWithDifferentFieldOrder() {
+        BRunUtil.invoke(result, "testMapKeysWithDifferentFieldOrder");
+    }
+
     @Test(description = "Test member access in table in store operation")
     public void testTableMemberAccessStore() {
         BValue[] values = BRunUtil.invoke(result, "testTableMemberAccessStore", new BValue[]{});
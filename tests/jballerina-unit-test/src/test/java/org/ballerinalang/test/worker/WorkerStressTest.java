@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.worker;
+
+import org.ballerinalang.core.model.values.BInteger;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * Stress tests for the scheduler with heavy wait and worker channel traffic. A lost wakeup leaves a strand parked
+ * forever, which makes these tests time out.
+ *
+ * @since 2.0.0
+ */
+public class WorkerStressTest {
+
+    private static final int STRAND_COUNT = 500;
+    private static final int PING_PONG_COUNT = 50;
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        this.result = BCompileUtil.compile("test-src/workers/worker-stress.bal");
+        Assert.assertEquals(result.getErrorCount(), 0, Arrays.asList(result.getDiagnostics()).toString());
+    }
+
+    @Test(timeOut = 60000, invocationCount = 5)
+    public void testWaitStress() {
+        BValue[] returns = BRunUtil.invoke(result, "testWaitStress", new BValue[]{new BInteger(STRAND_COUNT)});
+        long expected = 2 * sumOfResults();
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), expected);
+    }
+
+    @Test(timeOut = 60000, invocationCount = 5)
+    public void testWaitAnyStress() {
+        BValue[] returns = BRunUtil.invoke(result, "testWaitAnyStress", new BValue[]{new BInteger(STRAND_COUNT)});
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), sumOfResults());
+    }
+
+    private long sumOfResults() {
+        // each ping-pong strand returns its seed incremented once per round trip
+        return (long) STRAND_COUNT * (STRAND_COUNT - 1) / 2 + (long) STRAND_COUNT * PING_PONG_COUNT;
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+    }
+}
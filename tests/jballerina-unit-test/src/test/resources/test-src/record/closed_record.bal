@@ -380,3 +380,48 @@ function removeIfHasKeyRest() {
          panic error("Returned value should be nil.");
     }
 }
+
+type Reading record {|
+    int id;
+    float value;
+    boolean valid;
+    byte flags;
+    string 'sensor\-name;
+|};
+
+function testRequiredFieldAccess() returns string {
+    Reading r = {id: 1, value: 2.5, valid: true, flags: 3, 'sensor\-name: "s1"};
+    int total = 0;
+    foreach int i in 0 ..< 3 {
+        total += r.id + r.flags;
+    }
+    r.id = 10;
+    return total.toString() + ";" + r.value.toString() + ";" + r.valid.toString() + ";" + r.'sensor\-name + ";" +
+        r.id.toString();
+}
+
+type Point record {
+    int x;
+    float y;
+    int|string id;
+};
+
+type LabelledPoint record {|
+    int x;
+    float y;
+    int id;
+    string label;
+|};
+
+function getPointFields(Point p) returns string {
+    int x = p.x;
+    float y = p.y;
+    int|string id = p.id;
+    return x.toString() + ";" + y.toString() + ";" + id.toString();
+}
+
+function testRequiredFieldAccessOfStructuralSubtypes() returns string {
+    Point p = {x: 1, y: 2.5, id: "a"};
+    LabelledPoint lp = {x: 3, y: 4.5, id: 7, label: "b"};
+    return getPointFields(p) + ";" + getPointFields(lp);
+}
@@ -109,3 +109,21 @@ function testOptionalDefaultableField() returns Person4 {
     Person4 p = {};
     return p;
 }
+
+type Person5 record {|
+    string 'first\-name;
+    int 'age\.years?;
+    boolean 'is\-active?;
+|};
+
+function testOptionalFieldsWithEscapedNames() returns string {
+    Person5 p = {'first\-name: "Anne", 'age\.years: 30};
+    string result = "";
+    foreach string key in p.keys() {
+        result += key + ";";
+    }
+    foreach anydata value in p {
+        result += value.toString() + ";";
+    }
+    return result;
+}
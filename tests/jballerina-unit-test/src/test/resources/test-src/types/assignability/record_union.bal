@@ -0,0 +1,362 @@
+type Value int|string|float|boolean|decimal|byte|();
+
+type Rec0 record {|
+    Value a;
+    Value b;
+    string|int c;
+|};
+
+type Rec1 record {|
+    Value a;
+    Value b;
+    string|int c;
+    Rec0? prev;
+|};
+
+type Rec2 record {|
+    Value a;
+    Value b;
+    string|int c;
+    Rec1? prev;
+|};
+
+type Rec3 record {|
+    Value a;
+    Value b;
+    string|int c;
+    Rec2? prev;
+|};
+
+type Rec4 record {|
+    Value a;
+    Value b;
+    string|int c;
+    Rec3? prev;
+|};
+
+type Rec5 record {|
+    Value a;
+    Value b;
+    string|int c;
+    Rec4? prev;
+|};
+
+type Rec6 record {|
+    Value a;
+    Value b;
+    string|int c;
+    Rec5? prev;
+|};
+
+type Rec7 record {|
+    Value a;
+    Value b;
+    string|int c;
+    Rec6? prev;
+|};
+
+type Rec8 record {|
+    Value a;
+    Value b;
+    string|int c;
+    Rec7? prev;
+|};
+
+type Rec9 record {|
+    Value a;
+    Value b;
+    string|int c;
+    Rec8? prev;
+|};
+
+type Rec10 record {|
+    Value a;
+    Value b;
+    string|int c;
+    Rec9? prev;
+|};
+
+type Rec11 record {|
+    Value a;
+    Value b;
+    string|int c;
+    Rec10? prev;
+|};
+
+type Rec12 record {|
+    Value a;
+    Value b;
+    string|int c;
+    Rec11? prev;
+|};
+
+type Rec13 record {|
+    Value a;
+    Value b;
+    string|int c;
+    Rec12? prev;
+|};
+
+type Rec14 record {|
+    Value a;
+    Value b;
+    string|int c;
+    Rec13? prev;
+|};
+
+type Rec15 record {|
+    Value a;
+    Value b;
+    string|int c;
+    Rec14? prev;
+|};
+
+type Rec16 record {|
+    Value a;
+    Value b;
+    string|int c;
+    Rec15? prev;
+|};
+
+type Rec17 record {|
+    Value a;
+    Value b;
+    string|int c;
+    Rec16? prev;
+|};
+
+type Rec18 record {|
+    Value a;
+    Value b;
+    string|int c;
+    Rec17? prev;
+|};
+
+type Rec19 record {|
+    Value a;
+    Value b;
+    string|int c;
+    Rec18? prev;
+|};
+
+type Shape Rec0|Rec1|Rec2|Rec3|Rec4|Rec5|Rec6|Rec7|Rec8|Rec9|Rec10|Rec11|Rec12|Rec13|Rec14|Rec15|Rec16|Rec17|Rec18|Rec19;
+
+function process0(Shape s) returns Value {
+    if s is Rec0 {
+        Rec0 r = {a: s.a, b: s.b, c: s.c};
+        Shape copy = r;
+        Value[] values = [r.a, r.b, r.c];
+        map<Value> entries = {a: r.a, b: r.b, c: r.c};
+        return copy is Rec0 ? values[0] : entries["c"];
+    }
+    return ();
+}
+
+function process1(Shape s) returns Value {
+    if s is Rec1 {
+        Rec1 r = {a: s.a, b: s.b, c: s.c, prev: s.prev};
+        Shape copy = r;
+        Value[] values = [r.a, r.b, r.c];
+        map<Value> entries = {a: r.a, b: r.b, c: r.c};
+        return copy is Rec1 ? values[0] : entries["c"];
+    }
+    return ();
+}
+
+function process2(Shape s) returns Value {
+    if s is Rec2 {
+        Rec2 r = {a: s.a, b: s.b, c: s.c, prev: s.prev};
+        Shape copy = r;
+        Value[] values = [r.a, r.b, r.c];
+        map<Value> entries = {a: r.a, b: r.b, c: r.c};
+        return copy is Rec2 ? values[0] : entries["c"];
+    }
+    return ();
+}
+
+function process3(Shape s) returns Value {
+    if s is Rec3 {
+        Rec3 r = {a: s.a, b: s.b, c: s.c, prev: s.prev};
+        Shape copy = r;
+        Value[] values = [r.a, r.b, r.c];
+        map<Value> entries = {a: r.a, b: r.b, c: r.c};
+        return copy is Rec3 ? values[0] : entries["c"];
+    }
+    return ();
+}
+
+function process4(Shape s) returns Value {
+    if s is Rec4 {
+        Rec4 r = {a: s.a, b: s.b, c: s.c, prev: s.prev};
+        Shape copy = r;
+        Value[] values = [r.a, r.b, r.c];
+        map<Value> entries = {a: r.a, b: r.b, c: r.c};
+        return copy is Rec4 ? values[0] : entries["c"];
+    }
+    return ();
+}
+
+function process5(Shape s) returns Value {
+    if s is Rec5 {
+        Rec5 r = {a: s.a, b: s.b, c: s.c, prev: s.prev};
+        Shape copy = r;
+        Value[] values = [r.a, r.b, r.c];
+        map<Value> entries = {a: r.a, b: r.b, c: r.c};
+        return copy is Rec5 ? values[0] : entries["c"];
+    }
+    return ();
+}
+
+function process6(Shape s) returns Value {
+    if s is Rec6 {
+        Rec6 r = {a: s.a, b: s.b, c: s.c, prev: s.prev};
+        Shape copy = r;
+        Value[] values = [r.a, r.b, r.c];
+        map<Value> entries = {a: r.a, b: r.b, c: r.c};
+        return copy is Rec6 ? values[0] : entries["c"];
+    }
+    return ();
+}
+
+function process7(Shape s) returns Value {
+    if s is Rec7 {
+        Rec7 r = {a: s.a, b: s.b, c: s.c, prev: s.prev};
+        Shape copy = r;
+        Value[] values = [r.a, r.b, r.c];
+        map<Value> entries = {a: r.a, b: r.b, c: r.c};
+        return copy is Rec7 ? values[0] : entries["c"];
+    }
+    return ();
+}
+
+function process8(Shape s) returns Value {
+    if s is Rec8 {
+        Rec8 r = {a: s.a, b: s.b, c: s.c, prev: s.prev};
+        Shape copy = r;
+        Value[] values = [r.a, r.b, r.c];
+        map<Value> entries = {a: r.a, b: r.b, c: r.c};
+        return copy is Rec8 ? values[0] : entries["c"];
+    }
+    return ();
+}
+
+function process9(Shape s) returns Value {
+    if s is Rec9 {
+        Rec9 r = {a: s.a, b: s.b, c: s.c, prev: s.prev};
+        Shape copy = r;
+        Value[] values = [r.a, r.b, r.c];
+        map<Value> entries = {a: r.a, b: r.b, c: r.c};
+        return copy is Rec9 ? values[0] : entries["c"];
+    }
+    return ();
+}
+
+function process10(Shape s) returns Value {
+    if s is Rec10 {
+        Rec10 r = {a: s.a, b: s.b, c: s.c, prev: s.prev};
+        Shape copy = r;
+        Value[] values = [r.a, r.b, r.c];
+        map<Value> entries = {a: r.a, b: r.b, c: r.c};
+        return copy is Rec10 ? values[0] : entries["c"];
+    }
+    return ();
+}
+
+function process11(Shape s) returns Value {
+    if s is Rec11 {
+        Rec11 r = {a: s.a, b: s.b, c: s.c, prev: s.prev};
+        Shape copy = r;
+        Value[] values = [r.a, r.b, r.c];
+        map<Value> entries = {a: r.a, b: r.b, c: r.c};
+        return copy is Rec11 ? values[0] : entries["c"];
+    }
+    return ();
+}
+
+function process12(Shape s) returns Value {
+    if s is Rec12 {
+        Rec12 r = {a: s.a, b: s.b, c: s.c, prev: s.prev};
+        Shape copy = r;
+        Value[] values = [r.a, r.b, r.c];
+        map<Value> entries = {a: r.a, b: r.b, c: r.c};
+        return copy is Rec12 ? values[0] : entries["c"];
+    }
+    return ();
+}
+
+function process13(Shape s) returns Value {
+    if s is Rec13 {
+        Rec13 r = {a: s.a, b: s.b, c: s.c, prev: s.prev};
+        Shape copy = r;
+        Value[] values = [r.a, r.b, r.c];
+        map<Value> entries = {a: r.a, b: r.b, c: r.c};
+        return copy is Rec13 ? values[0] : entries["c"];
+    }
+    return ();
+}
+
+function process14(Shape s) returns Value {
+    if s is Rec14 {
+        Rec14 r = {a: s.a, b: s.b, c: s.c, prev: s.prev};
+        Shape copy = r;
+        Value[] values = [r.a, r.b, r.c];
+        map<Value> entries = {a: r.a, b: r.b, c: r.c};
+        return copy is Rec14 ? values[0] : entries["c"];
+    }
+    return ();
+}
+
+function process15(Shape s) returns Value {
+    if s is Rec15 {
+        Rec15 r = {a: s.a, b: s.b, c: s.c, prev: s.prev};
+        Shape copy = r;
+        Value[] values = [r.a, r.b, r.c];
+        map<Value> entries = {a: r.a, b: r.b, c: r.c};
+        return copy is Rec15 ? values[0] : entries["c"];
+    }
+    return ();
+}
+
+function process16(Shape s) returns Value {
+    if s is Rec16 {
+        Rec16 r = {a: s.a, b: s.b, c: s.c, prev: s.prev};
+        Shape copy = r;
+        Value[] values = [r.a, r.b, r.c];
+        map<Value> entries = {a: r.a, b: r.b, c: r.c};
+        return copy is Rec16 ? values[0] : entries["c"];
+    }
+    return ();
+}
+
+function process17(Shape s) returns Value {
+    if s is Rec17 {
+        Rec17 r = {a: s.a, b: s.b, c: s.c, prev: s.prev};
+        Shape copy = r;
+        Value[] values = [r.a, r.b, r.c];
+        map<Value> entries = {a: r.a, b: r.b, c: r.c};
+        return copy is Rec17 ? values[0] : entries["c"];
+    }
+    return ();
+}
+
+function process18(Shape s) returns Value {
+    if s is Rec18 {
+        Rec18 r = {a: s.a, b: s.b, c: s.c, prev: s.prev};
+        Shape copy = r;
+        Value[] values = [r.a, r.b, r.c];
+        map<Value> entries = {a: r.a, b: r.b, c: r.c};
+        return copy is Rec18 ? values[0] : entries["c"];
+    }
+    return ();
+}
+
+function process19(Shape s) returns Value {
+    if s is Rec19 {
+        Rec19 r = {a: s.a, b: s.b, c: s.c, prev: s.prev};
+        Shape copy = r;
+        Value[] values = [r.a, r.b, r.c];
+        map<Value> entries = {a: r.a, b: r.b, c: r.c};
+        return copy is Rec19 ? values[0] : entries["c"];
+    }
+    return ();
+}
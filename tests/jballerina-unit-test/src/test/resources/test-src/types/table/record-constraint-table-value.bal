@@ -430,6 +430,37 @@ function testMemberAccessHavingNilableFields() {
     assertEquality(true, val4 is ());
 }
 
+function testKeysWithSameHash() {
+    // "Aa" and "BB" have the same hash code
+    table<Person> key(name) tab = table [
+        {name: "Aa", age: 20},
+        {name: "BB", age: 30}
+    ];
+
+    assertEquality(2, tab.length());
+    assertEquality(20, tab["Aa"]["age"]);
+    assertEquality(30, tab["BB"]["age"]);
+
+    Person removed = tab.remove("Aa");
+    assertEquality(20, removed.age);
+    assertFalse(tab.hasKey("Aa"));
+    assertTrue(tab.hasKey("BB"));
+
+    tab.add({name: "Aa", age: 40});
+    assertEquality(["BB", "Aa"], tab.keys());
+}
+
+function testMapKeysWithDifferentFieldOrder() {
+    GlobalTable2 tab = table [
+      { m: {"AAA":"DDDD", "BBB":"EEEE"}, age: 31 }
+    ];
+
+    Foo? foo = tab[{"BBB":"EEEE", "AAA":"DDDD"}];
+    assertEquality(31, foo?.age);
+    assertTrue(tab.hasKey({"BBB":"EEEE", "AAA":"DDDD"}));
+    assertFalse(tab.hasKey({"BBB":"DDDD", "AAA":"EEEE"}));
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertTrue(any|error actual) {
@@ -0,0 +1,85 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const int PING_PONG_COUNT = 50;
+
+function testWaitStress(int strandCount) returns int {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< strandCount {
+        futures.push(start pingPongInSameStrandGroup(i));
+        futures.push(start pingPongAcrossStrandGroups(i));
+    }
+    int sum = 0;
+    foreach future<int> f in futures {
+        sum += wait f;
+    }
+    return sum;
+}
+
+function testWaitAnyStress(int strandCount) returns int {
+    int sum = 0;
+    foreach int i in 0 ..< strandCount {
+        future<int> f1 = start pingPongInSameStrandGroup(i);
+        future<int> f2 = start pingPongAcrossStrandGroups(i);
+        int first = wait f1 | f2;
+        sum += first;
+    }
+    return sum;
+}
+
+function pingPongInSameStrandGroup(int seed) returns int {
+    worker w1 returns int {
+        int value = seed;
+        foreach int i in 0 ..< PING_PONG_COUNT {
+            value ->> w2;
+            value = <- w2;
+        }
+        return value;
+    }
+
+    worker w2 {
+        foreach int i in 0 ..< PING_PONG_COUNT {
+            int value = <- w1;
+            int next = value + 1;
+            next -> w1;
+        }
+    }
+
+    return wait w1;
+}
+
+function pingPongAcrossStrandGroups(int seed) returns int {
+    @strand{thread:"any"}
+    worker w1 returns int {
+        int value = seed;
+        foreach int i in 0 ..< PING_PONG_COUNT {
+            value -> w2;
+            value = <- w2;
+        }
+        return value;
+    }
+
+    @strand{thread:"any"}
+    worker w2 {
+        foreach int i in 0 ..< PING_PONG_COUNT {
+            int value = <- w1;
+            int next = value + 1;
+            next ->> w1;
+        }
+    }
+
+    return wait w1;
+}